@@ -0,0 +1,62 @@
+package com.back.config;
+
+import com.back.datasource.ReadWriteRoutingDataSource;
+import com.back.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (com.back.datasource.replica.jdbc-url을 설정한 경우만, 없으면 기본 단일 풀).
+ * 주 DB 풀은 spring.datasource.* 설정, 복제 DB 풀은 com.back.datasource.replica.* (Hikari 속성) 설정을 쓴다.
+ * readOnly 트랜잭션만 복제 DB로 가고, 복제 지연이 replica-max-lag-ms를 넘으면 다시 따라잡을 때까지 주 DB로 읽는다.
+ * 지연 점검은 ReplicaLagMonitor 전용 스레드에서 돌고, 점검이 replica-max-stale-checks번 넘게 밀리면 주 DB로 읽는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "com.back.datasource.replica", name = "jdbc-url")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("com.back.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${com.back.datasource.replica-max-lag-ms:5000}") long maxLagMillis,
+                                               @Value("${com.back.datasource.replica-check-interval-ms:1000}") long checkIntervalMillis) {
+        return new ReplicaLagMonitor(primary, replica, maxLagMillis, checkIntervalMillis);
+    }
+
+    // JPA/JdbcTemplate가 쓰는 DataSource (트랜잭션 시작 시점에는 readOnly 여부가 아직 없어 첫 쿼리 때 연결)
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${com.back.datasource.replica-max-stale-checks:3}") int maxStaleChecks) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor, maxStaleChecks));
+    }
+}
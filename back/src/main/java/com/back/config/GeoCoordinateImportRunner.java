@@ -0,0 +1,54 @@
+package com.back.config;
+
+import com.back.geo.GeoCoordinateImporter;
+import com.back.geo.Geocoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// 시작 시 좌표 사전 적재 → 좌표 파일 반영(설정된 경우) → 좌표가 없는 실거래 행 채우기
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class GeoCoordinateImportRunner {
+
+    private final Geocoder geocoder;
+
+    private final GeoCoordinateImporter importer;
+
+    @Value("${com.back.geo.import-path:}")
+    private String importPath;
+
+    @Order(StartupOrder.GEO_BACKFILL)
+    @EventListener(ApplicationReadyEvent.class)
+    public void importCoordinates() {
+        try {
+            geocoder.reload();
+
+            if (!importPath.isBlank()) {
+                Path path = Path.of(importPath);
+                if (Files.isReadable(path)) {
+                    List<String[]> changed = importer.importFile(path);
+                    if (!changed.isEmpty()) {
+                        geocoder.reload();
+                        importer.regeocode(changed);
+                    }
+                } else {
+                    log.warn("좌표 파일을 읽을 수 없음 - {}", path);
+                }
+            }
+
+            importer.backfillMissing();
+        } catch (Exception e) {
+            log.error("주소 좌표 적재 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.config;
+
+import com.back.service.JeonseRatioBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 단지별 전세가율 생성 (시작 시 비어 있으면 생성, 매일 새벽 전체 재생성)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class JeonseRatioScheduler {
+
+    private final JeonseRatioBuilder jeonseRatioBuilder;
+
+    @Order(StartupOrder.ROLLUP)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            jeonseRatioBuilder.buildIfEmpty();
+        } catch (Exception e) {
+            log.error("단지별 전세가율 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 수정으로 단지/계약분기가 바뀐 거래의 이전 값까지 정리하도록 매일 전체 재생성
+    @Scheduled(cron = "${com.back.jeonse-ratio.cron:0 45 4 * * *}")
+    public void rebuild() {
+        try {
+            jeonseRatioBuilder.rebuildAll();
+        } catch (Exception e) {
+            log.error("단지별 전세가율 재생성 실패: {}", e.getMessage());
+        }
+    }
+}
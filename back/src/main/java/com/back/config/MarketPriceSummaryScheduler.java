@@ -0,0 +1,39 @@
+package com.back.config;
+
+import com.back.service.MarketPriceSummaryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 실거래가 요약 테이블 생성 (시작 시 비어 있으면 생성, 매일 새벽 전체 재생성)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class MarketPriceSummaryScheduler {
+
+    private final MarketPriceSummaryBuilder summaryBuilder;
+
+    @Order(StartupOrder.ROLLUP)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            summaryBuilder.buildIfEmpty();
+        } catch (Exception e) {
+            log.error("실거래가 요약 테이블 생성 실패 (테이블별 직접 조회로 대체): {}", e.getMessage());
+        }
+    }
+
+    // 관리자 화면 밖에서 바뀐 데이터(일괄 적재 등)까지 반영하도록 매일 전체 재생성
+    @Scheduled(cron = "${com.back.market-price.summary.cron:0 0 4 * * *}")
+    public void rebuild() {
+        try {
+            summaryBuilder.rebuildAll();
+        } catch (Exception e) {
+            log.error("실거래가 요약 테이블 재생성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.config;
+
+import com.back.service.PriceTrendRollupBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 실거래 시세 추이 집계 생성 (시작 시 비어 있으면 생성, 매일 새벽 전체 재생성)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PriceTrendRollupScheduler {
+
+    private final PriceTrendRollupBuilder rollupBuilder;
+
+    @Order(StartupOrder.ROLLUP)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rollupBuilder.buildIfEmpty();
+        } catch (Exception e) {
+            log.error("실거래 시세 추이 집계 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 수정으로 시군구/계약월이 바뀐 거래의 이전 집계까지 정리하도록 매일 전체 재생성
+    @Scheduled(cron = "${com.back.price-trend.rollup.cron:0 30 4 * * *}")
+    public void rebuild() {
+        try {
+            rollupBuilder.rebuildAll();
+        } catch (Exception e) {
+            log.error("실거래 시세 추이 집계 재생성 실패: {}", e.getMessage());
+        }
+    }
+}
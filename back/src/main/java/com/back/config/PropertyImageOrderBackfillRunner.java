@@ -0,0 +1,59 @@
+package com.back.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// image_order 컬럼 추가 전에 저장된 매물 이미지의 순서 채우기 (비어 있거나 겹치는 매물만, 저장된 순서 그대로 0부터)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyImageOrderBackfillRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PlatformTransactionManager transactionManager;
+
+    @Order(StartupOrder.BACKFILL)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillImageOrder() {
+        try {
+            List<Long> propertyIds = jdbcTemplate.queryForList(
+                    "SELECT property_id FROM property_images GROUP BY property_id " +
+                    "HAVING COUNT(image_order) < COUNT(*) OR COUNT(DISTINCT image_order) < COUNT(*)", Long.class);
+            if (propertyIds.isEmpty()) {
+                return;
+            }
+
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            for (Long propertyId : propertyIds) {
+                transaction.executeWithoutResult(status -> reorder(propertyId));
+            }
+            log.info("매물 이미지 순서 채우기 완료 - 매물 {}개", propertyIds.size());
+        } catch (Exception e) {
+            log.error("매물 이미지 순서 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    // 한 매물의 이미지를 지우고 0부터 순서를 붙여 다시 저장
+    private void reorder(Long propertyId) {
+        List<String> imageUrls = jdbcTemplate.queryForList(
+                "SELECT image_url FROM property_images WHERE property_id = ?", String.class, propertyId);
+        jdbcTemplate.update("DELETE FROM property_images WHERE property_id = ?", propertyId);
+
+        List<Object[]> batch = new ArrayList<>(imageUrls.size());
+        for (int i = 0; i < imageUrls.size(); i++) {
+            batch.add(new Object[]{propertyId, imageUrls.get(i), i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO property_images (property_id, image_url, image_order) VALUES (?, ?, ?)", batch);
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.config;
+
+import com.back.repository.PropertyRepository;
+import com.back.service.PropertyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 매물 like_count를 property_like 실제 개수로 주기적으로 보정
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyLikeReconcileScheduler {
+
+    private final PropertyService propertyService;
+
+    private final PropertyRepository propertyRepository;
+
+    @Value("${com.back.property.like-reconcile.chunk-size:1000}")
+    private long chunkSize;
+
+    // 매일 새벽 3시 30분에 좋아요 수 보정 (id 범위 청크마다 별도 트랜잭션)
+    @Scheduled(cron = "${com.back.property.like-reconcile.cron:0 30 3 * * *}")
+    public void reconcileLikeCounts() {
+        log.info("매물 좋아요 수 보정 시작 - 청크 크기: {}", chunkSize);
+
+        try {
+            long maxId = propertyRepository.findMaxId();
+            int corrected = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                corrected += propertyService.reconcileLikeCounts(fromId, fromId + chunkSize - 1);
+            }
+            log.info("매물 좋아요 수 보정 완료 - 최대 ID: {}, 보정된 매물: {}개", maxId, corrected);
+        } catch (Exception e) {
+            log.error("매물 좋아요 수 보정 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.back.config;
+
+import com.back.service.PropertyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 기존 매물의 가격 문자열을 숫자 컬럼으로 채우는 1회성 백필 (이미 채워진 매물은 건너뜀)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyPriceBackfillRunner {
+
+    private final PropertyService propertyService;
+
+    @Value("${com.back.property.price-backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Order(StartupOrder.BACKFILL)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPriceAmounts() {
+        log.info("매물 가격 숫자 컬럼 백필 시작 - 청크 크기: {}", chunkSize);
+
+        try {
+            long lastId = 0L;
+            int chunks = 0;
+            Long processedId;
+            // 청크마다 별도 트랜잭션으로 처리
+            while ((processedId = propertyService.backfillPriceAmounts(lastId, chunkSize)) != null) {
+                lastId = processedId;
+                chunks++;
+            }
+            log.info("매물 가격 숫자 컬럼 백필 완료 - {}개 청크, 마지막 ID: {}", chunks, lastId);
+        } catch (Exception e) {
+            log.error("매물 가격 숫자 컬럼 백필 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.back.config;
+
+import com.back.service.PropertyValuationBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// 매물 추정가 (시작 시 모형이 없으면 학습 후 산정, 매일 새벽 재학습, 매시간 매물 산정)
+// 학습/산정은 오래 걸리므로 시작 스레드와 스케줄러 스레드를 막지 않도록 전용 스레드에서 실행
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyValuationScheduler {
+
+    private final PropertyValuationBuilder valuationBuilder;
+
+    private final ExecutorService valuationExecutor = Executors.newSingleThreadExecutor();
+
+    // 가격 숫자 컬럼/도로명 사전 id 백필이 끝난 뒤 시작
+    @Order(StartupOrder.ROLLUP)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        submit("산정", () -> {
+            try {
+                valuationBuilder.trainIfEmpty();
+                valuationBuilder.scoreAll();
+            } catch (Exception e) {
+                log.error("매물 추정가 산정 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 새로 적재된 실거래까지 반영하도록 매일 재학습 후 전체 산정
+    @Scheduled(cron = "${com.back.valuation.train.cron:0 0 5 * * *}")
+    public void retrain() {
+        submit("모형 재학습", () -> {
+            try {
+                valuationBuilder.trainAll();
+                valuationBuilder.scoreAll();
+            } catch (Exception e) {
+                log.error("매물 추정가 모형 재학습 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 새로 등록/수정된 매물 반영
+    @Scheduled(cron = "${com.back.valuation.score.cron:0 10 * * * *}")
+    public void rescore() {
+        submit("산정", () -> {
+            try {
+                valuationBuilder.scoreAll();
+            } catch (Exception e) {
+                log.error("매물 추정가 산정 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        valuationExecutor.shutdownNow();
+    }
+
+    private void submit(String task, Runnable work) {
+        try {
+            valuationExecutor.execute(work);
+        } catch (RejectedExecutionException e) {
+            log.debug("매물 추정가 {} 건너뜀 - 종료 중", task);
+        }
+    }
+}
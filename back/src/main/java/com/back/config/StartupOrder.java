@@ -0,0 +1,18 @@
+package com.back.config;
+
+// 시작 작업(ApplicationReadyEvent 리스너) 실행 순서
+// 리스너는 시작 스레드에서 순서대로 실행되므로, 컬럼을 채우는 백필이 끝난 뒤 그 컬럼을 읽는 집계/학습이 시작된다.
+public final class StartupOrder {
+
+    // 해시/도로명 사전 id/가격 숫자 컬럼/이미지 순서 채우기
+    public static final int BACKFILL = 0;
+
+    // 실거래 좌표 채우기 (도로명 사전 id가 채워진 뒤)
+    public static final int GEO_BACKFILL = 100;
+
+    // 요약/시세 추이/전세가율 집계, 비교 거래 색인, 추정가 학습 (백필된 컬럼을 읽음)
+    public static final int ROLLUP = 200;
+
+    private StartupOrder() {
+    }
+}
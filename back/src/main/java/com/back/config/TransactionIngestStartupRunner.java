@@ -0,0 +1,37 @@
+package com.back.config;
+
+import com.back.dictionary.NameDictionaryBackfill;
+import com.back.ingest.ContentHashBackfill;
+import com.back.service.TransactionIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 시작 시 중복 판별 해시/도로명 사전 id가 없는 실거래 행 채우기 → 중단된 실거래 파일 적재 이어서 진행
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TransactionIngestStartupRunner {
+
+    private final ContentHashBackfill contentHashBackfill;
+
+    private final NameDictionaryBackfill nameDictionaryBackfill;
+
+    private final TransactionIngestService transactionIngestService;
+
+    @Order(StartupOrder.BACKFILL)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIngest() {
+        try {
+            contentHashBackfill.backfillMissing();
+            nameDictionaryBackfill.backfillMissing();
+            transactionIngestService.resumeInterrupted()
+                    .forEach(job -> log.info("중단된 실거래 파일 적재 재시작 - 작업: {}, 파일: {}", job.getJobId(), job.getFileName()));
+        } catch (Exception e) {
+            log.error("실거래 파일 적재 재시작 실패: {}", e.getMessage());
+        }
+    }
+}
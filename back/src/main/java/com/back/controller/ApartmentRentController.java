@@ -1,6 +1,8 @@
 package com.back.controller;
 
 import com.back.dto.ApartmentRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.ApartmentRentSearchDTO;
 import com.back.service.ApartmentRentService;
 import com.back.service.SearchStatisticsService;
@@ -10,9 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.ArrayList;
 
 @RestController
 @RequestMapping("/api/apartment-rent")
@@ -148,110 +147,33 @@ public class ApartmentRentController {
         return ResponseEntity.ok(apartmentRents);
     }
 
-    // 맵용 아파트 전월세 정보 조회 (페이징 포함)
+    // 지도용 아파트 전월세 목록 (DB 페이징, keyset=true면 cursorContractDate/cursorNo 이후만 조회)
     @GetMapping("/map")
-    public ResponseEntity<Map<String, Object>> getApartmentRentsForMap(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "1000") int limit) {
-        log.info("맵용 아파트 전월세 정보 조회 요청 - 페이지: {}, 크기: {}, 제한: {}", page, size, limit);
-        
+    public ResponseEntity<TransactionPageDTO<ApartmentRentDTO>> getApartmentRentsForMap(@ModelAttribute TransactionMapFilterDTO filter) {
         try {
-            List<ApartmentRentDTO> apartmentRents = apartmentRentService.getAllApartmentRents();
-            
-            // 페이징 처리
-            int start = page * size;
-            int end = Math.min(start + size, apartmentRents.size());
-            List<ApartmentRentDTO> pagedRents = apartmentRents.subList(start, end);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("content", pagedRents);
-            response.put("totalElements", apartmentRents.size());
-            response.put("totalPages", (int) Math.ceil((double) apartmentRents.size() / size));
-            response.put("currentPage", page);
-            response.put("size", size);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(apartmentRentService.getMapPage(filter));
         } catch (Exception e) {
-            log.error("맵용 아파트 전월세 정보 조회 실패", e);
+            log.error("지도용 아파트 전월세 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
-
-    // 맵용 필터링된 아파트 전월세 정보 조회
+    
+    // 필터링된 지도용 아파트 전월세 목록 (page/size는 본문 또는 쿼리 파라미터)
     @PostMapping("/map/filtered")
-    public ResponseEntity<Map<String, Object>> getFilteredApartmentRentsForMap(
-            @RequestBody Map<String, Object> filterParams,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("맵용 필터링된 아파트 전월세 정보 조회 요청 - 필터: {}, 페이지: {}, 크기: {}", filterParams, page, size);
-        
+    public ResponseEntity<TransactionPageDTO<ApartmentRentDTO>> getFilteredApartmentRentsForMap(
+            @RequestBody TransactionMapFilterDTO filter,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
         try {
-            List<ApartmentRentDTO> allRents = apartmentRentService.getAllApartmentRents();
-            List<ApartmentRentDTO> filteredRents = new ArrayList<>();
-            
-            // 필터링 로직
-            for (ApartmentRentDTO rent : allRents) {
-                boolean matches = true;
-                
-                // 전월세 구분 필터
-                if (filterParams.containsKey("rentType") && filterParams.get("rentType") != null) {
-                    String rentType = (String) filterParams.get("rentType");
-                    if (!rentType.equals("") && !rent.getRentType().equals(rentType)) {
-                        matches = false;
-                    }
-                }
-                
-                // 가격 범위 필터
-                if (filterParams.containsKey("minPrice") && filterParams.get("minPrice") != null) {
-                    Integer minPrice = (Integer) filterParams.get("minPrice");
-                    if (minPrice > 0 && rent.getDeposit() < minPrice) {
-                        matches = false;
-                    }
-                }
-                
-                if (filterParams.containsKey("maxPrice") && filterParams.get("maxPrice") != null) {
-                    Integer maxPrice = (Integer) filterParams.get("maxPrice");
-                    if (maxPrice > 0 && rent.getDeposit() > maxPrice) {
-                        matches = false;
-                    }
-                }
-                
-                // 면적 범위 필터
-                if (filterParams.containsKey("minArea") && filterParams.get("minArea") != null) {
-                    Double minArea = (Double) filterParams.get("minArea");
-                    if (minArea > 0 && rent.getExclusiveArea() < minArea) {
-                        matches = false;
-                    }
-                }
-                
-                if (filterParams.containsKey("maxArea") && filterParams.get("maxArea") != null) {
-                    Double maxArea = (Double) filterParams.get("maxArea");
-                    if (maxArea > 0 && rent.getExclusiveArea() > maxArea) {
-                        matches = false;
-                    }
-                }
-                
-                if (matches) {
-                    filteredRents.add(rent);
-                }
+            if (page != null) {
+                filter.setPage(page);
+            }
+            if (size != null) {
+                filter.setSize(size);
             }
-            
-            // 페이징 처리
-            int start = page * size;
-            int end = Math.min(start + size, filteredRents.size());
-            List<ApartmentRentDTO> pagedRents = filteredRents.subList(start, end);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("content", pagedRents);
-            response.put("totalElements", filteredRents.size());
-            response.put("totalPages", (int) Math.ceil((double) filteredRents.size() / size));
-            response.put("currentPage", page);
-            response.put("size", size);
-            
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(apartmentRentService.getMapPage(filter));
         } catch (Exception e) {
-            log.error("맵용 필터링된 아파트 전월세 정보 조회 실패", e);
+            log.error("필터링된 지도용 아파트 전월세 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
 import com.back.dto.ApartmentSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 
 @RestController
 @RequestMapping("/api/apartment-sale")
@@ -200,47 +202,33 @@ public class ApartmentSaleController {
         }
     }
     
-    // 지도용 아파트 매매 데이터 조회 (간단한 정보만)
+    // 지도용 아파트 매매 목록 (DB 페이징, keyset=true면 cursorContractDate/cursorNo 이후만 조회)
     @GetMapping("/map")
-    public ResponseEntity<Map<String, Object>> getApartmentSaleForMap(
-            @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size,
-            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+    public ResponseEntity<TransactionPageDTO<ApartmentSaleDTO>> getApartmentSalesForMap(@ModelAttribute TransactionMapFilterDTO filter) {
         try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("contractDate").descending());
-            Map<String, Object> result = apartmentSaleService.getMapDataWithPagination(pageable, limit);
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(apartmentSaleService.getMapPage(filter));
         } catch (Exception e) {
-            log.error("지도용 아파트 매매 데이터 조회 실패", e);
+            log.error("지도용 아파트 매매 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
     
-    // 필터링된 지도용 아파트 매매 데이터 조회
+    // 필터링된 지도용 아파트 매매 목록 (page/size는 본문 또는 쿼리 파라미터)
     @PostMapping("/map/filtered")
-    public ResponseEntity<Map<String, Object>> getFilteredApartmentSaleForMap(
-            @RequestBody Map<String, Object> filterCriteria) {
+    public ResponseEntity<TransactionPageDTO<ApartmentSaleDTO>> getFilteredApartmentSalesForMap(
+            @RequestBody TransactionMapFilterDTO filter,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
         try {
-            String transactionType = (String) filterCriteria.get("transactionType");
-            Double minPrice = filterCriteria.get("minPrice") != null ? 
-                Double.valueOf(filterCriteria.get("minPrice").toString()) : null;
-            Double maxPrice = filterCriteria.get("maxPrice") != null ? 
-                Double.valueOf(filterCriteria.get("maxPrice").toString()) : null;
-            Double minArea = filterCriteria.get("minArea") != null ? 
-                Double.valueOf(filterCriteria.get("minArea").toString()) : null;
-            Double maxArea = filterCriteria.get("maxArea") != null ? 
-                Double.valueOf(filterCriteria.get("maxArea").toString()) : null;
-            Integer page = filterCriteria.get("page") != null ? 
-                Integer.valueOf(filterCriteria.get("page").toString()) : 0;
-            Integer size = filterCriteria.get("size") != null ? 
-                Integer.valueOf(filterCriteria.get("size").toString()) : 10;
-            
-            Pageable pageable = PageRequest.of(page, size, Sort.by("contractDate").descending());
-            Map<String, Object> filteredMapData = apartmentSaleService.getFilteredMapDataWithPagination(
-                transactionType, minPrice, maxPrice, minArea, maxArea, pageable);
-            return ResponseEntity.ok(filteredMapData);
+            if (page != null) {
+                filter.setPage(page);
+            }
+            if (size != null) {
+                filter.setSize(size);
+            }
+            return ResponseEntity.ok(apartmentSaleService.getMapPage(filter));
         } catch (Exception e) {
-            log.error("필터링된 지도용 아파트 매매 데이터 조회 실패", e);
+            log.error("필터링된 지도용 아파트 매매 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -1,6 +1,8 @@
 package com.back.controller;
 
 import com.back.dto.DetachedHouseRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.DetachedHouseRentSearchDTO;
 import com.back.service.DetachedHouseRentService;
 import lombok.RequiredArgsConstructor;
@@ -126,4 +128,35 @@ public class DetachedHouseRentController {
         List<DetachedHouseRentDTO> detachedHouseRents = detachedHouseRentService.getDetachedHouseRentsByConstructionYearRange(minYear, maxYear);
         return ResponseEntity.ok(detachedHouseRents);
     }
-} 
\ No newline at end of file
+    
+    // 지도용 단독/다가구 전월세 목록 (DB 페이징, keyset=true면 cursorContractDate/cursorNo 이후만 조회)
+    @GetMapping("/map")
+    public ResponseEntity<TransactionPageDTO<DetachedHouseRentDTO>> getDetachedHouseRentsForMap(@ModelAttribute TransactionMapFilterDTO filter) {
+        try {
+            return ResponseEntity.ok(detachedHouseRentService.getMapPage(filter));
+        } catch (Exception e) {
+            log.error("지도용 단독/다가구 전월세 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    // 필터링된 지도용 단독/다가구 전월세 목록 (page/size는 본문 또는 쿼리 파라미터)
+    @PostMapping("/map/filtered")
+    public ResponseEntity<TransactionPageDTO<DetachedHouseRentDTO>> getFilteredDetachedHouseRentsForMap(
+            @RequestBody TransactionMapFilterDTO filter,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            if (page != null) {
+                filter.setPage(page);
+            }
+            if (size != null) {
+                filter.setSize(size);
+            }
+            return ResponseEntity.ok(detachedHouseRentService.getMapPage(filter));
+        } catch (Exception e) {
+            log.error("필터링된 지도용 단독/다가구 전월세 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.controller;
+
+import com.back.dto.JeonseRatioDTO;
+import com.back.dto.JeonseRatioScreenDTO;
+import com.back.service.JeonseRatioService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/jeonse-ratio")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {RequestMethod.GET})
+@Log4j2
+public class JeonseRatioController {
+
+    private final JeonseRatioService jeonseRatioService;
+
+    // 전세가율 높은 순 단지 목록 (propertyType: 아파트/연립/다세대/오피스텔, 기본 아파트,
+    // quarter: 2024-Q2 형식, 없으면 최근 분기, minRatio: 최소 전세가율(예: 0.8), minCount: 매매/전세 각 최소 거래 수)
+    @GetMapping
+    public ResponseEntity<JeonseRatioScreenDTO> getScreen(
+            @RequestParam(name = "propertyType", required = false) String propertyType,
+            @RequestParam(name = "quarter", required = false) String quarter,
+            @RequestParam(name = "sigungu", required = false) String sigungu,
+            @RequestParam(name = "minRatio", required = false) Double minRatio,
+            @RequestParam(name = "minCount", required = false) Long minCount,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(jeonseRatioService.getScreen(
+                    propertyType, quarter, sigungu, minRatio, minCount, page, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("전세가율 목록 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("전세가율 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // 단지의 분기별 전세가율 추이 (area: 면적(㎡) → 해당 면적 구간만)
+    @GetMapping("/complex")
+    public ResponseEntity<List<JeonseRatioDTO>> getComplexTrend(
+            @RequestParam(name = "complexName") String complexName,
+            @RequestParam(name = "sigungu", required = false) String sigungu,
+            @RequestParam(name = "propertyType", required = false) String propertyType,
+            @RequestParam(name = "area", required = false) Double area) {
+        try {
+            return ResponseEntity.ok(jeonseRatioService.getComplexTrend(complexName, sigungu, propertyType, area));
+        } catch (IllegalArgumentException e) {
+            log.warn("단지 전세가율 추이 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("단지 전세가율 추이 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
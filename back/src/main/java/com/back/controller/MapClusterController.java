@@ -0,0 +1,41 @@
+package com.back.controller;
+
+import com.back.dto.MapClusterDTO;
+import com.back.service.MapClusterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/map")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {RequestMethod.GET})
+@Log4j2
+public class MapClusterController {
+
+    private final MapClusterService mapClusterService;
+
+    // 지도 클러스터 조회 (layer: property, apartment-sale, apartment-rent, rowhouse-sale, rowhouse-rent,
+    // detached-house-sale, detached-house-rent, office-tel-sale, office-tel-rent)
+    @GetMapping("/clusters")
+    public ResponseEntity<List<MapClusterDTO>> getClusters(
+            @RequestParam(name = "layer", defaultValue = "property") String layer,
+            @RequestParam(name = "zoom") int zoom,
+            @RequestParam(name = "swLat") double swLat,
+            @RequestParam(name = "swLng") double swLng,
+            @RequestParam(name = "neLat") double neLat,
+            @RequestParam(name = "neLng") double neLng) {
+        try {
+            return ResponseEntity.ok(mapClusterService.getClusters(layer, zoom, swLat, swLng, neLat, neLng));
+        } catch (IllegalArgumentException e) {
+            log.warn("지도 클러스터 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("지도 클러스터 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
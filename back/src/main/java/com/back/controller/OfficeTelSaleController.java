@@ -1,6 +1,8 @@
 package com.back.controller;
 
 import com.back.dto.OfficeTelSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.OfficeTelSaleSearchDTO;
 import com.back.service.OfficeTelSaleService;
 import lombok.RequiredArgsConstructor;
@@ -115,4 +117,35 @@ public class OfficeTelSaleController {
         List<OfficeTelSaleDTO> officeTelSales = officeTelSaleService.getOfficeTelSalesByTransactionAmountRange(minAmount, maxAmount);
         return ResponseEntity.ok(officeTelSales);
     }
-} 
\ No newline at end of file
+    
+    // 지도용 오피스텔 매매 목록 (DB 페이징, keyset=true면 cursorContractDate/cursorNo 이후만 조회)
+    @GetMapping("/map")
+    public ResponseEntity<TransactionPageDTO<OfficeTelSaleDTO>> getOfficeTelSalesForMap(@ModelAttribute TransactionMapFilterDTO filter) {
+        try {
+            return ResponseEntity.ok(officeTelSaleService.getMapPage(filter));
+        } catch (Exception e) {
+            log.error("지도용 오피스텔 매매 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    // 필터링된 지도용 오피스텔 매매 목록 (page/size는 본문 또는 쿼리 파라미터)
+    @PostMapping("/map/filtered")
+    public ResponseEntity<TransactionPageDTO<OfficeTelSaleDTO>> getFilteredOfficeTelSalesForMap(
+            @RequestBody TransactionMapFilterDTO filter,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            if (page != null) {
+                filter.setPage(page);
+            }
+            if (size != null) {
+                filter.setSize(size);
+            }
+            return ResponseEntity.ok(officeTelSaleService.getMapPage(filter));
+        } catch (Exception e) {
+            log.error("필터링된 지도용 오피스텔 매매 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
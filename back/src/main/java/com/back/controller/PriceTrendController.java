@@ -0,0 +1,68 @@
+package com.back.controller;
+
+import com.back.dto.PriceDistributionDTO;
+import com.back.dto.PriceTrendDTO;
+import com.back.service.PriceTrendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/price-trend")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {RequestMethod.GET})
+@Log4j2
+public class PriceTrendController {
+
+    private final PriceTrendService priceTrendService;
+
+    // 월별 시세 추이 (sigungu: "서울특별시 마포구", 시도 없는 이름은 한 곳에만 있을 때만, propertyType: 아파트/연립/다세대/단독주택/오피스텔,
+    // dealType: 매매/전세/월세 중 하나 필수, area: 면적(㎡) → 해당 면적 구간, from/to: yyyy-MM)
+    @GetMapping
+    public ResponseEntity<PriceTrendDTO> getTrend(
+            @RequestParam(name = "sigungu") String sigungu,
+            @RequestParam(name = "propertyType", required = false) String propertyType,
+            @RequestParam(name = "dealType") String dealType,
+            @RequestParam(name = "area", required = false) Double area,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        try {
+            return ResponseEntity.ok(priceTrendService.getTrend(sigungu, propertyType, dealType, area, from, to));
+        } catch (IllegalArgumentException e) {
+            log.warn("시세 추이 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("시세 추이 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // 기간 내 금액 분포 (sigungu는 여러 번 지정 가능, 없으면 전체 / complexName이 있으면 단지 기준,
+    // dealType: 매매/전세/월세 중 하나 필수, quantiles: 0~1 분위 목록, 기본 0.1,0.5,0.9)
+    @GetMapping("/distribution")
+    public ResponseEntity<PriceDistributionDTO> getDistribution(
+            @RequestParam(name = "sigungu", required = false) List<String> sigungu,
+            @RequestParam(name = "complexName", required = false) String complexName,
+            @RequestParam(name = "propertyType", required = false) String propertyType,
+            @RequestParam(name = "dealType") String dealType,
+            @RequestParam(name = "area", required = false) Double area,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(name = "quantiles", required = false) List<Double> quantiles) {
+        try {
+            return ResponseEntity.ok(priceTrendService.getDistribution(
+                    sigungu, complexName, propertyType, dealType, area, from, to, quantiles));
+        } catch (IllegalArgumentException e) {
+            log.warn("금액 분포 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("금액 분포 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
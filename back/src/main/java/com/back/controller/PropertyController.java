@@ -1,10 +1,20 @@
 package com.back.controller;
 
+import com.back.dto.MarketPriceDTO;
+import com.back.dto.PropertyCardDTO;
 import com.back.dto.PropertyDTO;
+import com.back.dto.PropertySearchDTO;
 import com.back.dto.ReplyDTO;
+import com.back.service.ComparableSalesService;
+import com.back.service.MarketPriceService;
 import com.back.service.PropertyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,7 +32,11 @@ import java.util.HashMap;
 @Log4j2
 public class PropertyController {
 
+    private static final int COMPARABLE_COUNT = 10; // 시세 화면 비교 거래 수
+
     private final PropertyService propertyService;
+    private final MarketPriceService marketPriceService;
+    private final ComparableSalesService comparableSalesService;
 
     // 매물 목록 조회
     @GetMapping("/list")
@@ -30,48 +44,38 @@ public class PropertyController {
             @RequestParam(value = "propertyType", required = false) String propertyType,
             @RequestParam(value = "search", required = false) String search,
             @RequestParam(value = "memberEmail", required = false) String memberEmail,
+            @RequestParam(value = "sort", required = false) String sort,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "50") int size) {
         
         try {
-            List<PropertyDTO> allProperties;
-            
+            Page<PropertyCardDTO> result;
             if (search != null && !search.trim().isEmpty()) {
-                allProperties = propertyService.searchProperties(search);
-            } else if (propertyType != null && !propertyType.trim().isEmpty() && !"전체".equals(propertyType)) {
-                allProperties = propertyService.getPropertiesByType(propertyType);
+                // 검색어가 있으면 검색 인덱스의 관련도 순
+                result = propertyService.searchProperties(search, PageRequest.of(page, size));
             } else {
-                allProperties = propertyService.getAllPropertiesWithLikeStatus(memberEmail);
-            }
-            
-            // 디버깅: 매물 정보 로깅
-            log.info("=== 매물 목록 디버깅 ===");
-            for (PropertyDTO property : allProperties) {
-                log.info("매물 ID: {}, 제목: {}, 거래유형: {}, 가격: {}, 월세: {}", 
-                    property.getId(), property.getTitle(), property.getTransactionType(), 
-                    property.getPrice(), property.getMonthlyRent());
+                // 매물 유형 필터 + 페이징은 DB에서 처리
+                PropertySearchDTO searchDTO = PropertySearchDTO.builder()
+                        .propertyType(propertyType)
+                        .build();
+                result = propertyService.findProperties(searchDTO, PageRequest.of(page, size, listSort(sort)));
             }
-            log.info("========================");
-            
-            // 페이징 처리
-            int totalElements = allProperties.size();
-            int totalPages = (int) Math.ceil((double) totalElements / size);
-            int startIndex = page * size;
-            int endIndex = Math.min(startIndex + size, totalElements);
             
-            List<PropertyDTO> properties = allProperties.subList(startIndex, endIndex);
+            // 현재 페이지 매물에만 좋아요 상태 추가
+            List<PropertyCardDTO> properties = result.getContent();
+            propertyService.applyCardLikeStatus(properties, memberEmail);
             
             Map<String, Object> response = new HashMap<>();
             response.put("content", properties);
-            response.put("totalElements", totalElements);
-            response.put("totalPages", totalPages);
+            response.put("totalElements", result.getTotalElements());
+            response.put("totalPages", result.getTotalPages());
             response.put("currentPage", page);
             response.put("size", size);
-            response.put("first", page == 0);
-            response.put("last", page >= totalPages - 1);
+            response.put("first", result.isFirst());
+            response.put("last", result.isLast());
             
             log.info("매물 목록 조회 완료 - 총 {}개, 페이지: {}, 크기: {}, Member: {}", 
-                    totalElements, page, size, memberEmail);
+                    result.getTotalElements(), page, size, memberEmail);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -86,15 +90,17 @@ public class PropertyController {
         try {
             log.info("매물 상세 조회 요청 - ID: {}, Member: {}", id, memberEmail);
             
-            // 조회수 증가
-            propertyService.incrementViewCount(id);
-            
             Optional<PropertyDTO> property = propertyService.getProperty(id, memberEmail);
             if (property.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
             
-            return ResponseEntity.ok(property.get());
+            // 조회수 증가 (버퍼에 누적, 응답에는 이번 조회까지 반영)
+            propertyService.incrementViewCount(id);
+            PropertyDTO dto = property.get();
+            dto.setViewCount(dto.getViewCount() + 1);
+            
+            return ResponseEntity.ok(dto);
             
         } catch (Exception e) {
             log.error("매물 상세 조회 실패: {}", e.getMessage());
@@ -122,7 +128,17 @@ public class PropertyController {
             @RequestParam(name = "bathroomCount", required = false) Integer bathroomCount,
             @RequestParam(name = "floor", required = false) Integer floor,
             @RequestParam(name = "yearBuiltMin", required = false) Integer yearBuiltMin,
-            @RequestParam(name = "yearBuiltMax", required = false) Integer yearBuiltMax) {
+            @RequestParam(name = "yearBuiltMax", required = false) Integer yearBuiltMax,
+            @RequestParam(name = "swLat", required = false) Double swLat,
+            @RequestParam(name = "swLng", required = false) Double swLng,
+            @RequestParam(name = "neLat", required = false) Double neLat,
+            @RequestParam(name = "neLng", required = false) Double neLng,
+            @RequestParam(name = "centerLat", required = false) Double centerLat,
+            @RequestParam(name = "centerLng", required = false) Double centerLng,
+            @RequestParam(name = "radiusKm", required = false) Double radiusKm,
+            @RequestParam(name = "estimateRatioMin", required = false) Double estimateRatioMin,
+            @RequestParam(name = "estimateRatioMax", required = false) Double estimateRatioMax,
+            @RequestParam(name = "sort", required = false) String sort) {
         try {
             log.info("지도용 매물 데이터 조회 - page: {}, size: {}, propertyType: {}, transactionType: {}, memberEmail: {}", page, size, propertyType, transactionType, memberEmail);
             log.info("=== 필터 파라미터 확인 ===");
@@ -131,49 +147,45 @@ public class PropertyController {
             log.info("화장실 개수: {}", bathroomCount);
             log.info("층수: {}", floor);
             log.info("준공년도 범위: {} ~ {}년", yearBuiltMin, yearBuiltMax);
+            log.info("화면 영역: ({}, {}) ~ ({}, {}), 반경: {}km", swLat, swLng, neLat, neLng, radiusKm);
             log.info("========================");
             
-            List<PropertyDTO> properties;
-            if (propertyType != null && !propertyType.trim().isEmpty() && !"전체".equals(propertyType)) {
-                if (transactionType != null && !transactionType.trim().isEmpty() && !"전체".equals(transactionType)) {
-                    // propertyType과 transactionType 모두 지정된 경우
-                    properties = propertyService.getPropertiesByTypeAndTransactionType(propertyType, transactionType);
-                } else {
-                    // propertyType만 지정된 경우 - 필터 적용
-                    properties = propertyService.getPropertiesByTypeWithFilters(propertyType, areaMin, areaMax, roomCount, bathroomCount, floor, yearBuiltMin, yearBuiltMax);
-                }
-            } else {
-                if (transactionType != null && !transactionType.trim().isEmpty() && !"전체".equals(transactionType)) {
-                    // transactionType만 지정된 경우 - 가격 필터링 포함
-                    properties = propertyService.getPropertiesByTransactionTypeWithFilters(
-                        transactionType, saleMin, saleMax, depositMin, depositMax, monthlyRentMin, monthlyRentMax, areaMin, areaMax);
-                } else {
-                    // 둘 다 지정되지 않은 경우 - 면적, 방 개수, 화장실 개수, 층수, 준공년도 필터 적용
-                    properties = propertyService.getAllPropertiesWithFilters(areaMin, areaMax, roomCount, bathroomCount, floor, yearBuiltMin, yearBuiltMax);
-                }
-            }
-            
-            // memberEmail이 제공된 경우 기존 필터링된 결과에 좋아요 상태 추가
-            if (memberEmail != null && !memberEmail.trim().isEmpty()) {
-                // 기존 필터링된 결과를 유지하면서 좋아요 상태만 추가
-                for (PropertyDTO property : properties) {
-                    boolean isLiked = propertyService.isLikedByMember(property.getId(), memberEmail);
-                    property.setIsLiked(isLiked);
-                }
-            }
-            
-            // 페이징 처리
-            int totalElements = properties.size();
-            int totalPages = (int) Math.ceil((double) totalElements / size);
-            int startIndex = page * size;
-            int endIndex = Math.min(startIndex + size, totalElements);
-            
-            List<PropertyDTO> pagedProperties = properties.subList(startIndex, endIndex);
+            // 유형/거래유형/가격/면적/방/화장실/층/준공년도/화면 영역 조건과 페이징을 DB에서 처리
+            PropertySearchDTO searchDTO = PropertySearchDTO.builder()
+                    .propertyType(propertyType)
+                    .transactionType(transactionType)
+                    .areaMin(areaMin)
+                    .areaMax(areaMax)
+                    .roomCount(roomCount)
+                    .bathroomCount(bathroomCount)
+                    .floor(floor)
+                    .yearBuiltMin(yearBuiltMin)
+                    .yearBuiltMax(yearBuiltMax)
+                    .saleMin(saleMin)
+                    .saleMax(saleMax)
+                    .depositMin(depositMin)
+                    .depositMax(depositMax)
+                    .monthlyRentMin(monthlyRentMin)
+                    .monthlyRentMax(monthlyRentMax)
+                    .swLat(swLat)
+                    .swLng(swLng)
+                    .neLat(neLat)
+                    .neLng(neLng)
+                    .centerLat(centerLat)
+                    .centerLng(centerLng)
+                    .radiusKm(radiusKm)
+                    .estimateRatioMin(estimateRatioMin)
+                    .estimateRatioMax(estimateRatioMax)
+                    .build();
+            Page<PropertyCardDTO> result = propertyService.findProperties(searchDTO, PageRequest.of(page, size, listSort(sort)));
+            
+            // 현재 페이지 매물에만 좋아요 상태 추가
+            propertyService.applyCardLikeStatus(result.getContent(), memberEmail);
             
             Map<String, Object> response = Map.of(
-                "content", pagedProperties,
-                "totalPages", totalPages,
-                "totalElements", totalElements,
+                "content", result.getContent(),
+                "totalPages", result.getTotalPages(),
+                "totalElements", result.getTotalElements(),
                 "currentPage", page,
                 "size", size
             );
@@ -186,6 +198,17 @@ public class PropertyController {
         }
     }
 
+    // 목록 정렬 (estimateRatio: 추정가 대비 싼 순, estimateRatioDesc: 비싼 순, 그 외 등록순)
+    private Sort listSort(String sort) {
+        if ("estimateRatio".equals(sort)) {
+            return Sort.by(Sort.Order.asc("priceEstimateRatio"), Sort.Order.asc("id"));
+        }
+        if ("estimateRatioDesc".equals(sort)) {
+            return Sort.by(Sort.Order.desc("priceEstimateRatio"), Sort.Order.asc("id"));
+        }
+        return Sort.by("id");
+    }
+
     // 공통 Property 객체 빌드 메서드
     private PropertyDTO buildProperty(String title, String content, String writer, String writerEmail,
                                  String propertyType, String transactionType, String price, String monthlyRent,
@@ -430,6 +453,10 @@ public class PropertyController {
             log.info("매물 좋아요 처리 요청 - ID: {}, Member: {}", id, memberEmail);
             propertyService.toggleLike(id, memberEmail);
             return ResponseEntity.ok().build();
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 좋아요 요청 (unique 제약 위반)
+            log.warn("매물 좋아요 중복 요청 - ID: {}, Member: {}", id, memberEmail);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("매물 좋아요 처리 실패: {}", e.getMessage());
             return ResponseEntity.internalServerError().build();
@@ -660,18 +687,18 @@ public class PropertyController {
             }
             
             // Property의 roadAddress와 면적을 기준으로 실거래가 조회
-            List<Map<String, Object>> sales = propertyService.getRecentSalesByAddress(
-                property.get().getRoadAddress(), property.get().getArea());
-            List<Map<String, Object>> rents = propertyService.getRecentRentsByAddress(
+            MarketPriceDTO marketPrice = marketPriceService.getMarketPrice(
                 property.get().getRoadAddress(), property.get().getArea());
             
             Map<String, Object> result = new HashMap<>();
-            result.put("sales", sales);
-            result.put("rents", rents);
+            result.put("sales", marketPrice.getSales());
+            result.put("rents", marketPrice.getRents());
+            result.put("summaries", marketPrice.getSummaries());
             result.put("propertyAddress", property.get().getRoadAddress());
             result.put("propertyArea", property.get().getArea());
+            result.put("comparables", comparableSalesService.findComparables(property.get(), COMPARABLE_COUNT));
             
-            log.info("실거래가 조회 완료 - 매매: {}건, 전월세: {}건", sales.size(), rents.size());
+            log.info("실거래가 조회 완료 - 매매: {}건, 전월세: {}건", marketPrice.getSales().size(), marketPrice.getRents().size());
             return ResponseEntity.ok(result);
             
         } catch (IllegalArgumentException e) {
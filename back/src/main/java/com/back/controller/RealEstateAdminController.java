@@ -1,6 +1,10 @@
 package com.back.controller;
 
 import com.back.domain.*;
+import com.back.dto.TransactionBulkJobDTO;
+import com.back.dto.TransactionBulkRequestDTO;
+import com.back.dto.TransactionIngestJobDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -9,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
@@ -29,6 +34,29 @@ public class RealEstateAdminController {
     private final RowHouseRentService rowHouseRentService;
     private final OfficeTelSaleService officeTelSaleService;
     private final OfficeTelRentService officeTelRentService;
+    private final TransactionIngestService transactionIngestService;
+    private final TransactionAdminService transactionAdminService;
+    private final TransactionBulkService transactionBulkService;
+
+    // ==================== 실거래 목록 (keyset) ====================
+
+    // 번호 역순 커서 페이징 (type: apartment-sale 등, 다음 페이지는 이전 응답의 nextCursorNo 전달)
+    // OFFSET/COUNT(*)가 없어 깊은 페이지도 일정한 시간, withCount면 테이블 통계 기준 대략 전체 건수 포함
+    @GetMapping("/keyset/{type}")
+    public ResponseEntity<TransactionPageDTO<TransactionRecord>> getTransactionsByCursor(
+            @PathVariable String type,
+            @RequestParam(name = "cursorNo", required = false) Long cursorNo,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "withCount", defaultValue = "false") boolean withCount) {
+        try {
+            return ResponseEntity.ok(transactionAdminService.findPage(type, cursorNo, size, withCount));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("실거래 목록 조회 실패 - {}", type, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 
     // ==================== 아파트 매매 관리 ====================
     
@@ -433,11 +461,123 @@ public class RealEstateAdminController {
         }
     }
 
+    // ==================== 실거래 파일 대량 적재 ====================
+
+    // 국토부 실거래가 CSV/XLSX 적재 시작 (업로드 파일 또는 적재 디렉터리의 파일 이름)
+    @PostMapping("/ingest/{type}")
+    public ResponseEntity<?> startIngest(
+            @PathVariable String type,
+            @RequestParam(name = "file", required = false) MultipartFile file,
+            @RequestParam(name = "fileName", required = false) String fileName,
+            @RequestParam(name = "charset", required = false) String charset) {
+        try {
+            TransactionIngestJobDTO job = fileName != null && !fileName.isBlank()
+                    ? transactionIngestService.startIngest(type, fileName, charset)
+                    : transactionIngestService.startIngest(type, file, charset);
+            return ResponseEntity.accepted().body(job);
+        } catch (IllegalArgumentException e) {
+            log.warn("실거래 파일 적재 요청 거부 - {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("실거래 파일 적재 시작 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/ingest")
+    public ResponseEntity<List<TransactionIngestJobDTO>> getIngestJobs() {
+        try {
+            return ResponseEntity.ok(transactionIngestService.getJobs());
+        } catch (Exception e) {
+            log.error("실거래 파일 적재 작업 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/ingest/jobs/{jobId}")
+    public ResponseEntity<TransactionIngestJobDTO> getIngestJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(transactionIngestService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("실거래 파일 적재 작업 조회 실패 - 작업: {}", jobId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // ==================== 실거래 일괄 작업 ====================
+
+    // 행 목록/번호 목록/조건(시군구, 계약일 범위) 대상 일괄 추가/수정/삭제 시작 (청크 단위 커밋, 진행 상황은 작업 조회)
+    @PostMapping("/bulk/{type}")
+    public ResponseEntity<?> startBulk(@PathVariable String type, @RequestBody TransactionBulkRequestDTO request) {
+        try {
+            return ResponseEntity.accepted().body(transactionBulkService.start(type, request));
+        } catch (IllegalArgumentException e) {
+            log.warn("실거래 일괄 작업 요청 거부 - {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("실거래 일괄 작업 시작 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/bulk")
+    public ResponseEntity<List<TransactionBulkJobDTO>> getBulkJobs() {
+        try {
+            return ResponseEntity.ok(transactionBulkService.getJobs());
+        } catch (Exception e) {
+            log.error("실거래 일괄 작업 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/bulk/jobs/{jobId}")
+    public ResponseEntity<TransactionBulkJobDTO> getBulkJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(transactionBulkService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("실거래 일괄 작업 조회 실패 - 작업: {}", jobId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // 취소 요청 (처리 중인 청크까지 커밋하고 멈춤)
+    @PostMapping("/bulk/jobs/{jobId}/cancel")
+    public ResponseEntity<TransactionBulkJobDTO> cancelBulkJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(transactionBulkService.cancel(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("실거래 일괄 작업 취소 실패 - 작업: {}", jobId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // ==================== 통계 정보 ====================
     
+    // approximate면 COUNT(*) 대신 테이블 통계 기준 대략 건수
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getStats() {
-        try {
+    public ResponseEntity<Map<String, Object>> getStats(
+            @RequestParam(name = "approximate", defaultValue = "false") boolean approximate) {
+        try {
+            if (approximate) {
+                Map<String, Long> counts = transactionAdminService.approximateCounts();
+                return ResponseEntity.ok(Map.of(
+                    "apartmentSaleCount", counts.get("apartment-sale"),
+                    "apartmentRentCount", counts.get("apartment-rent"),
+                    "detachedHouseSaleCount", counts.get("detached-house-sale"),
+                    "detachedHouseRentCount", counts.get("detached-house-rent"),
+                    "rowHouseSaleCount", counts.get("row-house-sale"),
+                    "rowHouseRentCount", counts.get("row-house-rent"),
+                    "officeTelSaleCount", counts.get("office-tel-sale"),
+                    "officeTelRentCount", counts.get("office-tel-rent"),
+                    "approximate", true
+                ));
+            }
             Map<String, Object> stats = Map.of(
                 "apartmentSaleCount", apartmentSaleService.count(),
                 "apartmentRentCount", apartmentRentService.count(),
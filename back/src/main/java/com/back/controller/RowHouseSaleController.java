@@ -1,6 +1,8 @@
 package com.back.controller;
 
 import com.back.dto.RowHouseSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.RowHouseSaleSearchDTO;
 import com.back.service.RowHouseSaleService;
 import lombok.RequiredArgsConstructor;
@@ -128,4 +130,35 @@ public class RowHouseSaleController {
         List<RowHouseSaleDTO> rowHouseSales = rowHouseSaleService.getRowHouseSalesByConstructionYearRange(minYear, maxYear);
         return ResponseEntity.ok(rowHouseSales);
     }
-} 
\ No newline at end of file
+    
+    // 지도용 연립다세대 매매 목록 (DB 페이징, keyset=true면 cursorContractDate/cursorNo 이후만 조회)
+    @GetMapping("/map")
+    public ResponseEntity<TransactionPageDTO<RowHouseSaleDTO>> getRowHouseSalesForMap(@ModelAttribute TransactionMapFilterDTO filter) {
+        try {
+            return ResponseEntity.ok(rowHouseSaleService.getMapPage(filter));
+        } catch (Exception e) {
+            log.error("지도용 연립다세대 매매 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    // 필터링된 지도용 연립다세대 매매 목록 (page/size는 본문 또는 쿼리 파라미터)
+    @PostMapping("/map/filtered")
+    public ResponseEntity<TransactionPageDTO<RowHouseSaleDTO>> getFilteredRowHouseSalesForMap(
+            @RequestBody TransactionMapFilterDTO filter,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size) {
+        try {
+            if (page != null) {
+                filter.setPage(page);
+            }
+            if (size != null) {
+                filter.setSize(size);
+            }
+            return ResponseEntity.ok(rowHouseSaleService.getMapPage(filter));
+        } catch (Exception e) {
+            log.error("필터링된 지도용 연립다세대 매매 목록 조회 실패", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
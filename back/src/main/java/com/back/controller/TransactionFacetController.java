@@ -0,0 +1,45 @@
+package com.back.controller;
+
+import com.back.dto.TransactionFacetsDTO;
+import com.back.index.TransactionFacet;
+import com.back.service.TransactionFacetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/facets")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {RequestMethod.GET})
+@Log4j2
+public class TransactionFacetController {
+
+    private final TransactionFacetService transactionFacetService;
+
+    // 실거래 검색 패싯 건수 (layer: apartment-sale, apartment-rent, rowhouse-sale, rowhouse-rent, detached-house-sale,
+    // detached-house-rent, office-tel-sale, office-tel-rent / 조건: sigungu, housingType, transactionType,
+    // constructionDecade, areaBand 중 선택한 값)
+    @GetMapping("/{layer}")
+    public ResponseEntity<TransactionFacetsDTO> getFacets(@PathVariable("layer") String layer,
+                                                          @RequestParam Map<String, String> params) {
+        try {
+            Map<TransactionFacet, String> selected = new EnumMap<>(TransactionFacet.class);
+            params.forEach((key, value) -> {
+                if (value != null && !value.isBlank()) {
+                    selected.put(TransactionFacet.fromKey(key), value.trim());
+                }
+            });
+            return ResponseEntity.ok(transactionFacetService.getFacets(layer, selected));
+        } catch (IllegalArgumentException e) {
+            log.warn("패싯 건수 조회 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("패싯 건수 조회 실패: {}", e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 복제 DB, 나머지(쓰기 트랜잭션, 트랜잭션 밖 조회)는 주 DB로 보내는 DataSource.
+ * 트랜잭션의 readOnly 여부는 연결을 얻을 때 판단하므로 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 연결을 얻어야 한다.
+ * 복제 DB가 지연 중이거나 연결에 실패하면 주 DB 연결을 돌려준다.
+ * 지연 점검이 멈춰 마지막 측정이 점검 간격의 maxStaleChecks배보다 오래됐으면 마지막 결과를 믿지 않고 주 DB를 쓴다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+    private final long maxCheckAgeMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+                                      int maxStaleChecks) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        this.maxCheckAgeMillis = monitor.getCheckIntervalMillis() * maxStaleChecks;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && isReplicaUsable()
+                ? REPLICA : PRIMARY;
+    }
+
+    // 마지막 점검 결과가 사용 가능이고 그 결과가 최근 것인지
+    private boolean isReplicaUsable() {
+        return monitor.isReplicaAvailable() && monitor.getMillisSinceLastCheck() <= maxCheckAgeMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (REPLICA.equals(determineCurrentLookupKey())) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                monitor.markUnavailable("연결 실패: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+}
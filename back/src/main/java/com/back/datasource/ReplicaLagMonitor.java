@@ -0,0 +1,146 @@
+package com.back.datasource;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 복제 DB 지연 감시 (heartbeat 방식, DB 종류와 관계없이 동작).
+ * 점검마다 주 DB의 replication_heartbeat에 현재 시각을 쓰고, 다음 점검에서 복제 DB가 그 값을 보고 있는지 비교한다.
+ * 복제 DB의 heartbeat가 직전에 쓴 값보다 maxLagMillis 넘게 뒤처지거나 읽을 수 없으면 사용 불가로 표시하고,
+ * 다시 따라잡으면 사용 가능으로 되돌린다. 첫 점검 전에는 사용 불가 (읽기도 주 DB).
+ * 점검은 전용 스레드에서 돈다 (@Scheduled 기본 스케줄러는 다른 작업과 스레드 하나를 같이 써서 점검이 밀릴 수 있음).
+ */
+@Log4j2
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+    private final LongSupplier clock;
+
+    private ScheduledExecutorService scheduler;
+
+    private long lastBeat; // 직전 점검에서 주 DB에 쓴 시각 (0이면 아직 없음)
+
+    private volatile long lastCheckedAt; // 마지막으로 지연을 측정한 시각 (0이면 아직 없음)
+
+    private volatile boolean replicaAvailable;
+
+    private volatile long lagMillis = -1; // 마지막으로 측정한 지연 (측정 못 했으면 -1)
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMillis, long checkIntervalMillis) {
+        this(primary, replica, maxLagMillis, checkIntervalMillis, System::currentTimeMillis);
+    }
+
+    ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMillis, long checkIntervalMillis,
+                      LongSupplier clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.clock = clock;
+    }
+
+    // 전용 스레드에서 checkIntervalMillis 간격으로 점검 시작
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                check();
+            } catch (Exception e) {
+                log.warn("복제 DB 지연 점검 실패: {}", e.getMessage());
+            }
+        }, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getCheckIntervalMillis() {
+        return checkIntervalMillis;
+    }
+
+    // 마지막으로 지연을 측정한 뒤 지난 시간 (측정한 적이 없으면 Long.MAX_VALUE)
+    public long getMillisSinceLastCheck() {
+        long checkedAt = lastCheckedAt;
+        return checkedAt == 0 ? Long.MAX_VALUE : clock.getAsLong() - checkedAt;
+    }
+
+    public synchronized void check() {
+        Long replicaBeat = null;
+        try {
+            replicaBeat = replica.query("SELECT beat_at FROM replication_heartbeat WHERE id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+        } catch (DataAccessException e) {
+            log.debug("복제 DB heartbeat 조회 실패: {}", e.getMessage());
+        }
+
+        if (replicaBeat == null || lastBeat == 0) {
+            lagMillis = -1;
+            update(false, replicaBeat == null ? "heartbeat를 읽을 수 없음" : "첫 점검");
+        } else {
+            lagMillis = Math.max(0, lastBeat - replicaBeat);
+            lastCheckedAt = clock.getAsLong();
+            update(lagMillis <= maxLagMillis, "지연 " + lagMillis + "ms");
+        }
+
+        try {
+            long now = clock.getAsLong();
+            if (lastBeat == 0) {
+                primary.execute(CREATE_TABLE_SQL);
+            }
+            if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now);
+            }
+            lastBeat = now;
+        } catch (DataAccessException e) {
+            log.warn("주 DB heartbeat 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    // 복제 DB 연결 실패 (다음 점검에서 따라잡았으면 다시 사용)
+    public void markUnavailable(String reason) {
+        update(false, reason);
+    }
+
+    private void update(boolean available, String reason) {
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("복제 DB 읽기 사용 - {}", reason);
+            } else {
+                log.warn("복제 DB 읽기 중지, 주 DB로 전환 - {}", reason);
+            }
+        }
+        replicaAvailable = available;
+    }
+}
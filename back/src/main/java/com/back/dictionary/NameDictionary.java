@@ -0,0 +1,241 @@
+package com.back.dictionary;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실거래 도로명 사전 (도로명 → 정수 id, 실거래 테이블의 road_name_id와 그 색인이 이 id를 쓴다).
+ * name_dictionary 테이블 전체를 불변 스냅샷(id → 문자열 배열, 문자열 → id)으로 들고 있고,
+ * 새 이름은 별도 트랜잭션으로 DB에 등록·커밋한 뒤에 스냅샷을 새로 만들어 교체한다 (읽기는 잠금 없음).
+ * 호출한 쪽 트랜잭션이 롤백돼도 사전 항목은 남으므로, 스냅샷에 DB에 없는 id가 생기지 않는다.
+ * 같은 이름은 항상 스냅샷의 문자열 인스턴스 하나를 돌려주므로, 조회한 엔티티/메모리 색인이 문자열을 공유한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class NameDictionary {
+
+    public static final int MAX_NAME_LENGTH = 200;
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int LOOKUP_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Snapshot snapshot;
+
+    // 조회 조건용 이름 → id (등록하지 않음, 다른 서버가 등록한 이름이면 DB에서 읽어 스냅샷에 추가, 없으면 null)
+    public Integer find(String name) {
+        if (!encodable(name)) {
+            return null;
+        }
+        Integer id = snapshot().ids.get(name);
+        return id != null ? id : loadNames(List.of(name)).ids.get(name);
+    }
+
+    // id → 이름 (공유 인스턴스, 다른 서버가 등록한 id면 DB에서 읽어 스냅샷에 추가)
+    public String name(Integer id) {
+        if (id == null || id <= 0) {
+            return null;
+        }
+        String name = snapshot().name(id);
+        if (name == null) {
+            name = loadIds(List.of(id)).name(id);
+        }
+        return name;
+    }
+
+    // 사전에 있는 이름이면 공유 인스턴스, 없으면 JVM 문자열 풀 (등록하지 않음, 시군구/단지명 등 id가 없는 이름용)
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        Snapshot current = snapshot();
+        Integer id = current.ids.get(value);
+        return id != null ? current.names[id] : value.intern();
+    }
+
+    public int size() {
+        return snapshot().ids.size();
+    }
+
+    /**
+     * 여러 이름을 한 번에 등록하고 이름 → id 반환 (적재 청크/백필 청크 단위 호출용).
+     * 새 이름이 있을 때만 등록 트랜잭션과 스냅샷 교체가 한 번씩 일어난다.
+     * DB 기본 정렬에서 기존 항목과 같은 값으로 보는 이름(대소문자만 다른 이름 등)은 id 없이 남는다.
+     */
+    public synchronized Map<String, Integer> register(Collection<String> names) {
+        Snapshot current = snapshot();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            if (encodable(name) && !current.ids.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Integer, String> added;
+            try {
+                added = newTransaction().execute(status -> insertMissing(missing));
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 같은 이름을 먼저 등록 → 새 트랜잭션에서 기존 항목을 다시 읽고 나머지만 등록
+                added = newTransaction().execute(status -> insertMissing(missing));
+            }
+            // 커밋된 항목만 스냅샷에 반영
+            current = current.with(added);
+            snapshot = current;
+            log.debug("이름 사전 등록 - {}개, 전체 {}개", added.size(), current.ids.size());
+        }
+
+        Map<String, Integer> result = new HashMap<>();
+        for (String name : names) {
+            Integer id = name == null ? null : current.ids.get(name);
+            if (id != null) {
+                result.put(name, id);
+            }
+        }
+        return result;
+    }
+
+    // 커밋된 실거래 행 하나의 도로명 등록 후 road_name_id 채우기 (엔티티 콜백 밖, 커밋 이후 호출)
+    public void assign(String table, long no, String roadName) {
+        Integer id = encodable(roadName) ? register(List.of(roadName)).get(roadName) : null;
+        if (id != null) {
+            newTransaction().executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE " + table + " SET road_name_id = ? WHERE no = ? AND road_name_id IS NULL", id, no));
+        }
+    }
+
+    // DB에 이미 있는 이름은 읽고 없는 이름만 INSERT (DB 종류와 무관한 표준 SQL)
+    private Map<Integer, String> insertMissing(Set<String> missing) {
+        Map<Integer, String> added = selectByNames(missing);
+        Set<String> existing = new HashSet<>(added.values());
+        List<Object[]> inserts = new ArrayList<>();
+        for (String name : missing) {
+            if (!existing.contains(name)) {
+                inserts.add(new Object[]{name});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO name_dictionary (name) VALUES (?)", inserts);
+            added.putAll(selectByNames(inserts.stream().map(args -> (String) args[0]).toList()));
+        }
+        // 정렬 규칙상 같은 값으로 본 다른 이름은 제외
+        added.values().removeIf(name -> !missing.contains(name));
+        return added;
+    }
+
+    private Map<Integer, String> selectByNames(Collection<String> names) {
+        Map<Integer, String> found = new HashMap<>();
+        List<String> pending = new ArrayList<>(names);
+        for (int from = 0; from < pending.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> batch = pending.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, pending.size()));
+            jdbcTemplate.query("SELECT id, name FROM name_dictionary WHERE name IN (" +
+                            String.join(", ", Collections.nCopies(batch.size(), "?")) + ")",
+                    (RowCallbackHandler) rs -> found.put(rs.getInt("id"), rs.getString("name")),
+                    batch.toArray());
+        }
+        return found;
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private static boolean encodable(String name) {
+        return name != null && name.length() <= MAX_NAME_LENGTH;
+    }
+
+    private synchronized Snapshot loadIds(Collection<Integer> ids) {
+        Map<Integer, String> added = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM name_dictionary WHERE id IN (" +
+                        String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+                (RowCallbackHandler) rs -> added.put(rs.getInt("id"), rs.getString("name")),
+                ids.toArray());
+        if (!added.isEmpty()) {
+            snapshot = snapshot().with(added);
+        }
+        return snapshot;
+    }
+
+    private synchronized Snapshot loadNames(Collection<String> names) {
+        Map<Integer, String> added = selectByNames(names);
+        added.values().removeIf(name -> !names.contains(name));
+        if (!added.isEmpty()) {
+            snapshot = snapshot().with(added);
+        }
+        return snapshot;
+    }
+
+    // 처음 사용할 때 사전 전체 로드
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                long start = System.currentTimeMillis();
+                Map<Integer, String> names = new HashMap<>();
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement("SELECT id, name FROM name_dictionary");
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, (RowCallbackHandler) rs -> names.put(rs.getInt("id"), rs.getString("name")));
+                snapshot = new Snapshot(new String[1], Map.of()).with(names);
+                log.info("이름 사전 로드 - {}개, {}ms", names.size(), System.currentTimeMillis() - start);
+            }
+            return snapshot;
+        }
+    }
+
+    // 불변 스냅샷 (names[id] = 이름, ids의 키는 names의 같은 인스턴스)
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final String[] names;
+        private final Map<String, Integer> ids;
+
+        private String name(int id) {
+            return id < names.length ? names[id] : null;
+        }
+
+        // 항목을 더한 새 스냅샷
+        private Snapshot with(Map<Integer, String> added) {
+            int maxId = names.length - 1;
+            for (Integer id : added.keySet()) {
+                maxId = Math.max(maxId, id);
+            }
+            String[] nextNames = Arrays.copyOf(names, maxId + 1);
+            Map<String, Integer> nextIds = new HashMap<>(ids);
+            added.forEach((id, name) -> {
+                nextNames[id] = name;
+                nextIds.put(name, id);
+            });
+            return new Snapshot(nextNames, Collections.unmodifiableMap(nextIds));
+        }
+    }
+}
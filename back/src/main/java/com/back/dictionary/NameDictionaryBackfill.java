@@ -0,0 +1,99 @@
+package com.back.dictionary;
+
+import com.back.domain.GeoLocated;
+import com.back.domain.TransactionRecord;
+import com.back.index.TransactionChangedEvent;
+import com.back.ingest.TransactionFileType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도로명 사전 id가 없는 실거래 행 채우기 (road_name_id 컬럼 추가 이전 데이터).
+ * 실거래 적재/일괄 작업(JDBC)은 쓰기 전에 청크의 도로명을 등록해 채우고, 엔티티 저장은 NameDictionaryListener가
+ * 사전에 있는 도로명만 채운 뒤 사전에 없던 도로명을 커밋 이후 여기서 등록해 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class NameDictionaryBackfill {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NameDictionary dictionary;
+
+    public int backfillMissing() {
+        int updated = 0;
+        for (TransactionFileType type : TransactionFileType.values()) {
+            updated += backfill(type.getTable());
+        }
+        log.info("실거래 도로명 사전 id 채우기 완료 - {}건, 사전 {}개", updated, dictionary.size());
+        return updated;
+    }
+
+    // 사전에 없던 도로명으로 저장된 엔티티의 road_name_id 채우기 (도로명 id로 다시 읽는 집계 갱신보다 먼저)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        TransactionFileType type = TransactionFileType.forEntity(transaction.getClass());
+        if (event.isDeleted() || type == null) {
+            return;
+        }
+        GeoLocated located = (GeoLocated) transaction;
+        Long no = ((TransactionRecord) transaction).getNo();
+        if (no != null && located.getRoadName() != null && located.getRoadNameId() == null) {
+            try {
+                dictionary.assign(type.getTable(), no, located.getRoadName());
+            } catch (Exception e) {
+                // 다음 시작 시 backfillMissing이 채움
+                log.error("도로명 사전 id 채우기 실패 - {} {}: {}", type.getTable(), no, e.getMessage());
+            }
+        }
+    }
+
+    // no 순 청크로 청크의 도로명을 한 번에 사전 등록한 뒤 id 반영
+    private int backfill(String table) {
+        String selectSql = "SELECT no, road_name FROM " + table +
+                " WHERE road_name_id IS NULL AND road_name IS NOT NULL AND no > ? ORDER BY no LIMIT " + CHUNK_SIZE;
+        String updateSql = "UPDATE " + table + " SET road_name_id = ? WHERE no = ?";
+
+        int updated = 0;
+        long lastNo = 0;
+        while (true) {
+            List<Long> nos = new ArrayList<>();
+            List<String> roadNames = new ArrayList<>();
+            jdbcTemplate.query(selectSql, rs -> {
+                nos.add(rs.getLong("no"));
+                roadNames.add(rs.getString("road_name"));
+            }, lastNo);
+            if (nos.isEmpty()) {
+                break;
+            }
+
+            Map<String, Integer> ids = dictionary.register(new HashSet<>(roadNames));
+            List<Object[]> batch = new ArrayList<>(nos.size());
+            for (int i = 0; i < nos.size(); i++) {
+                Integer id = ids.get(roadNames.get(i));
+                if (id != null) {
+                    batch.add(new Object[]{id, nos.get(i)});
+                }
+            }
+            jdbcTemplate.batchUpdate(updateSql, batch);
+            updated += batch.size();
+            lastNo = nos.get(nos.size() - 1);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,109 @@
+package com.back.dictionary;
+
+import com.back.domain.ApartmentRent;
+import com.back.domain.ApartmentSale;
+import com.back.domain.DetachedHouseRent;
+import com.back.domain.DetachedHouseSale;
+import com.back.domain.OfficeTelRent;
+import com.back.domain.OfficeTelSale;
+import com.back.domain.RowHouseRent;
+import com.back.domain.RowHouseSale;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실거래 엔티티 저장/수정 직전에 도로명 사전 id 설정, 조회 직후에는 이름을 공유 문자열로 교체.
+ * 조회 시 id의 이름과 텍스트가 다르면(id가 채워지기 전 데이터 등) 텍스트를 그대로 두고 공유 문자열만 쓴다.
+ * 저장 시에는 사전에 있는 도로명만 id를 채우고 등록은 하지 않는다 (flush 중에 별도 트랜잭션을 열지 않도록).
+ * 사전에 없던 도로명은 커밋 이후 NameDictionaryBackfill이 등록하고 id를 채운다.
+ * Hibernate가 EntityManagerFactory를 만드는 중에 이 리스너를 생성하므로, 사전(→ 트랜잭션 매니저 → EMF)은 처음 쓸 때 찾는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NameDictionaryListener {
+
+    private final ObjectProvider<NameDictionary> dictionaryProvider;
+
+    @PrePersist
+    @PreUpdate
+    public void onSaving(Object transaction) {
+        NameDictionary dictionary = dictionaryProvider.getObject();
+        switch (transaction) {
+            case ApartmentSale t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case RowHouseSale t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case DetachedHouseSale t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case OfficeTelSale t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case ApartmentRent t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case RowHouseRent t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case DetachedHouseRent t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            case OfficeTelRent t -> t.setRoadNameId(dictionary.find(t.getRoadName()));
+            default -> {
+            }
+        }
+    }
+
+    @PostLoad
+    public void onLoaded(Object transaction) {
+        NameDictionary dictionary = dictionaryProvider.getObject();
+        switch (transaction) {
+            case ApartmentSale t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setComplexName(dictionary.intern(t.getComplexName()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case RowHouseSale t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setBuildingName(dictionary.intern(t.getBuildingName()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case DetachedHouseSale t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case OfficeTelSale t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setComplexName(dictionary.intern(t.getComplexName()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case ApartmentRent t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setComplexName(dictionary.intern(t.getComplexName()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case RowHouseRent t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setBuildingName(dictionary.intern(t.getBuildingName()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case DetachedHouseRent t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            case OfficeTelRent t -> {
+                t.setSigungu(dictionary.intern(t.getSigungu()));
+                t.setComplexName(dictionary.intern(t.getComplexName()));
+                t.setRoadName(decode(dictionary, t.getRoadNameId(), t.getRoadName()));
+                t.setHousingType(dictionary.intern(t.getHousingType()));
+            }
+            default -> {
+            }
+        }
+    }
+
+    // id의 공유 문자열 (텍스트와 다르면 텍스트 기준)
+    private static String decode(NameDictionary dictionary, Integer id, String value) {
+        String name = dictionary.name(id);
+        return name != null && name.equals(value) ? name : dictionary.intern(value);
+    }
+}
@@ -0,0 +1,55 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 시군구 + 단지(건물) + 거래구분 + 계약월별 금액 분위수 스케치 (PriceTrendRollupBuilder가 갱신)
+@Entity
+@Table(name = "complex_price_sketch", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"region", "property_type", "complex_name", "deal_type", "contract_month"})
+}, indexes = {
+    @Index(name = "idx_complex_price_sketch_complex", columnList = "complex_name, contract_month")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(exclude = {"amountSketch", "monthlyRentSketch"})
+public class ComplexPriceSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "region", nullable = false, length = 100)
+    private String region; // 시군구 (예: 서울특별시 마포구)
+
+    @Column(name = "property_type", nullable = false, length = 20)
+    private String propertyType; // 아파트, 연립/다세대, 오피스텔 (단독주택은 단지명이 없어 제외)
+
+    @Column(name = "complex_name", nullable = false, length = 200)
+    private String complexName; // 단지명 (연립/다세대는 건물명)
+
+    @Column(name = "deal_type", nullable = false, length = 10)
+    private String dealType; // 매매, 전세, 월세
+
+    @Column(name = "contract_month", nullable = false)
+    private Integer contractMonth; // 계약월 (yyyyMM)
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount; // 거래 건수
+
+    @Lob
+    @Column(name = "amount_sketch")
+    private byte[] amountSketch; // 거래금액/보증금 분위수 스케치 (QuantileSketch)
+
+    @Lob
+    @Column(name = "monthly_rent_sketch")
+    private byte[] monthlyRentSketch; // 월세 분위수 스케치 (월세만)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -1,19 +1,29 @@
 package com.back.domain;
 
+import com.back.dictionary.NameDictionaryListener;
+import com.back.geo.GeocodingListener;
+import com.back.index.TransactionIndexListener;
+import com.back.ingest.ContentHashListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "detached_house_sale")
+@EntityListeners({TransactionIndexListener.class, GeocodingListener.class, ContentHashListener.class, NameDictionaryListener.class})
+@Table(name = "detached_house_sale", indexes = {
+        @Index(name = "idx_detached_house_sale_road_id_date", columnList = "road_name_id, contract_date"),
+        @Index(name = "idx_detached_house_sale_date_no", columnList = "contract_date, no")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_detached_house_sale_content_hash", columnNames = "content_hash")
+})
 @Getter
 @Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
-public class DetachedHouseSale {
+public class DetachedHouseSale implements GeoLocated, TransactionRecord {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,4 +58,20 @@ public class DetachedHouseSale {
     
     @Column(name = "transaction_type", nullable = false)
     private String transactionType; // 거래구분 (매매/전세/월세)
-} 
\ No newline at end of file
+    
+    @Column(name = "latitude")
+    private Double latitude; // 위도 (시군구 + 도로명 좌표, 저장 시 GeocodingListener가 설정)
+    
+    @Column(name = "longitude")
+    private Double longitude; // 경도
+    
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 중복 판별 해시 (ContentHashListener가 설정)
+
+    @Column(name = "road_name_id")
+    private Integer roadNameId; // 도로명 사전 id (NameDictionaryListener/적재 경로가 설정, 도로명 조회는 이 컬럼으로)
+    
+    @Transient
+    @ToString.Exclude
+    private String loadedRoadName; // 조회 시점 도로명 (TransactionIndexListener가 설정, 수정으로 바뀐 이전 도로명 확인용)
+}
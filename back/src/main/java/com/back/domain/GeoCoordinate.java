@@ -0,0 +1,34 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 주소 → 좌표 사전 (정규화된 시군구 + 도로명 기준, 오프라인 좌표 파일에서 적재)
+@Entity
+@Table(name = "geo_coordinate", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"sigungu", "road_name"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class GeoCoordinate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sigungu", nullable = false, length = 50)
+    private String sigungu; // 정규화된 시군구 ("서울특별시 강남구", AddressNormalizer.district)
+
+    @Column(name = "road_name", nullable = false, length = 200)
+    private String roadName; // 정규화된 도로명 ("테헤란로 123")
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude; // 위도
+
+    @Column(name = "longitude", nullable = false)
+    private Double longitude; // 경도
+}
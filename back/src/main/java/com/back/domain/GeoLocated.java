@@ -0,0 +1,23 @@
+package com.back.domain;
+
+// 시군구 + 도로명으로 좌표를 찾아 저장하는 실거래 엔티티 (GeocodingListener가 저장 시 좌표 설정)
+public interface GeoLocated {
+
+    String getSigungu();
+
+    String getRoadName();
+
+    Integer getRoadNameId(); // 도로명 사전 id (사전에 없던 도로명이면 커밋 후 채워짐)
+
+    String getLoadedRoadName(); // 조회 시점 도로명 (새로 저장된 행이면 null)
+
+    void setLoadedRoadName(String loadedRoadName);
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    void setLatitude(Double latitude);
+
+    void setLongitude(Double longitude);
+}
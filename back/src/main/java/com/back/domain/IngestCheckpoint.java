@@ -0,0 +1,65 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 실거래 파일 적재 체크포인트 (같은 파일을 다시 적재하면 처리된 행 이후부터 이어서 진행)
+@Entity
+@Table(name = "ingest_checkpoint", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"file_type", "fingerprint"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class IngestCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_type", nullable = false, length = 30)
+    private String fileType; // 파일 종류 (apartment-sale 등)
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint; // 파일 내용 SHA-256
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "directory_file", nullable = false)
+    private Boolean directoryFile; // 적재 디렉터리의 파일이면 true (재시작 시 자동으로 이어서 적재)
+
+    @Column(name = "charset", length = 20)
+    private String charset; // 지정한 문자 인코딩 (자동 판별이면 null)
+
+    @Column(name = "rows_committed", nullable = false)
+    private Long rowsCommitted; // 앞에서부터 반영이 끝난 데이터 행 수
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CheckpointStatus status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum CheckpointStatus {
+        RUNNING("진행중"),
+        COMPLETED("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        CheckpointStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 시군구 + 주택유형 + 단지 + 면적 구간 + 계약분기별 전세가율 (JeonseRatioBuilder가 갱신)
+@Entity
+@Table(name = "jeonse_ratio", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"region", "property_type", "complex_name", "area_band", "contract_quarter"})
+}, indexes = {
+    @Index(name = "idx_jeonse_ratio_screen", columnList = "property_type, contract_quarter, jeonse_ratio"),
+    @Index(name = "idx_jeonse_ratio_complex", columnList = "complex_name, contract_quarter")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class JeonseRatio {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "region", nullable = false, length = 100)
+    private String region; // 시군구 (예: 서울특별시 마포구, AddressNormalizer.district)
+
+    @Column(name = "property_type", nullable = false, length = 20)
+    private String propertyType; // 아파트, 연립/다세대, 오피스텔
+
+    @Column(name = "complex_name", nullable = false, length = 200)
+    private String complexName; // 단지명/건물명
+
+    @Column(name = "area_band", nullable = false)
+    private Integer areaBand; // 면적 구간 (MarketPriceSummaryBuilder.areaBand)
+
+    @Column(name = "contract_quarter", nullable = false)
+    private Integer contractQuarter; // 계약분기 (yyyyQ, 예: 20242)
+
+    @Column(name = "sale_count", nullable = false)
+    private Long saleCount; // 매매 거래 건수
+
+    @Column(name = "sale_median", nullable = false)
+    private Long saleMedian; // 매매 중위 금액 (만원)
+
+    @Column(name = "jeonse_count", nullable = false)
+    private Long jeonseCount; // 전세 거래 건수
+
+    @Column(name = "jeonse_median", nullable = false)
+    private Long jeonseMedian; // 전세 중위 보증금 (만원)
+
+    @Column(name = "jeonse_ratio", nullable = false)
+    private Double jeonseRatio; // 전세가율 (전세 중위 / 매매 중위, 예: 0.734)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
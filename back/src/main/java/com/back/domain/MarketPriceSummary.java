@@ -0,0 +1,54 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 도로명 + 주택유형 + 면적 구간 + 거래구분별 실거래가 요약 (MarketPriceSummaryBuilder가 갱신)
+@Entity
+@Table(name = "market_price_summary", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"road_name", "area_band", "property_type", "deal_type"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(exclude = "recentTransactions")
+public class MarketPriceSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "road_name", nullable = false, length = 200)
+    private String roadName; // 도로명
+
+    @Column(name = "area_band", nullable = false)
+    private Integer areaBand; // 면적 구간 (MarketPriceSummaryBuilder.AREA_BAND_UPPER_BOUNDS)
+
+    @Column(name = "property_type", nullable = false, length = 20)
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+
+    @Column(name = "deal_type", nullable = false, length = 10)
+    private String dealType; // 매매, 전세, 월세
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount; // 거래 건수
+
+    @Column(name = "min_amount")
+    private Long minAmount; // 최저 거래금액/보증금 (만원)
+
+    @Column(name = "median_amount")
+    private Long medianAmount; // 중앙값 (만원)
+
+    @Column(name = "max_amount")
+    private Long maxAmount; // 최고 거래금액/보증금 (만원)
+
+    @Column(name = "recent_transactions", columnDefinition = "TEXT")
+    private String recentTransactions; // 최근 거래 목록 (JSON)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
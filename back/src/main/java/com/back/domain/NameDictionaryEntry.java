@@ -0,0 +1,26 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 실거래 도로명 사전 한 항목 (도로명 문자열 → 정수 id, NameDictionary가 관리)
+@Entity
+@Table(name = "name_dictionary", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"name"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class NameDictionaryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // DB 기본 정렬을 따름 (정렬상 같은 값으로 보는 다른 이름은 NameDictionary가 id 없이 둠)
+    @Column(name = "name", nullable = false, length = 200)
+    private String name;
+}
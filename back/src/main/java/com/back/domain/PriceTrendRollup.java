@@ -0,0 +1,70 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 시군구 + 주택유형 + 거래구분 + 면적 구간 + 계약월별 실거래 집계 (PriceTrendRollupBuilder가 갱신)
+@Entity
+@Table(name = "price_trend_rollup", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"region", "property_type", "deal_type", "area_band", "contract_month"})
+}, indexes = {
+    @Index(name = "idx_price_trend_rollup_month", columnList = "property_type, deal_type, contract_month")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(exclude = {"amountSketch", "monthlyRentSketch"})
+public class PriceTrendRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "region", nullable = false, length = 100)
+    private String region; // 시군구 (예: 서울특별시 마포구, AddressNormalizer.district)
+
+    @Column(name = "property_type", nullable = false, length = 20)
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+
+    @Column(name = "deal_type", nullable = false, length = 10)
+    private String dealType; // 매매, 전세, 월세
+
+    @Column(name = "area_band", nullable = false)
+    private Integer areaBand; // 면적 구간 (MarketPriceSummaryBuilder.areaBand)
+
+    @Column(name = "contract_month", nullable = false)
+    private Integer contractMonth; // 계약월 (yyyyMM, 예: 202401)
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount; // 거래 건수
+
+    @Column(name = "amount_sum", nullable = false)
+    private Long amountSum; // 거래금액/보증금 합계 (만원)
+
+    @Column(name = "monthly_rent_sum")
+    private Long monthlyRentSum; // 월세 합계 (만원, 월세만)
+
+    @Column(name = "price_per_area_sum")
+    private Double pricePerAreaSum; // ㎡당 금액 합계 (만원/㎡, 면적이 있는 거래만)
+
+    @Column(name = "area_count")
+    private Long areaCount; // 면적이 있는 거래 건수 (㎡당 금액 평균의 분모)
+
+    @Column(name = "median_amount")
+    private Long medianAmount; // 거래금액/보증금 중앙값 (만원, 스케치 기준)
+
+    @Lob
+    @Column(name = "amount_sketch")
+    private byte[] amountSketch; // 거래금액/보증금 분위수 스케치 (QuantileSketch, 구간 병합용)
+
+    @Lob
+    @Column(name = "monthly_rent_sketch")
+    private byte[] monthlyRentSketch; // 월세 분위수 스케치 (월세만)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,7 @@
 package com.back.domain;
 
+import com.back.index.PropertyIndexListener;
+import com.back.util.PriceParser;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,7 +12,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "property")
+@EntityListeners(PropertyIndexListener.class)
+@Table(name = "property", indexes = {
+    @Index(name = "idx_property_type_transaction", columnList = "property_type, transaction_type"),
+    @Index(name = "idx_property_transaction_type", columnList = "transaction_type"),
+    @Index(name = "idx_property_area", columnList = "area"),
+    @Index(name = "idx_property_location", columnList = "latitude, longitude"),
+    @Index(name = "idx_property_sale_price_amount", columnList = "transaction_type, sale_price_amount"),
+    @Index(name = "idx_property_deposit_amount", columnList = "transaction_type, deposit_amount"),
+    @Index(name = "idx_property_monthly_rent_amount", columnList = "transaction_type, monthly_rent_amount"),
+    @Index(name = "idx_property_price_estimate_ratio", columnList = "transaction_type, price_estimate_ratio")
+})
 @ToString
 @Getter 
 @Setter
@@ -38,6 +50,18 @@ public class Property {
     
     private String monthlyRent; // 월세 (월세 선택 시에만)
 
+    private Long salePriceAmount; // 매매가 (만원, price에서 변환)
+
+    private Long depositAmount; // 전세금/보증금 (만원, price에서 변환)
+
+    private Long monthlyRentAmount; // 월세 (만원, monthlyRent에서 변환)
+
+    private Long estimatedPriceAmount; // 추정 매매가 (만원, PropertyValuationBuilder가 주기적으로 산정)
+
+    private Double priceEstimateRatio; // 매매가 / 추정 매매가 (매매만, 1보다 작으면 추정가보다 쌈)
+
+    private LocalDateTime estimatedAt; // 추정가 산정 시각
+
     private Double area; // 면적 (㎡)
 
     private Integer rooms; // 방 개수
@@ -85,8 +109,11 @@ public class Property {
     @Builder.Default
     private Integer transactionStatus = 1; // 거래 상태 (1: 거래 진행중, 0: 거래 완료)
 
+    // 조회수/좋아요 수는 원자적 UPDATE(PropertyViewCounter, PropertyRepository)로만 변경 → 매물 수정 저장에서 제외
+    @Column(updatable = false)
     private Integer viewCount; // 조회수
 
+    @Column(updatable = false)
     private Integer likeCount; // 좋아요 수
 
     private Boolean isLiked; // 현재 사용자가 좋아요 했는지 여부
@@ -102,9 +129,11 @@ public class Property {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // 등록 순서 (0번이 목록 카드 대표 이미지)
     @ElementCollection
     @CollectionTable(name = "property_images", joinColumns = @JoinColumn(name = "property_id"))
     @Column(name = "image_url")
+    @OrderColumn(name = "image_order")
     @Builder.Default
     private List<String> imageUrls = new ArrayList<>();
 
@@ -168,14 +197,23 @@ public class Property {
         }
     }
 
+    // 가격 문자열을 검색용 숫자 컬럼으로 변환
+    public void normalizePriceAmounts() {
+        this.salePriceAmount = PriceParser.salePriceAmount(this.transactionType, this.price);
+        this.depositAmount = PriceParser.depositAmount(this.transactionType, this.price);
+        this.monthlyRentAmount = PriceParser.monthlyRentAmount(this.transactionType, this.monthlyRent);
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        normalizePriceAmounts();
     }
 
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        normalizePriceAmounts();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.back.domain;
+
+import java.time.LocalDate;
+
+// 실거래 엔티티 공통 정렬 키 (계약일 최신순 + 번호, 목록 커서 페이징에 사용)
+public interface TransactionRecord {
+
+    Long getNo();
+
+    LocalDate getContractDate();
+}
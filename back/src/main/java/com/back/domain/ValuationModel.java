@@ -0,0 +1,72 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주택유형별 매매가 추정 모형 계수 (PropertyValuationBuilder가 학습).
+ * ln(㎡당 거래금액) = 상수 + 면적/층/경과년수/계약시점 계수 + 시군구 효과(ValuationRegionEffect)
+ */
+@Entity
+@Table(name = "valuation_model", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"property_type"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ValuationModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_type", nullable = false, length = 20)
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+
+    @Column(name = "intercept", nullable = false)
+    private Double intercept; // 상수항
+
+    @Column(name = "log_area_coefficient", nullable = false)
+    private Double logAreaCoefficient; // ln(면적)
+
+    @Column(name = "floor_coefficient", nullable = false)
+    private Double floorCoefficient; // 층 (단독주택은 0)
+
+    @Column(name = "age_coefficient", nullable = false)
+    private Double ageCoefficient; // 경과년수 / 10
+
+    @Column(name = "age_squared_coefficient", nullable = false)
+    private Double ageSquaredCoefficient; // (경과년수 / 10)²
+
+    @Column(name = "trend_coefficient", nullable = false)
+    private Double trendCoefficient; // 기준월 이후 경과년수 (시점 추세)
+
+    @Column(name = "mean_floor", nullable = false)
+    private Double meanFloor; // 학습 거래 평균 층 (층 정보가 없는 매물에 사용)
+
+    @Column(name = "mean_age", nullable = false)
+    private Double meanAge; // 학습 거래 평균 경과년수 (준공년도가 없는 매물에 사용)
+
+    @Column(name = "base_month", nullable = false)
+    private Integer baseMonth; // 학습 기간 첫 계약월 (yyyyMM)
+
+    @Column(name = "reference_month", nullable = false)
+    private Integer referenceMonth; // 추정 기준 계약월 (yyyyMM, 학습 기간 마지막 달)
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount; // 학습 거래 수
+
+    @Column(name = "rmse", nullable = false)
+    private Double rmse; // 잔차 표준편차 (ln 기준)
+
+    @Column(name = "r_squared", nullable = false)
+    private Double rSquared; // 결정계수
+
+    @Column(name = "trained_at", nullable = false)
+    private LocalDateTime trainedAt;
+}
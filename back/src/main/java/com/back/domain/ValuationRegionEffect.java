@@ -0,0 +1,34 @@
+package com.back.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 매매가 추정 모형의 시군구 효과 (ln 기준, 0이면 전체 평균, PropertyValuationBuilder가 학습)
+@Entity
+@Table(name = "valuation_region_effect", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"property_type", "region"})
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ValuationRegionEffect {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "property_type", nullable = false, length = 20)
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+
+    @Column(name = "region", nullable = false, length = 100)
+    private String region; // 시군구 (예: 서울특별시 마포구, AddressNormalizer.district)
+
+    @Column(name = "effect", nullable = false)
+    private Double effect; // 시군구 효과 (ln(㎡당 거래금액) 가산값)
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount; // 학습 거래 수
+}
@@ -0,0 +1,30 @@
+package com.back.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 매물과 비슷한 실거래 한 건 (위치, 면적, 층, 건축년도, 계약일 기준)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ComparableDTO {
+
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+    private String dealType; // 매매, 전세, 월세
+    private String name; // 단지명/건물명 (단독주택은 주택유형)
+    private Double exclusiveArea; // 전용면적(㎡), 단독주택은 연면적/계약면적
+    private Integer floor; // 층
+    private Integer constructionYear; // 건축년도
+    private LocalDate contractDate; // 계약일
+    private Long transactionAmount; // 거래금액 (만원, 매매)
+    private Long deposit; // 보증금 (만원, 전월세)
+    private Long monthlyRent; // 월세 (만원, 월세)
+    private Integer distanceMeters; // 매물과의 직선거리 (m)
+    private Double similarity; // 유사도 (0~1, 1이면 조건이 모두 같음)
+}
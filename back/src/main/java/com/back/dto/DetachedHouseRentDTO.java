@@ -22,6 +22,8 @@ public class DetachedHouseRentDTO {
     private Long monthlyRent; // 월세금(만원)
     private Integer constructionYear; // 건축년도
     private String roadName; // 도로명
+    private Double latitude; // 위도
+    private Double longitude; // 경도
     private String housingType; // 주택유형 (단독주택/다가구주택)
     private String transactionType; // 거래구분 (매매/전세/월세)
 } 
\ No newline at end of file
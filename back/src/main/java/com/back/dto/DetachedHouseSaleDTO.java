@@ -22,5 +22,7 @@ public class DetachedHouseSaleDTO {
     private Long transactionAmount; // 거래금액(만원)
     private Integer constructionYear; // 건축년도
     private String roadName; // 도로명
+    private Double latitude; // 위도
+    private Double longitude; // 경도
     private String transactionType; // 거래구분 (매매/전세/월세)
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.back.dto;
+
+import lombok.*;
+
+// 패싯 값 하나와 건수
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class FacetCountDTO {
+
+    private String value; // 패싯 값 (예: 서울특별시 마포구 망원동, 1990년대, 60~85㎡)
+    private Long count; // 현재 조건에서 해당 값을 고르면 나오는 건수
+}
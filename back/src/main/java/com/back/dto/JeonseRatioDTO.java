@@ -0,0 +1,25 @@
+package com.back.dto;
+
+import lombok.*;
+
+// 단지 + 면적 구간 + 분기 하나의 전세가율
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class JeonseRatioDTO {
+
+    private String region; // 시군구
+    private String propertyType; // 아파트, 연립/다세대, 오피스텔
+    private String complexName; // 단지명/건물명
+    private Double minArea; // 면적 구간 하한 (㎡, 첫 구간은 null)
+    private Double maxArea; // 면적 구간 상한 (㎡, 마지막 구간은 null)
+    private String quarter; // 계약분기 (예: 2024-Q2)
+    private Long saleCount; // 매매 거래 건수
+    private Long saleMedian; // 매매 중위 금액 (만원)
+    private Long jeonseCount; // 전세 거래 건수
+    private Long jeonseMedian; // 전세 중위 보증금 (만원)
+    private Double jeonseRatio; // 전세가율 (예: 0.734)
+}
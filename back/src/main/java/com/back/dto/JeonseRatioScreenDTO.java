@@ -0,0 +1,23 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 분기 하나의 전세가율 높은 단지 목록 한 페이지
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class JeonseRatioScreenDTO {
+
+    private String propertyType;
+    private String quarter; // 계약분기 (예: 2024-Q2)
+    private List<JeonseRatioDTO> content;
+    private Integer currentPage;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+}
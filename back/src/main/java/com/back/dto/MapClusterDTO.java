@@ -0,0 +1,19 @@
+package com.back.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class MapClusterDTO {
+
+    private Double latitude; // 클러스터 중심 위도 (포함된 지점의 평균)
+    private Double longitude; // 클러스터 중심 경도
+    private Long count; // 포함된 매물/거래 수
+    private Long minPrice; // 최저가 (만원)
+    private Long medianPrice; // 중앙값 (만원)
+    private Long maxPrice; // 최고가 (만원)
+}
@@ -0,0 +1,19 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 매물 상세의 실거래가 (최근 거래 + 요약)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class MarketPriceDTO {
+
+    private List<MarketPriceSaleDTO> sales; // 최근 매매 (최신순 최대 10건)
+    private List<MarketPriceRentDTO> rents; // 최근 전월세 (최신순 최대 10건)
+    private List<MarketPriceSummaryDTO> summaries; // 주택유형/거래구분별 요약
+}
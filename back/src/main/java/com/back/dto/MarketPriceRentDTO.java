@@ -0,0 +1,28 @@
+package com.back.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 매물 상세의 전월세 실거래가 한 건
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MarketPriceRentDTO {
+
+    private Long deposit; // 보증금 (만원)
+    private Long monthlyRent; // 월세 (만원)
+    private Double exclusiveArea; // 전용면적(㎡), 단독주택은 계약면적
+    private Integer floor; // 층
+    private String complexName; // 단지명 (아파트)
+    private String buildingName; // 건물명 (연립/다세대, 단독주택, 오피스텔)
+    private LocalDate contractDate; // 계약일
+    private Integer constructionYear; // 건축년도
+    private String rentType; // 전세/월세
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+}
@@ -0,0 +1,27 @@
+package com.back.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 매물 상세의 매매 실거래가 한 건
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MarketPriceSaleDTO {
+
+    private Long transactionAmount; // 거래금액 (만원)
+    private Double exclusiveArea; // 전용면적(㎡), 단독주택은 연면적
+    private Integer floor; // 층
+    private String dong; // 동 (아파트)
+    private String complexName; // 단지명 (아파트)
+    private String buildingName; // 건물명 (연립/다세대, 단독주택, 오피스텔)
+    private LocalDate contractDate; // 계약일
+    private Integer constructionYear; // 건축년도
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+}
@@ -0,0 +1,22 @@
+package com.back.dto;
+
+import lombok.*;
+
+// 도로명 + 주택유형 + 면적 구간 + 거래구분별 실거래가 요약
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class MarketPriceSummaryDTO {
+
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔
+    private String dealType; // 매매, 전세, 월세
+    private Double minArea; // 면적 구간 하한(㎡, 초과)
+    private Double maxArea; // 면적 구간 상한(㎡, 이하), 마지막 구간은 null
+    private Long transactionCount; // 거래 건수
+    private Long minAmount; // 최저 거래금액/보증금 (만원)
+    private Long medianAmount; // 중앙값 (만원)
+    private Long maxAmount; // 최고 거래금액/보증금 (만원)
+}
@@ -0,0 +1,25 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 시군구(여러 개 가능) 또는 단지의 기간 내 거래금액/보증금/월세 분포
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class PriceDistributionDTO {
+
+    private List<String> regions; // 합산한 시군구 (예: 서울특별시 마포구), 비어 있으면 전체
+    private String complexName; // 단지명 (단지 기준 조회일 때만)
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔 (null이면 전체)
+    private String dealType; // 매매, 전세, 월세 (null이면 전체)
+    private String fromMonth; // 시작 계약월 (yyyy-MM)
+    private String toMonth; // 종료 계약월 (yyyy-MM)
+    private Long transactionCount; // 거래 건수
+    private Long monthlyRentCount; // 월세 거래 건수
+    private List<PriceQuantileDTO> quantiles; // 요청한 분위수 오름차순
+}
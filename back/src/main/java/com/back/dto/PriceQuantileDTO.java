@@ -0,0 +1,17 @@
+package com.back.dto;
+
+import lombok.*;
+
+// 분위수 하나의 금액 (스케치 기준 상대 오차 1% 이내)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class PriceQuantileDTO {
+
+    private Double quantile; // 분위 (0~1, 예: 0.9 → 상위 10% 경계)
+    private Long amount; // 거래금액/보증금 (만원)
+    private Long monthlyRent; // 월세 (만원, 월세 거래가 있을 때만)
+}
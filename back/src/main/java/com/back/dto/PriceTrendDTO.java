@@ -0,0 +1,22 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 시군구 + 주택유형 + 거래구분 + 면적 구간의 월별 시세 추이
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class PriceTrendDTO {
+
+    private String sigungu; // 조회한 시군구
+    private String propertyType; // 아파트, 연립/다세대, 단독주택, 오피스텔 (null이면 전체)
+    private String dealType; // 매매, 전세, 월세 (null이면 전체)
+    private Double minArea; // 면적 구간 하한(㎡, 초과), 구간 지정이 없으면 null
+    private Double maxArea; // 면적 구간 상한(㎡, 이하)
+    private List<PriceTrendPointDTO> points; // 계약월 오름차순, 거래가 없는 달은 빠짐
+}
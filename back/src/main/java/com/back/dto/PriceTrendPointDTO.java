@@ -0,0 +1,20 @@
+package com.back.dto;
+
+import lombok.*;
+
+// 시세 추이 차트의 한 달 값
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class PriceTrendPointDTO {
+
+    private String month; // 계약월 (yyyy-MM)
+    private Long transactionCount; // 거래 건수
+    private Long averageAmount; // 평균 거래금액/보증금 (만원)
+    private Long medianAmount; // 중앙값 (만원, 스케치 기준 오차 1% 이내)
+    private Double averagePricePerArea; // ㎡당 평균 금액 (만원/㎡)
+    private Long averageMonthlyRent; // 평균 월세 (만원, 월세만)
+}
@@ -0,0 +1,143 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 목록/지도 카드용 매물 정보 (내용 TEXT 컬럼 제외, 이미지는 대표 이미지 1장)
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class PropertyCardDTO {
+
+    private Long id;
+    private String title;
+    private String writer;
+    private String writerEmail;
+    private String propertyType;
+    private String transactionType;
+    private String price;
+    private String monthlyRent;
+    private Long estimatedPriceAmount; // 추정 매매가 (만원)
+    private Double priceEstimateRatio; // 매매가 / 추정 매매가 (매매만)
+    private Double area;
+    private Integer rooms;
+    private Integer bathrooms;
+    private Integer floor;
+    private Integer totalFloors;
+    private Integer yearBuilt;
+    private String roadAddress; // 도로명 주소
+    private String detailAddress;
+    private Double latitude;
+    private Double longitude;
+    private String parking;
+    private String heating;
+    private String petAllowed;
+    private Boolean elevator;
+    private Boolean balcony;
+    private Boolean tv;
+    private Boolean airConditioner;
+    private Boolean shoeCabinet;
+    private Boolean refrigerator;
+    private Boolean washingMachine;
+    private Boolean bathtub;
+    private Boolean sink;
+    private Boolean induction;
+    private Boolean wardrobe;
+    private Boolean fireAlarm;
+    private String status;
+    private Integer transactionStatus; // 거래 상태 (1: 거래 진행중, 0: 거래 완료)
+    private Integer viewCount;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Boolean isLiked;
+    private List<String> imageUrls; // 대표 이미지 (최대 1장)
+
+    // Criteria 생성자 projection용 (isLiked, imageUrls는 조회 후 채움)
+    public PropertyCardDTO(Long id,
+                           String title,
+                           String writer,
+                           String writerEmail,
+                           String propertyType,
+                           String transactionType,
+                           String price,
+                           String monthlyRent,
+                           Long estimatedPriceAmount,
+                           Double priceEstimateRatio,
+                           Double area,
+                           Integer rooms,
+                           Integer bathrooms,
+                           Integer floor,
+                           Integer totalFloors,
+                           Integer yearBuilt,
+                           String roadAddress,
+                           String detailAddress,
+                           Double latitude,
+                           Double longitude,
+                           String parking,
+                           String heating,
+                           String petAllowed,
+                           Boolean elevator,
+                           Boolean balcony,
+                           Boolean tv,
+                           Boolean airConditioner,
+                           Boolean shoeCabinet,
+                           Boolean refrigerator,
+                           Boolean washingMachine,
+                           Boolean bathtub,
+                           Boolean sink,
+                           Boolean induction,
+                           Boolean wardrobe,
+                           Boolean fireAlarm,
+                           String status,
+                           Integer transactionStatus,
+                           Integer viewCount,
+                           Integer likeCount,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.writer = writer;
+        this.writerEmail = writerEmail;
+        this.propertyType = propertyType;
+        this.transactionType = transactionType;
+        this.price = price;
+        this.monthlyRent = monthlyRent;
+        this.estimatedPriceAmount = estimatedPriceAmount;
+        this.priceEstimateRatio = priceEstimateRatio;
+        this.area = area;
+        this.rooms = rooms;
+        this.bathrooms = bathrooms;
+        this.floor = floor;
+        this.totalFloors = totalFloors;
+        this.yearBuilt = yearBuilt;
+        this.roadAddress = roadAddress;
+        this.detailAddress = detailAddress;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.parking = parking;
+        this.heating = heating;
+        this.petAllowed = petAllowed;
+        this.elevator = elevator;
+        this.balcony = balcony;
+        this.tv = tv;
+        this.airConditioner = airConditioner;
+        this.shoeCabinet = shoeCabinet;
+        this.refrigerator = refrigerator;
+        this.washingMachine = washingMachine;
+        this.bathtub = bathtub;
+        this.sink = sink;
+        this.induction = induction;
+        this.wardrobe = wardrobe;
+        this.fireAlarm = fireAlarm;
+        this.status = status;
+        this.transactionStatus = transactionStatus;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -22,6 +22,8 @@ public class PropertyDTO {
     private String transactionType;
     private String price;
     private String monthlyRent;
+    private Long estimatedPriceAmount; // 추정 매매가 (만원)
+    private Double priceEstimateRatio; // 매매가 / 추정 매매가 (매매만)
     private Double area;
     private Integer rooms;
     private Integer bathrooms;
@@ -0,0 +1,37 @@
+package com.back.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class PropertySearchDTO {
+
+    private String propertyType; // 매물 유형 (null 또는 "전체"면 조건 없음)
+    private String transactionType; // 거래 유형 (매매, 전세, 월세, 전/월세)
+    private Double areaMin; // 최소 면적 (㎡)
+    private Double areaMax; // 최대 면적 (㎡)
+    private Integer roomCount; // 방 개수
+    private Integer bathroomCount; // 화장실 개수
+    private Integer floor; // 층수
+    private Integer yearBuiltMin; // 최소 준공년도
+    private Integer yearBuiltMax; // 최대 준공년도
+    private Double saleMin; // 최소 매매가 (억원, 매매만)
+    private Double saleMax; // 최대 매매가 (억원, 매매만)
+    private Double depositMin; // 최소 보증금 (전세는 억원, 월세는 만원)
+    private Double depositMax; // 최대 보증금 (전세는 억원, 월세는 만원)
+    private Double monthlyRentMin; // 최소 월세 (만원, 월세만)
+    private Double monthlyRentMax; // 최대 월세 (만원, 월세만)
+    private Double estimateRatioMin; // 최소 매매가 / 추정 매매가 (예: 0.9, 매매만)
+    private Double estimateRatioMax; // 최대 매매가 / 추정 매매가 (예: 1.0, 매매만)
+    private Double swLat; // 지도 화면 남서쪽 위도
+    private Double swLng; // 지도 화면 남서쪽 경도
+    private Double neLat; // 지도 화면 북동쪽 위도
+    private Double neLng; // 지도 화면 북동쪽 경도
+    private Double centerLat; // 반경 검색 중심 위도
+    private Double centerLng; // 반경 검색 중심 경도
+    private Double radiusKm; // 반경 (km)
+}
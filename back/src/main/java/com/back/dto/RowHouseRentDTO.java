@@ -23,6 +23,8 @@ public class RowHouseRentDTO {
     private Integer floor; // 층
     private Integer constructionYear; // 건축년도
     private String roadName; // 도로명
+    private Double latitude; // 위도
+    private Double longitude; // 경도
     private String housingType; // 주택유형
     private String transactionType; // 거래구분 (매매/전세/월세)
 } 
\ No newline at end of file
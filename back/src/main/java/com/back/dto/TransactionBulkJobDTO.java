@@ -0,0 +1,59 @@
+package com.back.dto;
+
+import com.back.dto.TransactionBulkRequestDTO.BulkOperation;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 실거래 일괄 작업 진행 상황
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TransactionBulkJobDTO {
+
+    private String jobId;
+
+    private String type; // 실거래 종류 (apartment-sale 등)
+
+    private BulkOperation operation;
+
+    private BulkStatus status;
+
+    private long rowsTotal; // 대상 행 수 (조건 대상이면 시작 시점 기준)
+
+    private long rowsProcessed; // 처리한 대상 행 수
+
+    private long rowsChanged; // 실제로 추가/수정/삭제된 행 수
+
+    private long rowsRejected; // 없는 번호, 같은 거래(해시)와 겹침 등으로 제외된 행 수
+
+    private long chunksCommitted; // 커밋된 청크 수 (실패/취소 시 여기까지 반영)
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error; // 실패 사유
+
+    public enum BulkStatus {
+        QUEUED("대기중"),
+        RUNNING("진행중"),
+        CANCELLING("취소중"),
+        COMPLETED("완료"),
+        CANCELLED("취소됨"),
+        FAILED("실패");
+
+        private final String description;
+
+        BulkStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
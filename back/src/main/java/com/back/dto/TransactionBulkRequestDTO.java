@@ -0,0 +1,56 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실거래 일괄 작업 요청.
+ * 대상은 rows(행 목록), nos(번호 목록), 조건(sigungu, 계약일 범위) 중 하나로 지정한다.
+ * 컬럼 이름은 DB 컬럼 이름 (sigungu, road_name, complex_name, contract_date 등).
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TransactionBulkRequestDTO {
+
+    private BulkOperation operation;
+
+    private List<Map<String, Object>> rows; // INSERT: 추가할 행, UPDATE: 행마다 no와 바꿀 컬럼
+
+    private List<Long> nos; // UPDATE(values 적용)/DELETE 대상 번호
+
+    private Map<String, Object> values; // nos 또는 조건 대상 UPDATE에서 바꿀 컬럼 → 값
+
+    private String sigungu; // 조건: 시군구 앞부분 일치 (예: "서울특별시 강남구")
+
+    private LocalDate contractDateFrom; // 조건: 계약일 시작 (포함)
+
+    private LocalDate contractDateTo; // 조건: 계약일 끝 (포함)
+
+    // 조건 대상인지
+    public boolean hasFilter() {
+        return (sigungu != null && !sigungu.isBlank()) || contractDateFrom != null || contractDateTo != null;
+    }
+
+    public enum BulkOperation {
+        INSERT("추가"),
+        UPDATE("수정"),
+        DELETE("삭제");
+
+        private final String description;
+
+        BulkOperation(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+// 실거래 검색 패싯 건수 (sigungu, housingType, transactionType, constructionDecade, areaBand)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TransactionFacetsDTO {
+
+    private String layer; // apartment-sale, apartment-rent 등
+    private Long totalCount; // 선택 조건에 맞는 거래 건수
+    private Map<String, List<FacetCountDTO>> facets; // 패싯 → 값별 건수 (건수 내림차순)
+}
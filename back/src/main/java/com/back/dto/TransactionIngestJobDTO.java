@@ -0,0 +1,60 @@
+package com.back.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 실거래 파일 적재 작업 진행 상황
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TransactionIngestJobDTO {
+
+    private String jobId;
+
+    private String type; // 파일 종류 (apartment-sale 등)
+
+    private String fileName;
+
+    private IngestStatus status;
+
+    private long rowsRead; // 읽은 데이터 행 수 (헤더 제외)
+
+    private long rowsInserted; // 추가된 행 수
+
+    private long rowsUpdated; // 같은 거래(해시)가 있고 내용이 바뀌어 수정된 행 수
+
+    private long rowsSkipped; // 같은 거래가 이미 있어 건너뛴 행 수
+
+    private long rowsDeleted; // 해제(취소)된 거래라 기존 행을 삭제한 수
+
+    private long rowsRejected; // 형식 오류 등으로 제외된 행 수
+
+    private long resumedFromRow; // 체크포인트에서 이어서 시작한 경우 건너뛴 앞부분 행 수
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error; // 실패 사유
+
+    public enum IngestStatus {
+        QUEUED("대기중"),
+        RUNNING("진행중"),
+        COMPLETED("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        IngestStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// 실거래 지도 목록 조회 조건 (8개 실거래 공통)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TransactionMapFilterDTO {
+
+    private String transactionType; // 거래구분 (매매/전세/월세)
+
+    private String rentType; // 전월세구분 (전세/월세, 전월세만 적용)
+
+    private Long minPrice; // 최소 가격 (만원, 매매는 거래금액, 전월세는 보증금)
+
+    private Long maxPrice; // 최대 가격 (만원)
+
+    private Double minArea; // 최소 면적(㎡)
+
+    private Double maxArea; // 최대 면적(㎡)
+
+    private Integer page; // 페이지 번호 (0부터, keyset이면 무시)
+
+    private Integer size; // 페이지 크기
+
+    private Boolean keyset; // true면 전체 건수 없이 (계약일, 번호) 커서로 다음 페이지 조회
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate cursorContractDate; // 이전 응답의 nextCursorContractDate
+
+    private Long cursorNo; // 이전 응답의 nextCursorNo
+}
@@ -0,0 +1,74 @@
+package com.back.dto;
+
+import com.back.domain.TransactionRecord;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+// 실거래 목록 한 페이지 (offset 페이징이면 전체 건수 포함, keyset이면 다음 커서 포함)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionPageDTO<T> {
+
+    private List<T> content;
+
+    private Integer currentPage; // offset 페이징만
+
+    private Integer size;
+
+    private Boolean hasNext;
+
+    private Long totalElements; // offset 페이징만
+
+    private Integer totalPages; // offset 페이징만
+
+    private LocalDate nextCursorContractDate; // 다음 페이지 요청의 cursorContractDate (다음 페이지가 있을 때)
+
+    private Long nextCursorNo; // 다음 페이지 요청의 cursorNo
+
+    private Long approximateTotalElements; // 테이블 통계 기준 대략 전체 건수 (관리자 목록, 요청한 경우만)
+
+    // 조회 결과 → 응답 (엔티티는 mapper로 변환)
+    public static <E extends TransactionRecord, T> TransactionPageDTO<T> of(Slice<E> slice, Function<E, T> mapper) {
+        TransactionPageDTOBuilder<T> builder = TransactionPageDTO.<T>builder()
+                .content(slice.getContent().stream().map(mapper).toList())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext());
+
+        if (slice instanceof Page<E> page) {
+            builder.currentPage(page.getNumber())
+                    .totalElements(page.getTotalElements())
+                    .totalPages(page.getTotalPages());
+        }
+        if (slice.hasNext() && slice.hasContent()) {
+            E last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            builder.nextCursorContractDate(last.getContractDate())
+                    .nextCursorNo(last.getNo());
+        }
+        return builder.build();
+    }
+
+    // 번호 역순 keyset 조회 결과 → 응답 (관리자 목록, 다음 커서는 번호만)
+    public static <E extends TransactionRecord> TransactionPageDTO<E> byNo(Slice<E> slice, Long approximateTotalElements) {
+        TransactionPageDTOBuilder<E> builder = TransactionPageDTO.<E>builder()
+                .content(slice.getContent())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .approximateTotalElements(approximateTotalElements);
+
+        if (slice.hasNext() && slice.hasContent()) {
+            builder.nextCursorNo(slice.getContent().get(slice.getNumberOfElements() - 1).getNo());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.back.geo;
+
+import com.back.dictionary.NameDictionary;
+import com.back.ingest.CsvTransactionFileReader;
+import com.back.ingest.TransactionFileType;
+import com.back.util.AddressNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오프라인 좌표 파일 적재와 실거래 행 좌표 채우기.
+ * 좌표 파일은 UTF-8 CSV (시군구,도로명,위도,경도), 첫 줄 헤더는 있어도 되고 없어도 된다.
+ * 시군구는 시도 + 구/군("서울특별시 중구")으로 정규화해 저장한다 (다른 시의 같은 이름 구와 겹치지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class GeoCoordinateImporter {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO geo_coordinate (sigungu, road_name, latitude, longitude) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE geo_coordinate SET latitude = ?, longitude = ? WHERE sigungu = ? AND road_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Geocoder geocoder;
+    private final NameDictionary nameDictionary;
+
+    /**
+     * 좌표 파일을 geo_coordinate에 반영한다 (기존 키는 좌표가 바뀐 경우만 UPDATE).
+     * 새로 생기거나 바뀐 {시군구, 도로명} 목록을 반환한다.
+     */
+    public List<String[]> importFile(Path path) throws IOException {
+        Map<String, double[]> existing = geocoder.snapshot();
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<String[]> changed = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int skipped = 0;
+
+        try (CsvTransactionFileReader reader = new CsvTransactionFileReader(Files.newInputStream(path), StandardCharsets.UTF_8)) {
+            List<String> cells;
+            while ((cells = reader.nextRow()) != null) {
+                if (cells.size() < 4) {
+                    skipped++;
+                    continue;
+                }
+                String sigungu = AddressNormalizer.district(cells.get(0).replace("\uFEFF", ""));
+                String roadName = AddressNormalizer.roadName(cells.get(1));
+                Double latitude = parseCoordinate(cells.get(2));
+                Double longitude = parseCoordinate(cells.get(3));
+                if (sigungu == null || roadName == null || latitude == null || longitude == null) {
+                    skipped++;
+                    continue;
+                }
+
+                String key = AddressNormalizer.key(sigungu, roadName);
+                if (!seen.add(key)) {
+                    continue;
+                }
+                double[] previous = existing.get(key);
+                if (previous == null) {
+                    inserts.add(new Object[]{sigungu, roadName, latitude, longitude});
+                } else if (previous[0] != latitude || previous[1] != longitude) {
+                    updates.add(new Object[]{latitude, longitude, sigungu, roadName});
+                } else {
+                    continue;
+                }
+                changed.add(new String[]{sigungu, roadName});
+            }
+        }
+
+        batchUpdate(INSERT_SQL, inserts);
+        batchUpdate(UPDATE_SQL, updates);
+        log.info("좌표 파일 적재 완료 - 파일: {}, 추가: {}건, 변경: {}건, 건너뜀: {}줄",
+                path, inserts.size(), updates.size(), skipped);
+        return changed;
+    }
+
+    // 좌표가 새로 생기거나 바뀐 도로명의 실거래 행 좌표 다시 계산
+    public int regeocode(List<String[]> addresses) {
+        int updated = 0;
+        for (TransactionFileType type : TransactionFileType.values()) {
+            String table = type.getTable();
+            List<Object[]> batch = new ArrayList<>();
+            for (String[] address : addresses) {
+                String sigungu = address[0];
+                String roadName = address[1];
+                Integer roadNameId = nameDictionary.find(roadName);
+                if (roadNameId == null) {
+                    continue;
+                }
+                jdbcTemplate.query("SELECT no, sigungu FROM " + table + " WHERE road_name_id = ?", rs -> {
+                    if (sigungu.equals(AddressNormalizer.district(rs.getString("sigungu")))) {
+                        double[] coordinate = geocoder.resolve(sigungu, roadName);
+                        batch.add(new Object[]{coordinate[0], coordinate[1], rs.getLong("no")});
+                    }
+                }, roadNameId);
+            }
+            batchUpdate("UPDATE " + table + " SET latitude = ?, longitude = ? WHERE no = ?", batch);
+            updated += batch.size();
+        }
+        log.info("좌표 변경 도로명의 실거래 좌표 갱신 - {}건", updated);
+        return updated;
+    }
+
+    // 좌표가 비어 있는 실거래 행 채우기 (no 순 청크, 좌표를 찾지 못한 행은 그대로 둠)
+    public int backfillMissing() {
+        int updated = 0;
+        for (TransactionFileType type : TransactionFileType.values()) {
+            String table = type.getTable();
+            String selectSql = "SELECT no, sigungu, road_name FROM " + table +
+                    " WHERE latitude IS NULL AND no > ? ORDER BY no LIMIT " + CHUNK_SIZE;
+            String updateSql = "UPDATE " + table + " SET latitude = ?, longitude = ? WHERE no = ?";
+
+            long lastNo = 0;
+            while (true) {
+                List<Object[]> batch = new ArrayList<>();
+                long[] chunkLastNo = {-1};
+                jdbcTemplate.query(selectSql, rs -> {
+                    chunkLastNo[0] = rs.getLong("no");
+                    double[] coordinate = geocoder.resolve(rs.getString("sigungu"), rs.getString("road_name"));
+                    if (coordinate != null) {
+                        batch.add(new Object[]{coordinate[0], coordinate[1], chunkLastNo[0]});
+                    }
+                }, lastNo);
+                if (chunkLastNo[0] < 0) {
+                    break;
+                }
+                batchUpdate(updateSql, batch);
+                updated += batch.size();
+                lastNo = chunkLastNo[0];
+            }
+        }
+        log.info("실거래 좌표 채우기 완료 - {}건", updated);
+        return updated;
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())));
+        }
+    }
+
+    private Double parseCoordinate(String text) {
+        try {
+            return Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.back.geo;
+
+import com.back.domain.GeoCoordinate;
+import com.back.domain.GeoLocated;
+import com.back.repository.GeoCoordinateRepository;
+import com.back.util.AddressNormalizer;
+import com.back.util.SigunguCoordinates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주소 → 좌표 변환.
+ * geo_coordinate 테이블을 불변 사전으로 메모리에 올려 두고 (갱신 시 사전 전체 교체),
+ * 사전에 없는 도로명은 시군구 중심 좌표로 대신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class Geocoder {
+
+    private final GeoCoordinateRepository geoCoordinateRepository;
+
+    // "시군구|도로명" → {위도, 경도}
+    private volatile Map<String, double[]> dictionary = Map.of();
+
+    // 좌표 테이블을 다시 읽어 사전 교체
+    public void reload() {
+        Map<String, double[]> loaded = new HashMap<>();
+        for (GeoCoordinate coordinate : geoCoordinateRepository.findAll()) {
+            loaded.put(AddressNormalizer.key(coordinate.getSigungu(), coordinate.getRoadName()),
+                    new double[]{coordinate.getLatitude(), coordinate.getLongitude()});
+        }
+        dictionary = Map.copyOf(loaded);
+        log.info("주소 좌표 사전 적재 - {}건", loaded.size());
+    }
+
+    // 현재 사전 (불변)
+    public Map<String, double[]> snapshot() {
+        return dictionary;
+    }
+
+    // 시군구 + 도로명 좌표, 사전에 없으면 시군구 중심 좌표, 그것도 없으면 null
+    public double[] resolve(String sigungu, String roadName) {
+        String key = AddressNormalizer.key(sigungu, roadName);
+        double[] coordinate = key != null ? dictionary.get(key) : null;
+        return coordinate != null ? coordinate : SigunguCoordinates.resolve(sigungu);
+    }
+
+    // 실거래 엔티티에 좌표 설정 (찾지 못하면 기존 값 유지)
+    public void geocode(GeoLocated transaction) {
+        double[] coordinate = resolve(transaction.getSigungu(), transaction.getRoadName());
+        if (coordinate != null) {
+            transaction.setLatitude(coordinate[0]);
+            transaction.setLongitude(coordinate[1]);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.geo;
+
+import com.back.domain.GeoLocated;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// 실거래 엔티티 저장/수정 직전에 시군구 + 도로명으로 좌표 채우기 (조회 시에는 저장된 좌표만 사용)
+// Hibernate가 EntityManagerFactory를 만드는 중에 이 리스너를 생성하므로, Geocoder(→ 좌표 리포지토리 → EMF)는 처음 쓸 때 찾는다
+@Component
+@RequiredArgsConstructor
+public class GeocodingListener {
+
+    private final ObjectProvider<Geocoder> geocoderProvider;
+
+    @PrePersist
+    @PreUpdate
+    public void onSaving(Object transaction) {
+        if (transaction instanceof GeoLocated located) {
+            geocoderProvider.getObject().geocode(located);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.back.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한국어 검색용 bigram 토크나이저 ("강남역 아파트" → 강남, 남역, 아파, 파트)
+public class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 문서 토큰화 (한 글자 단어는 그대로 토큰)
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어가 bigram 인덱스로 처리 가능한지 (모든 단어가 두 글자 이상)
+    public static boolean isIndexable(String keyword) {
+        List<String> words = words(keyword);
+        return !words.isEmpty() && words.stream().allMatch(word -> word.length() >= 2);
+    }
+
+    // 글자/숫자가 아닌 문자를 기준으로 단어 분리 (소문자 변환)
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        StringBuilder word = new StringBuilder();
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,241 @@
+package com.back.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 비교 거래(comps) 최근접 이웃 색인.
+ * 거래를 약 500m 격자 칸에 나눠 두고, 매물 위치의 칸부터 바깥 고리 순으로 훑으며
+ * (거리, 면적, 층, 건축년도, 계약일) 정규화 거리가 가까운 k건을 찾는다.
+ * 다음 고리의 최소 거리가 현재 k번째 거리보다 멀면 멈추므로 보통 주변 몇 칸만 본다.
+ */
+public class ComparableIndex {
+
+    private static final double CELL_SIZE = 0.005; // 격자 한 칸 (위도 기준 약 550m)
+    private static final double KM_PER_DEGREE = 111.0;
+    private static final int MAX_RING = 10; // 최대 약 5km 바깥까지
+
+    // 정규화 기준 (이 차이가 거리 1에 해당)
+    private static final double DISTANCE_SCALE_KM = 1.0; // 1km
+    private static final double AREA_SCALE = 0.2; // 면적 비율 ±20%
+    private static final double FLOOR_SCALE = 10; // 10개 층
+    private static final double YEAR_SCALE = 10; // 건축년도 10년
+    private static final double AGE_SCALE_DAYS = 365; // 계약 1년 전
+
+    // 격자 칸 → 거래
+    private final Map<Long, List<Deal>> cells = new HashMap<>();
+
+    // 거래 키 → 거래 (수정/삭제 시 기존 값 제거용)
+    private final Map<Long, Deal> entries = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 거래 추가/갱신 (좌표가 없으면 제거만)
+    public void put(Deal deal) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(deal.key);
+            if (Double.isNaN(deal.latitude) || Double.isNaN(deal.longitude)) {
+                return;
+            }
+            entries.put(deal.key, deal);
+            cells.computeIfAbsent(cellKey(row(deal.latitude), column(deal.longitude)),
+                    key -> new ArrayList<>()).add(deal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 키 조건에 맞는 거래 모두 제거 (대량 적재 후 테이블 단위로 다시 읽을 때)
+    public void removeIf(Predicate<Deal> condition) {
+        lock.writeLock().lock();
+        try {
+            entries.values().removeIf(condition);
+            for (List<Deal> cell : cells.values()) {
+                cell.removeIf(condition);
+            }
+            cells.values().removeIf(List::isEmpty);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 매물과 가장 비슷한 거래 k건 (가까운 순).
+     * 면적/층/건축년도가 없으면 해당 항목은 거리에서 뺀다.
+     */
+    public List<Neighbor> nearest(Target target, int k, Predicate<Deal> filter) {
+        lock.readLock().lock();
+        try {
+            // 가장 먼 후보가 맨 위에 오는 최대 힙
+            PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1,
+                    Comparator.comparingDouble(Neighbor::getDistance).reversed());
+            long centerRow = row(target.latitude);
+            long centerColumn = column(target.longitude);
+            double kmPerLongitude = KM_PER_DEGREE * Math.cos(Math.toRadians(target.latitude));
+
+            for (int ring = 0; ring <= MAX_RING; ring++) {
+                // 이 고리 안의 거래는 매물과 최소 (ring - 1)칸 떨어져 있음
+                double minGeo = Math.max(0, ring - 1) * CELL_SIZE * Math.min(KM_PER_DEGREE, kmPerLongitude)
+                        / DISTANCE_SCALE_KM;
+                if (heap.size() == k && minGeo >= heap.peek().distance) {
+                    break;
+                }
+                for (long r = centerRow - ring; r <= centerRow + ring; r++) {
+                    for (long c = centerColumn - ring; c <= centerColumn + ring; c++) {
+                        if (Math.abs(r - centerRow) != ring && Math.abs(c - centerColumn) != ring) {
+                            continue; // 안쪽 고리는 이미 봄
+                        }
+                        List<Deal> cell = cells.get(cellKey(r, c));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (Deal deal : cell) {
+                            if (!filter.test(deal)) {
+                                continue;
+                            }
+                            double distance = distance(target, deal, kmPerLongitude);
+                            if (heap.size() < k) {
+                                heap.offer(new Neighbor(deal, distance, geoMeters(target, deal, kmPerLongitude)));
+                            } else if (distance < heap.peek().distance) {
+                                heap.poll();
+                                heap.offer(new Neighbor(deal, distance, geoMeters(target, deal, kmPerLongitude)));
+                            }
+                        }
+                    }
+                }
+            }
+
+            List<Neighbor> result = new ArrayList<>(heap);
+            result.sort(Comparator.comparingDouble(Neighbor::getDistance));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double distance(Target target, Deal deal, double kmPerLongitude) {
+        double dy = (deal.latitude - target.latitude) * KM_PER_DEGREE;
+        double dx = (deal.longitude - target.longitude) * kmPerLongitude;
+        double sum = (dx * dx + dy * dy) / (DISTANCE_SCALE_KM * DISTANCE_SCALE_KM);
+
+        if (target.area > 0 && deal.area > 0) {
+            double ratio = Math.log(deal.area / target.area) / AREA_SCALE;
+            sum += ratio * ratio;
+        }
+        if (target.floor != Integer.MIN_VALUE && deal.floor != Integer.MIN_VALUE) {
+            double floor = (deal.floor - target.floor) / FLOOR_SCALE;
+            sum += floor * floor;
+        }
+        if (target.constructionYear > 0 && deal.constructionYear > 0) {
+            double year = (deal.constructionYear - target.constructionYear) / YEAR_SCALE;
+            sum += year * year;
+        }
+        double age = Math.max(0, target.epochDay - deal.contractEpochDay) / AGE_SCALE_DAYS;
+        sum += age * age;
+        return Math.sqrt(sum);
+    }
+
+    private static int geoMeters(Target target, Deal deal, double kmPerLongitude) {
+        double dy = (deal.latitude - target.latitude) * KM_PER_DEGREE;
+        double dx = (deal.longitude - target.longitude) * kmPerLongitude;
+        return (int) Math.round(Math.sqrt(dx * dx + dy * dy) * 1000);
+    }
+
+    private void removeInternal(long key) {
+        Deal previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        long cellKey = cellKey(row(previous.latitude), column(previous.longitude));
+        List<Deal> cell = cells.get(cellKey);
+        if (cell != null) {
+            cell.removeIf(deal -> deal.key == key);
+            if (cell.isEmpty()) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor(latitude / CELL_SIZE);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor(longitude / CELL_SIZE);
+    }
+
+    private static long cellKey(long row, long column) {
+        return (row << 32) ^ (column & 0xFFFFFFFFL);
+    }
+
+    // 색인된 거래 한 건 (면적/층/건축년도가 없으면 0, Integer.MIN_VALUE)
+    @Getter
+    @AllArgsConstructor
+    public static class Deal {
+        private final long key; // 테이블 번호와 no를 합친 키 (ComparableSalesServiceImpl.key)
+        private final int source; // 실거래 테이블 번호
+        private final double latitude;
+        private final double longitude;
+        private final double area;
+        private final int floor;
+        private final int constructionYear;
+        private final long contractEpochDay;
+        private final long amount; // 거래금액/보증금 (만원)
+        private final long monthlyRent; // 월세 (만원)
+        private final String name; // 단지/건물명
+        private final String rentType; // 전세, 월세 (전월세만)
+
+        public LocalDate getContractDate() {
+            return LocalDate.ofEpochDay(contractEpochDay);
+        }
+    }
+
+    // 검색 기준 (매물)
+    @AllArgsConstructor
+    public static class Target {
+        private final double latitude;
+        private final double longitude;
+        private final double area; // 없으면 0
+        private final int floor; // 없으면 Integer.MIN_VALUE
+        private final int constructionYear; // 없으면 0
+        private final long epochDay; // 기준일 (보통 오늘)
+    }
+
+    // 검색 결과 한 건
+    @Getter
+    @AllArgsConstructor
+    public static class Neighbor {
+        private final Deal deal;
+        private final double distance; // 정규화 거리 (0이면 동일)
+        private final int meters; // 매물과의 직선거리 (m)
+    }
+}
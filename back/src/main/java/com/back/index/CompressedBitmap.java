@@ -0,0 +1,351 @@
+package com.back.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 압축 비트맵 (상위 16비트마다 컨테이너 하나).
+ * 컨테이너에 값이 적으면 정렬된 배열(값당 2바이트), 4096개를 넘으면 8KB 비트맵으로 바꿔
+ * 드문 값(동 단위 시군구 등)과 흔한 값(거래구분 등)을 모두 작게 유지한다.
+ * 동기화하지 않으므로 TransactionFacetIndex의 잠금 안에서만 사용한다.
+ */
+public class CompressedBitmap {
+
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    // 상위 16비트 → 하위 16비트 집합
+    private final Map<Integer, Container> containers = new HashMap<>();
+
+    private long cardinality;
+
+    public void add(int value) {
+        Container container = containers.get(value >>> 16);
+        if (container == null) {
+            container = new ArrayContainer();
+        }
+        int before = container.cardinality();
+        container = container.add((char) value);
+        containers.put(value >>> 16, container);
+        cardinality += container.cardinality() - before;
+    }
+
+    public void remove(int value) {
+        Container container = containers.get(value >>> 16);
+        if (container == null) {
+            return;
+        }
+        int before = container.cardinality();
+        container = container.remove((char) value);
+        cardinality -= before - container.cardinality();
+        if (container.cardinality() == 0) {
+            containers.remove(value >>> 16);
+        } else {
+            containers.put(value >>> 16, container);
+        }
+    }
+
+    public boolean contains(int value) {
+        Container container = containers.get(value >>> 16);
+        return container != null && container.contains((char) value);
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    // 교집합 (새 비트맵)
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap small = containers.size() <= other.containers.size() ? this : other;
+        CompressedBitmap large = small == this ? other : this;
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Container> entry : small.containers.entrySet()) {
+            Container match = large.containers.get(entry.getKey());
+            if (match == null) {
+                continue;
+            }
+            Container intersection = entry.getValue().and(match);
+            if (intersection.cardinality() > 0) {
+                result.containers.put(entry.getKey(), intersection);
+                result.cardinality += intersection.cardinality();
+            }
+        }
+        return result;
+    }
+
+    // 합집합 (새 비트맵, 같은 패싯의 여러 값을 함께 고를 때)
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (CompressedBitmap bitmap : new CompressedBitmap[]{this, other}) {
+            for (Map.Entry<Integer, Container> entry : bitmap.containers.entrySet()) {
+                Container existing = result.containers.get(entry.getKey());
+                Container union = existing == null ? new ArrayContainer().or(entry.getValue()) : existing.or(entry.getValue());
+                result.containers.put(entry.getKey(), union);
+                result.cardinality += union.cardinality() - (existing == null ? 0 : existing.cardinality());
+            }
+        }
+        return result;
+    }
+
+    // 교집합 크기 (비트맵을 만들지 않고 셈)
+    public long andCardinality(CompressedBitmap other) {
+        CompressedBitmap small = containers.size() <= other.containers.size() ? this : other;
+        CompressedBitmap large = small == this ? other : this;
+        long count = 0;
+        for (Map.Entry<Integer, Container> entry : small.containers.entrySet()) {
+            Container match = large.containers.get(entry.getKey());
+            if (match != null) {
+                count += entry.getValue().andCardinality(match);
+            }
+        }
+        return count;
+    }
+
+    private interface Container {
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        int andCardinality(Container other);
+
+        Container or(Container other);
+    }
+
+    // 정렬된 하위 16비트 배열 (값이 ARRAY_MAX_SIZE 이하일 때)
+    private static class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_MAX_SIZE) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, size * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Container and(Container other) {
+            ArrayContainer result = new ArrayContainer();
+            result.values = new char[size];
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result.values[result.size++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        result.values[result.size++] = values[i];
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            ArrayContainer result = new ArrayContainer();
+            result.values = new char[Math.max(4, size + array.size)];
+            int i = 0;
+            int j = 0;
+            while (i < size || j < array.size) {
+                if (j == array.size || (i < size && values[i] < array.values[j])) {
+                    result.values[result.size++] = values[i++];
+                } else if (i == size || values[i] > array.values[j]) {
+                    result.values[result.size++] = array.values[j++];
+                } else {
+                    result.values[result.size++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return result.size > ARRAY_MAX_SIZE ? result.toBitmap() : result;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    // 65536비트 비트맵 (값이 ARRAY_MAX_SIZE를 넘을 때)
+    private static class BitmapContainer implements Container {
+        private final long[] words = new long[1024];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) != 0) {
+                words[value >>> 6] &= ~mask;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX_SIZE / 2 ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            BitmapContainer result = new BitmapContainer();
+            for (int i = 0; i < words.length; i++) {
+                result.words[i] = words[i] & bitmap.words[i];
+                result.cardinality += Long.bitCount(result.words[i]);
+            }
+            return result.cardinality <= ARRAY_MAX_SIZE ? result.toArray() : result;
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & bitmap.words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        public Container or(Container other) {
+            BitmapContainer result = new BitmapContainer();
+            System.arraycopy(words, 0, result.words, 0, words.length);
+            result.cardinality = cardinality;
+            if (other instanceof BitmapContainer bitmap) {
+                result.cardinality = 0;
+                for (int i = 0; i < words.length; i++) {
+                    result.words[i] |= bitmap.words[i];
+                    result.cardinality += Long.bitCount(result.words[i]);
+                }
+            } else {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.size; i++) {
+                    result.add(array.values[i]);
+                }
+            }
+            return result;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(4, cardinality)];
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.size++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.back.index;
+
+import com.back.dto.MapClusterDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 격자 클러스터 (레벨이 하나 오를 때마다 격자 한 칸이 두 배).
+ * 지점이 추가/삭제될 때 모든 레벨의 해당 칸만 갱신하므로 조회 시 계산이 필요 없다.
+ */
+public class MapClusterGrid {
+
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 14;
+
+    private static final double BASE_CELL_SIZE = 0.0005; // 레벨 1 격자 한 칸 (약 50m)
+
+    // 지점 ID → 지점 (수정/삭제 시 기존 값 제거용)
+    private final Map<Long, Point> points = new HashMap<>();
+
+    // 레벨 → (격자 칸 → 집계)
+    private final List<Map<Long, Cell>> levels = new ArrayList<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MapClusterGrid() {
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    // 지점 추가/갱신 (좌표가 없으면 제거만)
+    public void put(Long id, Double latitude, Double longitude, Long price) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (latitude == null || longitude == null) {
+                return;
+            }
+            Point point = new Point(latitude, longitude, price);
+            points.put(id, point);
+            for (int level = MIN_LEVEL; level <= MAX_LEVEL; level++) {
+                levels.get(level).computeIfAbsent(cellKey(point, level), key -> new Cell()).add(point);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 화면 영역과 겹치는 칸의 클러스터
+    public List<MapClusterDTO> query(double swLat, double swLng, double neLat, double neLng, int level) {
+        int clampedLevel = Math.max(MIN_LEVEL, Math.min(MAX_LEVEL, level));
+        double cellSize = cellSize(clampedLevel);
+        long minRow = (long) Math.floor(swLat / cellSize);
+        long maxRow = (long) Math.floor(neLat / cellSize);
+        long minCol = (long) Math.floor(swLng / cellSize);
+        long maxCol = (long) Math.floor(neLng / cellSize);
+
+        List<MapClusterDTO> clusters = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> cells = levels.get(clampedLevel);
+            long cellCount = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+            if (cellCount > cells.size()) {
+                // 영역이 넓으면 채워진 칸만 확인
+                for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                    long row = entry.getKey() >> 32;
+                    long col = (int) entry.getKey().longValue();
+                    if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                        clusters.add(entry.getValue().toDTO());
+                    }
+                }
+                return clusters;
+            }
+
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Cell cell = cells.get(cellKey(row, col));
+                    if (cell != null) {
+                        clusters.add(cell.toDTO());
+                    }
+                }
+            }
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Point previous = points.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int level = MIN_LEVEL; level <= MAX_LEVEL; level++) {
+            Map<Long, Cell> cells = levels.get(level);
+            long key = cellKey(previous, level);
+            Cell cell = cells.get(key);
+            if (cell != null && cell.remove(previous)) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static double cellSize(int level) {
+        return BASE_CELL_SIZE * (1L << (level - 1));
+    }
+
+    private static long cellKey(Point point, int level) {
+        double cellSize = cellSize(level);
+        return cellKey((long) Math.floor(point.latitude / cellSize), (long) Math.floor(point.longitude / cellSize));
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private static class Point {
+        private final double latitude;
+        private final double longitude;
+        private final Long price;
+
+        private Point(double latitude, double longitude, Long price) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.price = price;
+        }
+    }
+
+    // 격자 한 칸의 집계 (지점 수, 좌표 합, 가격 분포)
+    private static class Cell {
+        private long count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private long priceCount;
+        private final TreeMap<Long, Integer> prices = new TreeMap<>(); // 가격 → 건수
+
+        private void add(Point point) {
+            count++;
+            latitudeSum += point.latitude;
+            longitudeSum += point.longitude;
+            if (point.price != null) {
+                prices.merge(point.price, 1, Integer::sum);
+                priceCount++;
+            }
+        }
+
+        // 제거 후 비었으면 true
+        private boolean remove(Point point) {
+            count--;
+            latitudeSum -= point.latitude;
+            longitudeSum -= point.longitude;
+            if (point.price != null) {
+                prices.computeIfPresent(point.price, (price, n) -> n > 1 ? n - 1 : null);
+                priceCount--;
+            }
+            return count <= 0;
+        }
+
+        private MapClusterDTO toDTO() {
+            return MapClusterDTO.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .minPrice(prices.isEmpty() ? null : prices.firstKey())
+                    .medianPrice(median())
+                    .maxPrice(prices.isEmpty() ? null : prices.lastKey())
+                    .build();
+        }
+
+        private Long median() {
+            if (priceCount == 0) {
+                return null;
+            }
+            long target = (priceCount + 1) / 2;
+            long seen = 0;
+            for (Map.Entry<Long, Integer> entry : prices.entrySet()) {
+                seen += entry.getValue();
+                if (seen >= target) {
+                    return entry.getKey();
+                }
+            }
+            return prices.lastKey();
+        }
+    }
+}
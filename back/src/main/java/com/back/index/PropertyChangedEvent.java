@@ -0,0 +1,17 @@
+package com.back.index;
+
+import com.back.domain.Property;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 매물 저장/수정/삭제 이벤트 (메모리 인덱스 갱신용)
+@Getter
+@AllArgsConstructor
+@ToString
+public class PropertyChangedEvent {
+
+    private final Property property;
+
+    private final boolean deleted; // true면 삭제, false면 저장/수정
+}
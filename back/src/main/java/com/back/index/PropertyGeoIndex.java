@@ -0,0 +1,191 @@
+package com.back.index;
+
+import com.back.domain.Property;
+import com.back.repository.PropertyRepository;
+import com.back.util.GeoDistance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 매물 좌표 격자 인덱스 (지도 화면 영역/반경 조회용)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyGeoIndex {
+
+    private static final double CELL_SIZE = 0.01; // 격자 한 칸 (약 1km)
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final PropertyRepository propertyRepository;
+
+    // 격자 칸 → 매물 ID
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+
+    // 매물 ID → {위도, 경도}
+    private final Map<Long, double[]> points = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    // 애플리케이션 시작 시 좌표가 있는 매물 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        log.info("매물 좌표 인덱스 생성 시작");
+
+        try {
+            int page = 0;
+            Page<Property> chunk;
+            do {
+                chunk = propertyRepository.findAll(PageRequest.of(page++, LOAD_CHUNK_SIZE, Sort.by("id")));
+                chunk.forEach(this::index);
+            } while (chunk.hasNext());
+
+            ready = true;
+            log.info("매물 좌표 인덱스 생성 완료 - 매물: {}개, 격자: {}칸", points.size(), cells.size());
+        } catch (Exception e) {
+            log.error("매물 좌표 인덱스 생성 실패 (DB 좌표 조건으로 대체): {}", e.getMessage());
+        }
+    }
+
+    // 매물 저장/수정/삭제 시 인덱스 갱신 (커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getProperty().getId());
+        } else {
+            index(event.getProperty());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 사각 영역 안의 매물 ID
+    public List<Long> findWithinBounds(double swLat, double swLng, double neLat, double neLng) {
+        return find(swLat, swLng, neLat, neLng, null, null, null);
+    }
+
+    /**
+     * 사각 영역(그리고 중심/반경이 있으면 원) 안의 매물 ID.
+     * 영역에 걸친 격자 칸만 확인하고, 칸 수가 매물 수보다 많으면 전체 좌표를 직접 확인한다.
+     */
+    public List<Long> find(double swLat, double swLng, double neLat, double neLng,
+                           Double centerLat, Double centerLng, Double radiusKm) {
+        boolean hasRadius = centerLat != null && centerLng != null && radiusKm != null;
+        List<Long> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            long minRow = cellIndex(swLat);
+            long maxRow = cellIndex(neLat);
+            long minCol = cellIndex(swLng);
+            long maxCol = cellIndex(neLng);
+            long cellCount = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+            if (cellCount > points.size()) {
+                for (Map.Entry<Long, double[]> entry : points.entrySet()) {
+                    if (matches(entry.getValue(), swLat, swLng, neLat, neLng, hasRadius, centerLat, centerLng, radiusKm)) {
+                        result.add(entry.getKey());
+                    }
+                }
+                return result;
+            }
+
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Set<Long> ids = cells.get(cellKey(row, col));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        if (matches(points.get(id), swLat, swLng, neLat, neLng, hasRadius, centerLat, centerLng, radiusKm)) {
+                            result.add(id);
+                        }
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(double[] point, double swLat, double swLng, double neLat, double neLng,
+                            boolean hasRadius, Double centerLat, Double centerLng, Double radiusKm) {
+        if (point == null) {
+            return false;
+        }
+        if (point[0] < swLat || point[0] > neLat || point[1] < swLng || point[1] > neLng) {
+            return false;
+        }
+        return !hasRadius || GeoDistance.withinRadius(centerLat, centerLng, radiusKm, point[0], point[1]);
+    }
+
+    private void index(Property property) {
+        if (property.getId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(property.getId());
+            if (property.getLatitude() == null || property.getLongitude() == null) {
+                return;
+            }
+            double[] point = {property.getLatitude(), property.getLongitude()};
+            points.put(property.getId(), point);
+            cells.computeIfAbsent(cellKey(cellIndex(point[0]), cellIndex(point[1])), key -> new HashSet<>())
+                    .add(property.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long propertyId) {
+        double[] previous = points.remove(propertyId);
+        if (previous == null) {
+            return;
+        }
+        long key = cellKey(cellIndex(previous[0]), cellIndex(previous[1]));
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(propertyId);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.index;
+
+import com.back.domain.Property;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Property 변경을 감지해 이벤트로 발행 (저장 경로와 무관하게 인덱스가 갱신되도록 JPA 엔티티 리스너 사용)
+@Component
+@RequiredArgsConstructor
+public class PropertyIndexListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Property property) {
+        eventPublisher.publishEvent(new PropertyChangedEvent(property, false));
+    }
+
+    @PostRemove
+    public void onRemoved(Property property) {
+        eventPublisher.publishEvent(new PropertyChangedEvent(property, true));
+    }
+}
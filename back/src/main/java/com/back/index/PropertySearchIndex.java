@@ -0,0 +1,212 @@
+package com.back.index;
+
+import com.back.domain.Property;
+import com.back.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 매물 제목/내용/도로명주소 역색인 (bigram 토큰 + BM25 점수)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertySearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 3; // 제목 토큰 가중치
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final PropertyRepository propertyRepository;
+
+    // 토큰 → (매물 ID → 토큰 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    // 매물 ID → (토큰 → 토큰 빈도), 수정/삭제 시 기존 토큰 제거용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    // 매물 ID → 문서 길이 (가중치 포함 토큰 수)
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long totalLength;
+
+    private volatile boolean ready;
+
+    // 애플리케이션 시작 시 전체 매물 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        log.info("매물 검색 인덱스 생성 시작");
+        long start = System.currentTimeMillis();
+
+        try {
+            int page = 0;
+            Page<Property> chunk;
+            do {
+                chunk = propertyRepository.findAll(PageRequest.of(page++, LOAD_CHUNK_SIZE, Sort.by("id")));
+                chunk.forEach(this::index);
+            } while (chunk.hasNext());
+
+            ready = true;
+            log.info("매물 검색 인덱스 생성 완료 - 매물: {}개, 토큰: {}개, {}ms",
+                    documents.size(), postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("매물 검색 인덱스 생성 실패 (DB 검색으로 대체): {}", e.getMessage());
+        }
+    }
+
+    // 매물 저장/수정/삭제 시 인덱스 갱신 (커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getProperty().getId());
+        } else {
+            index(event.getProperty());
+        }
+    }
+
+    // 인덱스로 검색 가능한 검색어인지 (인덱스 준비 완료 + 모든 단어 두 글자 이상)
+    public boolean isSearchable(String keyword) {
+        return ready && BigramTokenizer.isIndexable(keyword);
+    }
+
+    // 검색어의 모든 토큰을 포함하는 매물을 BM25 점수 순으로 페이징 조회
+    public Page<Long> search(String keyword, Pageable pageable) {
+        Set<String> queryTokens = new LinkedHashSet<>(BigramTokenizer.tokenize(keyword));
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> queryPostings = new ArrayList<>();
+            for (String token : queryTokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    return Page.empty(pageable);
+                }
+                queryPostings.add(posting);
+            }
+            if (queryPostings.isEmpty()) {
+                return Page.empty(pageable);
+            }
+
+            // 가장 짧은 posting 기준으로 교집합
+            queryPostings.sort(Comparator.comparingInt(Map::size));
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+
+            List<Map.Entry<Long, Double>> scored = new ArrayList<>();
+            for (Long propertyId : queryPostings.get(0).keySet()) {
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Integer> posting : queryPostings) {
+                    Integer frequency = posting.get(propertyId);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += bm25(frequency, posting.size(), documentCount,
+                            documentLengths.get(propertyId), averageLength);
+                }
+                if (matchesAll) {
+                    scored.add(Map.entry(propertyId, score));
+                }
+            }
+
+            // 점수 내림차순, 같은 점수는 최신 매물(ID 큰 순) 우선
+            scored.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+
+            int from = (int) Math.min(pageable.getOffset(), scored.size());
+            int to = Math.min(from + pageable.getPageSize(), scored.size());
+            List<Long> ids = new ArrayList<>(to - from);
+            for (Map.Entry<Long, Double> entry : scored.subList(from, to)) {
+                ids.add(entry.getKey());
+            }
+            return new PageImpl<>(ids, pageable, scored.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double bm25(int frequency, int documentFrequency, int documentCount, int length, double averageLength) {
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        double norm = averageLength == 0 ? 1 : length / averageLength;
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * norm));
+    }
+
+    private void index(Property property) {
+        if (property.getId() == null) {
+            return;
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : BigramTokenizer.tokenize(property.getTitle())) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : BigramTokenizer.tokenize(property.getContent())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        for (String token : BigramTokenizer.tokenize(property.getRoadAddress())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(property.getId());
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), token -> new HashMap<>())
+                        .put(property.getId(), entry.getValue());
+            }
+            documents.put(property.getId(), frequencies);
+            documentLengths.put(property.getId(), length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long propertyId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(propertyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long propertyId) {
+        Map<String, Integer> previous = documents.remove(propertyId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.keySet()) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(propertyId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+        Integer length = documentLengths.remove(propertyId);
+        totalLength -= length == null ? 0 : length;
+    }
+}
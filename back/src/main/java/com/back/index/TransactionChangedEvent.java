@@ -0,0 +1,18 @@
+package com.back.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 실거래 데이터(아파트/연립다세대/단독다가구/오피스텔 매매·전월세) 저장/수정/삭제 이벤트
+@Getter
+@AllArgsConstructor
+@ToString
+public class TransactionChangedEvent {
+
+    private final Object transaction; // ApartmentSale, ApartmentRent 등 실거래 엔티티
+
+    private final boolean deleted; // true면 삭제, false면 저장/수정
+
+    private final String previousRoadName; // 수정으로 바뀌기 전 도로명 (새로 저장됐거나 도로명이 그대로면 null)
+}
@@ -0,0 +1,35 @@
+package com.back.index;
+
+import java.util.Arrays;
+
+// 실거래 검색 화면의 패싯 (요청 파라미터 이름과 설명)
+public enum TransactionFacet {
+    SIGUNGU("sigungu", "시군구"),
+    HOUSING_TYPE("housingType", "주택유형"),
+    TRANSACTION_TYPE("transactionType", "거래구분"),
+    CONSTRUCTION_DECADE("constructionDecade", "건축연대"),
+    AREA_BAND("areaBand", "면적 구간");
+
+    private final String key;
+    private final String description;
+
+    TransactionFacet(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static TransactionFacet fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(facet -> facet.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 패싯: " + key));
+    }
+}
@@ -0,0 +1,151 @@
+package com.back.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 실거래 테이블 하나의 패싯 비트맵 (패싯 값마다 해당 행 no의 압축 비트맵).
+ * 선택한 조건의 비트맵 교집합과 각 패싯 값 비트맵의 교집합 크기로 모든 패싯 건수를 한 번에 계산하고,
+ * 행이 추가/수정/삭제될 때는 해당 no의 비트만 바꾼다.
+ */
+public class TransactionFacetIndex {
+
+    private static final TransactionFacet[] FACETS = TransactionFacet.values();
+
+    // 패싯 → (값 → 해당 값을 가진 행 no)
+    private final Map<TransactionFacet, Map<String, CompressedBitmap>> bitmaps = new EnumMap<>(TransactionFacet.class);
+
+    // 색인된 모든 행 no
+    private final CompressedBitmap rows = new CompressedBitmap();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TransactionFacetIndex() {
+        for (TransactionFacet facet : FACETS) {
+            bitmaps.put(facet, new HashMap<>());
+        }
+    }
+
+    // 행 추가/갱신 (values는 TransactionFacet 순서, 값이 없으면 null)
+    public void put(long no, String[] values) {
+        int row = Math.toIntExact(no);
+        lock.writeLock().lock();
+        try {
+            removeInternal(row);
+            rows.add(row);
+            for (TransactionFacet facet : FACETS) {
+                String value = values[facet.ordinal()];
+                if (value != null) {
+                    bitmaps.get(facet).computeIfAbsent(value, v -> new CompressedBitmap()).add(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long no) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(no));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return rows.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 패싯의 값 목록 (가나다순)
+    public List<String> values(TransactionFacet facet) {
+        lock.readLock().lock();
+        try {
+            List<String> values = new ArrayList<>(bitmaps.get(facet).keySet());
+            values.sort(null);
+            return values;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 선택 조건에 맞는 행 수와 패싯별 값 건수 (건수 내림차순).
+     * 각 패싯의 건수는 그 패싯 자신의 선택은 빼고 계산해, 이미 고른 패싯에서도 다른 값으로 바꿀 때의 건수를 보여준다.
+     */
+    public FacetCounts count(Map<TransactionFacet, String> selected) {
+        lock.readLock().lock();
+        try {
+            Map<TransactionFacet, List<Map.Entry<String, Long>>> counts = new LinkedHashMap<>();
+            for (TransactionFacet facet : FACETS) {
+                CompressedBitmap filter = filter(selected, facet);
+                List<Map.Entry<String, Long>> values = new ArrayList<>();
+                for (Map.Entry<String, CompressedBitmap> entry : bitmaps.get(facet).entrySet()) {
+                    long count = filter == null ? entry.getValue().cardinality() : entry.getValue().andCardinality(filter);
+                    if (count > 0) {
+                        values.add(Map.entry(entry.getKey(), count));
+                    }
+                }
+                values.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()));
+                counts.put(facet, values);
+            }
+
+            CompressedBitmap all = filter(selected, null);
+            return new FacetCounts(all == null ? rows.cardinality() : all.cardinality(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 선택 조건 교집합 (excluded 패싯의 선택은 제외), 조건이 없으면 null (전체 행)
+    private CompressedBitmap filter(Map<TransactionFacet, String> selected, TransactionFacet excluded) {
+        CompressedBitmap result = null;
+        for (Map.Entry<TransactionFacet, String> entry : selected.entrySet()) {
+            if (entry.getKey() == excluded) {
+                continue;
+            }
+            CompressedBitmap bitmap = bitmaps.get(entry.getKey()).get(entry.getValue());
+            if (bitmap == null) {
+                return new CompressedBitmap();
+            }
+            result = result == null ? bitmap : result.and(bitmap);
+        }
+        return result;
+    }
+
+    // 이전 값은 저장하지 않으므로 각 패싯 값 비트맵에서 찾아 제거 (관리자 수정/삭제 시에만 호출)
+    private void removeInternal(int row) {
+        if (!rows.contains(row)) {
+            return;
+        }
+        rows.remove(row);
+        for (Map<String, CompressedBitmap> values : bitmaps.values()) {
+            values.values().removeIf(bitmap -> {
+                bitmap.remove(row);
+                return bitmap.isEmpty();
+            });
+        }
+    }
+
+    // 패싯 건수 계산 결과
+    @Getter
+    @AllArgsConstructor
+    public static class FacetCounts {
+        private final long total; // 선택 조건에 맞는 행 수
+        private final Map<TransactionFacet, List<Map.Entry<String, Long>>> counts; // 패싯 → (값, 건수)
+    }
+}
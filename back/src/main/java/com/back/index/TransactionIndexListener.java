@@ -0,0 +1,47 @@
+package com.back.index;
+
+import com.back.domain.GeoLocated;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// 실거래 엔티티 변경을 감지해 이벤트로 발행 (관리자 CRUD, 데이터 초기화 등 모든 저장 경로 공통)
+// 조회 시점 도로명을 기억해 두었다가 수정으로 도로명이 바뀌면 이전 도로명도 함께 알린다
+@Component
+@RequiredArgsConstructor
+public class TransactionIndexListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(Object transaction) {
+        if (transaction instanceof GeoLocated located) {
+            located.setLoadedRoadName(located.getRoadName());
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object transaction) {
+        String previousRoadName = null;
+        if (transaction instanceof GeoLocated located) {
+            String loaded = located.getLoadedRoadName();
+            if (loaded != null && !Objects.equals(loaded, located.getRoadName())) {
+                previousRoadName = loaded;
+            }
+            located.setLoadedRoadName(located.getRoadName());
+        }
+        eventPublisher.publishEvent(new TransactionChangedEvent(transaction, false, previousRoadName));
+    }
+
+    @PostRemove
+    public void onRemoved(Object transaction) {
+        eventPublisher.publishEvent(new TransactionChangedEvent(transaction, true, null));
+    }
+}
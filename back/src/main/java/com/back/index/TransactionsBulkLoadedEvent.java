@@ -0,0 +1,16 @@
+package com.back.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 실거래 테이블 대량 적재 완료 이벤트 (JDBC로 직접 쓰므로 엔티티 리스너를 거치지 않음)
+@Getter
+@AllArgsConstructor
+@ToString
+public class TransactionsBulkLoadedEvent {
+
+    private final Class<?> entityType; // ApartmentSale, ApartmentRent 등 적재된 실거래 엔티티 타입
+
+    private final long changedCount; // 추가/수정/삭제된 행 수
+}
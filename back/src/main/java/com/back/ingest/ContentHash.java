@@ -0,0 +1,58 @@
+package com.back.ingest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+
+/**
+ * 실거래 행 중복 판별 해시 (SHA-256, 16진수 64자).
+ * 파일 값, 엔티티 값, DB에서 읽은 값이 같은 문자열이 되도록 정규화한 뒤 해시한다
+ * (숫자는 뒤쪽 0 제거, 날짜는 yyyy-MM-dd, 문자열은 앞뒤 공백 제거).
+ */
+public final class ContentHash {
+
+    private static final char SEPARATOR = '\u001F';
+
+    private ContentHash() {
+    }
+
+    public static String of(Object... values) {
+        StringBuilder key = new StringBuilder();
+        for (Object value : values) {
+            key.append(normalize(value)).append(SEPARATOR);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    // 비교/해시용 값 문자열
+    public static String normalize(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate().toString();
+        }
+        if (value instanceof LocalDate date) {
+            return date.toString();
+        }
+        if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            BigDecimal decimal = value instanceof BigDecimal big ? big : BigDecimal.valueOf(((Number) value).doubleValue());
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Number number) {
+            return Long.toString(number.longValue());
+        }
+        return value.toString().trim();
+    }
+}
@@ -0,0 +1,106 @@
+package com.back.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 중복 판별 해시가 없는 실거래 행 채우기 (해시 컬럼 추가 이전 데이터).
+ * 이미 같은 해시의 행이 있는 중복 행은 해시를 비워 둔다 (파일 적재 시 비교 대상에서 빠짐).
+ * TransactionFileType의 해시 컬럼이 바뀌면 기존 해시도 새 정의로 다시 계산한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ContentHashBackfill {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // no 순 청크로 해시 계산 (해시 정의가 바뀐 테이블은 먼저 전체 다시 계산)
+    public int backfillMissing() {
+        int updated = 0;
+        int duplicates = 0;
+        for (TransactionFileType type : TransactionFileType.values()) {
+            if (isStale(type)) {
+                int rehashed = rehash(type, "content_hash IS NOT NULL", null);
+                log.info("해시 정의가 바뀐 실거래 테이블 해시 다시 계산 - {}: {}건", type.getTable(), rehashed);
+            }
+            int[] counts = new int[2];
+            updated += rehash(type, "content_hash IS NULL", counts);
+            duplicates += counts[1];
+        }
+        log.info("실거래 중복 판별 해시 채우기 완료 - {}건, 중복으로 비워 둔 행: {}건", updated, duplicates);
+        return updated;
+    }
+
+    // 가장 오래된 해시 행을 지금 정의로 다시 계산해 보고 다르면 정의가 바뀐 것으로 봄
+    private boolean isStale(TransactionFileType type) {
+        List<String> hashColumns = type.getHashColumns();
+        List<Boolean> stale = new ArrayList<>();
+        jdbcTemplate.query("SELECT content_hash, " + String.join(", ", hashColumns) + " FROM " + type.getTable() +
+                " WHERE content_hash IS NOT NULL ORDER BY no LIMIT 1", rs -> {
+            stale.add(!rs.getString("content_hash").equals(ContentHash.of(key(rs, hashColumns.size()))));
+        });
+        return !stale.isEmpty() && stale.get(0);
+    }
+
+    // 조건에 맞는 행의 해시를 no 순 청크로 계산해 반영 (counts: 반영, 중복으로 비워 둔 행)
+    private int rehash(TransactionFileType type, String condition, int[] counts) {
+        List<String> hashColumns = type.getHashColumns();
+        String selectSql = "SELECT no, " + String.join(", ", hashColumns) + " FROM " + type.getTable() +
+                " WHERE " + condition + " AND no > ? ORDER BY no LIMIT " + CHUNK_SIZE;
+        String updateSql = "UPDATE " + type.getTable() + " SET content_hash = ? WHERE no = ?";
+
+        int updated = 0;
+        int duplicates = 0;
+        long lastNo = 0;
+        while (true) {
+            List<Object[]> batch = new ArrayList<>();
+            jdbcTemplate.query(selectSql, rs -> {
+                batch.add(new Object[]{ContentHash.of(key(rs, hashColumns.size())), rs.getLong("no")});
+            }, lastNo);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(updateSql, batch);
+                updated += batch.size();
+            } catch (DuplicateKeyException e) {
+                // 중복 행이 섞인 청크는 한 행씩 반영
+                for (Object[] row : batch) {
+                    try {
+                        jdbcTemplate.update(updateSql, row);
+                        updated++;
+                    } catch (DuplicateKeyException duplicate) {
+                        duplicates++;
+                    }
+                }
+            }
+            lastNo = (Long) batch.get(batch.size() - 1)[1];
+        }
+        if (counts != null) {
+            counts[0] = updated;
+            counts[1] = duplicates;
+        }
+        return updated;
+    }
+
+    // 조회 결과의 해시 컬럼 값 (첫 컬럼 다음부터)
+    private static Object[] key(ResultSet rs, int size) throws SQLException {
+        Object[] key = new Object[size];
+        for (int i = 0; i < size; i++) {
+            key[i] = rs.getObject(i + 2);
+        }
+        return key;
+    }
+}
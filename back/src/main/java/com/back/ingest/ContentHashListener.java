@@ -0,0 +1,41 @@
+package com.back.ingest;
+
+import com.back.domain.ApartmentRent;
+import com.back.domain.ApartmentSale;
+import com.back.domain.DetachedHouseRent;
+import com.back.domain.DetachedHouseSale;
+import com.back.domain.OfficeTelRent;
+import com.back.domain.OfficeTelSale;
+import com.back.domain.RowHouseRent;
+import com.back.domain.RowHouseSale;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * 실거래 엔티티 저장/수정 직전에 중복 판별 해시 설정.
+ * 해시 컬럼과 순서는 TransactionFileType에서 가져오므로 파일 적재 행과 항상 같은 해시가 나온다.
+ */
+public class ContentHashListener {
+
+    @PrePersist
+    @PreUpdate
+    public void onSaving(Object transaction) {
+        TransactionFileType type = TransactionFileType.forEntity(transaction.getClass());
+        if (type == null) {
+            return;
+        }
+        String hash = type.hash(type.values(transaction));
+        switch (transaction) {
+            case ApartmentSale t -> t.setContentHash(hash);
+            case RowHouseSale t -> t.setContentHash(hash);
+            case DetachedHouseSale t -> t.setContentHash(hash);
+            case OfficeTelSale t -> t.setContentHash(hash);
+            case ApartmentRent t -> t.setContentHash(hash);
+            case RowHouseRent t -> t.setContentHash(hash);
+            case DetachedHouseRent t -> t.setContentHash(hash);
+            case OfficeTelRent t -> t.setContentHash(hash);
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.back.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+// CSV 스트리밍 리더 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 처리)
+public class CsvTransactionFileReader implements TransactionFileReader {
+
+    private final BufferedReader reader;
+
+    public CsvTransactionFileReader(InputStream input, Charset charset) {
+        this.reader = new BufferedReader(new InputStreamReader(input, charset), 1 << 16);
+    }
+
+    @Override
+    public List<String> nextRow() throws IOException {
+        int ch = reader.read();
+        if (ch == -1) {
+            return null;
+        }
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+
+        while (ch != -1) {
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cell.append((char) ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                cell.append((char) ch);
+            }
+            ch = reader.read();
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.ingest;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// 실거래 파일을 한 행씩 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+public interface TransactionFileReader extends Closeable {
+
+    // 다음 행의 셀 값, 파일 끝이면 null
+    List<String> nextRow() throws IOException;
+
+    /**
+     * 확장자로 CSV/XLSX 리더를 고른다.
+     * CSV 인코딩을 지정하지 않으면 UTF-8 BOM이 있으면 UTF-8, 없으면 국토부 내려받기 기본값인 MS949로 읽는다.
+     */
+    static TransactionFileReader open(Path path, Charset charset) throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".xlsx")) {
+            return new XlsxTransactionFileReader(path);
+        }
+        if (!fileName.endsWith(".csv") && !fileName.endsWith(".txt")) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식: " + fileName + " (csv, xlsx만 가능)");
+        }
+
+        InputStream input = new BufferedInputStream(Files.newInputStream(path));
+        if (charset == null) {
+            input.mark(3);
+            byte[] bom = input.readNBytes(3);
+            boolean utf8Bom = bom.length == 3 && (bom[0] & 0xff) == 0xEF && (bom[1] & 0xff) == 0xBB && (bom[2] & 0xff) == 0xBF;
+            if (!utf8Bom) {
+                input.reset();
+            }
+            charset = utf8Bom ? StandardCharsets.UTF_8 : Charset.forName("MS949");
+        }
+        return new CsvTransactionFileReader(input, charset);
+    }
+}
@@ -0,0 +1,357 @@
+package com.back.ingest;
+
+import com.back.domain.ApartmentRent;
+import com.back.domain.ApartmentSale;
+import com.back.domain.DetachedHouseRent;
+import com.back.domain.DetachedHouseSale;
+import com.back.domain.OfficeTelRent;
+import com.back.domain.OfficeTelSale;
+import com.back.domain.RowHouseRent;
+import com.back.domain.RowHouseSale;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 국토부 실거래가 공개 파일 종류별 적재 대상 테이블과 컬럼 매핑.
+ * 컬럼 목록은 항상 sigungu, road_name으로 시작하고 (좌표 계산용), 끝에 latitude, longitude, road_name_id, content_hash가 붙는다.
+ * 해시 컬럼(시군구, 이름, 면적, 계약일, 금액, 층, 도로명, 아파트 매매는 동까지)이 같은 행은 같은 거래로 본다.
+ * 엔티티 저장 경로(ContentHashListener)도 같은 컬럼 순서의 엔티티 값으로 해시하므로 해시 정의는 여기 한 곳에만 둔다.
+ * 집계/색인(시세 요약, 시세 추이, 전세가율, 비교 거래, 지도, 패싯, 좌표)도 8개 실거래 테이블 목록과
+ * 주택유형/면적/단지명/금액 컬럼을 여기서 가져간다.
+ */
+public enum TransactionFileType {
+
+    APARTMENT_SALE("apartment-sale", "아파트 매매", "아파트", ApartmentSale.class, "apartment_sale",
+            "sigungu, road_name, complex_name, exclusive_area, contract_date, transaction_amount, dong, floor, " +
+            "construction_year, housing_type, transaction_type",
+            "sigungu, complex_name, exclusive_area, contract_date, transaction_amount, dong, floor, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.text("단지명"), row.decimal("전용면적"),
+                    Date.valueOf(row.contractDate()), row.amount("거래금액"), row.textOr("동", ""),
+                    row.integerOr("층", 0), row.integerOr("건축년도", 0), row.textOr("주택유형", "아파트"), "매매"},
+            (ApartmentSale t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getComplexName(), t.getExclusiveArea(),
+                    t.getContractDate(), t.getTransactionAmount(), t.getDong(), t.getFloor(), t.getConstructionYear(),
+                    t.getHousingType(), t.getTransactionType()}),
+
+    ROW_HOUSE_SALE("row-house-sale", "연립/다세대 매매", "연립/다세대", RowHouseSale.class, "row_house_sale",
+            "sigungu, road_name, building_name, exclusive_area, land_area, contract_date, transaction_amount, floor, " +
+            "construction_year, housing_type, transaction_type",
+            "sigungu, building_name, exclusive_area, contract_date, transaction_amount, floor, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.text("건물명"), row.decimal("전용면적"),
+                    row.decimalOr("대지권면적", 0.0), Date.valueOf(row.contractDate()), row.amount("거래금액"),
+                    row.integerOr("층", 0), row.integerOr("건축년도", 0), row.textOr("주택유형", "연립/다세대"), "매매"},
+            (RowHouseSale t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getBuildingName(), t.getExclusiveArea(),
+                    t.getLandArea(), t.getContractDate(), t.getTransactionAmount(), t.getFloor(), t.getConstructionYear(),
+                    t.getHousingType(), t.getTransactionType()}),
+
+    DETACHED_HOUSE_SALE("detached-house-sale", "단독/다가구 매매", "단독주택", DetachedHouseSale.class, "detached_house_sale",
+            "sigungu, road_name, housing_type, road_condition, total_area, land_area, contract_date, " +
+            "transaction_amount, construction_year, transaction_type",
+            "sigungu, housing_type, total_area, contract_date, transaction_amount, land_area, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.textOr("주택유형", "단독"), row.textOr("도로조건", "-"),
+                    row.decimal("연면적"), row.decimalOr("대지면적", 0.0), Date.valueOf(row.contractDate()),
+                    row.amount("거래금액"), row.integerOr("건축년도", 0), "매매"},
+            (DetachedHouseSale t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getHousingType(), t.getRoadCondition(),
+                    t.getTotalArea(), t.getLandArea(), t.getContractDate(), t.getTransactionAmount(), t.getConstructionYear(),
+                    t.getTransactionType()}),
+
+    OFFICE_TEL_SALE("office-tel-sale", "오피스텔 매매", "오피스텔", OfficeTelSale.class, "office_tel_sale",
+            "sigungu, road_name, complex_name, exclusive_area, contract_date, transaction_amount, floor, " +
+            "construction_year, housing_type, transaction_type",
+            "sigungu, complex_name, exclusive_area, contract_date, transaction_amount, floor, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.text("단지명"), row.decimal("전용면적"),
+                    Date.valueOf(row.contractDate()), row.amount("거래금액"), row.integerOr("층", 0),
+                    row.integerOr("건축년도", 0), row.textOr("주택유형", "오피스텔"), "매매"},
+            (OfficeTelSale t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getComplexName(), t.getExclusiveArea(),
+                    t.getContractDate(), t.getTransactionAmount(), t.getFloor(), t.getConstructionYear(), t.getHousingType(),
+                    t.getTransactionType()}),
+
+    APARTMENT_RENT("apartment-rent", "아파트 전월세", "아파트", ApartmentRent.class, "apartment_rent",
+            "sigungu, road_name, complex_name, rent_type, exclusive_area, contract_date, deposit, monthly_rent, " +
+            "floor, construction_year, housing_type, transaction_type",
+            "sigungu, complex_name, exclusive_area, contract_date, deposit, monthly_rent, floor, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.text("단지명"), row.rentType(), row.decimal("전용면적"),
+                    Date.valueOf(row.contractDate()), row.amount("보증금"), row.amountOr("월세금", 0L),
+                    row.integerOr("층", 0), row.integerOr("건축년도", 0), row.textOr("주택유형", "아파트"), row.rentType()},
+            (ApartmentRent t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getComplexName(), t.getRentType(),
+                    t.getExclusiveArea(), t.getContractDate(), t.getDeposit(), t.getMonthlyRent(), t.getFloor(),
+                    t.getConstructionYear(), t.getHousingType(), t.getTransactionType()}),
+
+    ROW_HOUSE_RENT("row-house-rent", "연립/다세대 전월세", "연립/다세대", RowHouseRent.class, "row_house_rent",
+            "sigungu, road_name, building_name, rent_type, exclusive_area, contract_date, deposit, monthly_rent, " +
+            "floor, construction_year, housing_type, transaction_type",
+            "sigungu, building_name, exclusive_area, contract_date, deposit, monthly_rent, floor, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.text("건물명"), row.rentType(), row.decimal("전용면적"),
+                    Date.valueOf(row.contractDate()), row.amount("보증금"), row.amountOr("월세금", 0L),
+                    row.integerOr("층", 0), row.integerOr("건축년도", 0), row.textOr("주택유형", "연립/다세대"), row.rentType()},
+            (RowHouseRent t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getBuildingName(), t.getRentType(),
+                    t.getExclusiveArea(), t.getContractDate(), t.getDeposit(), t.getMonthlyRent(), t.getFloor(),
+                    t.getConstructionYear(), t.getHousingType(), t.getTransactionType()}),
+
+    DETACHED_HOUSE_RENT("detached-house-rent", "단독/다가구 전월세", "단독주택", DetachedHouseRent.class, "detached_house_rent",
+            "sigungu, road_name, road_condition, contract_area, rent_type, contract_date, deposit, monthly_rent, " +
+            "construction_year, housing_type, transaction_type",
+            "sigungu, housing_type, contract_area, contract_date, deposit, monthly_rent, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.textOr("도로조건", "-"), row.decimal("계약면적"),
+                    row.rentType(), Date.valueOf(row.contractDate()), row.amount("보증금"), row.amountOr("월세금", 0L),
+                    row.integerOr("건축년도", 0), row.textOr("주택유형", "단독"), row.rentType()},
+            (DetachedHouseRent t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getRoadCondition(), t.getContractArea(),
+                    t.getRentType(), t.getContractDate(), t.getDeposit(), t.getMonthlyRent(), t.getConstructionYear(),
+                    t.getHousingType(), t.getTransactionType()}),
+
+    OFFICE_TEL_RENT("office-tel-rent", "오피스텔 전월세", "오피스텔", OfficeTelRent.class, "office_tel_rent",
+            "sigungu, road_name, complex_name, rent_type, exclusive_area, contract_date, deposit, monthly_rent, " +
+            "floor, construction_year, housing_type, transaction_type",
+            "sigungu, complex_name, exclusive_area, contract_date, deposit, monthly_rent, floor, road_name",
+            row -> new Object[]{
+                    row.text("시군구"), row.text("도로명"), row.text("단지명"), row.rentType(), row.decimal("전용면적"),
+                    Date.valueOf(row.contractDate()), row.amount("보증금"), row.amountOr("월세금", 0L),
+                    row.integerOr("층", 0), row.integerOr("건축년도", 0), row.textOr("주택유형", "오피스텔"), row.rentType()},
+            (OfficeTelRent t) -> new Object[]{
+                    t.getSigungu(), t.getRoadName(), t.getComplexName(), t.getRentType(),
+                    t.getExclusiveArea(), t.getContractDate(), t.getDeposit(), t.getMonthlyRent(), t.getFloor(),
+                    t.getConstructionYear(), t.getHousingType(), t.getTransactionType()});
+
+    public static final String SALE = "매매";
+    public static final String JEONSE = "전세";
+    public static final String WOLSE = "월세";
+
+    // 컬럼 종류 (이 밖의 컬럼은 문자열, 면적은 *_area)
+    private static final Set<String> AMOUNT_COLUMNS = Set.of("transaction_amount", "deposit", "monthly_rent");
+    private static final Set<String> INTEGER_COLUMNS = Set.of("floor", "construction_year");
+
+    private final String key;
+    private final String description;
+    private final String propertyType; // 주택유형 (아파트, 연립/다세대, 단독주택, 오피스텔)
+    private final Class<?> entityType;
+    private final String table;
+    private final List<String> columns;
+    private final int[] hashIndexes; // 해시 컬럼의 columns 내 위치
+    private final Function<TransactionRow, Object[]> mapper;
+    private final Function<Object, Object[]> entityMapper; // 엔티티 → 적재 컬럼 값 (columns와 같은 순서)
+
+    @SuppressWarnings("unchecked")
+    TransactionFileType(String key, String description, String propertyType, Class<?> entityType, String table, String columns,
+                        String hashColumns, Function<TransactionRow, Object[]> mapper,
+                        Function<?, Object[]> entityMapper) {
+        this.key = key;
+        this.description = description;
+        this.propertyType = propertyType;
+        this.entityType = entityType;
+        this.table = table;
+        this.columns = List.of(columns.split(",\\s*"));
+        this.hashIndexes = Arrays.stream(hashColumns.split(",\\s*")).mapToInt(this.columns::indexOf).toArray();
+        this.mapper = mapper;
+        this.entityMapper = (Function<Object, Object[]>) entityMapper;
+        if (Arrays.stream(hashIndexes).anyMatch(index -> index < 0)) {
+            throw new IllegalStateException("적재 컬럼에 없는 해시 컬럼: " + table);
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getPropertyType() {
+        return propertyType;
+    }
+
+    // 전월세 테이블인지 (금액은 보증금 + 월세)
+    public boolean isRent() {
+        return columns.contains("deposit");
+    }
+
+    // 거래 금액 컬럼 (매매는 거래금액, 전월세는 보증금, 만원)
+    public String getAmountColumn() {
+        return isRent() ? "deposit" : "transaction_amount";
+    }
+
+    // 대표 면적 컬럼 (전용면적, 단독주택은 연면적/계약면적)
+    public String getAreaColumn() {
+        return columns.stream().filter(column -> column.endsWith("_area")).findFirst().orElseThrow();
+    }
+
+    // 단지/건물명 컬럼 (단독주택은 없어서 null)
+    public String getNameColumn() {
+        return columns.contains("complex_name") ? "complex_name" : columns.contains("building_name") ? "building_name" : null;
+    }
+
+    // 거래를 나타낼 이름 컬럼 (단독주택은 단지/건물명 대신 주택유형)
+    public String getLabelColumn() {
+        return getNameColumn() != null ? getNameColumn() : "housing_type";
+    }
+
+    // 층 컬럼 (단독주택은 없어서 null)
+    public String getFloorColumn() {
+        return columns.contains("floor") ? "floor" : null;
+    }
+
+    // 지도 클러스터/패싯 레이어 이름 (연립/다세대는 "rowhouse-sale"처럼 붙여 씀)
+    public String getLayer() {
+        return key.replace("row-house", "rowhouse");
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    // 적재 컬럼 (좌표, 해시 제외, 첫 두 컬럼은 시군구와 도로명)
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    // 중복 판별 해시 계산에 쓰는 컬럼
+    public List<String> getHashColumns() {
+        return Arrays.stream(hashIndexes).mapToObj(columns::get).toList();
+    }
+
+    // INSERT 문 (적재 컬럼, latitude, longitude, road_name_id, content_hash 순)
+    public String insertSql() {
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ", latitude, longitude, road_name_id, content_hash) VALUES (" +
+                String.join(", ", Collections.nCopies(columns.size() + 4, "?")) + ")";
+    }
+
+    // 해시가 같은 행의 UPDATE 문 (INSERT와 같은 파라미터 순서)
+    public String updateSql() {
+        return "UPDATE " + table + " SET " + String.join(" = ?, ", columns) + " = ?, latitude = ?, longitude = ?, road_name_id = ? " +
+                "WHERE content_hash = ?";
+    }
+
+    // 해시 목록으로 기존 행 조회 (content_hash, 적재 컬럼 순)
+    public String selectByHashesSql(int count) {
+        return "SELECT content_hash, " + String.join(", ", columns) + " FROM " + table +
+                " WHERE content_hash IN (" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    // 컬럼 값 → 컬럼 종류에 맞는 값 (관리자 일괄 작업용, 파일 적재와 같은 규칙, 계약일은 yyyy-MM-dd)
+    public static Object coerce(String column, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof String) && !(value instanceof Number)) {
+            throw new IllegalArgumentException(column + " 값은 문자열이나 숫자만 가능: " + value);
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString().trim();
+        if (AMOUNT_COLUMNS.contains(column) || INTEGER_COLUMNS.contains(column)
+                || column.endsWith("_area") || "contract_date".equals(column)) {
+            if (text.isEmpty()) {
+                return null;
+            }
+        } else {
+            return text;
+        }
+
+        if (AMOUNT_COLUMNS.contains(column)) {
+            return TransactionRow.parseAmount(column, text);
+        }
+        if (INTEGER_COLUMNS.contains(column)) {
+            return TransactionRow.parseInteger(column, text);
+        }
+        if (column.endsWith("_area")) {
+            return TransactionRow.parseDecimal(column, text);
+        }
+        try {
+            return Date.valueOf(LocalDate.parse(text));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("계약일 형식 오류 (yyyy-MM-dd): " + text);
+        }
+    }
+
+    // 행 → 적재 컬럼 값
+    public Object[] map(TransactionRow row) {
+        return mapper.apply(row);
+    }
+
+    // 적재 컬럼 값 → 중복 판별 해시
+    public String hash(Object[] values) {
+        Object[] key = new Object[hashIndexes.length];
+        for (int i = 0; i < hashIndexes.length; i++) {
+            key[i] = values[hashIndexes[i]];
+        }
+        return ContentHash.of(key);
+    }
+
+    // 엔티티 → 적재 컬럼 값 (columns 순서, ContentHashListener용)
+    public Object[] values(Object entity) {
+        return entityMapper.apply(entity);
+    }
+
+    // 엔티티의 컬럼 값 (적재 컬럼이 아니면 null)
+    public Object value(Object entity, String column) {
+        int index = column != null ? columns.indexOf(column) : -1;
+        return index >= 0 ? values(entity)[index] : null;
+    }
+
+    // 같은 주택유형의 매매/전월세 테이블
+    public TransactionFileType counterpart() {
+        for (TransactionFileType type : values()) {
+            if (type.propertyType.equals(propertyType) && type.isRent() != isRent()) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("짝이 되는 실거래 테이블 없음: " + table);
+    }
+
+    // 전월세 거래구분 (전월세구분이 없거나 알 수 없는 값이면 월세 금액으로 판단)
+    public static String rentType(String rentType, Long monthlyRent) {
+        if (JEONSE.equals(rentType) || WOLSE.equals(rentType)) {
+            return rentType;
+        }
+        return monthlyRent != null && monthlyRent > 0 ? WOLSE : JEONSE;
+    }
+
+    // 엔티티 클래스로 찾기 (실거래 엔티티가 아니면 null)
+    public static TransactionFileType forEntity(Class<?> entityType) {
+        for (TransactionFileType type : values()) {
+            if (type.entityType.equals(entityType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    // 지도 클러스터/패싯 레이어 이름("rowhouse-sale")으로 찾기
+    public static TransactionFileType fromLayer(String layer) {
+        return Arrays.stream(values())
+                .filter(type -> type.getLayer().equals(layer))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 실거래 레이어: " + layer));
+    }
+
+    // 경로 이름("apartment-sale")으로 찾기
+    public static TransactionFileType fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(type -> type.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 실거래 파일 종류: " + key));
+    }
+}
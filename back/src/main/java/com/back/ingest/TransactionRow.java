@@ -0,0 +1,134 @@
+package com.back.ingest;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 헤더 이름으로 셀을 읽는 실거래 파일 한 행.
+ * 헤더는 괄호 안 단위와 공백을 뺀 이름으로 찾는다 ("전용면적(㎡)" → "전용면적").
+ * 필수 값이 없거나 형식이 잘못되면 IllegalArgumentException.
+ */
+public class TransactionRow {
+
+    private final Map<String, Integer> header;
+    private final List<String> cells;
+
+    public TransactionRow(Map<String, Integer> header, List<String> cells) {
+        this.header = header;
+        this.cells = cells;
+    }
+
+    // 국토부 파일은 안내문 몇 줄 뒤에 헤더가 나옴
+    public static boolean isHeader(List<String> cells) {
+        Map<String, Integer> index = headerIndex(cells);
+        return index.containsKey("시군구") && index.containsKey("계약년월");
+    }
+
+    public static Map<String, Integer> headerIndex(List<String> cells) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            index.putIfAbsent(cells.get(i).replaceAll("\\(.*?\\)", "").replaceAll("[\\s\\uFEFF]", ""), i);
+        }
+        return index;
+    }
+
+    // 필수 문자열
+    public String text(String name) {
+        String value = raw(name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " 없음");
+        }
+        return value;
+    }
+
+    public String textOr(String name, String defaultValue) {
+        String value = raw(name);
+        return value != null ? value : defaultValue;
+    }
+
+    // 필수 실수 (면적 등)
+    public Double decimal(String name) {
+        return parseDecimal(name, text(name));
+    }
+
+    public Double decimalOr(String name, Double defaultValue) {
+        return raw(name) != null ? decimal(name) : defaultValue;
+    }
+
+    // 필수 금액 (만원, "125,000" 형식)
+    public Long amount(String name) {
+        return parseAmount(name, text(name));
+    }
+
+    public Long amountOr(String name, Long defaultValue) {
+        return raw(name) != null ? amount(name) : defaultValue;
+    }
+
+    public Integer integerOr(String name, Integer defaultValue) {
+        String value = raw(name);
+        return value != null ? parseInteger(name, value) : defaultValue;
+    }
+
+    // 실수 변환 ("1,234.5" 형식 허용, 관리자 일괄 작업 값 검증에도 사용)
+    public static Double parseDecimal(String name, String value) {
+        try {
+            return Double.parseDouble(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 형식 오류: " + value);
+        }
+    }
+
+    // 금액 변환 (만원, "125,000" 형식 허용)
+    public static Long parseAmount(String name, String value) {
+        try {
+            return Long.parseLong(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 형식 오류: " + value);
+        }
+    }
+
+    // 정수 변환 (층, 건축년도, "3.0" 형식 허용)
+    public static Integer parseInteger(String name, String value) {
+        try {
+            return (int) Double.parseDouble(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 형식 오류: " + value);
+        }
+    }
+
+    // 계약년월("202401") + 계약일("5")
+    public LocalDate contractDate() {
+        String yearMonth = text("계약년월");
+        String day = text("계약일");
+        try {
+            int ym = (int) Double.parseDouble(yearMonth);
+            return LocalDate.of(ym / 100, ym % 100, (int) Double.parseDouble(day));
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("계약일 형식 오류: " + yearMonth + " " + day);
+        }
+    }
+
+    // 전월세구분, 없으면 월세금으로 판단
+    public String rentType() {
+        return TransactionFileType.rentType(raw("전월세구분"), amountOr("월세금", 0L));
+    }
+
+    // 해제(취소)된 거래인지
+    public boolean isCancelled() {
+        String cancelledAt = raw("해제사유발생일");
+        return cancelledAt != null && !"-".equals(cancelledAt);
+    }
+
+    // 셀 값 (앞뒤 공백 제거, 비어 있거나 "-"만 있으면 null — 해제사유발생일은 호출 쪽에서 판단)
+    private String raw(String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= cells.size()) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() || ("-".equals(value) && !"해제사유발생일".equals(name)) ? null : value;
+    }
+}
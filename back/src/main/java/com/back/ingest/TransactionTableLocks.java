@@ -0,0 +1,35 @@
+package com.back.ingest;
+
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 실거래 테이블별 쓰기 잠금.
+ * 파일 적재와 관리자 일괄 작업은 각자 작업 스레드에서 돌기 때문에,
+ * 같은 테이블에 동시에 쓰지 않도록 작업 하나를 통째로 이 잠금 안에서 실행한다 (다른 테이블 작업은 막지 않음).
+ */
+@Component
+public class TransactionTableLocks {
+
+    private final Map<TransactionFileType, ReentrantLock> locks = new EnumMap<>(TransactionFileType.class);
+
+    public TransactionTableLocks() {
+        for (TransactionFileType type : TransactionFileType.values()) {
+            locks.put(type, new ReentrantLock());
+        }
+    }
+
+    // 테이블 잠금을 잡고 작업 실행 (다른 작업이 쓰는 중이면 끝날 때까지 대기)
+    public void run(TransactionFileType type, Runnable work) {
+        ReentrantLock lock = locks.get(type);
+        lock.lock();
+        try {
+            work.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
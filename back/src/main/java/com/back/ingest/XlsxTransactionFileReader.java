@@ -0,0 +1,178 @@
+package com.back.ingest;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * XLSX 스트리밍 리더 (첫 번째 시트만).
+ * 공유 문자열 표만 메모리에 올리고, 시트 XML은 StAX로 한 행씩 읽는다.
+ */
+public class XlsxTransactionFileReader implements TransactionFileReader {
+
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+    private static final String WORKSHEET_PREFIX = "xl/worksheets/sheet";
+
+    private final ZipFile zipFile;
+    private final InputStream sheetInput;
+    private final XMLStreamReader sheet;
+    private final List<String> sharedStrings;
+
+    public XlsxTransactionFileReader(Path path) throws IOException {
+        this.zipFile = new ZipFile(path.toFile());
+        try {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            this.sharedStrings = readSharedStrings(factory);
+            this.sheetInput = zipFile.getInputStream(firstWorksheet());
+            this.sheet = factory.createXMLStreamReader(sheetInput, "UTF-8");
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            zipFile.close();
+            throw e instanceof IOException io ? io : new IOException("XLSX 파일을 열 수 없음: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<String> nextRow() throws IOException {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    return readRow();
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new IOException("XLSX 시트 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException e) {
+            // 닫기 실패는 무시
+        }
+        sheetInput.close();
+        zipFile.close();
+    }
+
+    // <row> 안의 셀들 (비어 있는 열은 빈 문자열로 채움)
+    private List<String> readRow() throws XMLStreamException {
+        List<String> cells = new ArrayList<>();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheet.getLocalName())) {
+                int column = columnIndex(sheet.getAttributeValue(null, "r"), cells.size());
+                String type = sheet.getAttributeValue(null, "t");
+                String value = readCellValue(type);
+                while (cells.size() < column) {
+                    cells.add("");
+                }
+                cells.add(value);
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                break;
+            }
+        }
+        return cells;
+    }
+
+    // <c> 안의 값 (공유 문자열, 인라인 문자열, 숫자/수식 결과)
+    private String readCellValue(String type) throws XMLStreamException {
+        StringBuilder value = new StringBuilder();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.START_ELEMENT
+                    && ("v".equals(sheet.getLocalName()) || "t".equals(sheet.getLocalName()))) {
+                value.append(sheet.getElementText());
+            } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheet.getLocalName())) {
+                break;
+            }
+        }
+
+        if ("s".equals(type)) {
+            int index = Integer.parseInt(value.toString().trim());
+            return index < sharedStrings.size() ? sharedStrings.get(index) : "";
+        }
+        return value.toString();
+    }
+
+    // "B12" → 1 (열 문자 부분만 사용), 참조가 없으면 다음 열
+    private static int columnIndex(String reference, int next) {
+        if (reference == null) {
+            return next;
+        }
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column == 0 ? next : column - 1;
+    }
+
+    private List<String> readSharedStrings(XMLInputFactory factory) throws IOException, XMLStreamException {
+        ZipEntry entry = zipFile.getEntry(SHARED_STRINGS);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> strings = new ArrayList<>();
+        try (InputStream input = zipFile.getInputStream(entry)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(input, "UTF-8");
+            StringBuilder current = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if ("si".equals(reader.getLocalName())) {
+                        current = new StringBuilder();
+                    } else if ("rPh".equals(reader.getLocalName())) {
+                        // 윗주(발음 표기)는 값에 포함하지 않음
+                        skipElement(reader);
+                    } else if ("t".equals(reader.getLocalName()) && current != null) {
+                        current.append(reader.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "si".equals(reader.getLocalName()) && current != null) {
+                    strings.add(current.toString());
+                    current = null;
+                }
+            }
+            reader.close();
+        }
+        return strings;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    // sheet1.xml, 없으면 번호가 가장 작은 시트
+    private ZipEntry firstWorksheet() throws IOException {
+        ZipEntry first = zipFile.getEntry(WORKSHEET_PREFIX + "1.xml");
+        if (first != null) {
+            return first;
+        }
+        return zipFile.stream()
+                .filter(entry -> entry.getName().startsWith(WORKSHEET_PREFIX) && entry.getName().endsWith(".xml"))
+                .min(Comparator.comparing(ZipEntry::getName))
+                .orElseThrow(() -> new IOException("XLSX 파일에 시트가 없음"));
+    }
+}
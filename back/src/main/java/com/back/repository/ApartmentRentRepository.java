@@ -1,6 +1,7 @@
 package com.back.repository;
 
 import com.back.domain.ApartmentRent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -67,6 +68,18 @@ public interface ApartmentRentRepository extends JpaRepository<ApartmentRent, Lo
     // 도로명으로 검색 (정확한 일치)
     List<ApartmentRent> findByRoadName(String roadName);
     
+    // 도로명(사전 id) + 면적 범위의 최근 거래 (실거래가 조회용, 건수는 Pageable로 제한)
+    @Query("SELECT t FROM ApartmentRent t WHERE t.roadNameId = :roadNameId AND " +
+           "(:minArea IS NULL OR t.exclusiveArea >= :minArea) AND " +
+           "(:maxArea IS NULL OR t.exclusiveArea <= :maxArea) " +
+           "ORDER BY t.contractDate DESC")
+    List<ApartmentRent> findRecentByRoadName(
+            @Param("roadNameId") Integer roadNameId,
+            @Param("minArea") Double minArea,
+            @Param("maxArea") Double maxArea,
+            Pageable pageable
+    );
+    
     // 번호 역순으로 정렬된 모든 데이터 조회 (최신순)
     List<ApartmentRent> findAllByOrderByNoDesc();
 }
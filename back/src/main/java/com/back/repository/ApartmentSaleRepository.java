@@ -73,29 +73,21 @@ public interface ApartmentSaleRepository extends JpaRepository<ApartmentSale, Lo
     @Query("SELECT DISTINCT a.transactionType FROM ApartmentSale a ORDER BY a.transactionType")
     List<String> findDistinctTransactionType();
     
-    // 최근 거래 데이터 조회 (지도용)
-    @Query("SELECT a FROM ApartmentSale a ORDER BY a.contractDate DESC")
-    List<ApartmentSale> findTopByOrderByContractDateDesc(@Param("limit") int limit);
+    // 도로명으로 검색 (정확한 일치)
+    List<ApartmentSale> findByRoadName(String roadName);
     
-    // 필터링된 데이터 조회 (지도용)
-    @Query("SELECT a FROM ApartmentSale a WHERE " +
-           "(:transactionType IS NULL OR a.transactionType = :transactionType) AND " +
-           "(:minPrice IS NULL OR a.transactionAmount >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR a.transactionAmount <= :maxPrice) AND " +
-           "(:minArea IS NULL OR a.exclusiveArea >= :minArea) AND " +
-           "(:maxArea IS NULL OR a.exclusiveArea <= :maxArea) " +
-           "ORDER BY a.contractDate DESC")
-    List<ApartmentSale> findByFilters(
-            @Param("transactionType") String transactionType,
-            @Param("minPrice") Double minPrice,
-            @Param("maxPrice") Double maxPrice,
+    // 도로명(사전 id) + 면적 범위의 최근 거래 (실거래가 조회용, 건수는 Pageable로 제한)
+    @Query("SELECT t FROM ApartmentSale t WHERE t.roadNameId = :roadNameId AND " +
+           "(:minArea IS NULL OR t.exclusiveArea >= :minArea) AND " +
+           "(:maxArea IS NULL OR t.exclusiveArea <= :maxArea) " +
+           "ORDER BY t.contractDate DESC")
+    List<ApartmentSale> findRecentByRoadName(
+            @Param("roadNameId") Integer roadNameId,
             @Param("minArea") Double minArea,
-            @Param("maxArea") Double maxArea
+            @Param("maxArea") Double maxArea,
+            Pageable pageable
     );
     
-    // 도로명으로 검색 (정확한 일치)
-    List<ApartmentSale> findByRoadName(String roadName);
-    
     // 번호 역순으로 정렬된 모든 데이터 조회 (최신순)
     List<ApartmentSale> findAllByOrderByNoDesc();
 }
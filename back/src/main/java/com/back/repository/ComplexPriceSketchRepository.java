@@ -0,0 +1,27 @@
+package com.back.repository;
+
+import com.back.domain.ComplexPriceSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ComplexPriceSketchRepository extends JpaRepository<ComplexPriceSketch, Long> {
+
+    // 단지의 계약월 범위 스케치, 시군구 목록이 비어 있으면 전체 시군구
+    @Query("SELECT s FROM ComplexPriceSketch s WHERE s.complexName = :complexName AND " +
+           "(:allRegions = true OR s.region IN :regions) AND " +
+           "(:propertyType IS NULL OR s.propertyType = :propertyType) AND " +
+           "(:dealType IS NULL OR s.dealType = :dealType) AND " +
+           "s.contractMonth BETWEEN :fromMonth AND :toMonth")
+    List<ComplexPriceSketch> findSketches(@Param("complexName") String complexName,
+                                          @Param("allRegions") boolean allRegions,
+                                          @Param("regions") List<String> regions,
+                                          @Param("propertyType") String propertyType,
+                                          @Param("dealType") String dealType,
+                                          @Param("fromMonth") Integer fromMonth,
+                                          @Param("toMonth") Integer toMonth);
+}
@@ -1,6 +1,7 @@
 package com.back.repository;
 
 import com.back.domain.DetachedHouseRent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,18 @@ public interface DetachedHouseRentRepository extends JpaRepository<DetachedHouse
     // 도로명으로 검색 (정확한 일치)
     List<DetachedHouseRent> findByRoadName(String roadName);
     
+    // 도로명(사전 id) + 면적 범위의 최근 거래 (실거래가 조회용, 건수는 Pageable로 제한)
+    @Query("SELECT t FROM DetachedHouseRent t WHERE t.roadNameId = :roadNameId AND " +
+           "(:minArea IS NULL OR t.contractArea >= :minArea) AND " +
+           "(:maxArea IS NULL OR t.contractArea <= :maxArea) " +
+           "ORDER BY t.contractDate DESC")
+    List<DetachedHouseRent> findRecentByRoadName(
+            @Param("roadNameId") Integer roadNameId,
+            @Param("minArea") Double minArea,
+            @Param("maxArea") Double maxArea,
+            Pageable pageable
+    );
+    
     // 주택유형으로 검색
     List<DetachedHouseRent> findByHousingType(String housingType);
     
@@ -0,0 +1,9 @@
+package com.back.repository;
+
+import com.back.domain.GeoCoordinate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GeoCoordinateRepository extends JpaRepository<GeoCoordinate, Long> {
+}
@@ -0,0 +1,17 @@
+package com.back.repository;
+
+import com.back.domain.IngestCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, Long> {
+
+    Optional<IngestCheckpoint> findByFileTypeAndFingerprint(String fileType, String fingerprint);
+
+    // 중단된 적재 (재시작 시 이어서 진행)
+    List<IngestCheckpoint> findByStatusAndDirectoryFileTrue(IngestCheckpoint.CheckpointStatus status);
+}
@@ -0,0 +1,47 @@
+package com.back.repository;
+
+import com.back.domain.JeonseRatio;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JeonseRatioRepository extends JpaRepository<JeonseRatio, Long> {
+
+    // 주택유형의 가장 최근 계약분기
+    @Query("SELECT MAX(r.contractQuarter) FROM JeonseRatio r WHERE r.propertyType = :propertyType")
+    Integer findLatestQuarter(@Param("propertyType") String propertyType);
+
+    // 분기 하나의 전세가율 높은 순 (idx_jeonse_ratio_screen), 시군구("마포구" 또는 "서울특별시 마포구")가 null이면 전체
+    @Query(value = "SELECT r FROM JeonseRatio r WHERE r.propertyType = :propertyType AND " +
+                   "r.contractQuarter = :quarter AND r.jeonseRatio >= :minRatio AND " +
+                   "r.saleCount >= :minCount AND r.jeonseCount >= :minCount AND " +
+                   "(:region IS NULL OR r.region = :region OR r.region LIKE CONCAT('% ', :region)) " +
+                   "ORDER BY r.jeonseRatio DESC, r.id",
+           countQuery = "SELECT COUNT(r) FROM JeonseRatio r WHERE r.propertyType = :propertyType AND " +
+                        "r.contractQuarter = :quarter AND r.jeonseRatio >= :minRatio AND " +
+                        "r.saleCount >= :minCount AND r.jeonseCount >= :minCount AND " +
+                        "(:region IS NULL OR r.region = :region OR r.region LIKE CONCAT('% ', :region))")
+    Page<JeonseRatio> findScreen(@Param("propertyType") String propertyType,
+                                 @Param("quarter") Integer quarter,
+                                 @Param("region") String region,
+                                 @Param("minRatio") Double minRatio,
+                                 @Param("minCount") Long minCount,
+                                 Pageable pageable);
+
+    // 단지의 분기별 전세가율 (idx_jeonse_ratio_complex), 조건이 null이면 전체
+    @Query("SELECT r FROM JeonseRatio r WHERE r.complexName = :complexName AND " +
+           "(:region IS NULL OR r.region = :region OR r.region LIKE CONCAT('% ', :region)) AND " +
+           "(:propertyType IS NULL OR r.propertyType = :propertyType) AND " +
+           "(:areaBand IS NULL OR r.areaBand = :areaBand) " +
+           "ORDER BY r.region, r.areaBand, r.contractQuarter")
+    List<JeonseRatio> findComplexTrend(@Param("complexName") String complexName,
+                                       @Param("region") String region,
+                                       @Param("propertyType") String propertyType,
+                                       @Param("areaBand") Integer areaBand);
+}
@@ -0,0 +1,17 @@
+package com.back.repository;
+
+import com.back.domain.MarketPriceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MarketPriceSummaryRepository extends JpaRepository<MarketPriceSummary, Long> {
+
+    // 도로명 + 면적 구간의 요약 (주택유형/거래구분별 최대 8행)
+    List<MarketPriceSummary> findByRoadNameAndAreaBand(String roadName, Integer areaBand);
+
+    // 도로명의 모든 면적 구간 요약 (매물 면적이 없는 경우)
+    List<MarketPriceSummary> findByRoadName(String roadName);
+}
@@ -1,6 +1,7 @@
 package com.back.repository;
 
 import com.back.domain.OfficeTelRent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -69,6 +70,18 @@ public interface OfficeTelRentRepository extends JpaRepository<OfficeTelRent, Lo
     // 도로명 주소로 검색 (정확한 일치)
     List<OfficeTelRent> findByRoadName(String roadName);
     
+    // 도로명(사전 id) + 면적 범위의 최근 거래 (실거래가 조회용, 건수는 Pageable로 제한)
+    @Query("SELECT t FROM OfficeTelRent t WHERE t.roadNameId = :roadNameId AND " +
+           "(:minArea IS NULL OR t.exclusiveArea >= :minArea) AND " +
+           "(:maxArea IS NULL OR t.exclusiveArea <= :maxArea) " +
+           "ORDER BY t.contractDate DESC")
+    List<OfficeTelRent> findRecentByRoadName(
+            @Param("roadNameId") Integer roadNameId,
+            @Param("minArea") Double minArea,
+            @Param("maxArea") Double maxArea,
+            Pageable pageable
+    );
+    
     // 도로명 주소와 면적 범위로 검색
     List<OfficeTelRent> findByRoadNameContainingAndExclusiveAreaBetween(
         String roadName, Double minArea, Double maxArea    );
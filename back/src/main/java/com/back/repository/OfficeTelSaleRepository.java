@@ -1,6 +1,7 @@
 package com.back.repository;
 
 import com.back.domain.OfficeTelSale;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -57,6 +58,18 @@ public interface OfficeTelSaleRepository extends JpaRepository<OfficeTelSale, Lo
     // 도로명 주소로 검색 (정확한 일치)
     List<OfficeTelSale> findByRoadName(String roadName);
     
+    // 도로명(사전 id) + 면적 범위의 최근 거래 (실거래가 조회용, 건수는 Pageable로 제한)
+    @Query("SELECT t FROM OfficeTelSale t WHERE t.roadNameId = :roadNameId AND " +
+           "(:minArea IS NULL OR t.exclusiveArea >= :minArea) AND " +
+           "(:maxArea IS NULL OR t.exclusiveArea <= :maxArea) " +
+           "ORDER BY t.contractDate DESC")
+    List<OfficeTelSale> findRecentByRoadName(
+            @Param("roadNameId") Integer roadNameId,
+            @Param("minArea") Double minArea,
+            @Param("maxArea") Double maxArea,
+            Pageable pageable
+    );
+    
     // 도로명 주소와 면적 범위로 검색 (더 정확한 매칭)
     List<OfficeTelSale> findByRoadNameContainingAndExclusiveAreaBetween(
         String roadName, Double minArea, Double maxArea    );
@@ -0,0 +1,46 @@
+package com.back.repository;
+
+import com.back.domain.PriceTrendRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PriceTrendRollupRepository extends JpaRepository<PriceTrendRollup, Long> {
+
+    // 시군구("서울특별시 마포구", 시도까지)의 거래구분별 계약월 범위 집계, 나머지 조건이 null이면 전체
+    @Query("SELECT r FROM PriceTrendRollup r WHERE " +
+           "r.region = :region AND r.dealType = :dealType AND " +
+           "(:propertyType IS NULL OR r.propertyType = :propertyType) AND " +
+           "(:areaBand IS NULL OR r.areaBand = :areaBand) AND " +
+           "r.contractMonth BETWEEN :fromMonth AND :toMonth " +
+           "ORDER BY r.contractMonth")
+    List<PriceTrendRollup> findTrend(@Param("region") String region,
+                                     @Param("propertyType") String propertyType,
+                                     @Param("dealType") String dealType,
+                                     @Param("areaBand") Integer areaBand,
+                                     @Param("fromMonth") Integer fromMonth,
+                                     @Param("toMonth") Integer toMonth);
+
+    // 집계가 있는 시군구 목록 ("서울특별시 마포구" 형태)
+    @Query("SELECT DISTINCT r.region FROM PriceTrendRollup r")
+    List<String> findDistinctRegions();
+
+    // 여러 시군구의 계약월 범위 집계 (분포 조회용), 시군구 목록이 비어 있으면 전체 시군구
+    @Query("SELECT r FROM PriceTrendRollup r WHERE " +
+           "(:allRegions = true OR r.region IN :regions) AND " +
+           "(:propertyType IS NULL OR r.propertyType = :propertyType) AND " +
+           "(:dealType IS NULL OR r.dealType = :dealType) AND " +
+           "(:areaBand IS NULL OR r.areaBand = :areaBand) AND " +
+           "r.contractMonth BETWEEN :fromMonth AND :toMonth")
+    List<PriceTrendRollup> findSketches(@Param("allRegions") boolean allRegions,
+                                        @Param("regions") List<String> regions,
+                                        @Param("propertyType") String propertyType,
+                                        @Param("dealType") String dealType,
+                                        @Param("areaBand") Integer areaBand,
+                                        @Param("fromMonth") Integer fromMonth,
+                                        @Param("toMonth") Integer toMonth);
+}
@@ -2,10 +2,12 @@ package com.back.repository;
 
 import com.back.domain.PropertyLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,10 @@ public interface PropertyLikeRepository extends JpaRepository<PropertyLike, Long
     @Query("SELECT pl FROM PropertyLike pl JOIN FETCH pl.property p WHERE pl.memberEmail = :memberEmail")
     List<PropertyLike> findByMemberEmailWithProperty(@Param("memberEmail") String memberEmail);
     
+    // 특정 사용자가 주어진 매물 중 좋아요한 매물 ID 목록 (목록 화면 일괄 조회용)
+    @Query("SELECT pl.property.id FROM PropertyLike pl WHERE pl.memberEmail = :memberEmail AND pl.property.id IN :propertyIds")
+    List<Long> findLikedPropertyIds(@Param("memberEmail") String memberEmail, @Param("propertyIds") Collection<Long> propertyIds);
+    
     // 특정 매물의 모든 좋아요
     List<PropertyLike> findByPropertyId(Long propertyId);
     
@@ -33,4 +39,15 @@ public interface PropertyLikeRepository extends JpaRepository<PropertyLike, Long
     
     // 특정 매물의 모든 좋아요 삭제
     void deleteByPropertyId(Long propertyId);
-} 
\ No newline at end of file
+    
+    // 좋아요 삭제 (삭제된 행 수 반환, 좋아요 토글용)
+    @Modifying
+    @Query("DELETE FROM PropertyLike pl WHERE pl.property.id = :propertyId AND pl.memberEmail = :memberEmail")
+    int deleteLike(@Param("propertyId") Long propertyId, @Param("memberEmail") String memberEmail);
+    
+    // 좋아요 추가 (엔티티 로딩 없이 INSERT, 중복은 unique 제약으로 거부)
+    @Modifying
+    @Query(value = "INSERT INTO property_like (property_id, member_email, created_at) " +
+                   "VALUES (:propertyId, :memberEmail, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertLike(@Param("propertyId") Long propertyId, @Param("memberEmail") String memberEmail);
+}
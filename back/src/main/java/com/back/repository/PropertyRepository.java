@@ -1,15 +1,19 @@
 package com.back.repository;
 
 import com.back.domain.Property;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, Long> {
+public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSpecificationExecutor<Property>, PropertyRepositoryCustom {
     
     // 매물 유형별 조회
     List<Property> findByPropertyType(String propertyType);
@@ -24,6 +28,10 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     @Query("SELECT p FROM Property p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
     List<Property> findByTitleOrContentContaining(@Param("keyword") String keyword);
     
+    // 매물별 대표 이미지 URL 일괄 조회 (목록 카드용, 매물마다 첫 번째 이미지 한 건, [매물 ID, 이미지 URL])
+    @Query("SELECT p.id, i FROM Property p JOIN p.imageUrls i WHERE p.id IN :propertyIds AND INDEX(i) = 0")
+    List<Object[]> findImageUrlsByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+    
     // 작성자별 조회
     List<Property> findByWriterEmail(String writerEmail);
     
@@ -36,4 +44,42 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     
     // 최신순으로 정렬
     List<Property> findAllByOrderByCreatedAtDesc();
-} 
\ No newline at end of file
+    
+    // 가격 숫자 컬럼이 비어 있는 매물 (id 순 청크 조회, 백필용)
+    @Query("SELECT p FROM Property p WHERE p.id > :lastId " +
+           "AND ((p.price IS NOT NULL AND p.salePriceAmount IS NULL AND p.depositAmount IS NULL) " +
+           "OR (p.monthlyRent IS NOT NULL AND p.monthlyRentAmount IS NULL)) ORDER BY p.id")
+    List<Property> findPriceAmountBackfillTargets(@Param("lastId") Long lastId, Pageable pageable);
+    
+    // 가격 숫자 컬럼만 갱신 (updatedAt은 변경하지 않음)
+    @Modifying
+    @Query("UPDATE Property p SET p.salePriceAmount = :salePriceAmount, p.depositAmount = :depositAmount, " +
+           "p.monthlyRentAmount = :monthlyRentAmount WHERE p.id = :id")
+    int updatePriceAmounts(@Param("id") Long id,
+                           @Param("salePriceAmount") Long salePriceAmount,
+                           @Param("depositAmount") Long depositAmount,
+                           @Param("monthlyRentAmount") Long monthlyRentAmount);
+    
+    // 좋아요 수 1 증가 (SQL에서 원자적으로 처리)
+    @Modifying
+    @Query("UPDATE Property p SET p.likeCount = COALESCE(p.likeCount, 0) + 1 WHERE p.id = :id")
+    int incrementLikeCount(@Param("id") Long id);
+    
+    // 좋아요 수 1 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Property p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+    int decrementLikeCount(@Param("id") Long id);
+    
+    // 가장 큰 매물 ID (청크 작업 범위 계산용)
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Property p")
+    Long findMaxId();
+    
+    // id 범위 내 매물의 like_count를 property_like 실제 개수로 보정 (값이 다른 행만 갱신)
+    @Modifying
+    @Query(value = "UPDATE property p SET p.like_count = " +
+                   "(SELECT COUNT(*) FROM property_like pl WHERE pl.property_id = p.id) " +
+                   "WHERE p.id BETWEEN :fromId AND :toId " +
+                   "AND COALESCE(p.like_count, -1) <> (SELECT COUNT(*) FROM property_like pl WHERE pl.property_id = p.id)",
+           nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -0,0 +1,18 @@
+package com.back.repository;
+
+import com.back.domain.Property;
+import com.back.dto.PropertyCardDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PropertyRepositoryCustom {
+
+    // 조건에 맞는 매물을 카드 projection으로 페이징 조회 (content TEXT, 이미지 컬렉션 제외)
+    Page<PropertyCardDTO> findCards(Specification<Property> spec, Pageable pageable);
+
+    // 조건에 맞는 매물 카드 전체 조회 (페이징 없음)
+    List<PropertyCardDTO> findCards(Specification<Property> spec);
+}
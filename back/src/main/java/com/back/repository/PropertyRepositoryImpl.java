@@ -0,0 +1,111 @@
+package com.back.repository;
+
+import com.back.domain.Property;
+import com.back.dto.PropertyCardDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+// PropertyRepository 사용자 정의 구현 (Criteria 생성자 projection)
+public class PropertyRepositoryImpl implements PropertyRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<PropertyCardDTO> findCards(Specification<Property> spec, Pageable pageable) {
+        TypedQuery<PropertyCardDTO> query = entityManager.createQuery(cardQuery(spec, pageable));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<PropertyCardDTO> findCards(Specification<Property> spec) {
+        return entityManager.createQuery(cardQuery(spec, Pageable.unpaged())).getResultList();
+    }
+
+    private CriteriaQuery<PropertyCardDTO> cardQuery(Specification<Property> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PropertyCardDTO> query = cb.createQuery(PropertyCardDTO.class);
+        Root<Property> root = query.from(Property.class);
+
+        query.select(cb.construct(PropertyCardDTO.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("writer"),
+                root.get("writerEmail"),
+                root.get("propertyType"),
+                root.get("transactionType"),
+                root.get("price"),
+                root.get("monthlyRent"),
+                root.get("estimatedPriceAmount"),
+                root.get("priceEstimateRatio"),
+                root.get("area"),
+                root.get("rooms"),
+                root.get("bathrooms"),
+                root.get("floor"),
+                root.get("totalFloors"),
+                root.get("yearBuilt"),
+                root.get("roadAddress"),
+                root.get("detailAddress"),
+                root.get("latitude"),
+                root.get("longitude"),
+                root.get("parking"),
+                root.get("heating"),
+                root.get("petAllowed"),
+                root.get("elevator"),
+                root.get("balcony"),
+                root.get("tv"),
+                root.get("airConditioner"),
+                root.get("shoeCabinet"),
+                root.get("refrigerator"),
+                root.get("washingMachine"),
+                root.get("bathtub"),
+                root.get("sink"),
+                root.get("induction"),
+                root.get("wardrobe"),
+                root.get("fireAlarm"),
+                root.get("status"),
+                root.get("transactionStatus"),
+                root.get("viewCount"),
+                root.get("likeCount"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        return query;
+    }
+
+    private long count(Specification<Property> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Property> root = query.from(Property.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
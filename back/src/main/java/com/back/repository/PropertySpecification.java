@@ -0,0 +1,202 @@
+package com.back.repository;
+
+import com.back.domain.Property;
+import com.back.dto.PropertySearchDTO;
+import com.back.util.GeoDistance;
+import com.back.util.PriceParser;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+// Property 검색 조건을 SQL WHERE 절로 변환하는 Specification 모음
+public class PropertySpecification {
+
+    private static final String ALL = "전체";
+    private static final String RENT_ALL = "전/월세";
+
+    private PropertySpecification() {
+    }
+
+    // 검색 조건 전체를 하나의 Specification으로 조합
+    public static Specification<Property> search(PropertySearchDTO searchDTO) {
+        Specification<Property> spec = all();
+        if (searchDTO == null) {
+            return spec;
+        }
+
+        if (hasText(searchDTO.getPropertyType())) {
+            spec = spec.and(propertyTypeEq(searchDTO.getPropertyType()));
+        }
+        if (hasText(searchDTO.getTransactionType())) {
+            spec = spec.and(transactionTypeEq(searchDTO.getTransactionType()));
+        }
+        if (searchDTO.getAreaMin() != null || searchDTO.getAreaMax() != null) {
+            spec = spec.and(areaBetween(searchDTO.getAreaMin(), searchDTO.getAreaMax()));
+        }
+        if (searchDTO.getRoomCount() != null) {
+            spec = spec.and(roomsEq(searchDTO.getRoomCount()));
+        }
+        if (searchDTO.getBathroomCount() != null) {
+            spec = spec.and(bathroomsEq(searchDTO.getBathroomCount()));
+        }
+        if (searchDTO.getFloor() != null) {
+            spec = spec.and(floorEq(searchDTO.getFloor()));
+        }
+        if (searchDTO.getYearBuiltMin() != null || searchDTO.getYearBuiltMax() != null) {
+            spec = spec.and(yearBuiltBetween(searchDTO.getYearBuiltMin(), searchDTO.getYearBuiltMax()));
+        }
+        if (searchDTO.getEstimateRatioMin() != null || searchDTO.getEstimateRatioMax() != null) {
+            spec = spec.and(estimateRatioBetween(searchDTO.getEstimateRatioMin(), searchDTO.getEstimateRatioMax()));
+        }
+        return spec.and(priceFilter(searchDTO));
+    }
+
+    // 조건 없음 (항상 참)
+    public static Specification<Property> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    // 매물 유형 일치
+    public static Specification<Property> propertyTypeEq(String propertyType) {
+        return (root, query, cb) -> cb.equal(root.get("propertyType"), propertyType);
+    }
+
+    // 거래 유형 일치 ("전/월세"는 전세 + 월세)
+    public static Specification<Property> transactionTypeEq(String transactionType) {
+        if (RENT_ALL.equals(transactionType)) {
+            return (root, query, cb) -> root.get("transactionType").in(List.of("전세", "월세"));
+        }
+        return (root, query, cb) -> cb.equal(root.get("transactionType"), transactionType);
+    }
+
+    // 면적 범위 (면적 정보가 없는 매물은 제외)
+    public static Specification<Property> areaBetween(Double areaMin, Double areaMax) {
+        return (root, query, cb) -> {
+            if (areaMin != null && areaMax != null) {
+                return cb.between(root.get("area"), areaMin, areaMax);
+            }
+            if (areaMin != null) {
+                return cb.greaterThanOrEqualTo(root.get("area"), areaMin);
+            }
+            return cb.lessThanOrEqualTo(root.get("area"), areaMax);
+        };
+    }
+
+    // 방 개수 일치
+    public static Specification<Property> roomsEq(Integer rooms) {
+        return (root, query, cb) -> cb.equal(root.get("rooms"), rooms);
+    }
+
+    // 화장실 개수 일치
+    public static Specification<Property> bathroomsEq(Integer bathrooms) {
+        return (root, query, cb) -> cb.equal(root.get("bathrooms"), bathrooms);
+    }
+
+    // 층수 일치
+    public static Specification<Property> floorEq(Integer floor) {
+        return (root, query, cb) -> cb.equal(root.get("floor"), floor);
+    }
+
+    // 준공년도 범위 (준공년도 정보가 없는 매물은 제외)
+    public static Specification<Property> yearBuiltBetween(Integer yearBuiltMin, Integer yearBuiltMax) {
+        return (root, query, cb) -> {
+            if (yearBuiltMin != null && yearBuiltMax != null) {
+                return cb.between(root.get("yearBuilt"), yearBuiltMin, yearBuiltMax);
+            }
+            if (yearBuiltMin != null) {
+                return cb.greaterThanOrEqualTo(root.get("yearBuilt"), yearBuiltMin);
+            }
+            return cb.lessThanOrEqualTo(root.get("yearBuilt"), yearBuiltMax);
+        };
+    }
+
+    // 매매가 / 추정 매매가 범위 (추정가가 없는 매물은 제외)
+    public static Specification<Property> estimateRatioBetween(Double ratioMin, Double ratioMax) {
+        return (root, query, cb) -> {
+            if (ratioMin != null && ratioMax != null) {
+                return cb.between(root.get("priceEstimateRatio"), ratioMin, ratioMax);
+            }
+            if (ratioMin != null) {
+                return cb.greaterThanOrEqualTo(root.get("priceEstimateRatio"), ratioMin);
+            }
+            return cb.lessThanOrEqualTo(root.get("priceEstimateRatio"), ratioMax);
+        };
+    }
+
+    // 추정가 대비 가격 비율이 있는 매물 (비율 순 정렬 시)
+    public static Specification<Property> hasPriceEstimateRatio() {
+        return (root, query, cb) -> cb.isNotNull(root.get("priceEstimateRatio"));
+    }
+
+    // 제목 또는 내용에 검색어 포함 (LIKE, 검색 인덱스를 쓸 수 없는 경우)
+    public static Specification<Property> keywordContains(String keyword) {
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("title"), "%" + keyword + "%"),
+                cb.like(root.get("content"), "%" + keyword + "%"));
+    }
+
+    // 매물 ID 목록에 포함 (좌표 인덱스 조회 결과)
+    public static Specification<Property> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    // 사각 영역 안 (좌표가 없는 매물은 제외)
+    public static Specification<Property> withinBounds(double swLat, double swLng, double neLat, double neLng) {
+        return (root, query, cb) -> cb.and(
+                cb.between(root.get("latitude"), swLat, neLat),
+                cb.between(root.get("longitude"), swLng, neLng));
+    }
+
+    // 중심에서 반경 안 (GeoDistance와 같은 등장방형 근사 → 좌표 인덱스 조회와 같은 결과)
+    public static Specification<Property> withinRadius(double centerLat, double centerLng, double radiusKm) {
+        double kmPerLat = GeoDistance.KM_PER_DEGREE;
+        double kmPerLng = GeoDistance.kmPerLongitude(centerLat);
+        return (root, query, cb) -> {
+            Expression<Double> dy = cb.prod(cb.diff(root.<Double>get("latitude"), centerLat), kmPerLat);
+            Expression<Double> dx = cb.prod(cb.diff(root.<Double>get("longitude"), centerLng), kmPerLng);
+            return cb.le(cb.sum(cb.prod(dy, dy), cb.prod(dx, dx)), radiusKm * radiusKm);
+        };
+    }
+
+    // 가격 조건 (거래 유형이 매매/전세/월세 중 하나일 때만 적용, 금액 컬럼은 만원 단위)
+    public static Specification<Property> priceFilter(PropertySearchDTO searchDTO) {
+        Specification<Property> spec = all();
+        String transactionType = searchDTO.getTransactionType();
+
+        if ("매매".equals(transactionType)) {
+            spec = spec.and(amountBetween("salePriceAmount",
+                    PriceParser.eokToManwon(searchDTO.getSaleMin()), PriceParser.eokToManwon(searchDTO.getSaleMax())));
+        } else if ("전세".equals(transactionType)) {
+            spec = spec.and(amountBetween("depositAmount",
+                    PriceParser.eokToManwon(searchDTO.getDepositMin()), PriceParser.eokToManwon(searchDTO.getDepositMax())));
+        } else if ("월세".equals(transactionType)) {
+            spec = spec.and(amountBetween("depositAmount",
+                    PriceParser.manwon(searchDTO.getDepositMin()), PriceParser.manwon(searchDTO.getDepositMax())));
+            spec = spec.and(amountBetween("monthlyRentAmount",
+                    PriceParser.manwon(searchDTO.getMonthlyRentMin()), PriceParser.manwon(searchDTO.getMonthlyRentMax())));
+        }
+        return spec;
+    }
+
+    // 금액 범위 (범위가 없으면 조건 없음)
+    public static Specification<Property> amountBetween(String field, Long min, Long max) {
+        return (root, query, cb) -> {
+            if (min != null && max != null) {
+                return cb.between(root.get(field), min, max);
+            }
+            if (min != null) {
+                return cb.greaterThanOrEqualTo(root.get(field), min);
+            }
+            if (max != null) {
+                return cb.lessThanOrEqualTo(root.get(field), max);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty() && !ALL.equals(value);
+    }
+}
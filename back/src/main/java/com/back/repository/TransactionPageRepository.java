@@ -0,0 +1,118 @@
+package com.back.repository;
+
+import com.back.domain.TransactionRecord;
+import com.back.dto.TransactionMapFilterDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 8개 실거래 엔티티 공통 페이지 조회 (계약일 최신순, 같은 날은 번호 역순).
+ * offset 페이징은 한 페이지 + 전체 건수, keyset 페이징은 (계약일, 번호) 커서 이후 size + 1건만 읽어
+ * 요청당 메모리가 페이지 크기를 넘지 않는다.
+ * 관리자 목록은 번호 역순 keyset(번호 커서 미만)으로 PK 범위만 읽어 페이지 깊이와 관계없이 일정한 시간에 조회한다.
+ */
+@Repository
+public class TransactionPageRepository {
+
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC, "contractDate").and(Sort.by(Sort.Direction.DESC, "no"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T extends TransactionRecord> Slice<T> findPage(Class<T> type, Specification<T> spec, TransactionMapFilterDTO filter) {
+        int size = Math.min(Math.max(filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE, 1), MAX_PAGE_SIZE);
+
+        if (Boolean.TRUE.equals(filter.getKeyset())) {
+            Specification<T> keysetSpec = filter.getCursorContractDate() != null && filter.getCursorNo() != null
+                    ? spec.and(TransactionSpecification.before(filter.getCursorContractDate(), filter.getCursorNo()))
+                    : spec;
+            List<T> rows = entityManager.createQuery(select(type, keysetSpec))
+                    .setMaxResults(size + 1)
+                    .getResultList();
+            boolean hasNext = rows.size() > size;
+            return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size, SORT), hasNext);
+        }
+
+        Pageable pageable = PageRequest.of(Math.max(filter.getPage() != null ? filter.getPage() : 0, 0), size, SORT);
+        TypedQuery<T> query = entityManager.createQuery(select(type, spec));
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(size);
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(type, spec));
+    }
+
+    // 번호 역순 keyset (cursorNo가 없으면 첫 페이지)
+    public <T extends TransactionRecord> Slice<T> findBeforeNo(Class<T> type, Long cursorNo, Integer size) {
+        int pageSize = Math.min(Math.max(size != null ? size : DEFAULT_PAGE_SIZE, 1), MAX_PAGE_SIZE);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        query.select(root);
+        if (cursorNo != null) {
+            query.where(cb.lessThan(root.get("no"), cursorNo));
+        }
+        query.orderBy(cb.desc(root.get("no")));
+
+        List<T> rows = entityManager.createQuery(query)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageSize;
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows,
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "no")), hasNext);
+    }
+
+    // 테이블 통계의 대략 행 수 (COUNT(*) 없이 바로 반환, InnoDB 추정치라 실제 건수와 차이가 있음)
+    public long approximateCount(String table) {
+        List<?> rows = entityManager.createNativeQuery("SELECT TABLE_ROWS FROM information_schema.TABLES " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?1")
+                .setParameter(1, table)
+                .getResultList();
+        return !rows.isEmpty() && rows.get(0) instanceof Number number ? number.longValue() : 0;
+    }
+
+    private <T> CriteriaQuery<T> select(Class<T> type, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+        query.select(root);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(SORT, root, cb));
+        return query;
+    }
+
+    private <T> long count(Class<T> type, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.repository;
+
+import com.back.dto.TransactionMapFilterDTO;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+// 실거래 엔티티 공통 검색 조건 (가격/면적 속성 이름은 엔티티마다 다름)
+public class TransactionSpecification {
+
+    private TransactionSpecification() {
+    }
+
+    // 지도 목록 조건 (거래구분, 가격 범위, 면적 범위, 0 이하는 조건 없음)
+    public static <T> Specification<T> mapFilter(TransactionMapFilterDTO filter, String priceAttribute, String areaAttribute) {
+        Specification<T> spec = (root, query, cb) -> cb.conjunction();
+        if (filter == null) {
+            return spec;
+        }
+
+        if (hasText(filter.getTransactionType())) {
+            spec = spec.and(equal("transactionType", filter.getTransactionType()));
+        }
+        if (isPositive(filter.getMinPrice())) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get(priceAttribute), filter.getMinPrice()));
+        }
+        if (isPositive(filter.getMaxPrice())) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get(priceAttribute), filter.getMaxPrice()));
+        }
+        if (isPositive(filter.getMinArea())) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get(areaAttribute), filter.getMinArea()));
+        }
+        if (isPositive(filter.getMaxArea())) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get(areaAttribute), filter.getMaxArea()));
+        }
+        return spec;
+    }
+
+    // 전월세구분 일치 (전월세 엔티티만, 비어 있으면 조건 없음)
+    public static <T> Specification<T> rentTypeEq(String rentType) {
+        return hasText(rentType) ? equal("rentType", rentType) : (root, query, cb) -> cb.conjunction();
+    }
+
+    // (계약일, 번호) 커서 이후 — 계약일 최신순, 번호 역순 정렬 기준
+    public static <T> Specification<T> before(LocalDate contractDate, Long no) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("contractDate"), contractDate),
+                cb.and(cb.equal(root.get("contractDate"), contractDate), cb.lessThan(root.get("no"), no)));
+    }
+
+    private static <T> Specification<T> equal(String attribute, Object value) {
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static boolean isPositive(Number value) {
+        return value != null && value.doubleValue() > 0;
+    }
+}
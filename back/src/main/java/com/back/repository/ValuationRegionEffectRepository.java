@@ -0,0 +1,13 @@
+package com.back.repository;
+
+import com.back.domain.ValuationRegionEffect;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ValuationRegionEffectRepository extends JpaRepository<ValuationRegionEffect, Long> {
+
+    List<ValuationRegionEffect> findByPropertyType(String propertyType);
+}
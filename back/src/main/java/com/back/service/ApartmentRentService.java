@@ -1,6 +1,8 @@
 package com.back.service;
 
 import com.back.dto.ApartmentRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.ApartmentRentSearchDTO;
 import com.back.domain.ApartmentRent;
 
@@ -63,4 +65,7 @@ public interface ApartmentRentService {
     
     // ID 역순으로 정렬된 데이터 조회 (최신순)
     org.springframework.data.domain.Page<ApartmentRent> findAllOrderByIdDesc(org.springframework.data.domain.Pageable pageable);
+    
+    // 지도용 아파트 전월세 목록 (DB 페이징, keyset 커서 지원)
+    TransactionPageDTO<ApartmentRentDTO> getMapPage(TransactionMapFilterDTO filter);
 }
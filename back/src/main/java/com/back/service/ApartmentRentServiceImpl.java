@@ -1,11 +1,16 @@
 package com.back.service;
 
 import com.back.dto.ApartmentRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.ApartmentRentSearchDTO;
 import com.back.domain.ApartmentRent;
 import com.back.repository.ApartmentRentRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class ApartmentRentServiceImpl implements ApartmentRentService {
     
     private final ApartmentRentRepository apartmentRentRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public ApartmentRentDTO createApartmentRent(ApartmentRentDTO apartmentRentDTO) {
@@ -136,6 +142,15 @@ public class ApartmentRentServiceImpl implements ApartmentRentService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<ApartmentRentDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 아파트 전월세 목록 조회 - 조건: {}", filter);
+        Slice<ApartmentRent> slice = transactionPageRepository.findPage(ApartmentRent.class,
+                TransactionSpecification.<ApartmentRent>mapFilter(filter, "deposit", "exclusiveArea")
+                        .and(TransactionSpecification.rentTypeEq(filter.getRentType())), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환하는 메서드
     private ApartmentRentDTO entityToDTO(ApartmentRent apartmentRent) {
         return ApartmentRentDTO.builder()
@@ -150,6 +165,8 @@ public class ApartmentRentServiceImpl implements ApartmentRentService {
                 .floor(apartmentRent.getFloor())
                 .constructionYear(apartmentRent.getConstructionYear())
                 .roadName(apartmentRent.getRoadName())
+                .latitude(apartmentRent.getLatitude())
+                .longitude(apartmentRent.getLongitude())
                 .housingType(apartmentRent.getHousingType())
                 .build();
     }
@@ -6,8 +6,9 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import com.back.dto.ApartmentSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 
 public interface ApartmentSaleService {
     
@@ -80,28 +81,6 @@ public interface ApartmentSaleService {
     // 번호 역순으로 정렬된 데이터 조회 (최신순)
     Page<ApartmentSale> findAllOrderByNoDesc(Pageable pageable);
     
-    // 지도용 데이터 조회 (간단한 정보만)
-    List<Map<String, Object>> getMapData(int limit);
-    
-    // 필터링된 지도용 데이터 조회
-    List<Map<String, Object>> getFilteredMapData(
-        String transactionType, 
-        Double minPrice, 
-        Double maxPrice, 
-        Double minArea, 
-        Double maxArea
-    );
-    
-    // 페이징 처리가 포함된 지도용 데이터 조회
-    Map<String, Object> getMapDataWithPagination(Pageable pageable, int limit);
-    
-    // 페이징 처리가 포함된 필터링된 지도용 데이터 조회
-    Map<String, Object> getFilteredMapDataWithPagination(
-        String transactionType, 
-        Double minPrice, 
-        Double maxPrice, 
-        Double minArea, 
-        Double maxArea,
-        Pageable pageable
-    );
+    // 지도용 아파트 매매 목록 (DB 페이징, keyset 커서 지원)
+    TransactionPageDTO<ApartmentSaleDTO> getMapPage(TransactionMapFilterDTO filter);
 }
@@ -2,19 +2,22 @@ package com.back.service;
 
 import com.back.domain.ApartmentSale;
 import com.back.dto.ApartmentSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
+import com.back.index.TransactionFacet;
 import com.back.repository.ApartmentSaleRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +25,11 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ApartmentSaleServiceImpl implements ApartmentSaleService {
     
+    private static final String FACET_LAYER = "apartment-sale";
+    
     private final ApartmentSaleRepository apartmentSaleRepository;
+    private final TransactionPageRepository transactionPageRepository;
+    private final TransactionFacetService transactionFacetService;
     
     @Override
     public Page<ApartmentSale> findAll(Pageable pageable) {
@@ -89,19 +96,35 @@ public class ApartmentSaleServiceImpl implements ApartmentSaleService {
         return apartmentSaleRepository.findByContractDateBetween(startDate, endDate, pageable);
     }
     
+    // 목록은 패싯 비트맵의 값 목록으로 (비트맵 생성 실패 시에만 DISTINCT 조회)
     @Override
     public List<String> getDistinctSigungu() {
-        return apartmentSaleRepository.findDistinctSigungu();
+        try {
+            return transactionFacetService.getFacetValues(FACET_LAYER, TransactionFacet.SIGUNGU);
+        } catch (Exception e) {
+            log.warn("패싯 비트맵 조회 실패 (DISTINCT 조회로 대체): {}", e.getMessage());
+            return apartmentSaleRepository.findDistinctSigungu();
+        }
     }
     
     @Override
     public List<String> getDistinctHousingType() {
-        return apartmentSaleRepository.findDistinctHousingType();
+        try {
+            return transactionFacetService.getFacetValues(FACET_LAYER, TransactionFacet.HOUSING_TYPE);
+        } catch (Exception e) {
+            log.warn("패싯 비트맵 조회 실패 (DISTINCT 조회로 대체): {}", e.getMessage());
+            return apartmentSaleRepository.findDistinctHousingType();
+        }
     }
     
     @Override
     public List<String> getDistinctTransactionType() {
-        return apartmentSaleRepository.findDistinctTransactionType();
+        try {
+            return transactionFacetService.getFacetValues(FACET_LAYER, TransactionFacet.TRANSACTION_TYPE);
+        } catch (Exception e) {
+            log.warn("패싯 비트맵 조회 실패 (DISTINCT 조회로 대체): {}", e.getMessage());
+            return apartmentSaleRepository.findDistinctTransactionType();
+        }
     }
     
     @Override
@@ -141,223 +164,6 @@ public class ApartmentSaleServiceImpl implements ApartmentSaleService {
         return apartmentSaleRepository.count();
     }
     
-    @Override
-    public List<Map<String, Object>> getMapData(int limit) {
-        try {
-            // 최근 거래 데이터를 limit만큼 가져와서 지도용으로 변환
-            List<ApartmentSale> sales = apartmentSaleRepository.findTopByOrderByContractDateDesc(limit);
-            
-            return sales.stream().map(sale -> {
-                Map<String, Object> mapData = new HashMap<>();
-                mapData.put("id", sale.getNo());
-                mapData.put("name", sale.getComplexName() + " " + sale.getDong());
-                mapData.put("address", sale.getSigungu() + " " + sale.getRoadName());
-                mapData.put("price", sale.getTransactionAmount());
-                mapData.put("area", sale.getExclusiveArea());
-                mapData.put("transactionType", sale.getTransactionType());
-                mapData.put("floor", sale.getFloor());
-                mapData.put("buildYear", sale.getConstructionYear());
-                
-                // 주소를 좌표로 변환 (실제로는 카카오 주소-좌표 변환 API 사용 필요)
-                // 임시로 서울 지역 좌표 사용
-                mapData.put("longitude", getLongitudeFromAddress(sale.getSigungu()));
-                mapData.put("latitude", getLatitudeFromAddress(sale.getSigungu()));
-                
-                return mapData;
-            }).collect(Collectors.toList());
-            
-        } catch (Exception e) {
-            log.error("지도용 데이터 조회 실패", e);
-            return List.of();
-        }
-    }
-    
-    @Override
-    public List<Map<String, Object>> getFilteredMapData(
-            String transactionType, 
-            Double minPrice, 
-            Double maxPrice, 
-            Double minArea, 
-            Double maxArea) {
-        try {
-            // 필터링 조건에 맞는 데이터 조회
-            List<ApartmentSale> sales = apartmentSaleRepository.findByFilters(
-                transactionType, minPrice, maxPrice, minArea, maxArea);
-            
-            return sales.stream().map(sale -> {
-                Map<String, Object> mapData = new HashMap<>();
-                mapData.put("id", sale.getNo());
-                mapData.put("name", sale.getComplexName() + " " + sale.getDong());
-                mapData.put("address", sale.getSigungu() + " " + sale.getRoadName());
-                mapData.put("price", sale.getTransactionAmount());
-                mapData.put("area", sale.getExclusiveArea());
-                mapData.put("transactionType", sale.getTransactionType());
-                mapData.put("floor", sale.getFloor());
-                mapData.put("buildYear", sale.getConstructionYear());
-                
-                // 주소를 좌표로 변환
-                mapData.put("longitude", getLongitudeFromAddress(sale.getSigungu()));
-                mapData.put("latitude", getLatitudeFromAddress(sale.getSigungu()));
-                
-                return mapData;
-            }).collect(Collectors.toList());
-            
-        } catch (Exception e) {
-            log.error("필터링된 지도용 데이터 조회 실패", e);
-            return List.of();
-        }
-    }
-    
-    // 주소를 좌표로 변환하는 임시 메서드 (실제로는 카카오 API 사용 필요)
-    private Double getLongitudeFromAddress(String sigungu) {
-        // 서울 지역 시군구별 경도 (임시 데이터)
-        Map<String, Double> sigunguLongitude = new HashMap<>();
-        sigunguLongitude.put("강남구", 127.028);
-        sigunguLongitude.put("서초구", 127.015);
-        sigunguLongitude.put("마포구", 126.914);
-        sigunguLongitude.put("송파구", 127.123);
-        sigunguLongitude.put("영등포구", 126.933);
-        sigunguLongitude.put("종로구", 126.978);
-        sigunguLongitude.put("중구", 126.997);
-        sigunguLongitude.put("용산구", 126.970);
-        sigunguLongitude.put("성동구", 127.036);
-        sigunguLongitude.put("광진구", 127.082);
-        sigunguLongitude.put("동대문구", 127.039);
-        sigunguLongitude.put("중랑구", 127.094);
-        sigunguLongitude.put("성북구", 127.016);
-        sigunguLongitude.put("강북구", 127.027);
-        sigunguLongitude.put("도봉구", 127.047);
-        sigunguLongitude.put("노원구", 127.056);
-        sigunguLongitude.put("은평구", 126.930);
-        sigunguLongitude.put("서대문구", 126.936);
-        sigunguLongitude.put("강서구", 126.850);
-        sigunguLongitude.put("양천구", 126.866);
-        sigunguLongitude.put("구로구", 126.886);
-        sigunguLongitude.put("금천구", 126.902);
-        sigunguLongitude.put("동작구", 126.939);
-        sigunguLongitude.put("관악구", 126.951);
-        
-        return sigunguLongitude.getOrDefault(sigungu, 127.0);
-    }
-    
-    private Double getLatitudeFromAddress(String sigungu) {
-        // 서울 지역 시군구별 위도 (임시 데이터)
-        Map<String, Double> sigunguLatitude = new HashMap<>();
-        sigunguLatitude.put("강남구", 37.497);
-        sigunguLatitude.put("서초구", 37.483);
-        sigunguLatitude.put("마포구", 37.549);
-        sigunguLatitude.put("송파구", 37.478);
-        sigunguLatitude.put("영등포구", 37.521);
-        sigunguLatitude.put("종로구", 37.566);
-        sigunguLatitude.put("중구", 37.564);
-        sigunguLatitude.put("용산구", 37.538);
-        sigunguLatitude.put("성동구", 37.551);
-        sigunguLatitude.put("광진구", 37.538);
-        sigunguLatitude.put("동대문구", 37.574);
-        sigunguLatitude.put("중랑구", 37.606);
-        sigunguLatitude.put("성북구", 37.589);
-        sigunguLatitude.put("강북구", 37.640);
-        sigunguLatitude.put("도봉구", 37.668);
-        sigunguLatitude.put("노원구", 37.654);
-        sigunguLatitude.put("은평구", 37.602);
-        sigunguLatitude.put("서대문구", 37.579);
-        sigunguLatitude.put("강서구", 37.551);
-        sigunguLatitude.put("양천구", 37.527);
-        sigunguLatitude.put("구로구", 37.501);
-        sigunguLatitude.put("금천구", 37.456);
-        sigunguLatitude.put("동작구", 37.512);
-        sigunguLatitude.put("관악구", 37.478);
-        
-        return sigunguLatitude.getOrDefault(sigungu, 37.5);
-    }
-    
-    @Override
-    public Map<String, Object> getMapDataWithPagination(Pageable pageable, int limit) {
-        try {
-            // 페이징된 데이터 조회
-            Page<ApartmentSale> salesPage = apartmentSaleRepository.findAll(pageable);
-            
-            // 페이징 정보 포함하여 반환
-            Map<String, Object> result = new HashMap<>();
-            result.put("content", salesPage.getContent().stream().map(sale -> {
-                Map<String, Object> mapData = new HashMap<>();
-                mapData.put("id", sale.getNo());
-                mapData.put("name", sale.getComplexName() + " " + sale.getDong());
-                mapData.put("address", sale.getSigungu() + " " + sale.getRoadName());
-                mapData.put("price", sale.getTransactionAmount());
-                mapData.put("area", sale.getExclusiveArea());
-                mapData.put("transactionType", sale.getTransactionType());
-                mapData.put("floor", sale.getFloor());
-                mapData.put("buildYear", sale.getConstructionYear());
-                mapData.put("longitude", getLongitudeFromAddress(sale.getSigungu()));
-                mapData.put("latitude", getLatitudeFromAddress(sale.getSigungu()));
-                return mapData;
-            }).collect(Collectors.toList()));
-            
-            result.put("totalPages", salesPage.getTotalPages());
-            result.put("totalElements", salesPage.getTotalElements());
-            result.put("currentPage", salesPage.getNumber());
-            result.put("size", salesPage.getSize());
-            
-            return result;
-            
-        } catch (Exception e) {
-            log.error("페이징된 지도용 데이터 조회 실패", e);
-            return new HashMap<>();
-        }
-    }
-    
-    @Override
-    public Map<String, Object> getFilteredMapDataWithPagination(
-            String transactionType, 
-            Double minPrice, 
-            Double maxPrice, 
-            Double minArea, 
-            Double maxArea,
-            Pageable pageable) {
-        try {
-            // 필터링된 데이터 조회
-            List<ApartmentSale> sales = apartmentSaleRepository.findByFilters(
-                transactionType, minPrice, maxPrice, minArea, maxArea);
-            
-            // 페이징 처리
-            int totalElements = sales.size();
-            int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
-            int startIndex = (int) pageable.getOffset();
-            int endIndex = Math.min(startIndex + pageable.getPageSize(), totalElements);
-            
-            List<ApartmentSale> pagedSales = sales.subList(startIndex, endIndex);
-            
-            // 페이징 정보 포함하여 반환
-            Map<String, Object> result = new HashMap<>();
-            result.put("content", pagedSales.stream().map(sale -> {
-                Map<String, Object> mapData = new HashMap<>();
-                mapData.put("id", sale.getNo());
-                mapData.put("name", sale.getComplexName() + " " + sale.getDong());
-                mapData.put("address", sale.getSigungu() + " " + sale.getRoadName());
-                mapData.put("price", sale.getTransactionAmount());
-                mapData.put("area", sale.getExclusiveArea());
-                mapData.put("transactionType", sale.getTransactionType());
-                mapData.put("floor", sale.getFloor());
-                mapData.put("buildYear", sale.getConstructionYear());
-                mapData.put("longitude", getLongitudeFromAddress(sale.getSigungu()));
-                mapData.put("latitude", getLatitudeFromAddress(sale.getSigungu()));
-                return mapData;
-            }).collect(Collectors.toList()));
-            
-            result.put("totalPages", totalPages);
-            result.put("totalElements", totalElements);
-            result.put("currentPage", pageable.getPageNumber());
-            result.put("size", pageable.getPageSize());
-            
-            return result;
-            
-        } catch (Exception e) {
-            log.error("페이징된 필터링 지도용 데이터 조회 실패", e);
-            return new HashMap<>();
-        }
-    }
-    
     @Override
     @Transactional
     public ApartmentSaleDTO createApartmentSale(ApartmentSaleDTO apartmentSaleDTO) {
@@ -392,6 +198,14 @@ public class ApartmentSaleServiceImpl implements ApartmentSaleService {
                 .build();
     }
     
+    @Override
+    public TransactionPageDTO<ApartmentSaleDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 아파트 매매 목록 조회 - 조건: {}", filter);
+        Slice<ApartmentSale> slice = transactionPageRepository.findPage(ApartmentSale.class,
+                TransactionSpecification.<ApartmentSale>mapFilter(filter, "transactionAmount", "exclusiveArea"), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환하는 메서드
     private ApartmentSaleDTO entityToDTO(ApartmentSale apartmentSale) {
         return ApartmentSaleDTO.builder()
@@ -405,6 +219,8 @@ public class ApartmentSaleServiceImpl implements ApartmentSaleService {
                 .floor(apartmentSale.getFloor())
                 .constructionYear(apartmentSale.getConstructionYear())
                 .roadName(apartmentSale.getRoadName())
+                .latitude(apartmentSale.getLatitude())
+                .longitude(apartmentSale.getLongitude())
                 .housingType(apartmentSale.getHousingType())
                 .transactionType(apartmentSale.getTransactionType())
                 .build();
@@ -0,0 +1,12 @@
+package com.back.service;
+
+import com.back.dto.ComparableDTO;
+import com.back.dto.PropertyDTO;
+
+import java.util.List;
+
+public interface ComparableSalesService {
+
+    // 매물과 가장 비슷한 최근 실거래 k건 (매매 매물은 매매, 전세/월세 매물은 같은 전월세 구분, 유사도 순)
+    List<ComparableDTO> findComparables(PropertyDTO property, int k);
+}
@@ -0,0 +1,290 @@
+package com.back.service;
+
+import com.back.config.StartupOrder;
+import com.back.dictionary.NameDictionary;
+import com.back.domain.GeoLocated;
+import com.back.domain.TransactionRecord;
+import com.back.dto.ComparableDTO;
+import com.back.dto.PropertyDTO;
+import com.back.index.ComparableIndex;
+import com.back.index.TransactionChangedEvent;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.TransactionFileType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ComparableSalesServiceImpl implements ComparableSalesService {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int MAX_K = 50;
+
+    private static final String SALE = TransactionFileType.SALE;
+
+    // 매물 유형 → 실거래 주택유형 (상가/사무실 등은 비교 거래 없음)
+    private static final Map<String, String> PROPERTY_TYPES = Map.of(
+            "아파트", "아파트",
+            "오피스텔", "오피스텔",
+            "빌라/연립", "연립/다세대",
+            "단독주택", "단독주택");
+
+    // 실거래 테이블 (TransactionFileType 순서가 색인 키의 테이블 번호)
+    private static final TransactionFileType[] SOURCES = TransactionFileType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NameDictionary nameDictionary;
+
+    // 매매/전월세 색인 (매물 거래유형에 따라 하나만 검색)
+    private final ComparableIndex saleIndex = new ComparableIndex();
+    private final ComparableIndex rentIndex = new ComparableIndex();
+
+    // 이 기간 안의 계약만 비교 거래로 사용 (개월)
+    @Value("${com.back.comps.max-age-months:36}")
+    private int maxAgeMonths;
+
+    // 색인 생성/재색인/만료 정리/거래 변경을 순서대로 처리하는 전용 스레드 (시작 스레드와 커밋 스레드를 막지 않음)
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor();
+
+    private volatile boolean ready;
+
+    // 애플리케이션 시작 시 최근 실거래 색인 (색인이 끝나기 전 조회는 빈 결과)
+    @Order(StartupOrder.ROLLUP)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        submit("색인 생성", this::build);
+    }
+
+    // 보관 기간이 지난 거래를 색인에서 제거 (색인은 변경 이벤트로만 늘어나므로 매일 정리)
+    @Scheduled(cron = "${com.back.comps.evict.cron:0 15 4 * * *}")
+    public void evictExpired() {
+        submit("만료 거래 정리", () -> {
+            long cutoffDay = cutoff().toEpochDay();
+            int before = saleIndex.size() + rentIndex.size();
+            saleIndex.removeIf(deal -> deal.getContractEpochDay() < cutoffDay);
+            rentIndex.removeIf(deal -> deal.getContractEpochDay() < cutoffDay);
+            log.info("비교 거래 색인 만료 정리 - {}건 제거, 기준 계약일: {}",
+                    before - saleIndex.size() - rentIndex.size(), cutoff());
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    private void build() {
+        log.info("비교 거래 색인 생성 시작");
+        long start = System.currentTimeMillis();
+        try {
+            for (TransactionFileType source : SOURCES) {
+                load(source);
+            }
+            ready = true;
+            log.info("비교 거래 색인 생성 완료 - 매매: {}건, 전월세: {}건, {}ms",
+                    saleIndex.size(), rentIndex.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("비교 거래 색인 생성 실패 (비교 거래 없이 응답): {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<ComparableDTO> findComparables(PropertyDTO property, int k) {
+        if (!ready || property == null || property.getLatitude() == null || property.getLongitude() == null) {
+            return new ArrayList<>();
+        }
+        String propertyType = property.getPropertyType() == null ? null : PROPERTY_TYPES.get(property.getPropertyType());
+        if (property.getPropertyType() != null && propertyType == null) {
+            return new ArrayList<>();
+        }
+
+        long start = System.nanoTime();
+        String transactionType = property.getTransactionType();
+        boolean sale = transactionType == null || SALE.equals(transactionType);
+        Predicate<ComparableIndex.Deal> filter = deal -> {
+            TransactionFileType source = SOURCES[deal.getSource()];
+            return (propertyType == null || propertyType.equals(source.getPropertyType()))
+                    && (sale || transactionType.equals(deal.getRentType()));
+        };
+        ComparableIndex.Target target = new ComparableIndex.Target(property.getLatitude(), property.getLongitude(),
+                property.getArea() == null ? 0 : property.getArea(),
+                property.getFloor() == null ? Integer.MIN_VALUE : property.getFloor(),
+                property.getYearBuilt() == null ? 0 : property.getYearBuilt(),
+                LocalDate.now().toEpochDay());
+
+        List<ComparableIndex.Neighbor> neighbors = (sale ? saleIndex : rentIndex)
+                .nearest(target, Math.max(1, Math.min(k, MAX_K)), filter);
+
+        List<ComparableDTO> result = new ArrayList<>(neighbors.size());
+        for (ComparableIndex.Neighbor neighbor : neighbors) {
+            result.add(toDTO(neighbor));
+        }
+        log.debug("비교 거래 조회 - 매물 ID: {}, {}건, {}µs", property.getId(), result.size(),
+                (System.nanoTime() - start) / 1000);
+        return result;
+    }
+
+    // 실거래 데이터 변경 시 해당 거래만 갱신 (커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        TransactionFileType source = TransactionFileType.forEntity(transaction.getClass());
+        Long no = source != null ? ((TransactionRecord) transaction).getNo() : null;
+        if (no == null) {
+            return;
+        }
+        ComparableIndex index = source.isRent() ? rentIndex : saleIndex;
+        ComparableIndex.Deal deal = event.isDeleted() ? null : deal(source, transaction);
+        // 색인 생성/재색인이 읽은 이전 값이 이 변경을 덮어쓰지 않도록 같은 스레드에서 순서대로 반영
+        submit("거래 갱신", () -> {
+            if (deal == null || deal.getContractEpochDay() < cutoff().toEpochDay()) {
+                index.remove(key(source, no));
+            } else {
+                index.put(deal);
+            }
+        });
+    }
+
+    // 실거래 대량 적재 후 해당 테이블만 다시 색인
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsBulkLoaded(TransactionsBulkLoadedEvent event) {
+        TransactionFileType source = TransactionFileType.forEntity(event.getEntityType());
+        if (source == null) {
+            return;
+        }
+        submit("재색인", () -> {
+            (source.isRent() ? rentIndex : saleIndex).removeIf(deal -> deal.getSource() == source.ordinal());
+            try {
+                load(source);
+            } catch (Exception e) {
+                log.error("비교 거래 재색인 실패 - {}: {}", source.getTable(), e.getMessage());
+            }
+        });
+    }
+
+    private void submit(String task, Runnable work) {
+        try {
+            indexExecutor.execute(work);
+        } catch (RejectedExecutionException e) {
+            log.debug("비교 거래 {} 건너뜀 - 종료 중", task);
+        }
+    }
+
+    // 테이블 하나의 최근 거래 색인 (좌표가 있는 행만)
+    private void load(TransactionFileType source) {
+        ComparableIndex index = source.isRent() ? rentIndex : saleIndex;
+        String sql = "SELECT no, latitude, longitude, contract_date, construction_year, " +
+                source.getAreaColumn() + " AS area, " +
+                (source.getFloorColumn() != null ? source.getFloorColumn() : "NULL") + " AS floor, " +
+                source.getLabelColumn() + " AS name, " +
+                (source.isRent() ? "deposit AS amount, monthly_rent, rent_type"
+                                 : "transaction_amount AS amount, NULL AS monthly_rent, NULL AS rent_type") +
+                " FROM " + source.getTable() + " WHERE contract_date >= ? AND latitude IS NOT NULL";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setDate(1, Date.valueOf(cutoff()));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            Long amount = rs.getObject("amount", Long.class);
+            LocalDate contractDate = rs.getObject("contract_date", LocalDate.class);
+            if (amount == null || contractDate == null) {
+                return;
+            }
+            Long monthlyRent = rs.getObject("monthly_rent", Long.class);
+            index.put(new ComparableIndex.Deal(key(source, rs.getLong("no")), source.ordinal(),
+                    rs.getDouble("latitude"), rs.getDouble("longitude"),
+                    orZero(rs.getObject("area", Double.class)),
+                    orMin(rs.getObject("floor", Integer.class)),
+                    orZero(rs.getObject("construction_year", Integer.class)),
+                    contractDate.toEpochDay(), amount, monthlyRent == null ? 0 : monthlyRent,
+                    nameDictionary.intern(rs.getString("name")),
+                    source.isRent() ? TransactionFileType.rentType(rs.getString("rent_type"), monthlyRent) : null));
+        });
+    }
+
+    private LocalDate cutoff() {
+        return LocalDate.now().minusMonths(maxAgeMonths);
+    }
+
+    private ComparableDTO toDTO(ComparableIndex.Neighbor neighbor) {
+        ComparableIndex.Deal deal = neighbor.getDeal();
+        TransactionFileType source = SOURCES[deal.getSource()];
+        boolean rent = source.isRent();
+        return ComparableDTO.builder()
+                .propertyType(source.getPropertyType())
+                .dealType(rent ? deal.getRentType() : SALE)
+                .name(deal.getName())
+                .exclusiveArea(deal.getArea() > 0 ? deal.getArea() : null)
+                .floor(deal.getFloor() == Integer.MIN_VALUE ? null : deal.getFloor())
+                .constructionYear(deal.getConstructionYear() > 0 ? deal.getConstructionYear() : null)
+                .contractDate(deal.getContractDate())
+                .transactionAmount(rent ? null : deal.getAmount())
+                .deposit(rent ? deal.getAmount() : null)
+                .monthlyRent(rent && deal.getMonthlyRent() > 0 ? deal.getMonthlyRent() : null)
+                .distanceMeters(neighbor.getMeters())
+                .similarity(Math.round(1000 / (1 + neighbor.getDistance())) / 1000.0)
+                .build();
+    }
+
+    // 엔티티 → 색인 거래 (좌표/금액/계약일이 없으면 null)
+    private static ComparableIndex.Deal deal(TransactionFileType source, Object entity) {
+        TransactionRecord record = (TransactionRecord) entity;
+        GeoLocated location = (GeoLocated) entity;
+        Long amount = (Long) source.value(entity, source.getAmountColumn());
+        if (record.getNo() == null || location.getLatitude() == null || location.getLongitude() == null
+                || record.getContractDate() == null || amount == null) {
+            return null;
+        }
+        Long monthlyRent = (Long) source.value(entity, "monthly_rent");
+        return new ComparableIndex.Deal(key(source, record.getNo()), source.ordinal(),
+                location.getLatitude(), location.getLongitude(),
+                orZero((Double) source.value(entity, source.getAreaColumn())),
+                orMin((Integer) source.value(entity, source.getFloorColumn())),
+                orZero((Integer) source.value(entity, "construction_year")),
+                record.getContractDate().toEpochDay(), amount, monthlyRent == null ? 0 : monthlyRent,
+                (String) source.value(entity, source.getLabelColumn()),
+                source.isRent() ? TransactionFileType.rentType((String) source.value(entity, "rent_type"), monthlyRent) : null);
+    }
+
+    // 테이블 번호(상위 8비트) + no
+    private static long key(TransactionFileType source, long no) {
+        return ((long) source.ordinal() << 56) | no;
+    }
+
+    private static double orZero(Double value) {
+        return value == null ? 0 : value;
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static int orMin(Integer value) {
+        return value == null ? Integer.MIN_VALUE : value;
+    }
+}
@@ -2,10 +2,15 @@ package com.back.service;
 
 import com.back.domain.DetachedHouseRent;
 import com.back.dto.DetachedHouseRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.DetachedHouseRentSearchDTO;
 import com.back.repository.DetachedHouseRentRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class DetachedHouseRentServiceImpl implements DetachedHouseRentService {
     
     private final DetachedHouseRentRepository detachedHouseRentRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public DetachedHouseRentDTO createDetachedHouseRent(DetachedHouseRentDTO detachedHouseRentDTO) {
@@ -147,6 +153,15 @@ public class DetachedHouseRentServiceImpl implements DetachedHouseRentService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<DetachedHouseRentDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 단독/다가구 전월세 목록 조회 - 조건: {}", filter);
+        Slice<DetachedHouseRent> slice = transactionPageRepository.findPage(DetachedHouseRent.class,
+                TransactionSpecification.<DetachedHouseRent>mapFilter(filter, "deposit", "contractArea")
+                        .and(TransactionSpecification.rentTypeEq(filter.getRentType())), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환
     private DetachedHouseRentDTO entityToDTO(DetachedHouseRent detachedHouseRent) {
         return DetachedHouseRentDTO.builder()
@@ -160,6 +175,8 @@ public class DetachedHouseRentServiceImpl implements DetachedHouseRentService {
                 .monthlyRent(detachedHouseRent.getMonthlyRent())
                 .constructionYear(detachedHouseRent.getConstructionYear())
                 .roadName(detachedHouseRent.getRoadName())
+                .latitude(detachedHouseRent.getLatitude())
+                .longitude(detachedHouseRent.getLongitude())
                 .housingType(detachedHouseRent.getHousingType())
                 .transactionType(detachedHouseRent.getTransactionType())
                 .build();
@@ -1,6 +1,8 @@
 package com.back.service;
 
 import com.back.dto.DetachedHouseSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.DetachedHouseSaleSearchDTO;
 
 import java.util.List;
@@ -59,4 +61,7 @@ public interface DetachedHouseSaleService {
     
     // 번호 역순으로 정렬된 데이터 조회 (최신순)
     org.springframework.data.domain.Page<com.back.domain.DetachedHouseSale> findAllOrderByNoDesc(org.springframework.data.domain.Pageable pageable);
-} 
\ No newline at end of file
+    
+    // 지도용 단독/다가구 매매 목록 (DB 페이징, keyset 커서 지원)
+    TransactionPageDTO<DetachedHouseSaleDTO> getMapPage(TransactionMapFilterDTO filter);
+}
@@ -2,10 +2,15 @@ package com.back.service;
 
 import com.back.domain.DetachedHouseSale;
 import com.back.dto.DetachedHouseSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.DetachedHouseSaleSearchDTO;
 import com.back.repository.DetachedHouseSaleRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class DetachedHouseSaleServiceImpl implements DetachedHouseSaleService {
     
     private final DetachedHouseSaleRepository detachedHouseSaleRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public DetachedHouseSaleDTO createDetachedHouseSale(DetachedHouseSaleDTO detachedHouseSaleDTO) {
@@ -137,6 +143,14 @@ public class DetachedHouseSaleServiceImpl implements DetachedHouseSaleService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<DetachedHouseSaleDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 단독/다가구 매매 목록 조회 - 조건: {}", filter);
+        Slice<DetachedHouseSale> slice = transactionPageRepository.findPage(DetachedHouseSale.class,
+                TransactionSpecification.<DetachedHouseSale>mapFilter(filter, "transactionAmount", "totalArea"), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환
     private DetachedHouseSaleDTO entityToDTO(DetachedHouseSale detachedHouseSale) {
         return DetachedHouseSaleDTO.builder()
@@ -150,6 +164,8 @@ public class DetachedHouseSaleServiceImpl implements DetachedHouseSaleService {
                 .transactionAmount(detachedHouseSale.getTransactionAmount())
                 .constructionYear(detachedHouseSale.getConstructionYear())
                 .roadName(detachedHouseSale.getRoadName())
+                .latitude(detachedHouseSale.getLatitude())
+                .longitude(detachedHouseSale.getLongitude())
                 .transactionType(detachedHouseSale.getTransactionType())
                 .build();
     }
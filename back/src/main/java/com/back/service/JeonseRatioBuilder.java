@@ -0,0 +1,260 @@
+package com.back.service;
+
+import com.back.domain.GeoLocated;
+import com.back.domain.TransactionRecord;
+import com.back.index.TransactionChangedEvent;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.TransactionFileType;
+import com.back.repository.JeonseRatioRepository;
+import com.back.util.AddressNormalizer;
+import com.back.util.QuantileSketch;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * jeonse_ratio 테이블 생성/갱신 (단지별 전세가율).
+ * 주택유형마다 매매 테이블과 전월세 테이블(전세만)을 한 번씩 읽어 (시군구, 단지, 면적 구간, 계약분기)별 중위 금액을 구하고,
+ * 양쪽 거래가 모두 있는 키만 전세 중위 / 매매 중위 비율로 저장한다.
+ * 관리자 등록/수정/삭제 시에는 해당 단지의 해당 분기만 두 테이블에서 다시 읽어 계산한다 (RollupRefresher 대기열).
+ * 단독주택은 단지명이 없어 제외한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class JeonseRatioBuilder {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO jeonse_ratio (region, property_type, complex_name, area_band, contract_quarter, " +
+            "sale_count, sale_median, jeonse_count, jeonse_median, jeonse_ratio, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 주택유형별 매매/전월세 테이블 (단지/건물명 컬럼이 있는 주택유형만)
+    private static final List<Pair> PAIRS = Arrays.stream(TransactionFileType.values())
+            .filter(type -> !type.isRent() && type.getNameColumn() != null)
+            .map(type -> new Pair(type.getPropertyType(), type, type.counterpart()))
+            .toList();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final JeonseRatioRepository jeonseRatioRepository;
+
+    // 전체/주택유형 재생성과 단지 단위 갱신 대기열
+    private final RollupRefresher<Pair, Slice> refresher =
+            new RollupRefresher<>("단지별 전세가율", this::rebuildPair, this::refreshSlice, slice -> slice.pair);
+
+    // 전세가율 테이블이 비어 있을 때만 전체 생성 (애플리케이션 시작 시)
+    public void buildIfEmpty() {
+        if (jeonseRatioRepository.count() > 0) {
+            log.info("단지별 전세가율 사용 - 기존 집계 재사용");
+            return;
+        }
+        rebuildAll();
+    }
+
+    // 주택유형별로 전세가율 재생성 (유형마다 별도 트랜잭션)
+    public void rebuildAll() {
+        log.info("단지별 전세가율 생성 시작");
+
+        refresher.runExclusive(() -> {
+            for (Pair pair : PAIRS) {
+                rebuildPair(pair);
+            }
+            log.info("단지별 전세가율 생성 완료");
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    /**
+     * 실거래 데이터 저장/수정/삭제 시 해당 단지의 해당 분기 전세가율만 다시 계산 (커밋 이후).
+     * 수정으로 단지명이나 계약일이 바뀐 경우 이전 분기 값은 다음 전체 재생성 때 정리된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        for (Pair pair : PAIRS) {
+            TransactionFileType side = pair.sale.getEntityType().isInstance(transaction) ? pair.sale
+                    : pair.rent.getEntityType().isInstance(transaction) ? pair.rent : null;
+            if (side == null) {
+                continue;
+            }
+            String region = AddressNormalizer.district(((GeoLocated) transaction).getSigungu());
+            String complexName = trimToNull((String) side.value(transaction, side.getNameColumn()));
+            LocalDate contractDate = ((TransactionRecord) transaction).getContractDate();
+            if (region != null && complexName != null && contractDate != null) {
+                refresher.requestRefresh(new Slice(pair, region, complexName, quarterStart(contractDate)));
+            }
+            return;
+        }
+    }
+
+    // 실거래 대량 적재 후 해당 주택유형 전세가율 전체 재생성
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsBulkLoaded(TransactionsBulkLoadedEvent event) {
+        for (Pair pair : PAIRS) {
+            if (pair.sale.getEntityType().equals(event.getEntityType()) || pair.rent.getEntityType().equals(event.getEntityType())) {
+                refresher.requestRebuild(pair);
+                return;
+            }
+        }
+    }
+
+    // 계약일 → 분기 (yyyyQ, 예: 2024년 2분기 → 20242)
+    public static int toQuarter(LocalDate date) {
+        return date.getYear() * 10 + (date.getMonthValue() - 1) / 3 + 1;
+    }
+
+    // 주택유형 하나의 전세가율 재생성 (refresher 잠금 안에서 호출)
+    private void rebuildPair(Pair pair) {
+        Sketches sketches = new Sketches();
+        for (TransactionFileType side : List.of(pair.sale, pair.rent)) {
+            String sql = selectSql(side);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (RowCallbackHandler) rs -> accumulate(side, rs, null, sketches));
+        }
+
+        List<Object[]> rows = toRows(pair, sketches);
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM jeonse_ratio WHERE property_type = ?", pair.propertyType);
+            RollupRefresher.insert(jdbcTemplate, INSERT_SQL, rows);
+        });
+        log.info("단지별 전세가율 생성 - {}: {}행 (매매 {}키, 전세 {}키)",
+                pair.propertyType, rows.size(), sketches.sales.size(), sketches.jeonses.size());
+    }
+
+    // 단지 하나의 분기 하나만 다시 계산 (계약일 인덱스로 한 분기만 읽음)
+    private void refreshSlice(Slice slice) {
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            Sketches sketches = new Sketches();
+            for (TransactionFileType side : List.of(slice.pair.sale, slice.pair.rent)) {
+                jdbcTemplate.query(selectSql(side) + " WHERE contract_date >= ? AND contract_date < ? AND " +
+                                side.getNameColumn() + " = ? AND (sigungu = ? OR sigungu LIKE ?)",
+                        (RowCallbackHandler) rs -> accumulate(side, rs, slice.region, sketches),
+                        slice.quarter, slice.quarter.plusMonths(3), slice.complexName, slice.region, slice.region + " %");
+            }
+
+            jdbcTemplate.update("DELETE FROM jeonse_ratio WHERE region = ? AND property_type = ? AND complex_name = ? " +
+                            "AND contract_quarter = ?",
+                    slice.region, slice.pair.propertyType, slice.complexName, toQuarter(slice.quarter));
+            RollupRefresher.insert(jdbcTemplate, INSERT_SQL, toRows(slice.pair, sketches));
+        });
+        log.debug("단지별 전세가율 갱신 - {}, 단지: {}, 분기: {}", slice.pair.propertyType, slice.complexName, slice.quarter);
+    }
+
+    // 한 행을 매매/전세 스케치에 더함 (월세 거래, 단지명/면적이 없는 거래는 제외, region이 주어지면 해당 시군구만)
+    private void accumulate(TransactionFileType side, ResultSet rs, String region, Sketches sketches) throws SQLException {
+        String district = AddressNormalizer.district(rs.getString("sigungu"));
+        String complexName = trimToNull(rs.getString("complex_name"));
+        LocalDate contractDate = rs.getObject("contract_date", LocalDate.class);
+        Long amount = rs.getObject("amount", Long.class);
+        Integer band = MarketPriceSummaryBuilder.areaBand(rs.getObject("area", Double.class));
+        if (district == null || complexName == null || contractDate == null || amount == null || amount <= 0
+                || band == null || (region != null && !region.equals(district))) {
+            return;
+        }
+        if (side.isRent() && !TransactionFileType.JEONSE.equals(
+                TransactionFileType.rentType(rs.getString("rent_type"), rs.getObject("monthly_rent", Long.class)))) {
+            return;
+        }
+        RatioKey key = new RatioKey(district, complexName, band, toQuarter(contractDate));
+        (side.isRent() ? sketches.jeonses : sketches.sales).computeIfAbsent(key, k -> new QuantileSketch()).add(amount);
+    }
+
+    // 매매와 전세가 모두 있는 키만 행으로 만듦
+    private List<Object[]> toRows(Pair pair, Sketches sketches) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        sketches.sales.forEach((key, sale) -> {
+            QuantileSketch jeonse = sketches.jeonses.get(key);
+            if (jeonse == null) {
+                return;
+            }
+            long saleMedian = Math.round(sale.median());
+            long jeonseMedian = Math.round(jeonse.median());
+            double ratio = Math.round(jeonseMedian * 1000.0 / saleMedian) / 1000.0;
+            rows.add(new Object[]{key.region, pair.propertyType, key.complexName, key.areaBand, key.quarter,
+                    sale.getCount(), saleMedian, jeonse.getCount(), jeonseMedian, ratio, now});
+        });
+        return rows;
+    }
+
+    private static LocalDate quarterStart(LocalDate date) {
+        return LocalDate.of(date.getYear(), (date.getMonthValue() - 1) / 3 * 3 + 1, 1);
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String selectSql(TransactionFileType side) {
+        return "SELECT sigungu, contract_date, " + side.getAreaColumn() + " AS area, " + side.getNameColumn() + " AS complex_name, " +
+                (side.isRent() ? "deposit AS amount, monthly_rent, rent_type"
+                           : "transaction_amount AS amount, NULL AS monthly_rent, NULL AS rent_type") +
+                " FROM " + side.getTable();
+    }
+
+    // 주택유형 하나의 매매/전월세 테이블
+    @AllArgsConstructor
+    @ToString(of = "propertyType")
+    private static class Pair {
+        private final String propertyType;
+        private final TransactionFileType sale;
+        private final TransactionFileType rent;
+    }
+
+    // 다시 계산할 범위 (주택유형, 시군구, 단지, 분기 첫날)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    private static class Slice {
+        private final Pair pair;
+        private final String region;
+        private final String complexName;
+        private final LocalDate quarter;
+    }
+
+    // 전세가율 행 키 (주택유형은 Pair로 고정)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class RatioKey {
+        private final String region;
+        private final String complexName;
+        private final int areaBand;
+        private final int quarter;
+    }
+
+    // 키별 매매/전세 금액 스케치
+    private static class Sketches {
+        private final Map<RatioKey, QuantileSketch> sales = new HashMap<>();
+        private final Map<RatioKey, QuantileSketch> jeonses = new HashMap<>();
+    }
+}
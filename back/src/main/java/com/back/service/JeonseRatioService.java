@@ -0,0 +1,16 @@
+package com.back.service;
+
+import com.back.dto.JeonseRatioDTO;
+import com.back.dto.JeonseRatioScreenDTO;
+
+import java.util.List;
+
+public interface JeonseRatioService {
+
+    // 분기 하나의 전세가율 높은 순 단지 목록 (jeonse_ratio 테이블만 조회, quarter가 없으면 가장 최근 분기)
+    JeonseRatioScreenDTO getScreen(String propertyType, String quarter, String sigungu, Double minRatio,
+                                   Long minCount, int page, int size);
+
+    // 단지의 면적 구간별 분기 전세가율 추이 (area가 있으면 해당 면적 구간만)
+    List<JeonseRatioDTO> getComplexTrend(String complexName, String sigungu, String propertyType, Double area);
+}
@@ -0,0 +1,108 @@
+package com.back.service;
+
+import com.back.domain.JeonseRatio;
+import com.back.dto.JeonseRatioDTO;
+import com.back.dto.JeonseRatioScreenDTO;
+import com.back.repository.JeonseRatioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Log4j2
+public class JeonseRatioServiceImpl implements JeonseRatioService {
+
+    private static final String DEFAULT_PROPERTY_TYPE = "아파트";
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // "2024-Q2", "2024Q2"
+    private static final Pattern QUARTER = Pattern.compile("(\\d{4})-?[Qq]([1-4])");
+
+    private final JeonseRatioRepository jeonseRatioRepository;
+
+    @Override
+    public JeonseRatioScreenDTO getScreen(String propertyType, String quarter, String sigungu, Double minRatio,
+                                          Long minCount, int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 범위가 올바르지 않습니다: page=" + page + ", size=" + size);
+        }
+        String type = propertyType == null || propertyType.isBlank() ? DEFAULT_PROPERTY_TYPE : propertyType.trim();
+        Integer contractQuarter = quarter == null || quarter.isBlank()
+                ? jeonseRatioRepository.findLatestQuarter(type) : parseQuarter(quarter);
+
+        JeonseRatioScreenDTO.JeonseRatioScreenDTOBuilder builder = JeonseRatioScreenDTO.builder()
+                .propertyType(type)
+                .currentPage(page)
+                .size(size);
+        if (contractQuarter == null) {
+            // 집계가 아직 없음
+            return builder.content(List.of()).totalElements(0L).totalPages(0).build();
+        }
+
+        Page<JeonseRatio> result = jeonseRatioRepository.findScreen(type, contractQuarter, blankToNull(sigungu),
+                minRatio != null ? minRatio : 0.0, minCount != null ? minCount : 1L, PageRequest.of(page, size));
+
+        log.debug("전세가율 목록 조회 - 유형: {}, 분기: {}, 시군구: {}, 최소 비율: {}, 전체: {}건",
+                type, contractQuarter, sigungu, minRatio, result.getTotalElements());
+        return builder.quarter(formatQuarter(contractQuarter))
+                .content(result.getContent().stream().map(this::toDTO).toList())
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .build();
+    }
+
+    @Override
+    public List<JeonseRatioDTO> getComplexTrend(String complexName, String sigungu, String propertyType, Double area) {
+        if (complexName == null || complexName.isBlank()) {
+            throw new IllegalArgumentException("단지명을 입력해주세요.");
+        }
+        Integer areaBand = area != null && area > 0 ? MarketPriceSummaryBuilder.areaBand(area) : null;
+        return jeonseRatioRepository.findComplexTrend(complexName.trim(), blankToNull(sigungu),
+                        blankToNull(propertyType), areaBand).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    private JeonseRatioDTO toDTO(JeonseRatio ratio) {
+        return JeonseRatioDTO.builder()
+                .region(ratio.getRegion())
+                .propertyType(ratio.getPropertyType())
+                .complexName(ratio.getComplexName())
+                .minArea(MarketPriceSummaryBuilder.areaBandLowerBound(ratio.getAreaBand()))
+                .maxArea(MarketPriceSummaryBuilder.areaBandUpperBound(ratio.getAreaBand()))
+                .quarter(formatQuarter(ratio.getContractQuarter()))
+                .saleCount(ratio.getSaleCount())
+                .saleMedian(ratio.getSaleMedian())
+                .jeonseCount(ratio.getJeonseCount())
+                .jeonseMedian(ratio.getJeonseMedian())
+                .jeonseRatio(ratio.getJeonseRatio())
+                .build();
+    }
+
+    // "2024-Q2" → 20242
+    private static int parseQuarter(String quarter) {
+        Matcher matcher = QUARTER.matcher(quarter.trim());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("분기 형식이 올바르지 않습니다 (예: 2024-Q2): " + quarter);
+        }
+        return Integer.parseInt(matcher.group(1)) * 10 + Integer.parseInt(matcher.group(2));
+    }
+
+    // 20242 → "2024-Q2"
+    private static String formatQuarter(int quarter) {
+        return (quarter / 10) + "-Q" + (quarter % 10);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.service;
+
+import com.back.dto.MapClusterDTO;
+
+import java.util.List;
+
+public interface MapClusterService {
+
+    // 지도 화면 영역 + 줌 레벨의 클러스터 조회 (layer: property, apartment-sale, apartment-rent 등)
+    List<MapClusterDTO> getClusters(String layer, int zoomLevel, double swLat, double swLng, double neLat, double neLng);
+}
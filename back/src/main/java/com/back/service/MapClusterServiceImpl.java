@@ -0,0 +1,203 @@
+package com.back.service;
+
+import com.back.domain.GeoLocated;
+import com.back.domain.Property;
+import com.back.domain.TransactionRecord;
+import com.back.dto.MapClusterDTO;
+import com.back.index.MapClusterGrid;
+import com.back.index.PropertyChangedEvent;
+import com.back.index.TransactionChangedEvent;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.TransactionFileType;
+import com.back.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class MapClusterServiceImpl implements MapClusterService {
+
+    public static final String PROPERTY_LAYER = "property";
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int FETCH_SIZE = 1000;
+
+    private final PropertyRepository propertyRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 레이어 → 클러스터 격자 (첫 조회 시 생성)
+    private final Map<String, MapClusterGrid> grids = new ConcurrentHashMap<>();
+
+    // 레이어별 격자 생성 잠금 (같은 레이어는 한 번만 생성, 다른 레이어 생성/조회는 막지 않음)
+    private final Map<String, Object> buildLocks = new ConcurrentHashMap<>();
+
+    // 생성 중인 격자에 들어온 변경 (생성이 끝나면 반영), gridMonitor로 보호
+    private final Map<String, List<Consumer<MapClusterGrid>>> pendingChanges = new HashMap<>();
+    private final Object gridMonitor = new Object();
+
+    @Override
+    public List<MapClusterDTO> getClusters(String layer, int zoomLevel, double swLat, double swLng, double neLat, double neLng) {
+        MapClusterGrid grid = getGrid(layer);
+        List<MapClusterDTO> clusters = grid.query(swLat, swLng, neLat, neLng, zoomLevel);
+        log.info("클러스터 조회 - 레이어: {}, 줌: {}, 클러스터: {}개", layer, zoomLevel, clusters.size());
+        return clusters;
+    }
+
+    // 매물 변경 시 해당 지점만 갱신 (격자가 만들어진 경우에만)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        Property property = event.getProperty();
+        applyChange(PROPERTY_LAYER, grid -> {
+            if (event.isDeleted()) {
+                grid.remove(property.getId());
+            } else {
+                grid.put(property.getId(), property.getLatitude(), property.getLongitude(), propertyPrice(property));
+            }
+        });
+    }
+
+    // 실거래 데이터 변경 시 해당 지점만 갱신 (격자가 만들어진 경우에만)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        TransactionFileType type = TransactionFileType.forEntity(transaction.getClass());
+        Long no = type != null ? ((TransactionRecord) transaction).getNo() : null;
+        if (no == null) {
+            return;
+        }
+        // 저장 시 계산된 좌표 (시군구 + 도로명), 매매는 거래금액, 전월세는 보증금 (만원)
+        GeoLocated location = (GeoLocated) transaction;
+        Long price = (Long) type.value(transaction, type.getAmountColumn());
+        applyChange(type.getLayer(), grid -> {
+            if (event.isDeleted()) {
+                grid.remove(no);
+            } else {
+                grid.put(no, location.getLatitude(), location.getLongitude(), price);
+            }
+        });
+    }
+
+    // 실거래 대량 적재 후 해당 레이어 격자 폐기 (다음 조회 때 다시 생성)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsBulkLoaded(TransactionsBulkLoadedEvent event) {
+        TransactionFileType type = TransactionFileType.forEntity(event.getEntityType());
+        if (type == null) {
+            return;
+        }
+        String layer = type.getLayer();
+        synchronized (gridMonitor) {
+            // 생성 중인 격자도 적재 전 데이터일 수 있으므로 저장하지 않게 함
+            pendingChanges.remove(layer);
+            if (grids.remove(layer) != null) {
+                log.info("클러스터 격자 폐기 - 레이어: {}, 대량 적재 {}건", layer, event.getChangedCount());
+            }
+        }
+    }
+
+    private MapClusterGrid getGrid(String layer) {
+        if (!PROPERTY_LAYER.equals(layer)) {
+            TransactionFileType.fromLayer(layer); // 지원하지 않는 레이어면 IllegalArgumentException
+        }
+        MapClusterGrid grid = grids.get(layer);
+        if (grid != null) {
+            return grid;
+        }
+        synchronized (buildLocks.computeIfAbsent(layer, key -> new Object())) {
+            grid = grids.get(layer);
+            if (grid != null) {
+                return grid;
+            }
+            synchronized (gridMonitor) {
+                pendingChanges.put(layer, new ArrayList<>());
+            }
+            MapClusterGrid built;
+            try {
+                built = buildGrid(layer);
+            } catch (RuntimeException e) {
+                synchronized (gridMonitor) {
+                    pendingChanges.remove(layer);
+                }
+                throw e;
+            }
+            synchronized (gridMonitor) {
+                List<Consumer<MapClusterGrid>> changes = pendingChanges.remove(layer);
+                if (changes == null) {
+                    // 생성 중 대량 적재로 폐기됨 (이번 조회에만 쓰고 다음 조회 때 다시 생성)
+                    return built;
+                }
+                for (Consumer<MapClusterGrid> change : changes) {
+                    change.accept(built);
+                }
+                grids.put(layer, built);
+            }
+            return built;
+        }
+    }
+
+    // 격자 변경 반영 (생성 중이면 생성이 끝난 뒤 반영, 격자가 없으면 다음 생성 때 DB에서 읽음)
+    private void applyChange(String layer, Consumer<MapClusterGrid> change) {
+        synchronized (gridMonitor) {
+            List<Consumer<MapClusterGrid>> changes = pendingChanges.get(layer);
+            if (changes != null) {
+                changes.add(change);
+                return;
+            }
+            MapClusterGrid grid = grids.get(layer);
+            if (grid != null) {
+                change.accept(grid);
+            }
+        }
+    }
+
+    private MapClusterGrid buildGrid(String layer) {
+        long start = System.currentTimeMillis();
+        MapClusterGrid grid = new MapClusterGrid();
+
+        if (PROPERTY_LAYER.equals(layer)) {
+            int page = 0;
+            Page<Property> chunk;
+            do {
+                chunk = propertyRepository.findAll(PageRequest.of(page++, LOAD_CHUNK_SIZE, Sort.by("id")));
+                chunk.forEach(property -> grid.put(property.getId(), property.getLatitude(),
+                        property.getLongitude(), propertyPrice(property)));
+            } while (chunk.hasNext());
+        } else {
+            loadTransactions(TransactionFileType.fromLayer(layer), grid);
+        }
+
+        log.info("클러스터 격자 생성 - 레이어: {}, 지점: {}개, {}ms", layer, grid.size(), System.currentTimeMillis() - start);
+        return grid;
+    }
+
+    // 매물 대표 가격 (매매가, 전세/월세는 보증금)
+    private Long propertyPrice(Property property) {
+        return property.getSalePriceAmount() != null ? property.getSalePriceAmount() : property.getDepositAmount();
+    }
+
+    // 실거래 테이블 하나의 좌표/가격 (엔티티 대신 필요한 컬럼만 스트리밍)
+    private void loadTransactions(TransactionFileType type, MapClusterGrid grid) {
+        String sql = "SELECT no, latitude, longitude, " + type.getAmountColumn() + " AS price FROM " + type.getTable();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> grid.put(rs.getLong("no"), rs.getObject("latitude", Double.class),
+                rs.getObject("longitude", Double.class), rs.getObject("price", Long.class)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.service;
+
+import com.back.dto.MarketPriceDTO;
+import com.back.dto.MarketPriceRentDTO;
+import com.back.dto.MarketPriceSaleDTO;
+
+import java.util.List;
+
+public interface MarketPriceService {
+
+    // 도로명 + 면적 구간의 실거래가 (요약 테이블 한 번 조회, 요약 생성 전에는 테이블별 직접 조회)
+    MarketPriceDTO getMarketPrice(String roadAddress, Double area);
+
+    // 도로명 + 면적(±20%) 기준 최근 매매 실거래가 (최신순 최대 10건)
+    List<MarketPriceSaleDTO> getRecentSales(String roadAddress, Double area);
+
+    // 도로명 + 면적(±20%) 기준 최근 전월세 실거래가 (최신순 최대 10건)
+    List<MarketPriceRentDTO> getRecentRents(String roadAddress, Double area);
+}
@@ -0,0 +1,356 @@
+package com.back.service;
+
+import com.back.dictionary.NameDictionary;
+import com.back.domain.ApartmentRent;
+import com.back.domain.ApartmentSale;
+import com.back.domain.DetachedHouseRent;
+import com.back.domain.DetachedHouseSale;
+import com.back.domain.MarketPriceSummary;
+import com.back.domain.OfficeTelRent;
+import com.back.domain.OfficeTelSale;
+import com.back.domain.RowHouseRent;
+import com.back.domain.RowHouseSale;
+import com.back.dto.MarketPriceDTO;
+import com.back.dto.MarketPriceRentDTO;
+import com.back.dto.MarketPriceSaleDTO;
+import com.back.dto.MarketPriceSummaryDTO;
+import com.back.repository.ApartmentRentRepository;
+import com.back.repository.ApartmentSaleRepository;
+import com.back.repository.DetachedHouseRentRepository;
+import com.back.repository.DetachedHouseSaleRepository;
+import com.back.repository.MarketPriceSummaryRepository;
+import com.back.repository.OfficeTelRentRepository;
+import com.back.repository.OfficeTelSaleRepository;
+import com.back.repository.RowHouseRentRepository;
+import com.back.repository.RowHouseSaleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class MarketPriceServiceImpl implements MarketPriceService {
+
+    private static final int RECENT_LIMIT = MarketPriceSummaryBuilder.RECENT_LIMIT;
+    private static final double AREA_RANGE = 0.2; // 면적 ±20%
+    private static final long LOOKUP_TIMEOUT_SECONDS = 10;
+
+    private final ApartmentSaleRepository apartmentSaleRepository;
+    private final ApartmentRentRepository apartmentRentRepository;
+    private final RowHouseSaleRepository rowHouseSaleRepository;
+    private final RowHouseRentRepository rowHouseRentRepository;
+    private final DetachedHouseSaleRepository detachedHouseSaleRepository;
+    private final DetachedHouseRentRepository detachedHouseRentRepository;
+    private final OfficeTelSaleRepository officeTelSaleRepository;
+    private final OfficeTelRentRepository officeTelRentRepository;
+    private final MarketPriceSummaryRepository summaryRepository;
+    private final MarketPriceSummaryBuilder summaryBuilder;
+    private final NameDictionary nameDictionary;
+
+    // 테이블별 조회는 가상 스레드에서 동시에 실행 (응답 시간 ≈ 가장 느린 테이블 하나)
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public MarketPriceDTO getMarketPrice(String roadAddress, Double area) {
+        if (!summaryBuilder.isReady()) {
+            return MarketPriceDTO.builder()
+                    .sales(getRecentSales(roadAddress, area))
+                    .rents(getRecentRents(roadAddress, area))
+                    .summaries(new ArrayList<>())
+                    .build();
+        }
+
+        log.info("실거래가 요약 조회 - 주소: {}, 면적: {}", roadAddress, area);
+
+        if (roadAddress == null || roadAddress.trim().isEmpty()) {
+            log.warn("도로명 주소가 없어서 실거래가 조회 불가");
+            return MarketPriceDTO.builder()
+                    .sales(new ArrayList<>())
+                    .rents(new ArrayList<>())
+                    .summaries(new ArrayList<>())
+                    .build();
+        }
+
+        // 매물 면적이 속한 구간 (면적이 없으면 도로명의 모든 구간)
+        Integer areaBand = MarketPriceSummaryBuilder.areaBand(area);
+        List<MarketPriceSummary> rows = areaBand != null
+                ? summaryRepository.findByRoadNameAndAreaBand(roadAddress, areaBand)
+                : summaryRepository.findByRoadName(roadAddress);
+
+        Comparator<MarketPriceSaleDTO> saleByDate = Comparator.comparing(MarketPriceSaleDTO::getContractDate,
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<MarketPriceRentDTO> rentByDate = Comparator.comparing(MarketPriceRentDTO::getContractDate,
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+        PriorityQueue<MarketPriceSaleDTO> sales = new PriorityQueue<>(RECENT_LIMIT + 1, saleByDate);
+        PriorityQueue<MarketPriceRentDTO> rents = new PriorityQueue<>(RECENT_LIMIT + 1, rentByDate);
+        List<MarketPriceSummaryDTO> summaries = new ArrayList<>();
+
+        for (MarketPriceSummary row : rows) {
+            if (MarketPriceSummaryBuilder.SALE.equals(row.getDealType())) {
+                offerRecent(sales, summaryBuilder.readRecentSales(row));
+            } else {
+                offerRecent(rents, summaryBuilder.readRecentRents(row));
+            }
+            summaries.add(MarketPriceSummaryDTO.builder()
+                    .propertyType(row.getPropertyType())
+                    .dealType(row.getDealType())
+                    .minArea(MarketPriceSummaryBuilder.areaBandLowerBound(row.getAreaBand()))
+                    .maxArea(MarketPriceSummaryBuilder.areaBandUpperBound(row.getAreaBand()))
+                    .transactionCount(row.getTransactionCount())
+                    .minAmount(row.getMinAmount())
+                    .medianAmount(row.getMedianAmount())
+                    .maxAmount(row.getMaxAmount())
+                    .build());
+        }
+
+        MarketPriceDTO result = MarketPriceDTO.builder()
+                .sales(sortRecent(sales, saleByDate))
+                .rents(sortRecent(rents, rentByDate))
+                .summaries(summaries)
+                .build();
+        log.info("실거래가 요약 조회 완료 - 매매: {}건, 전월세: {}건, 요약: {}행",
+                result.getSales().size(), result.getRents().size(), summaries.size());
+        return result;
+    }
+
+    @Override
+    public List<MarketPriceSaleDTO> getRecentSales(String roadAddress, Double area) {
+        log.info("매매 실거래가 조회 - 주소: {}, 면적: {}", roadAddress, area);
+
+        if (roadAddress == null || roadAddress.trim().isEmpty()) {
+            log.warn("도로명 주소가 없어서 실거래가 조회 불가");
+            return new ArrayList<>();
+        }
+
+        // 도로명 사전에 없는 도로명이면 거래도 없음
+        Integer roadNameId = nameDictionary.find(roadAddress);
+        if (roadNameId == null) {
+            log.info("매매 실거래가 조회 완료 - 사전에 없는 도로명: {}", roadAddress);
+            return new ArrayList<>();
+        }
+
+        Double minArea = area != null ? area * (1 - AREA_RANGE) : null;
+        Double maxArea = area != null ? area * (1 + AREA_RANGE) : null;
+        Pageable limit = PageRequest.of(0, RECENT_LIMIT);
+
+        List<Future<List<MarketPriceSaleDTO>>> lookups = List.of(
+                submit(() -> apartmentSaleRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toSaleDTO).toList()),
+                submit(() -> rowHouseSaleRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toSaleDTO).toList()),
+                submit(() -> detachedHouseSaleRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toSaleDTO).toList()),
+                submit(() -> officeTelSaleRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toSaleDTO).toList()));
+
+        List<MarketPriceSaleDTO> result = mergeRecent(lookups, MarketPriceSaleDTO::getContractDate);
+        log.info("매매 실거래가 조회 완료 - {}건", result.size());
+        return result;
+    }
+
+    @Override
+    public List<MarketPriceRentDTO> getRecentRents(String roadAddress, Double area) {
+        log.info("전월세 실거래가 조회 - 주소: {}, 면적: {}", roadAddress, area);
+
+        if (roadAddress == null || roadAddress.trim().isEmpty()) {
+            log.warn("도로명 주소가 없어서 실거래가 조회 불가");
+            return new ArrayList<>();
+        }
+
+        // 도로명 사전에 없는 도로명이면 거래도 없음
+        Integer roadNameId = nameDictionary.find(roadAddress);
+        if (roadNameId == null) {
+            log.info("전월세 실거래가 조회 완료 - 사전에 없는 도로명: {}", roadAddress);
+            return new ArrayList<>();
+        }
+
+        Double minArea = area != null ? area * (1 - AREA_RANGE) : null;
+        Double maxArea = area != null ? area * (1 + AREA_RANGE) : null;
+        Pageable limit = PageRequest.of(0, RECENT_LIMIT);
+
+        List<Future<List<MarketPriceRentDTO>>> lookups = List.of(
+                submit(() -> apartmentRentRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toRentDTO).toList()),
+                submit(() -> rowHouseRentRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toRentDTO).toList()),
+                submit(() -> detachedHouseRentRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toRentDTO).toList()),
+                submit(() -> officeTelRentRepository.findRecentByRoadName(roadNameId, minArea, maxArea, limit)
+                        .stream().map(this::toRentDTO).toList()));
+
+        List<MarketPriceRentDTO> result = mergeRecent(lookups, MarketPriceRentDTO::getContractDate);
+        log.info("전월세 실거래가 조회 완료 - {}건", result.size());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Future<List<T>> submit(Callable<List<T>> lookup) {
+        return executor.submit(lookup);
+    }
+
+    /**
+     * 테이블별 최신 10건을 크기 10의 힙으로 병합한다 (힙의 맨 위가 가장 오래된 거래).
+     * 조회에 실패하거나 시간이 초과된 테이블은 빼고 나머지 결과로 응답한다.
+     */
+    private <T> List<T> mergeRecent(List<Future<List<T>>> lookups, Function<T, LocalDate> contractDate) {
+        Comparator<T> byDate = Comparator.comparing(contractDate, Comparator.nullsFirst(Comparator.naturalOrder()));
+        PriorityQueue<T> heap = new PriorityQueue<>(RECENT_LIMIT + 1, byDate);
+
+        for (Future<List<T>> lookup : lookups) {
+            try {
+                offerRecent(heap, lookup.get(LOOKUP_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lookup.cancel(true);
+            } catch (ExecutionException | TimeoutException e) {
+                lookup.cancel(true);
+                log.error("실거래가 테이블 조회 실패 (제외하고 계속): {}", e.getMessage());
+            }
+        }
+        return sortRecent(heap, byDate);
+    }
+
+    // 최근 10건만 힙에 유지
+    private <T> void offerRecent(PriorityQueue<T> heap, List<T> items) {
+        for (T item : items) {
+            heap.offer(item);
+            if (heap.size() > RECENT_LIMIT) {
+                heap.poll();
+            }
+        }
+    }
+
+    // 최신 날짜가 먼저 오도록
+    private <T> List<T> sortRecent(PriorityQueue<T> heap, Comparator<T> byDate) {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(byDate.reversed());
+        return result;
+    }
+
+    private MarketPriceSaleDTO toSaleDTO(ApartmentSale sale) {
+        return MarketPriceSaleDTO.builder()
+                .transactionAmount(sale.getTransactionAmount())
+                .exclusiveArea(sale.getExclusiveArea())
+                .floor(sale.getFloor())
+                .dong(sale.getDong())
+                .complexName(sale.getComplexName())
+                .contractDate(sale.getContractDate())
+                .constructionYear(sale.getConstructionYear())
+                .propertyType("아파트")
+                .build();
+    }
+
+    private MarketPriceSaleDTO toSaleDTO(RowHouseSale sale) {
+        return MarketPriceSaleDTO.builder()
+                .transactionAmount(sale.getTransactionAmount())
+                .exclusiveArea(sale.getExclusiveArea())
+                .floor(sale.getFloor())
+                .buildingName(sale.getBuildingName())
+                .contractDate(sale.getContractDate())
+                .constructionYear(sale.getConstructionYear())
+                .propertyType("연립/다세대")
+                .build();
+    }
+
+    private MarketPriceSaleDTO toSaleDTO(DetachedHouseSale sale) {
+        return MarketPriceSaleDTO.builder()
+                .transactionAmount(sale.getTransactionAmount())
+                .exclusiveArea(sale.getTotalArea()) // totalArea 사용
+                .floor(1) // 단독주택은 보통 1층
+                .buildingName(sale.getHousingType()) // housingType 사용
+                .contractDate(sale.getContractDate())
+                .constructionYear(sale.getConstructionYear())
+                .propertyType("단독주택")
+                .build();
+    }
+
+    private MarketPriceSaleDTO toSaleDTO(OfficeTelSale sale) {
+        return MarketPriceSaleDTO.builder()
+                .transactionAmount(sale.getTransactionAmount())
+                .exclusiveArea(sale.getExclusiveArea())
+                .floor(sale.getFloor())
+                .buildingName(sale.getComplexName()) // complexName 사용
+                .contractDate(sale.getContractDate())
+                .constructionYear(sale.getConstructionYear())
+                .propertyType("오피스텔")
+                .build();
+    }
+
+    private MarketPriceRentDTO toRentDTO(ApartmentRent rent) {
+        return MarketPriceRentDTO.builder()
+                .deposit(rent.getDeposit())
+                .monthlyRent(rent.getMonthlyRent())
+                .exclusiveArea(rent.getExclusiveArea())
+                .floor(rent.getFloor())
+                .complexName(rent.getComplexName())
+                .contractDate(rent.getContractDate())
+                .constructionYear(rent.getConstructionYear())
+                .rentType(rent.getRentType())
+                .propertyType("아파트")
+                .build();
+    }
+
+    private MarketPriceRentDTO toRentDTO(RowHouseRent rent) {
+        return MarketPriceRentDTO.builder()
+                .deposit(rent.getDeposit())
+                .monthlyRent(rent.getMonthlyRent())
+                .exclusiveArea(rent.getExclusiveArea())
+                .floor(rent.getFloor())
+                .buildingName(rent.getBuildingName())
+                .contractDate(rent.getContractDate())
+                .constructionYear(rent.getConstructionYear())
+                .rentType(rent.getRentType())
+                .propertyType("연립/다세대")
+                .build();
+    }
+
+    private MarketPriceRentDTO toRentDTO(DetachedHouseRent rent) {
+        return MarketPriceRentDTO.builder()
+                .deposit(rent.getDeposit())
+                .monthlyRent(rent.getMonthlyRent())
+                .exclusiveArea(rent.getContractArea()) // contractArea 사용
+                .floor(1) // 단독주택은 보통 1층
+                .buildingName(rent.getHousingType()) // housingType 사용
+                .contractDate(rent.getContractDate())
+                .constructionYear(rent.getConstructionYear())
+                .rentType(rent.getRentType())
+                .propertyType("단독주택")
+                .build();
+    }
+
+    private MarketPriceRentDTO toRentDTO(OfficeTelRent rent) {
+        return MarketPriceRentDTO.builder()
+                .deposit(rent.getDeposit())
+                .monthlyRent(rent.getMonthlyRent())
+                .exclusiveArea(rent.getExclusiveArea())
+                .floor(rent.getFloor())
+                .buildingName(rent.getComplexName()) // complexName 사용
+                .contractDate(rent.getContractDate())
+                .constructionYear(rent.getConstructionYear())
+                .rentType(rent.getRentType())
+                .propertyType("오피스텔")
+                .build();
+    }
+}
@@ -0,0 +1,345 @@
+package com.back.service;
+
+import com.back.dictionary.NameDictionary;
+import com.back.domain.GeoLocated;
+import com.back.domain.MarketPriceSummary;
+import com.back.dto.MarketPriceRentDTO;
+import com.back.dto.MarketPriceSaleDTO;
+import com.back.index.TransactionChangedEvent;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.TransactionFileType;
+import com.back.repository.MarketPriceSummaryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * market_price_summary 테이블 생성/갱신.
+ * 8개 실거래 테이블을 도로명 순으로 읽어 (도로명, 면적 구간, 거래구분) 단위로 요약하고,
+ * 관리자 등록/수정/삭제 시에는 해당 도로명의 요약만 다시 계산한다.
+ * 전월세는 전세와 월세를 따로 요약한다 (보증금 규모가 달라 섞으면 중앙값이 의미 없음).
+ * 도로명 갱신/테이블 재생성 요청은 RollupRefresher 대기열에서 처리해 요청 스레드나 적재 작업을 막지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class MarketPriceSummaryBuilder {
+
+    public static final String SALE = TransactionFileType.SALE;
+    public static final String RENT = "전월세"; // 전세/월세로 나누기 전 요약 행의 거래구분
+    public static final String JEONSE = TransactionFileType.JEONSE;
+    public static final String WOLSE = TransactionFileType.WOLSE;
+    public static final int RECENT_LIMIT = 10;
+
+    // 면적 구간 상한 (㎡): 40 이하, 60 이하, 85 이하, 102 이하, 135 이하, 135 초과
+    private static final double[] AREA_BAND_UPPER_BOUNDS = {40, 60, 85, 102, 135};
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO market_price_summary (road_name, area_band, property_type, deal_type, transaction_count, " +
+            "min_amount, median_amount, max_amount, recent_transactions, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MarketPriceSummaryRepository summaryRepository;
+    private final ObjectMapper objectMapper;
+    private final NameDictionary nameDictionary;
+
+    // 전체/테이블 재생성과 도로명 단위 갱신 대기열
+    private final RollupRefresher<TransactionFileType, Map.Entry<TransactionFileType, String>> refresher =
+            new RollupRefresher<>("실거래가 요약", this::rebuildSource,
+                    refresh -> refreshRoad(refresh.getKey(), refresh.getValue()), Map.Entry::getKey);
+
+    private volatile boolean ready;
+
+    // 요약 테이블을 조회에 사용할 수 있는지 (한 번 이상 생성됨)
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 요약 테이블이 비어 있거나 전세/월세를 나누기 전 행이 남아 있을 때만 전체 생성 (애플리케이션 시작 시)
+    public void buildIfEmpty() {
+        Integer legacy = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM market_price_summary WHERE deal_type = ?", Integer.class, RENT);
+        if (summaryRepository.count() > 0 && (legacy == null || legacy == 0)) {
+            ready = true;
+            log.info("실거래가 요약 테이블 사용 - 기존 요약 재사용");
+            return;
+        }
+        rebuildAll();
+    }
+
+    // 8개 실거래 테이블 전체로 요약 재생성 (테이블마다 별도 트랜잭션)
+    public void rebuildAll() {
+        log.info("실거래가 요약 테이블 생성 시작");
+
+        refresher.runExclusive(() -> {
+            for (TransactionFileType source : TransactionFileType.values()) {
+                rebuildSource(source);
+            }
+            ready = true;
+            log.info("실거래가 요약 테이블 생성 완료");
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    // 실거래 데이터 저장/수정/삭제 시 해당 도로명의 요약만 다시 계산 (커밋 이후)
+    // 수정으로 도로명이 바뀌었으면 이전 도로명 요약에서도 빠지도록 함께 다시 계산
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        TransactionFileType source = TransactionFileType.forEntity(transaction.getClass());
+        if (source == null) {
+            return;
+        }
+        String roadName = ((GeoLocated) transaction).getRoadName();
+        if (roadName != null) {
+            refresher.requestRefresh(Map.entry(source, roadName));
+        }
+        if (event.getPreviousRoadName() != null) {
+            refresher.requestRefresh(Map.entry(source, event.getPreviousRoadName()));
+        }
+    }
+
+    // 실거래 대량 적재 후 해당 테이블의 요약 전체 재생성 (도로명 단위로 나눠 갱신하기엔 범위가 넓음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsBulkLoaded(TransactionsBulkLoadedEvent event) {
+        TransactionFileType source = TransactionFileType.forEntity(event.getEntityType());
+        if (source != null) {
+            refresher.requestRebuild(source);
+        }
+    }
+
+    // 면적(㎡)이 속한 구간, 면적이 없으면 null
+    public static Integer areaBand(Double area) {
+        if (area == null) {
+            return null;
+        }
+        for (int band = 0; band < AREA_BAND_UPPER_BOUNDS.length; band++) {
+            if (area <= AREA_BAND_UPPER_BOUNDS[band]) {
+                return band;
+            }
+        }
+        return AREA_BAND_UPPER_BOUNDS.length;
+    }
+
+    // 마지막 구간 (상한 없음, 면적이 없는 거래도 이 구간에 넣음)
+    public static int lastAreaBand() {
+        return AREA_BAND_UPPER_BOUNDS.length;
+    }
+
+    // 구간 하한 (초과), 첫 구간은 0
+    public static Double areaBandLowerBound(int band) {
+        return band == 0 ? 0.0 : AREA_BAND_UPPER_BOUNDS[band - 1];
+    }
+
+    // 구간 상한 (이하), 마지막 구간은 null
+    public static Double areaBandUpperBound(int band) {
+        return band < AREA_BAND_UPPER_BOUNDS.length ? AREA_BAND_UPPER_BOUNDS[band] : null;
+    }
+
+    public List<MarketPriceSaleDTO> readRecentSales(MarketPriceSummary summary) {
+        return readRecent(summary, new TypeReference<List<MarketPriceSaleDTO>>() {});
+    }
+
+    public List<MarketPriceRentDTO> readRecentRents(MarketPriceSummary summary) {
+        return readRecent(summary, new TypeReference<List<MarketPriceRentDTO>>() {});
+    }
+
+    private <T> List<T> readRecent(MarketPriceSummary summary, TypeReference<List<T>> type) {
+        if (summary.getRecentTransactions() == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(summary.getRecentTransactions(), type);
+        } catch (JsonProcessingException e) {
+            log.error("실거래가 요약의 최근 거래 읽기 실패 - ID: {}: {}", summary.getId(), e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // 실거래 테이블 하나의 요약 재생성 (refresher 잠금 안에서 호출)
+    private void rebuildSource(TransactionFileType source) {
+        List<Object[]> rows = new ArrayList<>();
+        RoadAccumulator accumulator = new RoadAccumulator(source, rows);
+        String sql = selectSql(source) + " ORDER BY road_name";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) accumulator::add);
+        accumulator.finish();
+
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM market_price_summary WHERE property_type = ? AND " + dealTypeCondition(source),
+                    source.getPropertyType());
+            RollupRefresher.insert(jdbcTemplate, INSERT_SQL, rows);
+        });
+        log.info("실거래가 요약 생성 - {}: {}행", source.getTable(), rows.size());
+    }
+
+    private void refreshRoad(TransactionFileType source, String roadName) {
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            List<Object[]> rows = new ArrayList<>();
+            RoadAccumulator accumulator = new RoadAccumulator(source, rows);
+            Integer roadNameId = nameDictionary.find(roadName);
+            if (roadNameId != null) {
+                jdbcTemplate.query(selectSql(source) + " WHERE road_name_id = ?", (RowCallbackHandler) accumulator::add, roadNameId);
+            }
+            accumulator.finish();
+
+            jdbcTemplate.update("DELETE FROM market_price_summary WHERE road_name = ? AND property_type = ? AND " +
+                    dealTypeCondition(source), roadName, source.getPropertyType());
+            RollupRefresher.insert(jdbcTemplate, INSERT_SQL, rows);
+        });
+        log.debug("실거래가 요약 갱신 - {}, 도로명: {}", source.getTable(), roadName);
+    }
+
+    private static String selectSql(TransactionFileType source) {
+        // 응답 DTO의 단지명은 아파트만, 나머지는 건물명 (단독주택은 주택유형, 층은 1층 고정)
+        boolean apartment = "아파트".equals(source.getPropertyType());
+        String nameColumn = source.getLabelColumn();
+        return "SELECT road_name, " + source.getAreaColumn() + " AS area, contract_date, construction_year, " +
+                (source.getFloorColumn() != null ? source.getFloorColumn() : "1") + " AS floor, " +
+                (source.getColumns().contains("dong") ? "dong" : "NULL") + " AS dong, " +
+                (apartment ? nameColumn : "NULL") + " AS complex_name, " +
+                (apartment ? "NULL" : nameColumn) + " AS building_name, " +
+                (source.isRent() ? "deposit AS amount, monthly_rent, rent_type"
+                                 : "transaction_amount AS amount, NULL AS monthly_rent, NULL AS rent_type") +
+                " FROM " + source.getTable();
+    }
+
+    // 테이블 하나의 요약 행 조건 (전월세 테이블은 전세/월세 행과 나누기 전 전월세 행)
+    private static String dealTypeCondition(TransactionFileType source) {
+        return !source.isRent() ? "deal_type = '" + SALE + "'"
+                : "deal_type IN ('" + JEONSE + "', '" + WOLSE + "', '" + RENT + "')";
+    }
+
+    // 거래 한 건 (금액, 계약일, 응답용 DTO)
+    @AllArgsConstructor
+    private static class Deal {
+        private final long amount;
+        private final LocalDate contractDate;
+        private final Object transaction; // MarketPriceSaleDTO 또는 MarketPriceRentDTO
+    }
+
+    // 도로명 순으로 읽은 거래를 도로명이 바뀔 때마다 면적 구간별 요약 행으로 변환
+    private class RoadAccumulator {
+
+        private final TransactionFileType source;
+        private final List<Object[]> rows;
+        private final Map<Map.Entry<String, Integer>, List<Deal>> bands = new TreeMap<>(
+                Map.Entry.<String, Integer>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+        private String roadName;
+
+        private RoadAccumulator(TransactionFileType source, List<Object[]> rows) {
+            this.source = source;
+            this.rows = rows;
+        }
+
+        private void add(ResultSet rs) throws SQLException {
+            String road = rs.getString("road_name");
+            if (road == null || road.isBlank()) {
+                return;
+            }
+            if (!road.equals(roadName)) {
+                finish();
+                roadName = road;
+            }
+
+            Double area = rs.getObject("area", Double.class);
+            Long amount = rs.getObject("amount", Long.class);
+            LocalDate contractDate = rs.getObject("contract_date", LocalDate.class);
+            if (amount == null || contractDate == null) {
+                return;
+            }
+
+            Long monthlyRent = rs.getObject("monthly_rent", Long.class);
+            String dealType = source.isRent() ? TransactionFileType.rentType(rs.getString("rent_type"), monthlyRent) : SALE;
+            Object transaction = !source.isRent()
+                    ? MarketPriceSaleDTO.builder()
+                        .transactionAmount(amount)
+                        .exclusiveArea(area)
+                        .floor(rs.getObject("floor", Integer.class))
+                        .dong(rs.getString("dong"))
+                        .complexName(rs.getString("complex_name"))
+                        .buildingName(rs.getString("building_name"))
+                        .contractDate(contractDate)
+                        .constructionYear(rs.getObject("construction_year", Integer.class))
+                        .propertyType(source.getPropertyType())
+                        .build()
+                    : MarketPriceRentDTO.builder()
+                        .deposit(amount)
+                        .monthlyRent(monthlyRent)
+                        .exclusiveArea(area)
+                        .floor(rs.getObject("floor", Integer.class))
+                        .complexName(rs.getString("complex_name"))
+                        .buildingName(rs.getString("building_name"))
+                        .contractDate(contractDate)
+                        .constructionYear(rs.getObject("construction_year", Integer.class))
+                        .rentType(rs.getString("rent_type"))
+                        .propertyType(source.getPropertyType())
+                        .build();
+
+            bands.computeIfAbsent(Map.entry(dealType, area == null ? lastAreaBand() : areaBand(area)),
+                            key -> new ArrayList<>())
+                    .add(new Deal(amount, contractDate, transaction));
+        }
+
+        private void finish() {
+            if (roadName == null) {
+                return;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (Map.Entry<Map.Entry<String, Integer>, List<Deal>> entry : bands.entrySet()) {
+                List<Deal> deals = entry.getValue();
+                long[] amounts = deals.stream().mapToLong(deal -> deal.amount).sorted().toArray();
+                List<Object> recent = deals.stream()
+                        .sorted(Comparator.comparing((Deal deal) -> deal.contractDate).reversed())
+                        .limit(RECENT_LIMIT)
+                        .map(deal -> deal.transaction)
+                        .toList();
+
+                rows.add(new Object[]{
+                        roadName, entry.getKey().getValue(), source.getPropertyType(), entry.getKey().getKey(), (long) amounts.length,
+                        amounts[0], amounts[(amounts.length - 1) / 2], amounts[amounts.length - 1],
+                        toJson(recent), now});
+            }
+            bands.clear();
+        }
+
+        private String toJson(List<Object> recent) {
+            try {
+                return objectMapper.writeValueAsString(recent);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("최근 거래 JSON 변환 실패", e);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.back.service;
 
 import com.back.dto.OfficeTelRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.OfficeTelRentSearchDTO;
 
 import java.util.List;
@@ -62,4 +64,7 @@ public interface OfficeTelRentService {
     
     // 번호 역순으로 정렬된 데이터 조회 (최신순)
     org.springframework.data.domain.Page<com.back.domain.OfficeTelRent> findAllOrderByNoDesc(org.springframework.data.domain.Pageable pageable);
-} 
\ No newline at end of file
+    
+    // 지도용 오피스텔 전월세 목록 (DB 페이징, keyset 커서 지원)
+    TransactionPageDTO<OfficeTelRentDTO> getMapPage(TransactionMapFilterDTO filter);
+}
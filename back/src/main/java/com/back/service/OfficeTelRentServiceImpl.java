@@ -2,10 +2,15 @@ package com.back.service;
 
 import com.back.domain.OfficeTelRent;
 import com.back.dto.OfficeTelRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.OfficeTelRentSearchDTO;
 import com.back.repository.OfficeTelRentRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class OfficeTelRentServiceImpl implements OfficeTelRentService {
     
     private final OfficeTelRentRepository officeTelRentRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public OfficeTelRentDTO createOfficeTelRent(OfficeTelRentDTO officeTelRentDTO) {
@@ -148,6 +154,15 @@ public class OfficeTelRentServiceImpl implements OfficeTelRentService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<OfficeTelRentDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 오피스텔 전월세 목록 조회 - 조건: {}", filter);
+        Slice<OfficeTelRent> slice = transactionPageRepository.findPage(OfficeTelRent.class,
+                TransactionSpecification.<OfficeTelRent>mapFilter(filter, "deposit", "exclusiveArea")
+                        .and(TransactionSpecification.rentTypeEq(filter.getRentType())), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환
     private OfficeTelRentDTO entityToDTO(OfficeTelRent officeTelRent) {
         return OfficeTelRentDTO.builder()
@@ -162,6 +177,8 @@ public class OfficeTelRentServiceImpl implements OfficeTelRentService {
                 .floor(officeTelRent.getFloor())
                 .constructionYear(officeTelRent.getConstructionYear())
                 .roadName(officeTelRent.getRoadName())
+                .latitude(officeTelRent.getLatitude())
+                .longitude(officeTelRent.getLongitude())
                 .transactionType(officeTelRent.getTransactionType())
                 .housingType(officeTelRent.getHousingType())
                 .build();
@@ -1,6 +1,8 @@
 package com.back.service;
 
 import com.back.dto.OfficeTelSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.OfficeTelSaleSearchDTO;
 
 import java.util.List;
@@ -56,4 +58,7 @@ public interface OfficeTelSaleService {
     
     // 번호 역순으로 정렬된 데이터 조회 (최신순)
     org.springframework.data.domain.Page<com.back.domain.OfficeTelSale> findAllOrderByNoDesc(org.springframework.data.domain.Pageable pageable);
-} 
\ No newline at end of file
+    
+    // 지도용 오피스텔 매매 목록 (DB 페이징, keyset 커서 지원)
+    TransactionPageDTO<OfficeTelSaleDTO> getMapPage(TransactionMapFilterDTO filter);
+}
@@ -2,10 +2,15 @@ package com.back.service;
 
 import com.back.domain.OfficeTelSale;
 import com.back.dto.OfficeTelSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.OfficeTelSaleSearchDTO;
 import com.back.repository.OfficeTelSaleRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class OfficeTelSaleServiceImpl implements OfficeTelSaleService {
     
     private final OfficeTelSaleRepository officeTelSaleRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public OfficeTelSaleDTO createOfficeTelSale(OfficeTelSaleDTO officeTelSaleDTO) {
@@ -127,6 +133,14 @@ public class OfficeTelSaleServiceImpl implements OfficeTelSaleService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<OfficeTelSaleDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 오피스텔 매매 목록 조회 - 조건: {}", filter);
+        Slice<OfficeTelSale> slice = transactionPageRepository.findPage(OfficeTelSale.class,
+                TransactionSpecification.<OfficeTelSale>mapFilter(filter, "transactionAmount", "exclusiveArea"), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환하는 메서드
     private OfficeTelSaleDTO entityToDTO(OfficeTelSale officeTelSale) {
         return OfficeTelSaleDTO.builder()
@@ -139,6 +153,8 @@ public class OfficeTelSaleServiceImpl implements OfficeTelSaleService {
                 .floor(officeTelSale.getFloor())
                 .constructionYear(officeTelSale.getConstructionYear())
                 .roadName(officeTelSale.getRoadName())
+                .latitude(officeTelSale.getLatitude())
+                .longitude(officeTelSale.getLongitude())
                 .transactionType(officeTelSale.getTransactionType())
                 .housingType(officeTelSale.getHousingType())
                 .build();
@@ -0,0 +1,303 @@
+package com.back.service;
+
+import com.back.domain.GeoLocated;
+import com.back.domain.TransactionRecord;
+import com.back.index.TransactionChangedEvent;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.TransactionFileType;
+import com.back.repository.ComplexPriceSketchRepository;
+import com.back.repository.PriceTrendRollupRepository;
+import com.back.util.AddressNormalizer;
+import com.back.util.QuantileSketch;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * price_trend_rollup, complex_price_sketch 테이블 생성/갱신.
+ * 8개 실거래 테이블을 (시군구, 주택유형, 거래구분, 면적 구간, 계약월) 단위와 (시군구, 단지, 거래구분, 계약월) 단위로
+ * 한 번에 집계하고, 관리자 등록/수정/삭제 시에는 해당 시군구의 해당 계약월 집계만 다시 계산한다.
+ * 갱신 요청은 RollupRefresher 대기열에서 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PriceTrendRollupBuilder {
+
+    public static final String SALE = TransactionFileType.SALE;
+    public static final String JEONSE = TransactionFileType.JEONSE;
+    public static final String WOLSE = TransactionFileType.WOLSE;
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO price_trend_rollup (region, property_type, deal_type, area_band, contract_month, " +
+            "transaction_count, amount_sum, monthly_rent_sum, price_per_area_sum, area_count, median_amount, " +
+            "amount_sketch, monthly_rent_sketch, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMPLEX_SQL =
+            "INSERT INTO complex_price_sketch (region, property_type, complex_name, deal_type, contract_month, " +
+            "transaction_count, amount_sketch, monthly_rent_sketch, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PriceTrendRollupRepository rollupRepository;
+    private final ComplexPriceSketchRepository complexSketchRepository;
+
+    // 전체/테이블 재생성과 계약월 단위 갱신 대기열
+    private final RollupRefresher<TransactionFileType, Slice> refresher =
+            new RollupRefresher<>("실거래 시세 추이 집계", this::rebuildSource, this::refreshSlice, slice -> slice.source);
+
+    // 집계 테이블(시군구별, 단지별)이 비어 있을 때만 전체 생성 (애플리케이션 시작 시)
+    public void buildIfEmpty() {
+        if (rollupRepository.count() > 0 && complexSketchRepository.count() > 0) {
+            log.info("실거래 시세 추이 집계 사용 - 기존 집계 재사용");
+            return;
+        }
+        rebuildAll();
+    }
+
+    // 8개 실거래 테이블 전체로 집계 재생성 (테이블마다 별도 트랜잭션)
+    public void rebuildAll() {
+        log.info("실거래 시세 추이 집계 생성 시작");
+
+        refresher.runExclusive(() -> {
+            for (TransactionFileType source : TransactionFileType.values()) {
+                rebuildSource(source);
+            }
+            log.info("실거래 시세 추이 집계 생성 완료");
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    /**
+     * 실거래 데이터 저장/수정/삭제 시 해당 시군구의 해당 계약월 집계만 다시 계산 (커밋 이후).
+     * 수정으로 시군구나 계약일이 바뀐 경우 이전 계약월 집계는 다음 전체 재생성 때 정리된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        TransactionFileType source = TransactionFileType.forEntity(transaction.getClass());
+        if (source == null) {
+            return;
+        }
+        String region = AddressNormalizer.district(((GeoLocated) transaction).getSigungu());
+        LocalDate contractDate = ((TransactionRecord) transaction).getContractDate();
+        if (region != null && contractDate != null) {
+            refresher.requestRefresh(new Slice(source, region, contractDate.withDayOfMonth(1)));
+        }
+    }
+
+    // 실거래 대량 적재 후 해당 테이블의 집계 전체 재생성
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsBulkLoaded(TransactionsBulkLoadedEvent event) {
+        TransactionFileType source = TransactionFileType.forEntity(event.getEntityType());
+        if (source != null) {
+            refresher.requestRebuild(source);
+        }
+    }
+
+    // LocalDate → yyyyMM
+    public static int toMonth(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    // 실거래 테이블 하나의 집계 재생성 (refresher 잠금 안에서 호출)
+    private void rebuildSource(TransactionFileType source) {
+        Rollups rollups = new Rollups();
+        String sql = selectSql(source);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> accumulate(source, rs, null, rollups));
+
+        List<Object[]> rows = toRows(source, rollups);
+        List<Object[]> complexRows = toComplexRows(source, rollups);
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM price_trend_rollup WHERE property_type = ? AND " + dealTypeCondition(source),
+                    source.getPropertyType(), SALE);
+            jdbcTemplate.update("DELETE FROM complex_price_sketch WHERE property_type = ? AND " + dealTypeCondition(source),
+                    source.getPropertyType(), SALE);
+            RollupRefresher.insert(jdbcTemplate, INSERT_SQL, rows);
+            RollupRefresher.insert(jdbcTemplate, INSERT_COMPLEX_SQL, complexRows);
+        });
+        log.info("실거래 시세 추이 집계 생성 - {}: {}행, 단지별 {}행", source.getTable(), rows.size(), complexRows.size());
+    }
+
+    // 시군구 하나의 계약월 하나만 다시 집계 (계약일 인덱스로 한 달만 읽음)
+    private void refreshSlice(Slice slice) {
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            Rollups rollups = new Rollups();
+            jdbcTemplate.query(selectSql(slice.source) +
+                            " WHERE contract_date >= ? AND contract_date < ? AND (sigungu = ? OR sigungu LIKE ?)",
+                    (RowCallbackHandler) rs -> accumulate(slice.source, rs, slice.region, rollups),
+                    slice.month, slice.month.plusMonths(1), slice.region, slice.region + " %");
+
+            jdbcTemplate.update("DELETE FROM price_trend_rollup WHERE region = ? AND property_type = ? AND " +
+                            dealTypeCondition(slice.source) + " AND contract_month = ?",
+                    slice.region, slice.source.getPropertyType(), SALE, toMonth(slice.month));
+            jdbcTemplate.update("DELETE FROM complex_price_sketch WHERE region = ? AND property_type = ? AND " +
+                            dealTypeCondition(slice.source) + " AND contract_month = ?",
+                    slice.region, slice.source.getPropertyType(), SALE, toMonth(slice.month));
+            RollupRefresher.insert(jdbcTemplate, INSERT_SQL, toRows(slice.source, rollups));
+            RollupRefresher.insert(jdbcTemplate, INSERT_COMPLEX_SQL, toComplexRows(slice.source, rollups));
+        });
+        log.debug("실거래 시세 추이 집계 갱신 - {}, 시군구: {}, 계약월: {}", slice.source.getTable(), slice.region, slice.month);
+    }
+
+    // 한 행을 집계에 더함 (region이 주어지면 해당 시군구만)
+    private void accumulate(TransactionFileType source, ResultSet rs, String region, Rollups rollups)
+            throws SQLException {
+        String district = AddressNormalizer.district(rs.getString("sigungu"));
+        LocalDate contractDate = rs.getObject("contract_date", LocalDate.class);
+        Long amount = rs.getObject("amount", Long.class);
+        if (district == null || contractDate == null || amount == null || (region != null && !region.equals(district))) {
+            return;
+        }
+        Double area = rs.getObject("area", Double.class);
+        Long monthlyRent = rs.getObject("monthly_rent", Long.class);
+        String dealType = dealType(source, rs.getString("rent_type"), monthlyRent);
+        Integer band = MarketPriceSummaryBuilder.areaBand(area);
+
+        // 면적이 없는 거래는 시세 요약과 같이 마지막 구간에 넣음
+        int month = toMonth(contractDate);
+        RollupKey key = new RollupKey(district, dealType,
+                band == null ? MarketPriceSummaryBuilder.lastAreaBand() : band, month);
+        rollups.regions.computeIfAbsent(key, k -> new Accumulator()).add(amount, monthlyRent, area);
+
+        String complexName = rs.getString("complex_name");
+        if (complexName != null && !complexName.isBlank()) {
+            ComplexKey complexKey = new ComplexKey(district, complexName.trim(), dealType, month);
+            rollups.complexes.computeIfAbsent(complexKey, k -> new Accumulator()).add(amount, monthlyRent, area);
+        }
+    }
+
+    private List<Object[]> toRows(TransactionFileType source, Rollups rollups) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(rollups.regions.size());
+        rollups.regions.forEach((key, accumulator) -> {
+            Double median = accumulator.sketch.median();
+            rows.add(new Object[]{
+                    key.region, source.getPropertyType(), key.dealType, key.areaBand, key.month,
+                    accumulator.count, accumulator.amountSum,
+                    WOLSE.equals(key.dealType) ? accumulator.monthlyRentSum : null,
+                    accumulator.areaCount > 0 ? accumulator.pricePerAreaSum : null, accumulator.areaCount,
+                    median == null ? null : Math.round(median), accumulator.sketch.toBytes(),
+                    accumulator.rentSketch.isEmpty() ? null : accumulator.rentSketch.toBytes(), now});
+        });
+        return rows;
+    }
+
+    private List<Object[]> toComplexRows(TransactionFileType source, Rollups rollups) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(rollups.complexes.size());
+        rollups.complexes.forEach((key, accumulator) -> rows.add(new Object[]{
+                key.region, source.getPropertyType(), key.complexName, key.dealType, key.month,
+                accumulator.count, accumulator.sketch.toBytes(),
+                accumulator.rentSketch.isEmpty() ? null : accumulator.rentSketch.toBytes(), now}));
+        return rows;
+    }
+
+    // 매매, 전월세는 전세/월세
+    private static String dealType(TransactionFileType source, String rentType, Long monthlyRent) {
+        return source.isRent() ? TransactionFileType.rentType(rentType, monthlyRent) : SALE;
+    }
+
+    // DELETE 조건용 (매매 테이블은 매매, 전월세 테이블은 매매가 아닌 행, 파라미터는 SALE)
+    private static String dealTypeCondition(TransactionFileType source) {
+        return source.isRent() ? "deal_type <> ?" : "deal_type = ?";
+    }
+
+    private static String selectSql(TransactionFileType source) {
+        String nameColumn = source.getNameColumn();
+        return "SELECT sigungu, contract_date, " + source.getAreaColumn() + " AS area, " +
+                (nameColumn != null ? nameColumn : "NULL") + " AS complex_name, " +
+                (source.isRent() ? "deposit AS amount, monthly_rent, rent_type"
+                             : "transaction_amount AS amount, NULL AS monthly_rent, NULL AS rent_type") +
+                " FROM " + source.getTable();
+    }
+
+    // 다시 집계할 범위 (실거래 테이블, 시군구, 계약월 1일)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    private static class Slice {
+        private final TransactionFileType source;
+        private final String region;
+        private final LocalDate month;
+    }
+
+    // 집계 행 키 (주택유형은 테이블로 고정)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class RollupKey {
+        private final String region;
+        private final String dealType;
+        private final int areaBand;
+        private final int month;
+    }
+
+    // 단지별 스케치 행 키 (주택유형은 테이블로 고정)
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class ComplexKey {
+        private final String region;
+        private final String complexName;
+        private final String dealType;
+        private final int month;
+    }
+
+    // 한 번 읽으면서 채우는 시군구별/단지별 집계
+    private static class Rollups {
+        private final Map<RollupKey, Accumulator> regions = new HashMap<>();
+        private final Map<ComplexKey, Accumulator> complexes = new HashMap<>();
+    }
+
+    // 집계 행 하나의 합계와 스케치
+    private static class Accumulator {
+        private final QuantileSketch sketch = new QuantileSketch();
+        private final QuantileSketch rentSketch = new QuantileSketch(); // 월세 (월세 거래만)
+        private long count;
+        private long amountSum;
+        private long monthlyRentSum;
+        private double pricePerAreaSum;
+        private long areaCount;
+
+        private void add(long amount, Long monthlyRent, Double area) {
+            count++;
+            amountSum += amount;
+            if (monthlyRent != null && monthlyRent > 0) {
+                monthlyRentSum += monthlyRent;
+                rentSketch.add(monthlyRent);
+            }
+            if (area != null && area > 0) {
+                pricePerAreaSum += amount / area;
+                areaCount++;
+            }
+            sketch.add(amount);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.service;
+
+import com.back.dto.PriceDistributionDTO;
+import com.back.dto.PriceTrendDTO;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface PriceTrendService {
+
+    // 월별 시세 추이 (price_trend_rollup 집계만 조회, 거래구분 필수, area가 있으면 해당 면적 구간만)
+    PriceTrendDTO getTrend(String sigungu, String propertyType, String dealType, Double area,
+                           YearMonth from, YearMonth to);
+
+    // 기간 내 금액 분포 (시군구/단지별 스케치만 합산, 거래구분 필수, complexName이 있으면 단지 기준이고 area는 무시)
+    PriceDistributionDTO getDistribution(List<String> sigungu, String complexName, String propertyType, String dealType,
+                                         Double area, YearMonth from, YearMonth to, List<Double> quantiles);
+}
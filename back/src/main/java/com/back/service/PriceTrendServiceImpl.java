@@ -0,0 +1,224 @@
+package com.back.service;
+
+import com.back.domain.ComplexPriceSketch;
+import com.back.domain.PriceTrendRollup;
+import com.back.dto.PriceDistributionDTO;
+import com.back.dto.PriceQuantileDTO;
+import com.back.dto.PriceTrendDTO;
+import com.back.dto.PriceTrendPointDTO;
+import com.back.repository.ComplexPriceSketchRepository;
+import com.back.repository.PriceTrendRollupRepository;
+import com.back.util.AddressNormalizer;
+import com.back.util.QuantileSketch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Log4j2
+public class PriceTrendServiceImpl implements PriceTrendService {
+
+    // 기간을 지정하지 않으면 최근 3년
+    private static final int DEFAULT_MONTHS = 36;
+
+    // 분위수를 지정하지 않으면 하위 10%, 중앙값, 상위 10%
+    private static final List<Double> DEFAULT_QUANTILES = List.of(0.1, 0.5, 0.9);
+
+    private final PriceTrendRollupRepository rollupRepository;
+    private final ComplexPriceSketchRepository complexSketchRepository;
+
+    @Override
+    public PriceTrendDTO getTrend(String sigungu, String propertyType, String dealType, Double area,
+                                  YearMonth from, YearMonth to) {
+        if (sigungu == null || sigungu.isBlank()) {
+            throw new IllegalArgumentException("시군구를 입력해주세요.");
+        }
+        String deal = requireDealType(dealType);
+        String region = resolveRegion(sigungu);
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("조회 시작월이 종료월보다 늦습니다: " + start + " ~ " + end);
+        }
+        Integer areaBand = area != null && area > 0 ? MarketPriceSummaryBuilder.areaBand(area) : null;
+
+        List<PriceTrendRollup> rollups = rollupRepository.findTrend(region, blankToNull(propertyType),
+                deal, areaBand, toMonth(start), toMonth(end));
+
+        // 같은 달의 주택유형/면적 구간 행은 합계와 스케치를 합쳐 한 점으로 (거래구분은 하나만 조회)
+        Map<Integer, MonthTotal> months = new LinkedHashMap<>();
+        for (PriceTrendRollup rollup : rollups) {
+            months.computeIfAbsent(rollup.getContractMonth(), month -> new MonthTotal()).add(rollup);
+        }
+
+        List<PriceTrendPointDTO> points = new ArrayList<>(months.size());
+        months.forEach((month, total) -> points.add(total.toPoint(month)));
+
+        log.debug("시세 추이 조회 - 시군구: {}, 유형: {}, 거래: {}, 면적 구간: {}, {} ~ {}: {}개월",
+                region, propertyType, deal, areaBand, start, end, points.size());
+
+        return PriceTrendDTO.builder()
+                .sigungu(region)
+                .propertyType(blankToNull(propertyType))
+                .dealType(deal)
+                .minArea(areaBand == null ? null : MarketPriceSummaryBuilder.areaBandLowerBound(areaBand))
+                .maxArea(areaBand == null ? null : MarketPriceSummaryBuilder.areaBandUpperBound(areaBand))
+                .points(points)
+                .build();
+    }
+
+    @Override
+    public PriceDistributionDTO getDistribution(List<String> sigungu, String complexName, String propertyType,
+                                                String dealType, Double area, YearMonth from, YearMonth to,
+                                                List<Double> quantiles) {
+        String deal = requireDealType(dealType);
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("조회 시작월이 종료월보다 늦습니다: " + start + " ~ " + end);
+        }
+        List<Double> requested = quantiles == null || quantiles.isEmpty() ? DEFAULT_QUANTILES
+                : quantiles.stream().sorted().toList();
+        for (Double q : requested) {
+            if (q == null || q < 0 || q > 1) {
+                throw new IllegalArgumentException("분위수는 0~1 사이여야 합니다: " + q);
+            }
+        }
+
+        boolean allRegions = sigungu == null || sigungu.stream().allMatch(name -> name == null || name.isBlank());
+        List<String> regions = new ArrayList<>();
+        if (!allRegions) {
+            for (String name : sigungu) {
+                if (name != null && !name.isBlank() && !regions.contains(resolveRegion(name))) {
+                    regions.add(resolveRegion(name));
+                }
+            }
+        }
+        // IN ()은 DB에 따라 오류라 빈 목록 대신 일치하지 않는 값을 넘김
+        List<String> regionParam = regions.isEmpty() ? List.of("") : regions;
+
+        QuantileSketch amounts = new QuantileSketch();
+        QuantileSketch monthlyRents = new QuantileSketch();
+        String complex = blankToNull(complexName);
+        if (complex != null) {
+            for (ComplexPriceSketch sketch : complexSketchRepository.findSketches(complex, allRegions, regionParam,
+                    blankToNull(propertyType), deal, toMonth(start), toMonth(end))) {
+                amounts.merge(QuantileSketch.fromBytes(sketch.getAmountSketch()));
+                monthlyRents.merge(QuantileSketch.fromBytes(sketch.getMonthlyRentSketch()));
+            }
+        } else {
+            Integer areaBand = area != null && area > 0 ? MarketPriceSummaryBuilder.areaBand(area) : null;
+            for (PriceTrendRollup rollup : rollupRepository.findSketches(allRegions, regionParam,
+                    blankToNull(propertyType), deal, areaBand, toMonth(start), toMonth(end))) {
+                amounts.merge(QuantileSketch.fromBytes(rollup.getAmountSketch()));
+                monthlyRents.merge(QuantileSketch.fromBytes(rollup.getMonthlyRentSketch()));
+            }
+        }
+
+        List<PriceQuantileDTO> values = new ArrayList<>(requested.size());
+        for (Double q : requested) {
+            Double amount = amounts.quantile(q);
+            Double monthlyRent = monthlyRents.quantile(q);
+            values.add(PriceQuantileDTO.builder()
+                    .quantile(q)
+                    .amount(amount == null ? null : Math.round(amount))
+                    .monthlyRent(monthlyRent == null ? null : Math.round(monthlyRent))
+                    .build());
+        }
+
+        return PriceDistributionDTO.builder()
+                .regions(regions)
+                .complexName(complex)
+                .propertyType(blankToNull(propertyType))
+                .dealType(deal)
+                .fromMonth(start.toString())
+                .toMonth(end.toString())
+                .transactionCount(amounts.getCount())
+                .monthlyRentCount(monthlyRents.getCount())
+                .quantiles(values)
+                .build();
+    }
+
+    // 매매 금액과 전월세 보증금은 섞으면 의미가 없어서 거래구분은 하나를 꼭 지정
+    private static String requireDealType(String dealType) {
+        String deal = blankToNull(dealType);
+        if (!PriceTrendRollupBuilder.SALE.equals(deal) && !PriceTrendRollupBuilder.JEONSE.equals(deal)
+                && !PriceTrendRollupBuilder.WOLSE.equals(deal)) {
+            throw new IllegalArgumentException("거래구분(매매/전세/월세)을 입력해주세요: " + dealType);
+        }
+        return deal;
+    }
+
+    /**
+     * 입력 시군구 → 집계의 시군구 이름 (시도 + 시군구, "서울특별시 마포구").
+     * 시도 없이 "마포구"처럼 준 경우 집계에 그 이름이 하나뿐일 때만 받고,
+     * "중구"처럼 여러 시도에 있으면 다른 도시 구까지 합쳐지므로 시도를 요구한다.
+     */
+    private String resolveRegion(String sigungu) {
+        String name = AddressNormalizer.district(sigungu);
+        if (name.contains(" ")) {
+            return name;
+        }
+        List<String> candidates = rollupRepository.findDistinctRegions().stream()
+                .filter(region -> region.equals(name) || region.endsWith(" " + name))
+                .toList();
+        if (candidates.size() > 1) {
+            throw new IllegalArgumentException("시도까지 입력해주세요: " + String.join(", ", candidates));
+        }
+        return candidates.isEmpty() ? name : candidates.get(0);
+    }
+
+    private static int toMonth(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // 한 달치 집계 행 합산
+    private static class MonthTotal {
+        private final QuantileSketch sketch = new QuantileSketch();
+        private long count;
+        private long amountSum;
+        private long monthlyRentSum;
+        private long monthlyRentCount;
+        private double pricePerAreaSum;
+        private long areaCount;
+
+        private void add(PriceTrendRollup rollup) {
+            count += rollup.getTransactionCount();
+            amountSum += rollup.getAmountSum();
+            if (rollup.getMonthlyRentSum() != null) {
+                monthlyRentSum += rollup.getMonthlyRentSum();
+                monthlyRentCount += rollup.getTransactionCount();
+            }
+            if (rollup.getPricePerAreaSum() != null && rollup.getAreaCount() != null) {
+                pricePerAreaSum += rollup.getPricePerAreaSum();
+                areaCount += rollup.getAreaCount();
+            }
+            sketch.merge(QuantileSketch.fromBytes(rollup.getAmountSketch()));
+        }
+
+        private PriceTrendPointDTO toPoint(int month) {
+            Double median = sketch.median();
+            return PriceTrendPointDTO.builder()
+                    .month(String.format("%04d-%02d", month / 100, month % 100))
+                    .transactionCount(count)
+                    .averageAmount(count > 0 ? Math.round((double) amountSum / count) : null)
+                    .medianAmount(median == null ? null : Math.round(median))
+                    .averagePricePerArea(areaCount > 0 ? Math.round(pricePerAreaSum / areaCount * 10) / 10.0 : null)
+                    .averageMonthlyRent(monthlyRentCount > 0 ? Math.round((double) monthlyRentSum / monthlyRentCount) : null)
+                    .build();
+        }
+    }
+}
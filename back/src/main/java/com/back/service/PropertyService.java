@@ -1,12 +1,17 @@
 package com.back.service;
 
+import com.back.dto.PropertyCardDTO;
 import com.back.dto.PropertyDTO;
+import com.back.dto.PropertySearchDTO;
 import com.back.dto.ReplyDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PropertyService {
     List<PropertyDTO> getAllProperties();
@@ -18,6 +23,15 @@ public interface PropertyService {
     List<PropertyDTO> getPropertiesByTransactionTypeWithFilters(String transactionType, Double saleMin, Double saleMax, Double depositMin, Double depositMax, Double monthlyRentMin, Double monthlyRentMax, Double areaMin, Double areaMax);
     List<PropertyDTO> getPropertiesByTypeAndTransactionType(String propertyType, String transactionType);
     List<PropertyDTO> searchProperties(String keyword);
+    
+    // 키워드 검색 (검색 인덱스의 관련도 순, 페이징, 목록 카드)
+    Page<PropertyCardDTO> searchProperties(String keyword, Pageable pageable);
+    
+    // 조건 검색 + 페이징 (필터/LIMIT/OFFSET/COUNT 모두 DB에서 처리, 목록 카드)
+    Page<PropertyCardDTO> findProperties(PropertySearchDTO searchDTO, Pageable pageable);
+    
+    // 가격 숫자 컬럼 백필 (마지막으로 처리한 id 반환, 더 없으면 null)
+    Long backfillPriceAmounts(Long lastId, int chunkSize);
     Optional<PropertyDTO> getProperty(Long id, String memberEmail);
     PropertyDTO save(PropertyDTO propertyDTO);
     PropertyDTO update(Long id, PropertyDTO propertyDTO);
@@ -33,9 +47,21 @@ public interface PropertyService {
     // 좋아요 처리 (사용자별)
     void toggleLike(Long propertyId, String memberEmail);
     
+    // id 범위 내 매물의 좋아요 수를 실제 좋아요 기록으로 보정
+    int reconcileLikeCounts(Long fromId, Long toId);
+    
     // 특정 사용자의 좋아요 여부 확인
     boolean isLikedByMember(Long propertyId, String memberEmail);
     
+    // 주어진 매물 중 사용자가 좋아요한 매물 ID (한 번의 쿼리로 조회)
+    Set<Long> getLikedPropertyIds(String memberEmail, Collection<Long> propertyIds);
+    
+    // 매물 목록에 사용자별 좋아요 상태 일괄 설정
+    void applyLikeStatus(List<PropertyDTO> properties, String memberEmail);
+    
+    // 목록 카드에 사용자별 좋아요 상태 일괄 설정
+    void applyCardLikeStatus(List<PropertyCardDTO> cards, String memberEmail);
+    
     // 특정 매물의 좋아요 개수 조회
     long getLikeCount(Long propertyId);
     
@@ -59,8 +85,4 @@ public interface PropertyService {
     ReplyDTO createPropertyInquiryAsDTO(Long propertyId, ReplyDTO inquiryDTO);
     List<ReplyDTO> getInquiryRepliesAsDTO(Long inquiryId);
     ReplyDTO createInquiryReplyAsDTO(Long inquiryId, ReplyDTO replyDTO);
-    
-    // 실거래가 조회 메서드들
-    List<Map<String, Object>> getRecentSalesByAddress(String roadAddress, Double area);
-    List<Map<String, Object>> getRecentRentsByAddress(String roadAddress, Double area);
 } 
\ No newline at end of file
@@ -4,37 +4,34 @@ import com.back.domain.Property;
 import com.back.domain.PropertyInquiry;
 import com.back.domain.PropertyInquiryReply;
 import com.back.domain.PropertyLike;
-import com.back.domain.ApartmentSale;
-import com.back.domain.ApartmentRent;
-import com.back.domain.RowHouseSale;
-import com.back.domain.RowHouseRent;
-import com.back.domain.DetachedHouseSale;
-import com.back.domain.DetachedHouseRent;
-import com.back.domain.OfficeTelSale;
-import com.back.domain.OfficeTelRent;
+import com.back.dto.PropertyCardDTO;
 import com.back.dto.PropertyDTO;
+import com.back.dto.PropertySearchDTO;
 import com.back.dto.ReplyDTO;
+import com.back.index.PropertyGeoIndex;
+import com.back.index.PropertySearchIndex;
 import com.back.repository.PropertyRepository;
+import com.back.repository.PropertySpecification;
 import com.back.repository.PropertyInquiryRepository;
 import com.back.repository.PropertyInquiryReplyRepository;
 import com.back.repository.PropertyLikeRepository;
-import com.back.repository.ApartmentSaleRepository;
-import com.back.repository.ApartmentRentRepository;
-import com.back.repository.RowHouseSaleRepository;
-import com.back.repository.RowHouseRentRepository;
-import com.back.repository.DetachedHouseSaleRepository;
-import com.back.repository.DetachedHouseRentRepository;
-import com.back.repository.OfficeTelSaleRepository;
-import com.back.repository.OfficeTelRentRepository;
 import com.back.util.CustomFileUtil;
+import com.back.util.GeoDistance;
+import com.back.util.PriceParser;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.time.LocalDate;
 
 @Service
 @Log4j2
@@ -53,31 +50,21 @@ public class PropertyServiceImpl implements PropertyService {
     private PropertyLikeRepository propertyLikeRepository;
     
     @Autowired
-    private ApartmentSaleRepository apartmentSaleRepository;
-    
-    @Autowired
-    private ApartmentRentRepository apartmentRentRepository;
-    
-    @Autowired
-    private RowHouseSaleRepository rowHouseSaleRepository;
-    
-    @Autowired
-    private RowHouseRentRepository rowHouseRentRepository;
-    
-    @Autowired
-    private DetachedHouseSaleRepository detachedHouseSaleRepository;
+    private CustomFileUtil customFileUtil;
     
     @Autowired
-    private DetachedHouseRentRepository detachedHouseRentRepository;
+    private PropertyViewCounter propertyViewCounter;
     
     @Autowired
-    private OfficeTelSaleRepository officeTelSaleRepository;
+    private PropertySearchIndex propertySearchIndex;
     
     @Autowired
-    private OfficeTelRentRepository officeTelRentRepository;
+    private PropertyGeoIndex propertyGeoIndex;
     
-    @Autowired
-    private CustomFileUtil customFileUtil;
+    // 좌표 인덱스 결과를 ID IN 조건으로 넘기는 최대 건수 (초과 시 SQL 좌표 조건 사용)
+    private static final int MAX_LOCATION_ID_FILTER = 1000;
+
+    private static final String PRICE_ESTIMATE_RATIO = "priceEstimateRatio";
 
     // Entity를 DTO로 변환
     private PropertyDTO entityToDTO(Property property) {
@@ -94,6 +81,8 @@ public class PropertyServiceImpl implements PropertyService {
                     .transactionType(property.getTransactionType() != null ? property.getTransactionType() : "")
                     .price(property.getPrice() != null ? property.getPrice() : "")
                     .monthlyRent(property.getMonthlyRent() != null ? property.getMonthlyRent() : "")
+                    .estimatedPriceAmount(property.getEstimatedPriceAmount())
+                    .priceEstimateRatio(property.getPriceEstimateRatio())
                     .area(property.getArea())
                     .rooms(property.getRooms())
                     .bathrooms(property.getBathrooms())
@@ -121,7 +110,7 @@ public class PropertyServiceImpl implements PropertyService {
                     .fireAlarm(property.getFireAlarm())
                     .status(property.getStatus() != null ? property.getStatus() : "")
                     .transactionStatus(property.getTransactionStatus())
-                    .viewCount(property.getViewCount() != null ? property.getViewCount() : 0)
+                    .viewCount(getViewCountWithPending(property))
                     .likeCount(property.getLikeCount() != null ? property.getLikeCount() : 0)
                     .isLiked(property.getIsLiked() != null ? property.getIsLiked() : false)
                     .imageUrls(property.getImageUrls() != null ? property.getImageUrls() : new ArrayList<>())
@@ -138,6 +127,12 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
+    // DB 조회수 + 아직 반영되지 않은 조회수
+    private int getViewCountWithPending(Property property) {
+        int viewCount = property.getViewCount() != null ? property.getViewCount() : 0;
+        return viewCount + (int) propertyViewCounter.getPendingCount(property.getId());
+    }
+
     // DTO를 Entity로 변환
     private Property dtoToEntity(PropertyDTO propertyDTO) {
         try {
@@ -205,343 +200,168 @@ public class PropertyServiceImpl implements PropertyService {
     
     @Override
     public List<PropertyDTO> getAllPropertiesWithAreaFilter(Double areaMin, Double areaMax) {
-        log.info("=== 면적 필터링 시작 ===");
-        log.info("면적 범위: {} ~ {} m²", areaMin, areaMax);
-        
-        List<Property> properties = propertyRepository.findAll();
-        log.info("전체 매물 수: {}건", properties.size());
-        
-        // 면적 필터링 적용
-        if (areaMin != null || areaMax != null) {
-            int beforeFilterCount = properties.size();
-            
-            properties = properties.stream()
-                    .filter(property -> {
-                        // 면적 필터링
-                        if (areaMin != null || areaMax != null) {
-                            if (property.getArea() == null) {
-                                log.info("면적 필터 실패: 면적 정보 없음 (null)");
-                                return false;
-                            }
-                            double area = property.getArea();
-                            if (areaMin != null && area < areaMin) {
-                                log.info("면적 필터 실패: {} m² < {} m²", area, areaMin);
-                                return false;
-                            }
-                            if (areaMax != null && area > areaMax) {
-                                log.info("면적 필터 실패: {} m² > {} m²", area, areaMax);
-                                return false;
-                            }
-                            log.info("면적 필터 통과: {} m²", area);
-                        }
-                        return true;
-                    })
-                    .collect(Collectors.toList());
-            
-            int afterFilterCount = properties.size();
-            log.info("면적 필터링 후 매물 수: {}건 (제외된 매물: {}건)", afterFilterCount, beforeFilterCount - afterFilterCount);
-        }
-        
-        log.info("=== 면적 필터링 완료 ===");
-        
-        return properties.stream()
-                .map(this::entityToDTO)
-                .collect(Collectors.toList());
+        PropertySearchDTO searchDTO = PropertySearchDTO.builder()
+                .areaMin(areaMin)
+                .areaMax(areaMax)
+                .build();
+        return findPropertyList(searchDTO);
     }
 
-@Override
+    @Override
     public List<PropertyDTO> getAllPropertiesWithFilters(Double areaMin, Double areaMax, Integer roomCount, Integer bathroomCount, Integer floor, Integer yearBuiltMin, Integer yearBuiltMax) {
-        log.info("=== 통합 필터링 시작 ===");
-        log.info("면적 범위: {} ~ {} m²", areaMin, areaMax);
-        log.info("방 개수: {}", roomCount);
-        log.info("화장실 개수: {}", bathroomCount);
-        log.info("층수: {}", floor);
-        log.info("준공년도 범위: {} ~ {}", yearBuiltMin, yearBuiltMax);
-        
-        List<Property> properties = propertyRepository.findAll();
-        log.info("전체 매물 수: {}건", properties.size());
-        
-        // 면적, 방 개수, 화장실 개수, 층수, 준공년도 필터링 적용
-        boolean hasFilters = (areaMin != null || areaMax != null || roomCount != null || bathroomCount != null || floor != null || yearBuiltMin != null || yearBuiltMax != null);
-        
-        if (hasFilters) {
-            log.info("=== 필터링 조건 확인 ===");
-            log.info("면적 범위: {} ~ {} m²", areaMin, areaMax);
-            log.info("방 개수: {}", roomCount);
-            log.info("화장실 개수: {}", bathroomCount);
-            log.info("층수: {}", floor);
-            log.info("준공년도 범위: {} ~ {}년", yearBuiltMin, yearBuiltMax);
-            log.info("========================");
-            
-            // 준공년도 필터가 설정되었는지 별도 확인
-            if (yearBuiltMin != null || yearBuiltMax != null) {
-                log.info("*** 준공년도 필터가 설정됨 ***");
-                log.info("yearBuiltMin: {} (타입: {})", yearBuiltMin, yearBuiltMin != null ? yearBuiltMin.getClass().getSimpleName() : "null");
-                log.info("yearBuiltMax: {} (타입: {})", yearBuiltMax, yearBuiltMax != null ? yearBuiltMax.getClass().getSimpleName() : "null");
-            } else {
-                log.info("*** 준공년도 필터가 설정되지 않음 ***");
-            }
-            int beforeFilterCount = properties.size();
-            
-            properties = properties.stream()
-                    .filter(property -> {
-                        // 면적 필터링
-                        if (areaMin != null || areaMax != null) {
-                            if (property.getArea() == null) {
-                                log.info("면적 필터 실패: 면적 정보 없음 (null)");
-                                return false;
-                            }
-                            double area = property.getArea();
-                            if (areaMin != null && area < areaMin) {
-                                log.info("면적 필터 실패: {} m² < {} m²", area, areaMin);
-                                return false;
-                            }
-                            if (areaMax != null && area > areaMax) {
-                                log.info("면적 필터 실패: {} m² > {} m²", area, areaMax);
-                                return false;
-                            }
-                            log.info("면적 필터 통과: {} m²", area);
-                        }
-                        
-                        // 방 개수 필터링
-                        if (roomCount != null) {
-                            if (property.getRooms() == null) {
-                                log.info("방 개수 필터 실패: 방 개수 정보 없음 (null)");
-                                return false;
-                            }
-                            // 타입 안전성을 위해 Integer로 변환
-                            Integer propertyRooms = property.getRooms();
-                            Integer filterRoomCount = roomCount;
-                            
-                            if (!filterRoomCount.equals(propertyRooms)) {
-                                log.info("방 개수 필터 실패: {}개 != {}개 (필터: {}, 매물: {})", 
-                                    propertyRooms, filterRoomCount, filterRoomCount, propertyRooms);
-                                return false;
-                            }
-                            log.info("방 개수 필터 통과: {}개", propertyRooms);
-                        }
-                        
-                        // 화장실 개수 필터링
-                        if (bathroomCount != null) {
-                            if (property.getBathrooms() == null) {
-                                log.info("화장실 개수 필터 실패: 화장실 개수 정보 없음 (null)");
-                                return false;
-                            }
-                            // 타입 안전성을 위해 Integer로 변환
-                            Integer propertyBathrooms = property.getBathrooms();
-                            Integer filterBathroomCount = bathroomCount;
-                            
-                            if (!filterBathroomCount.equals(propertyBathrooms)) {
-                                log.info("화장실 개수 필터 실패: {}개 != {}개 (필터: {}, 매물: {})", 
-                                    propertyBathrooms, filterBathroomCount, filterBathroomCount, propertyBathrooms);
-                                return false;
-                            }
-                            log.info("화장실 개수 필터 통과: {}개", propertyBathrooms);
-                        }
-                        
-                        // 층수 필터링
-                        if (floor != null) {
-                            if (property.getFloor() == null) {
-                                log.info("층수 필터 실패: 층수 정보 없음 (null)");
-                                return false;
-                            }
-                            if (!floor.equals(property.getFloor())) {
-                                log.info("층수 필터 실패: {}층 != {}층", property.getFloor(), floor);
-                                return false;
-                            }
-                            log.info("층수 필터 통과: {}층", property.getFloor());
-                        }
-                        
-                        // 준공년도 필터링
-                        if (yearBuiltMin != null || yearBuiltMax != null) {
-                            log.info("=== 준공년도 필터링 시작 ===");
-                            log.info("매물 ID: {}, 제목: {}", property.getId(), property.getTitle());
-                            log.info("매물 준공년도: {}", property.getYearBuilt());
-                            log.info("필터 조건: {} ~ {}년", yearBuiltMin, yearBuiltMax);
-                            
-                            if (property.getYearBuilt() == null) {
-                                log.info("준공년도 필터 실패: 준공년도 정보 없음 (null)");
-                                return false;
-                            }
-                            int yearBuilt = property.getYearBuilt();
-                            
-                            // 최솟값 체크
-                            if (yearBuiltMin != null && yearBuilt < yearBuiltMin) {
-                                log.info("준공년도 필터 실패: {}년 < {}년", yearBuilt, yearBuiltMin);
-                                return false;
-                            }
-                            
-                            // 최댓값 체크
-                            if (yearBuiltMax != null && yearBuilt > yearBuiltMax) {
-                                log.info("준공년도 필터 실패: {}년 > {}년", yearBuilt, yearBuiltMax);
-                                return false;
-                            }
-                            
-                            log.info("준공년도 필터 통과: {}년 (범위: {}~{}년)", yearBuilt, yearBuiltMin, yearBuiltMax);
-                            log.info("=== 준공년도 필터링 완료 ===");
-                        }
-                        
-                        return true;
-                    })
-                    .collect(Collectors.toList());
-            
-            int afterFilterCount = properties.size();
-            log.info("통합 필터링 후 매물 수: {}건 (제외된 매물: {}건)", afterFilterCount, beforeFilterCount - afterFilterCount);
-        }
-        
-        log.info("=== 통합 필터링 완료 ===");
-        
-        return properties.stream()
-                .map(this::entityToDTO)
-                .collect(Collectors.toList());
+        PropertySearchDTO searchDTO = PropertySearchDTO.builder()
+                .areaMin(areaMin)
+                .areaMax(areaMax)
+                .roomCount(roomCount)
+                .bathroomCount(bathroomCount)
+                .floor(floor)
+                .yearBuiltMin(yearBuiltMin)
+                .yearBuiltMax(yearBuiltMax)
+                .build();
+        return findPropertyList(searchDTO);
     }
 
     @Override
     public List<PropertyDTO> getPropertiesByType(String propertyType) {
-        return propertyRepository.findByPropertyType(propertyType).stream()
-                .map(this::entityToDTO)
-                .collect(Collectors.toList());
+        return findPropertyList(PropertySearchDTO.builder().propertyType(propertyType).build());
     }
 
     @Override
     public List<PropertyDTO> getPropertiesByTypeWithFilters(String propertyType, Double areaMin, Double areaMax, Integer roomCount, Integer bathroomCount, Integer floor, Integer yearBuiltMin, Integer yearBuiltMax) {
-                                                        log.info("=== 특정 유형 필터링 시작 ===");
-                        log.info("매물 유형: {}", propertyType);
-                        log.info("면적 범위: {} ~ {} m²", areaMin, areaMax);
-                        log.info("방 개수: {}", roomCount);
-                        log.info("화장실 개수: {}", bathroomCount);
-                        log.info("층수: {}", floor);
-                        log.info("준공년도 범위: {} ~ {}년", yearBuiltMin, yearBuiltMax);
-                        
-                        List<Property> properties = propertyRepository.findByPropertyType(propertyType);
-                        log.info("해당 유형 매물 수: {}건", properties.size());
-                        
-                        // 필터링 적용
-                        boolean hasFilters = (areaMin != null || areaMax != null || roomCount != null || bathroomCount != null || floor != null || yearBuiltMin != null || yearBuiltMax != null);
-                        
-                        if (hasFilters) {
-                            log.info("=== 필터링 조건 확인 ===");
-                            int beforeFilterCount = properties.size();
-                            
-                            properties = properties.stream()
-                                    .filter(property -> {
-                                        // 면적 필터링
-                                        if (areaMin != null || areaMax != null) {
-                                            if (property.getArea() == null) {
-                                                log.info("면적 필터 실패: 면적 정보 없음 (null)");
-                                                return false;
-                                            }
-                                            double area = property.getArea();
-                                            if (areaMin != null && area < areaMin) {
-                                                log.info("면적 필터 실패: {} m² < {} m²", area, areaMin);
-                                                return false;
-                                            }
-                                            if (areaMax != null && area > areaMax) {
-                                                log.info("면적 필터 실패: {} m² > {} m²", area, areaMax);
-                                                return false;
-                                            }
-                                            log.info("면적 필터 통과: {} m²", area);
-                                        }
-                                        
-                                        // 방 개수 필터링
-                                        if (roomCount != null) {
-                                            if (property.getRooms() == null) {
-                                                log.info("방 개수 필터 실패: 방 개수 정보 없음 (null)");
-                                                return false;
-                                            }
-                                            // 타입 안전성을 위해 Integer로 변환
-                                            Integer propertyRooms = property.getRooms();
-                                            Integer filterRoomCount = roomCount;
-                                            
-                                            if (!filterRoomCount.equals(propertyRooms)) {
-                                                log.info("방 개수 필터 실패: {}개 != {}개 (필터: {}, 매물: {})", 
-                                                    propertyRooms, filterRoomCount, filterRoomCount, propertyRooms);
-                                                return false;
-                                            }
-                                            log.info("방 개수 필터 통과: {}개", propertyRooms);
-                                        }
-                                        
-                                        // 화장실 개수 필터링
-                                        if (bathroomCount != null) {
-                                            if (property.getBathrooms() == null) {
-                                                log.info("화장실 개수 필터 실패: 화장실 개수 정보 없음 (null)");
-                                                return false;
-                                            }
-                                            // 타입 안전성을 위해 Integer로 변환
-                                            Integer propertyBathrooms = property.getBathrooms();
-                                            Integer filterBathroomCount = bathroomCount;
-                                            
-                                            if (!filterBathroomCount.equals(propertyBathrooms)) {
-                                                log.info("화장실 개수 필터 실패: {}개 != {}개 (필터: {}, 매물: {})", 
-                                                    propertyBathrooms, filterBathroomCount, filterBathroomCount, propertyBathrooms);
-                                                return false;
-                                            }
-                                            log.info("화장실 개수 필터 통과: {}개", propertyBathrooms);
-                                        }
-                        
-                        // 층수 필터링
-                        if (floor != null) {
-                            if (property.getFloor() == null) {
-                                log.info("층수 필터 실패: 층수 정보 없음 (null)");
-                                return false;
-                            }
-                            if (!floor.equals(property.getFloor())) {
-                                log.info("층수 필터 실패: {}층 != {}층", property.getFloor(), floor);
-                                return false;
-                            }
-                            log.info("층수 필터 통과: {}층", property.getFloor());
-                        }
-                        
-                        // 준공년도 필터링
-                        if (yearBuiltMin != null || yearBuiltMax != null) {
-                            log.info("=== 준공년도 필터링 시작 ===");
-                            log.info("매물 ID: {}, 제목: {}", property.getId(), property.getTitle());
-                            log.info("매물 준공년도: {}", property.getYearBuilt());
-                            log.info("필터 조건: {} ~ {}년", yearBuiltMin, yearBuiltMax);
-                            
-                            if (property.getYearBuilt() == null) {
-                                log.info("준공년도 필터 실패: 준공년도 정보 없음 (null)");
-                                return false;
-                            }
-                            int yearBuilt = property.getYearBuilt();
-                            
-                            // 최솟값 체크
-                            if (yearBuiltMin != null && yearBuilt < yearBuiltMin) {
-                                log.info("준공년도 필터 실패: {}년 < {}년", yearBuilt, yearBuiltMin);
-                                return false;
-                            }
-                            
-                            // 최댓값 체크
-                            if (yearBuiltMax != null && yearBuilt > yearBuiltMax) {
-                                log.info("준공년도 필터 실패: {}년 > {}년", yearBuilt, yearBuiltMax);
-                                return false;
-                            }
-                            
-                            log.info("준공년도 필터 통과: {}년 (범위: {}~{}년)", yearBuilt, yearBuiltMin, yearBuiltMax);
-                            log.info("=== 준공년도 필터링 완료 ===");
-                        }
-                        
-                        return true;
-                    })
-                    .collect(Collectors.toList());
-            
-            int afterFilterCount = properties.size();
-            log.info("필터링 후 매물 수: {}건 (제외된 매물: {}건)", afterFilterCount, beforeFilterCount - afterFilterCount);
+        PropertySearchDTO searchDTO = PropertySearchDTO.builder()
+                .propertyType(propertyType)
+                .areaMin(areaMin)
+                .areaMax(areaMax)
+                .roomCount(roomCount)
+                .bathroomCount(bathroomCount)
+                .floor(floor)
+                .yearBuiltMin(yearBuiltMin)
+                .yearBuiltMax(yearBuiltMax)
+                .build();
+        return findPropertyList(searchDTO);
+    }
+
+    @Override
+    public Page<PropertyCardDTO> findProperties(PropertySearchDTO searchDTO, Pageable pageable) {
+        log.info("매물 조건 검색 - 조건: {}, 페이지: {}, 크기: {}", searchDTO, pageable.getPageNumber(), pageable.getPageSize());
+
+        // 조건/정렬/LIMIT/OFFSET 모두 DB에서 처리하고, 전체 건수는 별도 COUNT 쿼리로 조회
+        Specification<Property> spec = PropertySpecification.search(searchDTO);
+        if (hasLocationFilter(searchDTO)) {
+            spec = spec.and(locationFilter(searchDTO));
         }
-        
-        log.info("=== 특정 유형 필터링 완료 ===");
-        
-        return properties.stream()
+        // 추정가 대비 가격 순 정렬은 비율이 산정된 매매 매물만
+        if (pageable.getSort().getOrderFor(PRICE_ESTIMATE_RATIO) != null) {
+            spec = spec.and(PropertySpecification.hasPriceEstimateRatio());
+        }
+        Page<PropertyCardDTO> result = propertyRepository.findCards(spec, pageable);
+        fillCardDetails(result.getContent());
+
+        log.info("매물 조건 검색 완료 - 전체: {}건, 현재 페이지: {}건", result.getTotalElements(), result.getNumberOfElements());
+        return result;
+    }
+
+    // 카드에 대표 이미지(한 번의 쿼리)와 대기 중인 조회수 반영
+    private void fillCardDetails(List<PropertyCardDTO> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        List<Long> propertyIds = cards.stream().map(PropertyCardDTO::getId).collect(Collectors.toList());
+        Map<Long, String> firstImages = new HashMap<>();
+        for (Object[] row : propertyRepository.findImageUrlsByPropertyIds(propertyIds)) {
+            firstImages.put((Long) row[0], (String) row[1]);
+        }
+
+        for (PropertyCardDTO card : cards) {
+            String firstImage = firstImages.get(card.getId());
+            card.setImageUrls(firstImage != null ? List.of(firstImage) : new ArrayList<>());
+            int viewCount = card.getViewCount() != null ? card.getViewCount() : 0;
+            card.setViewCount(viewCount + (int) propertyViewCounter.getPendingCount(card.getId()));
+            card.setLikeCount(card.getLikeCount() != null ? card.getLikeCount() : 0);
+            card.setIsLiked(false);
+        }
+    }
+
+    private boolean hasLocationFilter(PropertySearchDTO searchDTO) {
+        boolean hasBounds = searchDTO.getSwLat() != null && searchDTO.getSwLng() != null
+                && searchDTO.getNeLat() != null && searchDTO.getNeLng() != null;
+        boolean hasRadius = searchDTO.getCenterLat() != null && searchDTO.getCenterLng() != null
+                && searchDTO.getRadiusKm() != null;
+        return hasBounds || hasRadius;
+    }
+
+    // 지도 화면 영역/반경 조건 (좌표 인덱스 후보가 적으면 ID 조건, 많으면 SQL 좌표 조건)
+    private Specification<Property> locationFilter(PropertySearchDTO searchDTO) {
+        Double centerLat = searchDTO.getCenterLat();
+        Double centerLng = searchDTO.getCenterLng();
+        Double radiusKm = searchDTO.getRadiusKm();
+        boolean hasRadius = centerLat != null && centerLng != null && radiusKm != null;
+
+        double swLat = -90, swLng = -180, neLat = 90, neLng = 180;
+        if (searchDTO.getSwLat() != null && searchDTO.getSwLng() != null
+                && searchDTO.getNeLat() != null && searchDTO.getNeLng() != null) {
+            swLat = searchDTO.getSwLat();
+            swLng = searchDTO.getSwLng();
+            neLat = searchDTO.getNeLat();
+            neLng = searchDTO.getNeLng();
+        }
+        if (hasRadius) {
+            // 원을 감싸는 사각 영역과 교집합
+            double latDelta = radiusKm / GeoDistance.KM_PER_DEGREE;
+            double lngDelta = radiusKm / GeoDistance.kmPerLongitude(centerLat);
+            swLat = Math.max(swLat, centerLat - latDelta);
+            neLat = Math.min(neLat, centerLat + latDelta);
+            swLng = Math.max(swLng, centerLng - lngDelta);
+            neLng = Math.min(neLng, centerLng + lngDelta);
+        }
+
+        if (propertyGeoIndex.isReady()) {
+            List<Long> ids = propertyGeoIndex.find(swLat, swLng, neLat, neLng, centerLat, centerLng, radiusKm);
+            if (ids.size() <= MAX_LOCATION_ID_FILTER) {
+                log.info("좌표 인덱스 조회 - 후보 {}건", ids.size());
+                return PropertySpecification.idIn(ids);
+            }
+        }
+
+        Specification<Property> spec = PropertySpecification.withinBounds(swLat, swLng, neLat, neLng);
+        if (hasRadius) {
+            spec = spec.and(PropertySpecification.withinRadius(centerLat, centerLng, radiusKm));
+        }
+        return spec;
+    }
+
+    // 페이징 없이 조건에 맞는 매물 전체 조회
+    private List<PropertyDTO> findPropertyList(PropertySearchDTO searchDTO) {
+        return propertyRepository.findAll(PropertySpecification.search(searchDTO), Sort.by("id")).stream()
                 .map(this::entityToDTO)
                 .collect(Collectors.toList());
     }
 
+    // 가격 숫자 컬럼 백필 (lastId 이후 chunkSize건 처리, 처리할 매물이 없으면 null 반환)
+    @Override
+    @Transactional
+    public Long backfillPriceAmounts(Long lastId, int chunkSize) {
+        List<Property> targets = propertyRepository.findPriceAmountBackfillTargets(lastId, PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) {
+            return null;
+        }
+
+        for (Property property : targets) {
+            propertyRepository.updatePriceAmounts(property.getId(),
+                    PriceParser.salePriceAmount(property.getTransactionType(), property.getPrice()),
+                    PriceParser.depositAmount(property.getTransactionType(), property.getPrice()),
+                    PriceParser.monthlyRentAmount(property.getTransactionType(), property.getMonthlyRent()));
+        }
+        return targets.get(targets.size() - 1).getId();
+    }
+
     @Override
     public List<PropertyDTO> getPropertiesByTransactionType(String transactionType) {
         return getPropertiesByTransactionTypeWithFilters(transactionType, null, null, null, null, null, null, null, null);
     }
 
-    // 가격 필터링이 포함된 메서드 추가
+    // 가격 필터링이 포함된 메서드 (가격은 숫자 컬럼 범위 조건으로 DB에서 처리)
     public List<PropertyDTO> getPropertiesByTransactionTypeWithFilters(
             String transactionType, 
             Double saleMin, Double saleMax,
@@ -549,277 +369,93 @@ public class PropertyServiceImpl implements PropertyService {
             Double monthlyRentMin, Double monthlyRentMax,
             Double areaMin, Double areaMax) {
         
-        log.info("=== 가격 필터링 시작 ===");
-        log.info("거래 유형: {}", transactionType);
-        log.info("매매 가격 범위: {} ~ {}", saleMin, saleMax);
-        log.info("보증금 범위: {} ~ {}", depositMin, depositMax);
-        log.info("월세 범위: {} ~ {}", monthlyRentMin, monthlyRentMax);
-        log.info("면적 범위: {} ~ {} m²", areaMin, areaMax);
-        
-        List<Property> properties;
-        
-        if ("전/월세".equals(transactionType)) {
-            // 전/월세인 경우 전세와 월세 매물을 모두 가져오기
-            properties = propertyRepository.findAll().stream()
-                    .filter(property -> "전세".equals(property.getTransactionType()) || "월세".equals(property.getTransactionType()))
-                    .collect(Collectors.toList());
-        } else if ("월세".equals(transactionType)) {
-            // 월세만 정확하게 필터링
-            properties = propertyRepository.findByTransactionType("월세");
-        } else if ("전세".equals(transactionType)) {
-            // 전세만 정확하게 필터링
-            properties = propertyRepository.findByTransactionType("전세");
-        } else if ("매매".equals(transactionType)) {
-            // 매매만 정확하게 필터링
-            properties = propertyRepository.findByTransactionType("매매");
-        } else {
-            // 전체 등 다른 거래 유형은 기존 방식대로
-            properties = propertyRepository.findByTransactionType(transactionType);
-        }
+        log.info("가격 필터링 - 거래 유형: {}, 매매: {} ~ {}, 보증금: {} ~ {}, 월세: {} ~ {}, 면적: {} ~ {} m²",
+                transactionType, saleMin, saleMax, depositMin, depositMax, monthlyRentMin, monthlyRentMax, areaMin, areaMax);
         
-        log.info("거래 유형 필터링 후 매물 수: {}건", properties.size());
+        List<PropertyDTO> result = findPropertyList(PropertySearchDTO.builder()
+                .transactionType(transactionType)
+                .saleMin(saleMin)
+                .saleMax(saleMax)
+                .depositMin(depositMin)
+                .depositMax(depositMax)
+                .monthlyRentMin(monthlyRentMin)
+                .monthlyRentMax(monthlyRentMax)
+                .areaMin(areaMin)
+                .areaMax(areaMax)
+                .build());
         
-        // DB에 저장된 매물들의 가격 정보를 먼저 확인
-        log.info("=== DB 매물 가격 정보 ===");
-        for (Property property : properties) {
-            log.info("매물 ID: {}, 제목: {}, 거래유형: {}, 가격: {}, 월세: {}, 면적: {}", 
-                    property.getId(), property.getTitle(), property.getTransactionType(), 
-                    property.getPrice(), property.getMonthlyRent(), property.getArea());
-        }
-        log.info("=== DB 매물 가격 정보 끝 ===");
-        
-        // 가격 필터링 적용
-        if (properties != null && !properties.isEmpty()) {
-            int beforeFilterCount = properties.size();
-            
-            properties = properties.stream()
-                    .filter(property -> {
-                        log.info("=== 매물 필터링 시작 ===");
-                        log.info("매물 ID: {}, 제목: {}, 거래유형: {}, 가격: {}, 월세: {}, 면적: {}", 
-                                property.getId(), property.getTitle(), property.getTransactionType(), 
-                                property.getPrice(), property.getMonthlyRent(), property.getArea());
-                        
-                        // 매매 가격 필터링
-                        if ("매매".equals(transactionType) && property.getPrice() != null) {
-                            try {
-                                // 가격 문자열에서 "억원" 제거하고 숫자만 추출
-                                String priceStr = property.getPrice().replaceAll("[억원\\s]", "");
-                                double price = Double.parseDouble(priceStr);
-                                
-                                // 가격이 10000 이상이면 만원 단위로 인식하여 억원 단위로 변환
-                                if (price >= 10000) {
-                                    price = price / 10000; // 만원 → 억원 변환
-                                    log.info("매매 매물 가격: {}만원 → {}억원으로 변환", price * 10000, price);
-                                } else {
-                                    log.info("매매 매물 가격: {} (단위: 억원)", price);
-                                }
-                                
-                                // 가격 필터링 적용
-                                if (saleMin != null && price < saleMin) {
-                                    log.info("매매 가격 필터 실패: {}억원 < {}억원", price, saleMin);
-                                    return false;
-                                }
-                                if (saleMax != null && price > saleMax) {
-                                    log.info("매매 가격 필터 실패: {}억원 > {}억원", price, saleMax);
-                                    return false;
-                                }
-                                
-                                log.info("매매 가격 필터 통과: {}억원", price);
-                            } catch (NumberFormatException e) {
-                                log.warn("매매 가격 파싱 실패: {} - 에러: {}", property.getPrice(), e.getMessage());
-                                // 파싱 실패 시에도 매물을 포함 (이전처럼)
-                                return true;
-                            }
-                        }
-                        
-                        // 월세 가격 필터링
-                        if ("월세".equals(transactionType)) {
-                            try {
-                                if (depositMin != null && property.getPrice() != null) {
-                                    // 보증금 문자열에서 "만원" 제거하고 숫자만 추출
-                                    String depositStr = property.getPrice().replaceAll("[만원\\s]", "");
-                                    double deposit = Double.parseDouble(depositStr);
-                                    
-                                    // 가격이 10000 이상이면 만원 단위로 인식하여 억원 단위로 변환
-                                    if (deposit >= 10000) {
-                                        deposit = deposit / 10000; // 만원 → 억원 변환
-                                        log.info("월세 보증금: {}만원 → {}억원으로 변환", deposit * 10000, deposit);
-                                    }
-                                    
-                                    if (deposit < depositMin) {
-                                        log.info("월세 보증금 필터 실패: {}억원 < {}억원", deposit, depositMin);
-                                        return false;
-                                    }
-                                }
-                                if (depositMax != null && property.getPrice() != null) {
-                                    String depositStr = property.getPrice().replaceAll("[만원\\s]", "");
-                                    double deposit = Double.parseDouble(depositStr);
-                                    
-                                    // 가격이 10000 이상이면 만원 단위로 인식하여 억원 단위로 변환
-                                    if (deposit >= 10000) {
-                                        deposit = deposit / 10000; // 만원 → 억원 변환
-                                    }
-                                    
-                                    if (deposit > depositMax) {
-                                        log.info("월세 보증금 필터 실패: {}억원 > {}억원", deposit, depositMax);
-                                        return false;
-                                    }
-                                }
-                                if (monthlyRentMin != null && property.getMonthlyRent() != null) {
-                                    // 월세 문자열에서 "만원" 제거하고 숫자만 추출
-                                    String monthlyRentStr = property.getMonthlyRent().replaceAll("[만원\\s]", "");
-                                    double monthlyRent = Double.parseDouble(monthlyRentStr);
-                                    
-                                    // 가격이 10000 이상이면 만원 단위로 인식하여 억원 단위로 변환
-                                    if (monthlyRent >= 10000) {
-                                        monthlyRent = monthlyRent / 10000; // 만원 → 억원 변환
-                                        log.info("월세 월세: {}만원 → {}억원으로 변환", monthlyRent * 10000, monthlyRent);
-                                    }
-                                    
-                                    if (monthlyRent < monthlyRentMin) {
-                                        log.info("월세 월세 필터 실패: {}억원 < {}억원", monthlyRent, monthlyRentMin);
-                                        return false;
-                                    }
-                                }
-                                if (monthlyRentMax != null && property.getMonthlyRent() != null) {
-                                    String monthlyRentStr = property.getMonthlyRent().replaceAll("[만원\\s]", "");
-                                    double monthlyRent = Double.parseDouble(monthlyRentStr);
-                                    
-                                    // 가격이 10000 이상이면 만원 단위로 인식하여 억원 단위로 변환
-                                    if (monthlyRent >= 10000) {
-                                        monthlyRent = monthlyRent / 10000; // 만원 → 억원 변환
-                                    }
-                                    
-                                    if (monthlyRent > monthlyRentMax) {
-                                        log.info("월세 월세 필터 실패: {}억원 > {}억원", monthlyRent, monthlyRentMax);
-                                        return false;
-                                    }
-                                }
-                            } catch (NumberFormatException e) {
-                                log.warn("월세 가격 파싱 실패: {} - 에러: {}", e.getMessage());
-                                return false;
-                            }
-                        }
-                        
-                        // 전세 가격 필터링
-                        if ("전세".equals(transactionType) && property.getPrice() != null) {
-                            try {
-                                // 전세가 문자열에서 "억원" 제거하고 숫자만 추출
-                                String priceStr = property.getPrice().replaceAll("[억원\\s]", "");
-                                double price = Double.parseDouble(priceStr);
-                                
-                                // 가격이 10000 이상이면 만원 단위로 인식하여 억원 단위로 변환
-                                if (price >= 10000) {
-                                    price = price / 10000; // 만원 → 억원 변환
-                                    log.info("전세 가격: {}만원 → {}억원으로 변환", price * 10000, price);
-                                }
-                                
-                                if (depositMin != null && price < depositMin) {
-                                    log.info("전세 가격 필터 실패: {}억원 < {}억원", price, depositMin);
-                                    return false;
-                                }
-                                if (depositMax != null && price > depositMax) {
-                                    log.info("전세 가격 필터 실패: {}억원 > {}억원", price, depositMax);
-                                    return false;
-                                }
-                            } catch (NumberFormatException e) {
-                                log.warn("전세 가격 파싱 실패: {} - 에러: {}", property.getPrice(), e.getMessage());
-                                return false;
-                            }
-                        }
-                        
-                        // 면적 필터링
-                        if (areaMin != null || areaMax != null) {
-                            if (property.getArea() == null) {
-                                log.info("면적 필터 실패: 면적 정보 없음 (null)");
-                                return false;
-                            }
-                            double area = property.getArea();
-                            if (areaMin != null && area < areaMin) {
-                                log.info("면적 필터 실패: {} m² < {} m²", area, areaMin);
-                                return false;
-                            }
-                            if (areaMax != null && area > areaMax) {
-                                log.info("면적 필터 실패: {} m² > {} m²", area, areaMax);
-                                return false;
-                            }
-                            log.info("면적 필터 통과: {} m²", area);
-                        }
-                        
-                        return true;
-                    })
-                    .collect(Collectors.toList());
-            
-            int afterFilterCount = properties.size();
-            log.info("가격 필터링 후 매물 수: {}건 (제외된 매물: {}건)", afterFilterCount, beforeFilterCount - afterFilterCount);
-        }
-        
-        log.info("=== 가격 필터링 완료 ===");
-        
-        return properties.stream()
-                .map(this::entityToDTO)
-                .collect(Collectors.toList());
+        log.info("가격 필터링 결과: {}건", result.size());
+        return result;
     }
 
     @Override
     public List<PropertyDTO> getPropertiesByTypeAndTransactionType(String propertyType, String transactionType) {
         log.info("매물 유형 + 거래 유형 필터링 - 원본: {}, 거래유형: {}", propertyType, transactionType);
-        
-        if ("전/월세".equals(transactionType)) {
-            // 전/월세인 경우 전세와 월세 매물을 모두 가져오기
-            List<Property> propertiesByType = propertyRepository.findByPropertyType(propertyType);
-            log.info("매물 유형으로 필터링된 결과: {}건", propertiesByType.size());
-            
-            List<PropertyDTO> result = propertiesByType.stream()
-                    .filter(property -> {
-                        boolean isRent = "전세".equals(property.getTransactionType()) || "월세".equals(property.getTransactionType());
-                        log.info("매물 ID: {}, 거래유형: {}, 전/월세 여부: {}", property.getId(), property.getTransactionType(), isRent);
-                        return isRent;
-                    })
-                    .map(this::entityToDTO)
-                    .collect(Collectors.toList());
-            
-            log.info("전/월세 필터링 최종 결과: {}건", result.size());
-            return result;
-        } else {
-            // 매매 등 다른 거래 유형은 기존 방식대로
-            List<PropertyDTO> result = propertyRepository.findByPropertyTypeAndTransactionType(propertyType, transactionType).stream()
-                    .map(this::entityToDTO)
-                    .collect(Collectors.toList());
-            
-            log.info("{} 필터링 결과: {}건", transactionType, result.size());
-            return result;
-        }
+
+        List<PropertyDTO> result = findPropertyList(PropertySearchDTO.builder()
+                .propertyType(propertyType)
+                .transactionType(transactionType)
+                .build());
+
+        log.info("{} 필터링 결과: {}건", transactionType, result.size());
+        return result;
     }
 
     @Override
     public List<PropertyDTO> searchProperties(String keyword) {
-        // 간단한 검색 구현
-        return propertyRepository.findAll().stream()
-                .filter(property -> 
-                    (property.getTitle() != null && property.getTitle().contains(keyword)) ||
-                    (property.getContent() != null && property.getContent().contains(keyword)))
+        if (!propertySearchIndex.isSearchable(keyword)) {
+            return propertyRepository.findByTitleOrContentContaining(keyword.trim()).stream()
+                    .map(this::entityToDTO)
+                    .collect(Collectors.toList());
+        }
+        
+        List<Long> ids = propertySearchIndex.search(keyword, PageRequest.of(0, Integer.MAX_VALUE)).getContent();
+        Map<Long, Property> propertyMap = propertyRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Property::getId, property -> property));
+        
+        // 관련도 순서 유지
+        return ids.stream()
+                .map(propertyMap::get)
+                .filter(Objects::nonNull)
                 .map(this::entityToDTO)
                 .collect(Collectors.toList());
     }
     
     @Override
-    public List<PropertyDTO> getAllPropertiesWithLikeStatus(String memberEmail) {
-        List<Property> properties = propertyRepository.findAll();
+    public Page<PropertyCardDTO> searchProperties(String keyword, Pageable pageable) {
+        // 한 글자 검색어 등 인덱스로 처리할 수 없는 경우 DB 검색
+        if (!propertySearchIndex.isSearchable(keyword)) {
+            log.info("매물 DB 검색 - 검색어: {}", keyword);
+            Page<PropertyCardDTO> result = propertyRepository.findCards(
+                    PropertySpecification.keywordContains(keyword.trim()), pageable);
+            fillCardDetails(result.getContent());
+            return result;
+        }
         
-        return properties.stream()
-                .map(property -> {
-                    PropertyDTO dto = entityToDTO(property);
-                    
-                    // 사용자별 좋아요 상태 설정
-                    if (memberEmail != null) {
-                        boolean isLiked = isLikedByMember(property.getId(), memberEmail);
-                        dto.setIsLiked(isLiked);
-                    }
-                    
-                    return dto;
-                })
+        Page<Long> idPage = propertySearchIndex.search(keyword, pageable);
+        Map<Long, PropertyCardDTO> cardMap = propertyRepository.findCards(PropertySpecification.idIn(idPage.getContent())).stream()
+                .collect(Collectors.toMap(PropertyCardDTO::getId, card -> card));
+        
+        // 관련도 순서 유지
+        List<PropertyCardDTO> content = idPage.getContent().stream()
+                .map(cardMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        fillCardDetails(content);
+        
+        log.info("매물 인덱스 검색 - 검색어: {}, 총 {}건", keyword, idPage.getTotalElements());
+        return new PageImpl<>(content, pageable, idPage.getTotalElements());
+    }
+    
+    @Override
+    public List<PropertyDTO> getAllPropertiesWithLikeStatus(String memberEmail) {
+        List<PropertyDTO> properties = propertyRepository.findAll().stream()
+                .map(this::entityToDTO)
+                .collect(Collectors.toList());
+        
+        // 사용자별 좋아요 상태 설정 (한 번의 쿼리로 조회)
+        applyLikeStatus(properties, memberEmail);
+        return properties;
     }
 
     
@@ -881,6 +517,13 @@ public class PropertyServiceImpl implements PropertyService {
         Property updatedProperty = dtoToEntity(propertyDTO);
         updatedProperty.setId(id);
         updatedProperty.setCreatedAt(existingProperty.getCreatedAt());
+        // 조회수/좋아요 수는 updatable = false 컬럼이라 이 저장으로 덮어쓰지 않음
+        // 추정가는 PropertyValuationBuilder가 다음 산정 때 갱신 (거래 진행중이 아니면 비움)
+        if (Integer.valueOf(1).equals(updatedProperty.getTransactionStatus())) {
+            updatedProperty.setEstimatedPriceAmount(existingProperty.getEstimatedPriceAmount());
+            updatedProperty.setPriceEstimateRatio(existingProperty.getPriceEstimateRatio());
+            updatedProperty.setEstimatedAt(existingProperty.getEstimatedAt());
+        }
         
         Property savedProperty = propertyRepository.save(updatedProperty);
         return entityToDTO(savedProperty);
@@ -918,6 +561,7 @@ public class PropertyServiceImpl implements PropertyService {
         
         // 3. 마지막에 매물 삭제
         propertyRepository.deleteById(id);
+        propertyViewCounter.discard(id);
     }
 
     @Override
@@ -945,37 +589,35 @@ public class PropertyServiceImpl implements PropertyService {
 
     @Override
     public void incrementViewCount(Long id) {
-        Property property = propertyRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Property not found"));
-        property.setViewCount(property.getViewCount() != null ? property.getViewCount() + 1 : 1);
-        propertyRepository.save(property);
+        // 메모리 버퍼에 누적 후 PropertyViewCounter가 주기적으로 일괄 반영
+        propertyViewCounter.increment(id);
     }
 
     @Override
+    @Transactional
     public void toggleLike(Long propertyId, String memberEmail) {
-        Property property = propertyRepository.findById(propertyId)
-                .orElseThrow(() -> new RuntimeException("Property not found"));
-        
-        // 이미 좋아요한 상태인지 확인
-        Optional<PropertyLike> existingLike = propertyLikeRepository.findByPropertyIdAndMemberEmail(propertyId, memberEmail);
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new RuntimeException("Property not found");
+        }
         
-        if (existingLike.isPresent()) {
+        // 좋아요가 있으면 삭제, 없으면 추가 (중복 추가는 unique 제약으로 실패)
+        if (propertyLikeRepository.deleteLike(propertyId, memberEmail) > 0) {
             // 좋아요 취소
-            propertyLikeRepository.delete(existingLike.get());
-            property.decrementLikeCount();
+            propertyRepository.decrementLikeCount(propertyId);
             log.info("매물 좋아요 취소 - Property ID: {}, Member: {}", propertyId, memberEmail);
         } else {
             // 좋아요 추가
-            PropertyLike newLike = PropertyLike.builder()
-                    .property(property)
-                    .memberEmail(memberEmail)
-                    .build();
-            propertyLikeRepository.save(newLike);
-            property.incrementLikeCount();
+            propertyLikeRepository.insertLike(propertyId, memberEmail);
+            propertyRepository.incrementLikeCount(propertyId);
             log.info("매물 좋아요 추가 - Property ID: {}, Member: {}", propertyId, memberEmail);
         }
-        
-        propertyRepository.save(property);
+    }
+    
+    // id 범위 내 매물의 좋아요 수를 property_like 기준으로 보정 (보정된 매물 수 반환)
+    @Override
+    @Transactional
+    public int reconcileLikeCounts(Long fromId, Long toId) {
+        return propertyRepository.reconcileLikeCounts(fromId, toId);
     }
     
     @Override
@@ -983,6 +625,44 @@ public class PropertyServiceImpl implements PropertyService {
         return propertyLikeRepository.findByPropertyIdAndMemberEmail(propertyId, memberEmail).isPresent();
     }
     
+    @Override
+    public Set<Long> getLikedPropertyIds(String memberEmail, Collection<Long> propertyIds) {
+        if (memberEmail == null || memberEmail.trim().isEmpty() || propertyIds == null || propertyIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(propertyLikeRepository.findLikedPropertyIds(memberEmail, propertyIds));
+    }
+    
+    @Override
+    public void applyLikeStatus(List<PropertyDTO> properties, String memberEmail) {
+        if (memberEmail == null || memberEmail.trim().isEmpty() || properties == null || properties.isEmpty()) {
+            return;
+        }
+        
+        List<Long> propertyIds = properties.stream()
+                .map(PropertyDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Set<Long> likedIds = getLikedPropertyIds(memberEmail, propertyIds);
+        
+        for (PropertyDTO property : properties) {
+            property.setIsLiked(likedIds.contains(property.getId()));
+        }
+    }
+    
+    @Override
+    public void applyCardLikeStatus(List<PropertyCardDTO> cards, String memberEmail) {
+        if (memberEmail == null || memberEmail.trim().isEmpty() || cards == null || cards.isEmpty()) {
+            return;
+        }
+        
+        Set<Long> likedIds = getLikedPropertyIds(memberEmail,
+                cards.stream().map(PropertyCardDTO::getId).collect(Collectors.toList()));
+        for (PropertyCardDTO card : cards) {
+            card.setIsLiked(likedIds.contains(card.getId()));
+        }
+    }
+    
     @Override
     public long getLikeCount(Long propertyId) {
         return propertyLikeRepository.countByPropertyId(propertyId);
@@ -1032,6 +712,12 @@ public class PropertyServiceImpl implements PropertyService {
         Property property = propertyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Property not found"));
         property.setTransactionStatus(transactionStatus);
+        // 추정가 산정은 거래 진행중인 매물만 대상이라 거래가 끝나면 추정가도 비움
+        if (!Integer.valueOf(1).equals(transactionStatus)) {
+            property.setEstimatedPriceAmount(null);
+            property.setPriceEstimateRatio(null);
+            property.setEstimatedAt(null);
+        }
         propertyRepository.save(property);
         log.info("Property ID: {} 거래 상태 업데이트: {}", id, transactionStatus);
     }
@@ -1121,212 +807,4 @@ public class PropertyServiceImpl implements PropertyService {
                 .createdAt(reply.getCreatedAt() != null ? reply.getCreatedAt().toString() : "")
                 .build();
     }
-
-    // 실거래가 조회 메서드들 (도로명주소 기반)
-    @Override
-    public List<Map<String, Object>> getRecentSalesByAddress(String roadAddress, Double area) {
-        try {
-            log.info("매매 실거래가 조회 - 주소: {}, 면적: {}", roadAddress, area);
-            
-            if (roadAddress == null || roadAddress.trim().isEmpty()) {
-                log.warn("도로명 주소가 없어서 실거래가 조회 불가");
-                return new ArrayList<>();
-            }
-            
-            List<Map<String, Object>> result = new ArrayList<>();
-            
-            // 1. 아파트 매매 실거래가 조회 (정확한 도로명 일치)
-            List<ApartmentSale> apartmentSales = apartmentSaleRepository.findByRoadName(roadAddress);
-            for (ApartmentSale sale : apartmentSales) {
-                Map<String, Object> saleData = new HashMap<>();
-                saleData.put("transactionAmount", sale.getTransactionAmount());
-                saleData.put("exclusiveArea", sale.getExclusiveArea());
-                saleData.put("floor", sale.getFloor());
-                saleData.put("dong", sale.getDong());
-                saleData.put("contractDate", sale.getContractDate());
-                saleData.put("constructionYear", sale.getConstructionYear());
-                saleData.put("complexName", sale.getComplexName());
-                saleData.put("propertyType", "아파트");
-                result.add(saleData);
-            }
-            
-            // 2. 빌라(연립/다세대) 매매 실거래가 조회 (정확한 도로명 일치)
-            List<RowHouseSale> rowHouseSales = rowHouseSaleRepository.findByRoadName(roadAddress);
-            for (RowHouseSale sale : rowHouseSales) {
-                Map<String, Object> saleData = new HashMap<>();
-                saleData.put("transactionAmount", sale.getTransactionAmount());
-                saleData.put("exclusiveArea", sale.getExclusiveArea());
-                saleData.put("floor", sale.getFloor());
-                saleData.put("buildingName", sale.getBuildingName());
-                saleData.put("contractDate", sale.getContractDate());
-                saleData.put("constructionYear", sale.getConstructionYear());
-                saleData.put("propertyType", "연립/다세대");
-                result.add(saleData);
-            }
-            
-            // 3. 단독주택 매매 실거래가 조회 (정확한 도로명 일치)
-            List<DetachedHouseSale> detachedHouseSales = detachedHouseSaleRepository.findByRoadName(roadAddress);
-            for (DetachedHouseSale sale : detachedHouseSales) {
-                Map<String, Object> saleData = new HashMap<>();
-                saleData.put("transactionAmount", sale.getTransactionAmount());
-                saleData.put("exclusiveArea", sale.getTotalArea()); // totalArea 사용
-                saleData.put("floor", 1); // 단독주택은 보통 1층
-                saleData.put("buildingName", sale.getHousingType()); // housingType 사용
-                saleData.put("contractDate", sale.getContractDate());
-                saleData.put("constructionYear", sale.getConstructionYear());
-                saleData.put("propertyType", "단독주택");
-                result.add(saleData);
-            }
-            
-            // 4. 오피스텔 매매 실거래가 조회 (정확한 도로명 일치)
-            List<OfficeTelSale> officeTelSales = officeTelSaleRepository.findByRoadName(roadAddress);
-            for (OfficeTelSale sale : officeTelSales) {
-                Map<String, Object> saleData = new HashMap<>();
-                saleData.put("transactionAmount", sale.getTransactionAmount());
-                saleData.put("exclusiveArea", sale.getExclusiveArea());
-                saleData.put("floor", sale.getFloor());
-                saleData.put("buildingName", sale.getComplexName()); // complexName 사용
-                saleData.put("contractDate", sale.getContractDate());
-                saleData.put("constructionYear", sale.getConstructionYear());
-                saleData.put("propertyType", "오피스텔");
-                result.add(saleData);
-            }
-            
-            // 면적 범위 설정 (면적의 ±20% 범위)
-            if (area != null) {
-                Double minArea = area * 0.8;
-                Double maxArea = area * 1.2;
-                result = result.stream()
-                    .filter(sale -> {
-                        Double saleArea = (Double) sale.get("exclusiveArea");
-                        return saleArea != null && saleArea >= minArea && saleArea <= maxArea;
-                    })
-                    .collect(Collectors.toList());
-            }
-            
-            // 최근 10건만 반환하고 계약일 순으로 정렬
-            result = result.stream()
-                .sorted((sale1, sale2) -> {
-                    LocalDate date1 = (LocalDate) sale1.get("contractDate");
-                    LocalDate date2 = (LocalDate) sale2.get("contractDate");
-                    return date2.compareTo(date1); // 최신 날짜가 먼저 오도록
-                })
-                .limit(10)
-                .collect(Collectors.toList());
-            
-            log.info("매매 실거래가 조회 완료 - {}건", result.size());
-            return result;
-            
-        } catch (Exception e) {
-            log.error("매매 실거래가 조회 실패: {}", e.getMessage(), e);
-            return new ArrayList<>();
-        }
-    }
-
-    @Override
-    public List<Map<String, Object>> getRecentRentsByAddress(String roadAddress, Double area) {
-        try {
-            log.info("전월세 실거래가 조회 - 주소: {}, 면적: {}", roadAddress, area);
-            
-            if (roadAddress == null || roadAddress.trim().isEmpty()) {
-                log.warn("도로명 주소가 없어서 실거래가 조회 불가");
-                return new ArrayList<>();
-            }
-            
-            List<Map<String, Object>> result = new ArrayList<>();
-            
-            // 1. 아파트 전월세 실거래가 조회 (정확한 도로명 일치)
-            List<ApartmentRent> apartmentRents = apartmentRentRepository.findByRoadName(roadAddress);
-            for (ApartmentRent rent : apartmentRents) {
-                Map<String, Object> rentData = new HashMap<>();
-                rentData.put("deposit", rent.getDeposit());
-                rentData.put("monthlyRent", rent.getMonthlyRent());
-                rentData.put("exclusiveArea", rent.getExclusiveArea());
-                rentData.put("floor", rent.getFloor());
-                rentData.put("contractDate", rent.getContractDate());
-                rentData.put("constructionYear", rent.getConstructionYear());
-                rentData.put("complexName", rent.getComplexName());
-                rentData.put("rentType", rent.getRentType());
-                rentData.put("propertyType", "아파트");
-                result.add(rentData);
-            }
-            
-            // 2. 빌라(연립/다세대) 전월세 실거래가 조회 (정확한 도로명 일치)
-            List<RowHouseRent> rowHouseRents = rowHouseRentRepository.findByRoadName(roadAddress);
-            for (RowHouseRent rent : rowHouseRents) {
-                Map<String, Object> rentData = new HashMap<>();
-                rentData.put("deposit", rent.getDeposit());
-                rentData.put("monthlyRent", rent.getMonthlyRent());
-                rentData.put("exclusiveArea", rent.getExclusiveArea());
-                rentData.put("floor", rent.getFloor());
-                rentData.put("contractDate", rent.getContractDate());
-                rentData.put("constructionYear", rent.getConstructionYear());
-                rentData.put("buildingName", rent.getBuildingName());
-                rentData.put("rentType", rent.getRentType());
-                rentData.put("propertyType", "연립/다세대");
-                result.add(rentData);
-            }
-            
-            // 3. 단독주택 전월세 실거래가 조회 (정확한 도로명 일치)
-            List<DetachedHouseRent> detachedHouseRents = detachedHouseRentRepository.findByRoadName(roadAddress);
-            for (DetachedHouseRent rent : detachedHouseRents) {
-                Map<String, Object> rentData = new HashMap<>();
-                rentData.put("deposit", rent.getDeposit());
-                rentData.put("monthlyRent", rent.getMonthlyRent());
-                rentData.put("exclusiveArea", rent.getContractArea()); // contractArea 사용
-                rentData.put("floor", 1); // 단독주택은 보통 1층
-                rentData.put("contractDate", rent.getContractDate());
-                rentData.put("constructionYear", rent.getConstructionYear());
-                rentData.put("buildingName", rent.getHousingType()); // housingType 사용
-                rentData.put("rentType", rent.getRentType());
-                rentData.put("propertyType", "단독주택");
-                result.add(rentData);
-            }
-            
-            // 4. 오피스텔 전월세 실거래가 조회 (정확한 도로명 일치)
-            List<OfficeTelRent> officeTelRents = officeTelRentRepository.findByRoadName(roadAddress);
-            for (OfficeTelRent rent : officeTelRents) {
-                Map<String, Object> rentData = new HashMap<>();
-                rentData.put("deposit", rent.getDeposit());
-                rentData.put("monthlyRent", rent.getMonthlyRent());
-                rentData.put("exclusiveArea", rent.getExclusiveArea());
-                rentData.put("floor", rent.getFloor());
-                rentData.put("contractDate", rent.getContractDate());
-                rentData.put("constructionYear", rent.getConstructionYear());
-                rentData.put("buildingName", rent.getComplexName()); // complexName 사용
-                rentData.put("rentType", rent.getRentType());
-                rentData.put("propertyType", "오피스텔");
-                result.add(rentData);
-            }
-            
-            // 면적 범위 설정 (면적의 ±20% 범위)
-            if (area != null) {
-                Double minArea = area * 0.8;
-                Double maxArea = area * 1.2;
-                result = result.stream()
-                    .filter(rent -> {
-                        Double rentArea = (Double) rent.get("exclusiveArea");
-                        return rentArea != null && rentArea >= minArea && rentArea <= maxArea;
-                    })
-                    .collect(Collectors.toList());
-            }
-            
-            // 최근 10건만 반환하고 계약일 순으로 정렬
-            result = result.stream()
-                .sorted((rent1, rent2) -> {
-                    LocalDate date1 = (LocalDate) rent1.get("contractDate");
-                    LocalDate date2 = (LocalDate) rent2.get("contractDate");
-                    return date2.compareTo(date1); // 최신 날짜가 먼저 오도록
-                })
-                .limit(10)
-                .collect(Collectors.toList());
-            
-            log.info("전월세 실거래가 조회 완료 - {}건", result.size());
-            return result;
-            
-        } catch (Exception e) {
-            log.error("전월세 실거래가 조회 실패: {}", e.getMessage(), e);
-            return new ArrayList<>();
-        }
-    }
-} 
\ No newline at end of file
+}
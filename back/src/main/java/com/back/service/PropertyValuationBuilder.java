@@ -0,0 +1,349 @@
+package com.back.service;
+
+import com.back.domain.ValuationModel;
+import com.back.domain.ValuationRegionEffect;
+import com.back.ingest.TransactionFileType;
+import com.back.repository.PropertyRepository;
+import com.back.repository.ValuationModelRepository;
+import com.back.repository.ValuationRegionEffectRepository;
+import com.back.util.AddressNormalizer;
+import com.back.util.HedonicRegression;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매물 추정 매매가(AVM) 학습/산정.
+ * 4개 매매 실거래 테이블로 주택유형별 헤도닉 회귀(ln ㎡당 거래금액 ~ 면적, 층, 경과년수, 계약시점, 시군구)를 학습해
+ * valuation_model, valuation_region_effect 테이블에 저장하고,
+ * 거래 진행중인 매물 전체를 id 구간으로 나눠 병렬로 산정해 property의 추정가/가격 비율 컬럼에 저장한다.
+ * 목록 정렬/필터는 저장된 컬럼만 사용하므로 요청 시 계산이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyValuationBuilder {
+
+    private static final String SALE = "매매";
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int MIN_SAMPLES = 100; // 이보다 거래가 적으면 이전 모형 유지
+    private static final double REGION_PENALTY = 20; // 시군구 효과 ridge 벌점 (거래 20건이면 효과 절반)
+    private static final int FEATURES = 6; // 상수, ln(면적), 층, 경과년수/10, (경과년수/10)², 계약시점(년)
+    private static final int MAX_AGE = 80;
+    private static final int MIN_FLOOR = -3;
+    private static final int MAX_FLOOR = 80;
+
+    private static final String INSERT_MODEL_SQL =
+            "INSERT INTO valuation_model (property_type, intercept, log_area_coefficient, floor_coefficient, " +
+            "age_coefficient, age_squared_coefficient, trend_coefficient, mean_floor, mean_age, base_month, " +
+            "reference_month, sample_count, rmse, r_squared, trained_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REGION_SQL =
+            "INSERT INTO valuation_region_effect (property_type, region, effect, sample_count) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_PROPERTY_SQL =
+            "UPDATE property SET estimated_price_amount = ?, price_estimate_ratio = ?, estimated_at = ? WHERE id = ?";
+    // 거래 진행중이 아닌 매물의 추정가 비우기 (거래 완료로 바뀐 뒤 남은 값)
+    private static final String CLEAR_INACTIVE_SQL =
+            "UPDATE property SET estimated_price_amount = NULL, price_estimate_ratio = NULL, estimated_at = NULL " +
+            "WHERE id BETWEEN ? AND ? AND (transaction_status IS NULL OR transaction_status <> 1) " +
+            "AND (estimated_price_amount IS NOT NULL OR price_estimate_ratio IS NOT NULL)";
+
+    // 매매 실거래 테이블 (주택유형은 시세 추이 집계와 같은 이름)
+    private static final List<TransactionFileType> SOURCES = Arrays.stream(TransactionFileType.values())
+            .filter(type -> !type.isRent())
+            .toList();
+
+    // 매물 유형 → 실거래 주택유형 (상가/사무실 등은 산정하지 않음)
+    private static final Map<String, String> PROPERTY_TYPES = Map.of(
+            "아파트", "아파트",
+            "오피스텔", "오피스텔",
+            "빌라/연립", "연립/다세대",
+            "단독주택", "단독주택");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PropertyRepository propertyRepository;
+    private final ValuationModelRepository modelRepository;
+    private final ValuationRegionEffectRepository regionEffectRepository;
+
+    // 학습과 산정이 겹치지 않도록
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 학습에 쓰는 최근 계약 기간 (개월)
+    @Value("${com.back.valuation.training-months:60}")
+    private int trainingMonths;
+
+    // 매물 산정 청크 크기 (id 구간), 동시 처리 청크 수
+    @Value("${com.back.valuation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${com.back.valuation.parallelism:4}")
+    private int parallelism;
+
+    // 모형이 없을 때만 학습 (애플리케이션 시작 시)
+    public void trainIfEmpty() {
+        if (modelRepository.count() > 0) {
+            log.info("매물 추정가 모형 사용 - 기존 모형 재사용");
+            return;
+        }
+        trainAll();
+    }
+
+    // 주택유형별 모형 학습 (유형마다 별도 트랜잭션, 실행 중이면 건너뜀)
+    public void trainAll() {
+        if (!lock.tryLock()) {
+            log.info("매물 추정가 작업 실행 중 - 모형 학습 건너뜀");
+            return;
+        }
+        try {
+            log.info("매물 추정가 모형 학습 시작 - 최근 {}개월", trainingMonths);
+            for (TransactionFileType source : SOURCES) {
+                try {
+                    train(source);
+                } catch (Exception e) {
+                    log.error("매물 추정가 모형 학습 실패 - {}: {}", source.getTable(), e.getMessage());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 거래 진행중인 매물 전체의 추정가와 가격 비율(호가 / 추정가) 산정.
+     * id 구간 청크를 parallelism개씩 병렬로 처리하고, 청크마다 한 번의 배치 UPDATE로 저장한다.
+     */
+    public void scoreAll() {
+        if (!lock.tryLock()) {
+            log.info("매물 추정가 작업 실행 중 - 산정 건너뜀");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        ExecutorService chunkPool = Executors.newFixedThreadPool(parallelism);
+        try {
+            Map<String, Model> models = loadModels();
+            if (models.isEmpty()) {
+                log.info("매물 추정가 모형 없음 - 산정 건너뜀");
+                return;
+            }
+
+            long maxId = propertyRepository.findMaxId();
+            AtomicLong scored = new AtomicLong();
+            List<Future<?>> futures = new ArrayList<>();
+            for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+                long from = fromId;
+                long to = Math.min(fromId + chunkSize - 1, maxId);
+                futures.add(chunkPool.submit(() -> scored.addAndGet(scoreChunk(models, from, to))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            log.info("매물 추정가 산정 완료 - {}건, {}개 청크, {}ms",
+                    scored.get(), futures.size(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("매물 추정가 산정 중단");
+        } catch (ExecutionException e) {
+            log.error("매물 추정가 산정 실패: {}", e.getCause().getMessage());
+        } finally {
+            chunkPool.shutdownNow();
+            lock.unlock();
+        }
+    }
+
+    // 실거래 테이블 하나로 모형 학습 후 저장 (lock을 잡은 상태에서 호출)
+    private void train(TransactionFileType source) {
+        long start = System.currentTimeMillis();
+        YearMonth baseMonth = YearMonth.now().minusMonths(trainingMonths);
+        LocalDate baseDate = baseMonth.atDay(1);
+        HedonicRegression regression = new HedonicRegression(FEATURES);
+        double[] sums = new double[2]; // 층 합계, 경과년수 합계
+        int[] lastMonth = {0};
+
+        String sql = "SELECT sigungu, contract_date, construction_year, transaction_amount, " +
+                source.getAreaColumn() + " AS area, " +
+                (source.getFloorColumn() != null ? source.getFloorColumn() : "NULL") + " AS floor FROM " + source.getTable() +
+                " WHERE contract_date >= ?";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setDate(1, Date.valueOf(baseDate));
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            String region = AddressNormalizer.district(rs.getString("sigungu"));
+            LocalDate contractDate = rs.getObject("contract_date", LocalDate.class);
+            Long amount = rs.getObject("transaction_amount", Long.class);
+            Double area = rs.getObject("area", Double.class);
+            Integer constructionYear = rs.getObject("construction_year", Integer.class);
+            if (region == null || contractDate == null || amount == null || amount <= 0
+                    || area == null || area <= 0 || constructionYear == null || constructionYear <= 0) {
+                return;
+            }
+            Integer floor = rs.getObject("floor", Integer.class);
+            double floorValue = floor == null ? 0 : clamp(floor, MIN_FLOOR, MAX_FLOOR);
+            double age = clamp(contractDate.getYear() - constructionYear, 0, MAX_AGE);
+            double years = ChronoUnit.MONTHS.between(baseDate, contractDate.withDayOfMonth(1)) / 12.0;
+
+            regression.add(features(area, floorValue, age, years), region, Math.log(amount / area));
+            sums[0] += floorValue;
+            sums[1] += age;
+            lastMonth[0] = Math.max(lastMonth[0], PriceTrendRollupBuilder.toMonth(contractDate));
+        });
+
+        long count = regression.getCount();
+        if (count < MIN_SAMPLES) {
+            log.warn("매물 추정가 모형 학습 생략 - {}: 학습 거래 {}건 (최소 {}건), 이전 모형 유지",
+                    source.getTable(), count, MIN_SAMPLES);
+            return;
+        }
+
+        HedonicRegression.Result result = regression.solve(REGION_PENALTY);
+        double[] beta = result.getCoefficients();
+        List<Object[]> regionRows = new ArrayList<>();
+        result.getGroupEffects().forEach((region, effect) -> regionRows.add(new Object[]{
+                source.getPropertyType(), region, effect, result.getGroupCounts().get(region)}));
+
+        RollupRefresher.newTransaction(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM valuation_region_effect WHERE property_type = ?", source.getPropertyType());
+            jdbcTemplate.update("DELETE FROM valuation_model WHERE property_type = ?", source.getPropertyType());
+            jdbcTemplate.update(INSERT_MODEL_SQL, source.getPropertyType(), beta[0], beta[1], beta[2], beta[3], beta[4],
+                    beta[5], sums[0] / count, sums[1] / count, PriceTrendRollupBuilder.toMonth(baseDate),
+                    lastMonth[0], count, result.getRmse(), result.getRSquared(),
+                    Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.batchUpdate(INSERT_REGION_SQL, regionRows);
+        });
+        log.info("매물 추정가 모형 학습 - {}: 거래 {}건, 시군구 {}개, R² {}, RMSE {}, {}ms",
+                source.getTable(), count, regionRows.size(), String.format("%.3f", result.getRSquared()),
+                String.format("%.3f", result.getRmse()), System.currentTimeMillis() - start);
+    }
+
+    // id 구간 하나의 매물 산정 후 저장 (산정할 수 없는 매물, 거래 진행중이 아닌 매물은 추정가를 비움)
+    private int scoreChunk(Map<String, Model> models, long fromId, long toId) {
+        jdbcTemplate.update(CLEAR_INACTIVE_SQL, fromId, toId);
+        List<Object[]> updates = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.query("SELECT id, property_type, transaction_type, area, floor, year_built, road_address, " +
+                        "sale_price_amount FROM property WHERE id BETWEEN ? AND ? AND transaction_status = 1",
+                (RowCallbackHandler) rs -> {
+                    String modelType = PROPERTY_TYPES.get(rs.getString("property_type"));
+                    Model model = modelType == null ? null : models.get(modelType);
+                    Long estimate = model == null ? null : model.estimate(rs.getObject("area", Double.class),
+                            rs.getObject("floor", Integer.class), rs.getObject("year_built", Integer.class),
+                            AddressNormalizer.district(rs.getString("road_address")));
+                    Long salePrice = rs.getObject("sale_price_amount", Long.class);
+                    Double ratio = estimate != null && salePrice != null && salePrice > 0
+                            && SALE.equals(rs.getString("transaction_type"))
+                            ? Math.round(salePrice * 1000.0 / estimate) / 1000.0 : null;
+                    updates.add(new Object[]{estimate, ratio, estimate == null ? null : now, rs.getLong("id")});
+                }, fromId, toId);
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_PROPERTY_SQL, updates);
+        }
+        return (int) updates.stream().filter(row -> row[0] != null).count();
+    }
+
+    private Map<String, Model> loadModels() {
+        Map<String, Model> models = new HashMap<>();
+        for (ValuationModel model : modelRepository.findAll()) {
+            Map<String, Double> effects = new HashMap<>();
+            for (ValuationRegionEffect effect : regionEffectRepository.findByPropertyType(model.getPropertyType())) {
+                effects.put(effect.getRegion(), effect.getEffect());
+            }
+            models.put(model.getPropertyType(), new Model(model, effects));
+        }
+        return models;
+    }
+
+    // 회귀 변수 (HedonicRegression에 넣는 순서 = ValuationModel 계수 순서)
+    private static double[] features(double area, double floor, double age, double years) {
+        double decades = age / 10;
+        return new double[]{1, Math.log(area), floor, decades, decades * decades, years};
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    // 산정용 모형 (ValuationModel + 시군구 효과)
+    @AllArgsConstructor
+    private static class Model {
+        private final ValuationModel model;
+        private final Map<String, Double> regionEffects;
+
+        // 추정 매매가 (만원, 면적이 없으면 null), 기준 시점은 학습 기간 마지막 달
+        private Long estimate(Double area, Integer floor, Integer yearBuilt, String region) {
+            if (area == null || area <= 0) {
+                return null;
+            }
+            int referenceYear = model.getReferenceMonth() / 100;
+            double floorValue = floor == null ? model.getMeanFloor() : clamp(floor, MIN_FLOOR, MAX_FLOOR);
+            double age = yearBuilt == null || yearBuilt <= 0
+                    ? model.getMeanAge() : clamp(referenceYear - yearBuilt, 0, MAX_AGE);
+            double years = (monthIndex(model.getReferenceMonth()) - monthIndex(model.getBaseMonth())) / 12.0;
+
+            double[] x = features(area, floorValue, age, years);
+            double[] beta = {model.getIntercept(), model.getLogAreaCoefficient(), model.getFloorCoefficient(),
+                    model.getAgeCoefficient(), model.getAgeSquaredCoefficient(), model.getTrendCoefficient()};
+            double logPricePerArea = regionEffect(region);
+            for (int i = 0; i < FEATURES; i++) {
+                logPricePerArea += beta[i] * x[i];
+            }
+            // 로그 회귀의 평균 보정 (exp(σ²/2))
+            double rmse = model.getRmse();
+            return Math.round(Math.exp(logPricePerArea + rmse * rmse / 2) * area);
+        }
+
+        // "서울 마포구"처럼 시도명을 줄여 쓴 주소도 "서울특별시 마포구" 효과로 찾음, 없으면 0 (전체 평균)
+        private double regionEffect(String region) {
+            if (region == null) {
+                return 0;
+            }
+            Double effect = regionEffects.get(region);
+            if (effect != null) {
+                return effect;
+            }
+            int space = region.indexOf(' ');
+            if (space < 0) {
+                return 0;
+            }
+            String province = region.substring(0, space);
+            String rest = region.substring(space);
+            for (Map.Entry<String, Double> entry : regionEffects.entrySet()) {
+                if (entry.getKey().startsWith(province) && entry.getKey().endsWith(rest)
+                        && entry.getKey().indexOf(' ') == entry.getKey().length() - rest.length()) {
+                    return entry.getValue();
+                }
+            }
+            return 0;
+        }
+
+        private static int monthIndex(int yyyyMM) {
+            return yyyyMM / 100 * 12 + yyyyMM % 100;
+        }
+    }
+}
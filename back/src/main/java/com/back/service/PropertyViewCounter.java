@@ -0,0 +1,101 @@
+package com.back.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 매물 조회수 쓰기 지연 버퍼 (메모리에 누적 후 주기적으로 일괄 UPDATE)
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class PropertyViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE property SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 매물 ID별 아직 DB에 반영되지 않은 조회수 (반영하면 항목을 지워 조회된 적 있는 매물이 계속 쌓이지 않게 함)
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    @Value("${com.back.property.view-count.batch-size:500}")
+    private int batchSize;
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increment(Long propertyId) {
+        add(propertyId, 1);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long propertyId) {
+        LongAdder adder = pendingCounts.get(propertyId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 삭제된 매물의 누적 조회수 제거
+    public void discard(Long propertyId) {
+        pendingCounts.remove(propertyId);
+    }
+
+    // 누적된 조회수를 batch UPDATE로 반영
+    @Scheduled(fixedDelayString = "${com.back.property.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long propertyId : pendingCounts.keySet()) {
+            // 항목을 먼저 떼어 낸 뒤 합산 (이후 증가분은 새 항목에 쌓임)
+            LongAdder adder = pendingCounts.remove(propertyId);
+            long delta = adder == null ? 0 : adder.sum();
+            if (delta == 0) {
+                continue;
+            }
+            batch.add(new Object[]{delta, propertyId});
+
+            if (batch.size() >= batchSize) {
+                executeBatch(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            executeBatch(batch);
+        }
+    }
+
+    private void executeBatch(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("조회수 반영 완료 - {}건", batch.size());
+        } catch (Exception e) {
+            log.error("조회수 반영 실패 - {}건, 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+            // 실패한 증가분은 버퍼로 되돌림
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+        }
+    }
+
+    // 증가는 항목 잠금 안에서 (flush가 떼어 낸 항목에 더해져 유실되지 않도록)
+    private void add(Long propertyId, long delta) {
+        pendingCounts.compute(propertyId, (id, adder) -> {
+            LongAdder counter = adder == null ? new LongAdder() : adder;
+            counter.add(delta);
+            return counter;
+        });
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 남은 조회수 반영");
+        flush();
+    }
+}
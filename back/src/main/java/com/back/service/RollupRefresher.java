@@ -0,0 +1,128 @@
+package com.back.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 실거래 집계 테이블(시세 요약, 시세 추이, 전세가율) 갱신 공통 처리.
+ * 전체 재생성, 테이블(S) 재생성, 부분(K) 갱신이 서로 덮어쓰지 않도록 잠금 하나로 묶는다.
+ * 이벤트로 들어온 재생성/갱신은 대기열에 넣고 전용 스레드에서 처리해 요청 스레드나 적재 작업을 막지 않고,
+ * 전체 재생성 중이면 재생성이 끝난 뒤 반영한다.
+ */
+@Log4j2
+public class RollupRefresher<S, K> {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final String name; // 로그용 집계 이름
+    private final Consumer<S> rebuild;
+    private final Consumer<K> refresh;
+    private final Function<K, S> sourceOf; // 부분 갱신이 속한 테이블 (테이블 재생성에 포함되면 건너뜀)
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<S> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final Set<K> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    public RollupRefresher(String name, Consumer<S> rebuild, Consumer<K> refresh, Function<K, S> sourceOf) {
+        this.name = name;
+        this.rebuild = rebuild;
+        this.refresh = refresh;
+        this.sourceOf = sourceOf;
+    }
+
+    // 전체 재생성 등 잠금이 필요한 작업을 호출한 스레드에서 실행 (진행 중인 갱신이 끝날 때까지 대기)
+    public void runExclusive(Runnable work) {
+        lock.lock();
+        try {
+            work.run();
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    // 테이블 하나 재생성 요청 (대량 적재 후)
+    public void requestRebuild(S source) {
+        pendingRebuilds.add(source);
+        scheduleDrain();
+    }
+
+    // 부분 갱신 요청 (관리자 등록/수정/삭제 후)
+    public void requestRefresh(K key) {
+        pendingRefreshes.add(key);
+        scheduleDrain();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 이벤트는 원래 트랜잭션 커밋 이후라 새 트랜잭션에서 처리
+    public static TransactionTemplate newTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    // INSERT_BATCH_SIZE 행씩 나눠 배치 INSERT
+    public static void insert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private void scheduleDrain() {
+        if (pendingRebuilds.isEmpty() && pendingRefreshes.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.debug("{} 갱신 건너뜀 - 종료 중", name);
+        }
+    }
+
+    // 대기 중인 재생성/갱신 반영 (잠금을 못 잡으면 잡고 있는 쪽이 끝난 뒤 다시 예약함)
+    private void drain() {
+        do {
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                for (S source : pendingRebuilds) {
+                    pendingRebuilds.remove(source);
+                    pendingRefreshes.removeIf(key -> source.equals(sourceOf.apply(key)));
+                    try {
+                        rebuild.accept(source);
+                    } catch (Exception e) {
+                        log.error("{} 재생성 실패 - {}: {}", name, source, e.getMessage());
+                    }
+                }
+                for (K key : pendingRefreshes) {
+                    pendingRefreshes.remove(key);
+                    try {
+                        refresh.accept(key);
+                    } catch (Exception e) {
+                        log.error("{} 갱신 실패 - {}: {}", name, key, e.getMessage());
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        } while (!pendingRebuilds.isEmpty() || !pendingRefreshes.isEmpty());
+    }
+}
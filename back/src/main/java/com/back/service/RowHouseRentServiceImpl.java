@@ -2,10 +2,15 @@ package com.back.service;
 
 import com.back.domain.RowHouseRent;
 import com.back.dto.RowHouseRentDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.RowHouseRentSearchDTO;
 import com.back.repository.RowHouseRentRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class RowHouseRentServiceImpl implements RowHouseRentService {
     
     private final RowHouseRentRepository rowHouseRentRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public RowHouseRentDTO createRowHouseRent(RowHouseRentDTO rowHouseRentDTO) {
@@ -158,6 +164,15 @@ public class RowHouseRentServiceImpl implements RowHouseRentService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<RowHouseRentDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 연립다세대 전월세 목록 조회 - 조건: {}", filter);
+        Slice<RowHouseRent> slice = transactionPageRepository.findPage(RowHouseRent.class,
+                TransactionSpecification.<RowHouseRent>mapFilter(filter, "deposit", "exclusiveArea")
+                        .and(TransactionSpecification.rentTypeEq(filter.getRentType())), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환
     private RowHouseRentDTO entityToDTO(RowHouseRent rowHouseRent) {
         return RowHouseRentDTO.builder()
@@ -172,6 +187,8 @@ public class RowHouseRentServiceImpl implements RowHouseRentService {
                 .floor(rowHouseRent.getFloor())
                 .constructionYear(rowHouseRent.getConstructionYear())
                 .roadName(rowHouseRent.getRoadName())
+                .latitude(rowHouseRent.getLatitude())
+                .longitude(rowHouseRent.getLongitude())
                 .housingType(rowHouseRent.getHousingType())
                 .build();
     }
@@ -1,6 +1,8 @@
 package com.back.service;
 
 import com.back.dto.RowHouseSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.RowHouseSaleSearchDTO;
 
 import java.util.List;
@@ -62,4 +64,7 @@ public interface RowHouseSaleService {
     
     // 번호 역순으로 정렬된 데이터 조회 (최신순)
     org.springframework.data.domain.Page<com.back.domain.RowHouseSale> findAllOrderByNoDesc(org.springframework.data.domain.Pageable pageable);
-} 
\ No newline at end of file
+    
+    // 지도용 연립다세대 매매 목록 (DB 페이징, keyset 커서 지원)
+    TransactionPageDTO<RowHouseSaleDTO> getMapPage(TransactionMapFilterDTO filter);
+}
@@ -2,10 +2,15 @@ package com.back.service;
 
 import com.back.domain.RowHouseSale;
 import com.back.dto.RowHouseSaleDTO;
+import com.back.dto.TransactionMapFilterDTO;
+import com.back.dto.TransactionPageDTO;
 import com.back.dto.RowHouseSaleSearchDTO;
 import com.back.repository.RowHouseSaleRepository;
+import com.back.repository.TransactionPageRepository;
+import com.back.repository.TransactionSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class RowHouseSaleServiceImpl implements RowHouseSaleService {
     
     private final RowHouseSaleRepository rowHouseSaleRepository;
+    private final TransactionPageRepository transactionPageRepository;
     
     @Override
     public RowHouseSaleDTO createRowHouseSale(RowHouseSaleDTO rowHouseSaleDTO) {
@@ -148,6 +154,14 @@ public class RowHouseSaleServiceImpl implements RowHouseSaleService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public TransactionPageDTO<RowHouseSaleDTO> getMapPage(TransactionMapFilterDTO filter) {
+        log.info("지도용 연립다세대 매매 목록 조회 - 조건: {}", filter);
+        Slice<RowHouseSale> slice = transactionPageRepository.findPage(RowHouseSale.class,
+                TransactionSpecification.<RowHouseSale>mapFilter(filter, "transactionAmount", "exclusiveArea"), filter);
+        return TransactionPageDTO.of(slice, this::entityToDTO);
+    }
+    
     // Entity를 DTO로 변환
     private RowHouseSaleDTO entityToDTO(RowHouseSale rowHouseSale) {
         return RowHouseSaleDTO.builder()
@@ -161,6 +175,8 @@ public class RowHouseSaleServiceImpl implements RowHouseSaleService {
                 .floor(rowHouseSale.getFloor())
                 .constructionYear(rowHouseSale.getConstructionYear())
                 .roadName(rowHouseSale.getRoadName())
+                .latitude(rowHouseSale.getLatitude())
+                .longitude(rowHouseSale.getLongitude())
                 .housingType(rowHouseSale.getHousingType())
                 .build();
     }
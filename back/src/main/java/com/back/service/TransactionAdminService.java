@@ -0,0 +1,15 @@
+package com.back.service;
+
+import com.back.domain.TransactionRecord;
+import com.back.dto.TransactionPageDTO;
+
+import java.util.Map;
+
+public interface TransactionAdminService {
+
+    // 관리자 실거래 목록 (번호 역순 keyset, withCount면 테이블 통계 기준 대략 전체 건수 포함)
+    TransactionPageDTO<TransactionRecord> findPage(String type, Long cursorNo, Integer size, boolean withCount);
+
+    // 종류별 대략 건수 (통계 화면용, COUNT(*) 없음)
+    Map<String, Long> approximateCounts();
+}
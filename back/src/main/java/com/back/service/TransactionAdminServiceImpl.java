@@ -0,0 +1,40 @@
+package com.back.service;
+
+import com.back.domain.TransactionRecord;
+import com.back.dto.TransactionPageDTO;
+import com.back.ingest.TransactionFileType;
+import com.back.repository.TransactionPageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TransactionAdminServiceImpl implements TransactionAdminService {
+
+    private final TransactionPageRepository transactionPageRepository;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public TransactionPageDTO<TransactionRecord> findPage(String type, Long cursorNo, Integer size, boolean withCount) {
+        TransactionFileType fileType = TransactionFileType.fromKey(type);
+        Slice<TransactionRecord> slice = transactionPageRepository.findBeforeNo(
+                (Class<TransactionRecord>) fileType.getEntityType(), cursorNo, size);
+        Long total = withCount ? transactionPageRepository.approximateCount(fileType.getTable()) : null;
+        return TransactionPageDTO.byNo(slice, total);
+    }
+
+    @Override
+    public Map<String, Long> approximateCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (TransactionFileType fileType : TransactionFileType.values()) {
+            counts.put(fileType.getKey(), transactionPageRepository.approximateCount(fileType.getTable()));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.service;
+
+import com.back.dto.TransactionBulkJobDTO;
+import com.back.dto.TransactionBulkRequestDTO;
+
+import java.util.List;
+
+public interface TransactionBulkService {
+
+    // 실거래 일괄 추가/수정/삭제 시작 (비동기, 요청 검증 실패는 IllegalArgumentException)
+    TransactionBulkJobDTO start(String type, TransactionBulkRequestDTO request);
+
+    // 진행 중인 작업 취소 요청 (처리 중인 청크까지 반영 후 멈춤)
+    TransactionBulkJobDTO cancel(String jobId);
+
+    TransactionBulkJobDTO getJob(String jobId);
+
+    List<TransactionBulkJobDTO> getJobs();
+}
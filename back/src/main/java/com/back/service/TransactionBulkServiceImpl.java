@@ -0,0 +1,511 @@
+package com.back.service;
+
+import com.back.dictionary.NameDictionary;
+import com.back.dto.TransactionBulkJobDTO;
+import com.back.dto.TransactionBulkJobDTO.BulkStatus;
+import com.back.dto.TransactionBulkRequestDTO;
+import com.back.dto.TransactionBulkRequestDTO.BulkOperation;
+import com.back.geo.Geocoder;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.ContentHash;
+import com.back.ingest.TransactionFileType;
+import com.back.ingest.TransactionTableLocks;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실거래 일괄 추가/수정/삭제 (관리자 데이터 정정용).
+ * 대상 행을 번호 순 청크로 나눠 청크마다 한 트랜잭션에서 JDBC 배치로 반영하고 커밋하므로,
+ * 실패하거나 취소해도 커밋된 청크까지는 남고 진행 상황은 작업 조회로 확인한다.
+ * 수정은 기존 행 값에 바꿀 컬럼을 덮어쓴 뒤 중복 판별 해시와 (시군구/도로명이 바뀌면) 좌표를 다시 계산하고,
+ * 도로명 사전 id도 함께 채우고, 끝난 뒤 TransactionsBulkLoadedEvent로 인덱스를 갱신한다.
+ * 값은 등록 시점에 컬럼 종류별로 변환/검증하고 (파일 적재와 같은 규칙), 같은 테이블의 파일 적재와는 테이블 잠금으로 번갈아 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class TransactionBulkServiceImpl implements TransactionBulkService {
+
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Geocoder geocoder;
+    private final NameDictionary nameDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTableLocks tableLocks;
+
+    // 일괄 작업은 한 번에 하나씩 (같은 행을 동시에 고치지 않도록)
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${com.back.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public TransactionBulkJobDTO start(String type, TransactionBulkRequestDTO request) {
+        TransactionFileType fileType = TransactionFileType.fromKey(type);
+        if (request == null || request.getOperation() == null) {
+            throw new IllegalArgumentException("작업 종류(operation)가 없음");
+        }
+
+        BulkJob job = new BulkJob(UUID.randomUUID().toString(), fileType, request.getOperation());
+        switch (request.getOperation()) {
+            case INSERT -> prepareInsert(job, request);
+            case UPDATE -> prepareUpdate(job, request);
+            case DELETE -> prepareDelete(job, request);
+        }
+
+        evictFinishedJobs();
+        jobs.put(job.jobId, job);
+        log.info("실거래 일괄 작업 등록 - 작업: {}, 종류: {}, {}, 대상: {}", job.jobId, fileType.getKey(),
+                job.operation.getDescription(), job.filterSql != null ? job.filterSql + " " + job.filterArgs : job.rowsTotal + "행");
+        jobExecutor.execute(() -> tableLocks.run(fileType, () -> run(job)));
+        return job.toDTO();
+    }
+
+    @Override
+    public TransactionBulkJobDTO cancel(String jobId) {
+        BulkJob job = findJob(jobId);
+        if (job.finishedAt == null) {
+            job.cancelRequested = true;
+            if (job.status == BulkStatus.RUNNING) {
+                job.status = BulkStatus.CANCELLING;
+            }
+            log.info("실거래 일괄 작업 취소 요청 - 작업: {}", jobId);
+        }
+        return job.toDTO();
+    }
+
+    @Override
+    public TransactionBulkJobDTO getJob(String jobId) {
+        return findJob(jobId).toDTO();
+    }
+
+    @Override
+    public List<TransactionBulkJobDTO> getJobs() {
+        return jobs.values().stream()
+                .map(BulkJob::toDTO)
+                .sorted(Comparator.comparing(TransactionBulkJobDTO::getStartedAt).reversed())
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private BulkJob findJob(String jobId) {
+        BulkJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("일괄 작업을 찾을 수 없음: " + jobId);
+        }
+        return job;
+    }
+
+    // ==================== 요청 검증 (작업 등록 전에 모두 확인) ====================
+
+    private void prepareInsert(BulkJob job, TransactionBulkRequestDTO request) {
+        if (request.getRows() == null || request.getRows().isEmpty()) {
+            throw new IllegalArgumentException("추가할 행(rows)이 비어 있음");
+        }
+        List<String> columns = job.type.getColumns();
+        List<Object[]> inserts = new ArrayList<>(request.getRows().size());
+        for (int i = 0; i < request.getRows().size(); i++) {
+            Map<Integer, Object> changes = changes(job.type, request.getRows().get(i), i);
+            Object[] values = new Object[columns.size()];
+            changes.forEach((index, value) -> values[index] = value);
+            if (values[columns.indexOf("sigungu")] == null || values[columns.indexOf("contract_date")] == null) {
+                throw new IllegalArgumentException((i + 1) + "번째 행: 시군구(sigungu)와 계약일(contract_date)은 필수");
+            }
+            inserts.add(values);
+        }
+        job.inserts = inserts;
+        job.rowsTotal = inserts.size();
+    }
+
+    private void prepareUpdate(BulkJob job, TransactionBulkRequestDTO request) {
+        boolean hasRows = request.getRows() != null && !request.getRows().isEmpty();
+        requireSingleTarget(hasRows, request);
+
+        if (hasRows) {
+            // 행마다 번호와 바꿀 컬럼
+            Map<Long, Map<Integer, Object>> rowChanges = new TreeMap<>();
+            for (int i = 0; i < request.getRows().size(); i++) {
+                Map<String, Object> row = new LinkedHashMap<>(request.getRows().get(i));
+                if (!(row.remove("no") instanceof Number no)) {
+                    throw new IllegalArgumentException((i + 1) + "번째 행: 번호(no)가 없음");
+                }
+                Map<Integer, Object> changes = changes(job.type, row, i);
+                if (changes.isEmpty()) {
+                    throw new IllegalArgumentException((i + 1) + "번째 행: 바꿀 컬럼이 없음");
+                }
+                rowChanges.put(no.longValue(), changes);
+            }
+            job.rowChanges = rowChanges;
+            job.nos = new ArrayList<>(rowChanges.keySet());
+            job.rowsTotal = job.nos.size();
+            return;
+        }
+
+        if (request.getValues() == null || request.getValues().isEmpty()) {
+            throw new IllegalArgumentException("바꿀 컬럼(values)이 비어 있음");
+        }
+        job.changes = changes(job.type, request.getValues(), -1);
+        prepareTarget(job, request);
+    }
+
+    private void prepareDelete(BulkJob job, TransactionBulkRequestDTO request) {
+        if (request.getRows() != null && !request.getRows().isEmpty()) {
+            throw new IllegalArgumentException("삭제는 번호(nos) 또는 조건으로만 지정");
+        }
+        requireSingleTarget(false, request);
+        prepareTarget(job, request);
+    }
+
+    private static void requireSingleTarget(boolean hasRows, TransactionBulkRequestDTO request) {
+        boolean hasNos = request.getNos() != null && !request.getNos().isEmpty();
+        int targets = (hasRows ? 1 : 0) + (hasNos ? 1 : 0) + (request.hasFilter() ? 1 : 0);
+        if (targets != 1) {
+            throw new IllegalArgumentException("대상은 rows, nos, 조건(sigungu, 계약일 범위) 중 하나만 지정");
+        }
+    }
+
+    // 번호 목록 또는 조건 (조건이면 WHERE 절과 파라미터)
+    private static void prepareTarget(BulkJob job, TransactionBulkRequestDTO request) {
+        if (request.getNos() != null && !request.getNos().isEmpty()) {
+            job.nos = request.getNos().stream().filter(Objects::nonNull).distinct().sorted().toList();
+            job.rowsTotal = job.nos.size();
+            return;
+        }
+
+        LocalDate from = request.getContractDateFrom();
+        LocalDate to = request.getContractDateTo();
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("계약일 범위가 잘못됨: " + from + " ~ " + to);
+        }
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (request.getSigungu() != null && !request.getSigungu().isBlank()) {
+            conditions.add("sigungu LIKE ?");
+            args.add(request.getSigungu().trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        if (from != null) {
+            conditions.add("contract_date >= ?");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("contract_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        job.filterSql = String.join(" AND ", conditions);
+        job.filterArgs = args;
+    }
+
+    // 컬럼 이름 → 컬럼 위치와 컬럼 종류로 변환한 값 (적재 컬럼만 허용, 금액 "35,000"/면적 "84.50" 같은 문자열도 허용)
+    private static Map<Integer, Object> changes(TransactionFileType type, Map<String, Object> values, int rowIndex) {
+        String prefix = rowIndex >= 0 ? (rowIndex + 1) + "번째 행: " : "";
+        Map<Integer, Object> changes = new HashMap<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            int index = type.getColumns().indexOf(entry.getKey());
+            if (index < 0) {
+                throw new IllegalArgumentException(prefix + "지정할 수 없는 컬럼: " + entry.getKey());
+            }
+            try {
+                changes.put(index, TransactionFileType.coerce(entry.getKey(), entry.getValue()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(prefix + e.getMessage());
+            }
+        }
+        return changes;
+    }
+
+    // ==================== 실행 ====================
+
+    private void run(BulkJob job) {
+        long start = System.currentTimeMillis();
+        if (job.cancelRequested) {
+            job.status = BulkStatus.CANCELLED;
+            job.finishedAt = LocalDateTime.now();
+            return;
+        }
+        job.status = BulkStatus.RUNNING;
+
+        try {
+            if (job.operation == BulkOperation.INSERT) {
+                for (int from = 0; from < job.inserts.size() && !job.cancelRequested; from += chunkSize) {
+                    List<Object[]> chunk = job.inserts.subList(from, Math.min(from + chunkSize, job.inserts.size()));
+                    commitChunk(job, chunk.size(), rowByRow -> insert(job.type, chunk, rowByRow));
+                }
+            } else if (job.nos != null) {
+                for (int from = 0; from < job.nos.size() && !job.cancelRequested; from += chunkSize) {
+                    List<Long> chunk = job.nos.subList(from, Math.min(from + chunkSize, job.nos.size()));
+                    commitChunk(job, chunk.size(), rowByRow -> apply(job, chunk, rowByRow));
+                }
+            } else {
+                runFilter(job);
+            }
+
+            job.status = job.cancelRequested ? BulkStatus.CANCELLED : BulkStatus.COMPLETED;
+            log.info("실거래 일괄 작업 {} - 작업: {}, 종류: {}, {}, 처리: {}/{}행, 반영: {}, 제외: {}, {}ms",
+                    job.status.getDescription(), job.jobId, job.type.getKey(), job.operation.getDescription(),
+                    job.rowsProcessed.get(), job.rowsTotal, job.rowsChanged.get(), job.rowsRejected.get(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            job.status = BulkStatus.FAILED;
+            job.error = e.getMessage();
+            log.error("실거래 일괄 작업 실패 - 작업: {}, 커밋된 청크: {}, 반영: {}행: {}",
+                    job.jobId, job.chunksCommitted.get(), job.rowsChanged.get(), e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+
+        // 일부만 반영된 경우에도 인덱스는 갱신
+        if (job.rowsChanged.get() > 0) {
+            eventPublisher.publishEvent(new TransactionsBulkLoadedEvent(job.type.getEntityType(), job.rowsChanged.get()));
+        }
+    }
+
+    // 조건 대상: 번호 순 keyset으로 청크마다 번호를 읽어 반영 (삭제/수정된 행은 다음 청크 조회에 영향 없음)
+    private void runFilter(BulkJob job) {
+        String table = job.type.getTable();
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + job.filterSql,
+                Long.class, job.filterArgs.toArray());
+        job.rowsTotal = total != null ? total : 0;
+
+        String selectSql = "SELECT no FROM " + table + " WHERE " + job.filterSql + " AND no > ? ORDER BY no LIMIT " + chunkSize;
+        long lastNo = 0;
+        while (!job.cancelRequested) {
+            List<Object> args = new ArrayList<>(job.filterArgs);
+            args.add(lastNo);
+            List<Long> chunk = jdbcTemplate.queryForList(selectSql, Long.class, args.toArray());
+            if (chunk.isEmpty()) {
+                break;
+            }
+            commitChunk(job, chunk.size(), rowByRow -> apply(job, chunk, rowByRow));
+            lastNo = chunk.get(chunk.size() - 1);
+        }
+    }
+
+    // 청크 하나를 한 트랜잭션으로 반영 (같은 해시의 행과 겹치면 롤백 후 한 행씩 다시 반영)
+    private void commitChunk(BulkJob job, int size, ChunkWork work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        ChunkResult result;
+        try {
+            result = transaction.execute(status -> work.write(false));
+        } catch (DuplicateKeyException e) {
+            result = transaction.execute(status -> work.write(true));
+        }
+
+        job.chunksCommitted.incrementAndGet();
+        job.rowsChanged.addAndGet(result.changed);
+        job.rowsRejected.addAndGet(result.rejected);
+        long processed = job.rowsProcessed.addAndGet(size);
+        if (processed / PROGRESS_LOG_INTERVAL != (processed - size) / PROGRESS_LOG_INTERVAL) {
+            log.info("실거래 일괄 작업 중 - 작업: {}, 처리: {}/{}행", job.jobId, processed, job.rowsTotal);
+        }
+    }
+
+    private ChunkResult insert(TransactionFileType type, List<Object[]> rows, boolean rowByRow) {
+        Map<String, Integer> roadNameIds = nameDictionary.register(rows.stream().map(values -> (String) values[1]).toList());
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Object[] values : rows) {
+            double[] coordinate = geocoder.resolve((String) values[0], (String) values[1]);
+            Object[] params = Arrays.copyOf(values, values.length + 4);
+            params[values.length] = coordinate != null ? coordinate[0] : null;
+            params[values.length + 1] = coordinate != null ? coordinate[1] : null;
+            params[values.length + 2] = roadNameIds.get((String) values[1]);
+            params[values.length + 3] = type.hash(values);
+            batch.add(params);
+        }
+        long changed = write(type.insertSql(), batch, rowByRow);
+        return new ChunkResult(changed, batch.size() - changed);
+    }
+
+    // 번호 청크 수정/삭제 (없는 번호는 제외로 집계)
+    private ChunkResult apply(BulkJob job, List<Long> nos, boolean rowByRow) {
+        String table = job.type.getTable();
+        if (job.operation == BulkOperation.DELETE) {
+            List<Object[]> batch = nos.stream().map(no -> new Object[]{no}).toList();
+            long changed = write("DELETE FROM " + table + " WHERE no = ?", batch, rowByRow);
+            return new ChunkResult(changed, nos.size() - changed);
+        }
+
+        List<String> columns = job.type.getColumns();
+        List<Object[]> batch = new ArrayList<>(nos.size());
+        long unchanged = 0;
+        List<Object[]> current = jdbcTemplate.query("SELECT no, " + String.join(", ", columns) + ", latitude, longitude FROM " +
+                        table + " WHERE no IN (" + String.join(", ", Collections.nCopies(nos.size(), "?")) + ")",
+                (rs, rowNum) -> {
+                    Object[] row = new Object[columns.size() + 3];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = rs.getObject(i + 1);
+                    }
+                    return row;
+                }, nos.toArray());
+
+        for (Object[] row : current) {
+            long no = ((Number) row[0]).longValue();
+            Object[] values = Arrays.copyOfRange(row, 1, columns.size() + 1);
+            Map<Integer, Object> changes = job.rowChanges != null ? job.rowChanges.get(no) : job.changes;
+            boolean modified = false;
+            for (Map.Entry<Integer, Object> change : changes.entrySet()) {
+                if (!ContentHash.normalize(values[change.getKey()]).equals(ContentHash.normalize(change.getValue()))) {
+                    values[change.getKey()] = change.getValue();
+                    modified = true;
+                }
+            }
+            if (!modified) {
+                unchanged++;
+                continue;
+            }
+
+            // 시군구/도로명(첫 두 컬럼)이 바뀌면 좌표 다시 계산
+            Object latitude = row[columns.size() + 1];
+            Object longitude = row[columns.size() + 2];
+            if (changes.containsKey(0) || changes.containsKey(1)) {
+                double[] coordinate = geocoder.resolve((String) values[0], (String) values[1]);
+                latitude = coordinate != null ? coordinate[0] : null;
+                longitude = coordinate != null ? coordinate[1] : null;
+            }
+            Object[] params = Arrays.copyOf(values, values.length + 5);
+            params[values.length] = latitude;
+            params[values.length + 1] = longitude;
+            params[values.length + 2] = values[1]; // 아래에서 도로명 사전 id로 교체
+            params[values.length + 3] = job.type.hash(values);
+            params[values.length + 4] = no;
+            batch.add(params);
+        }
+
+        // 바뀐 행의 도로명을 쓰기 전에 한 번에 등록
+        int roadNameIdIndex = columns.size() + 2;
+        Map<String, Integer> roadNameIds = nameDictionary.register(batch.stream().map(params -> (String) params[roadNameIdIndex]).toList());
+        for (Object[] params : batch) {
+            params[roadNameIdIndex] = roadNameIds.get((String) params[roadNameIdIndex]);
+        }
+
+        String updateSql = "UPDATE " + table + " SET " + String.join(" = ?, ", columns) +
+                " = ?, latitude = ?, longitude = ?, road_name_id = ?, content_hash = ? WHERE no = ?";
+        long changed = batch.isEmpty() ? 0 : write(updateSql, batch, rowByRow);
+        return new ChunkResult(changed, nos.size() - unchanged - changed);
+    }
+
+    // 배치 실행 후 반영된 행 수 (rowByRow면 한 행씩 실행하고 같은 해시와 겹치는 행은 건너뜀)
+    private long write(String sql, List<Object[]> batch, boolean rowByRow) {
+        long changed = 0;
+        if (!rowByRow) {
+            for (int count : jdbcTemplate.batchUpdate(sql, batch)) {
+                changed += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            return changed;
+        }
+        for (Object[] params : batch) {
+            try {
+                changed += jdbcTemplate.update(sql, params);
+            } catch (DuplicateKeyException e) {
+                log.debug("실거래 일괄 작업 행 제외 - 같은 거래가 이미 있음: {}", e.getMessage());
+            }
+        }
+        return changed;
+    }
+
+    // 끝난 작업이 많으면 오래된 것부터 제거
+    private void evictFinishedJobs() {
+        List<BulkJob> finished = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing(job -> job.finishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - MAX_RETAINED_JOBS + 1; i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    // 청크 반영 (rowByRow: 배치가 같은 해시와 겹쳐 롤백된 뒤 한 행씩 다시 실행)
+    private interface ChunkWork {
+        ChunkResult write(boolean rowByRow);
+    }
+
+    @AllArgsConstructor
+    private static class ChunkResult {
+        private final long changed;
+        private final long rejected;
+    }
+
+    // 진행 중인 작업 상태와 대상 (조회 시 DTO로 복사)
+    private static class BulkJob {
+        private final String jobId;
+        private final TransactionFileType type;
+        private final BulkOperation operation;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsProcessed = new AtomicLong();
+        private final AtomicLong rowsChanged = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final AtomicLong chunksCommitted = new AtomicLong();
+        private volatile long rowsTotal;
+        private volatile BulkStatus status = BulkStatus.QUEUED;
+        private volatile boolean cancelRequested;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private List<Object[]> inserts; // INSERT: 적재 컬럼 순 값
+        private List<Long> nos; // 번호 대상 (오름차순)
+        private Map<Long, Map<Integer, Object>> rowChanges; // 행별 UPDATE: 번호 → 컬럼 위치 → 값
+        private Map<Integer, Object> changes; // 공통 UPDATE: 컬럼 위치 → 값
+        private String filterSql; // 조건 대상 WHERE 절
+        private List<Object> filterArgs;
+
+        private BulkJob(String jobId, TransactionFileType type, BulkOperation operation) {
+            this.jobId = jobId;
+            this.type = type;
+            this.operation = operation;
+        }
+
+        private TransactionBulkJobDTO toDTO() {
+            return TransactionBulkJobDTO.builder()
+                    .jobId(jobId)
+                    .type(type.getKey())
+                    .operation(operation)
+                    .status(status)
+                    .rowsTotal(rowsTotal)
+                    .rowsProcessed(rowsProcessed.get())
+                    .rowsChanged(rowsChanged.get())
+                    .rowsRejected(rowsRejected.get())
+                    .chunksCommitted(chunksCommitted.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.back.service;
+
+import com.back.dto.TransactionFacetsDTO;
+import com.back.index.TransactionFacet;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TransactionFacetService {
+
+    // 선택 조건의 모든 패싯 건수 (layer: apartment-sale, apartment-rent, rowhouse-sale 등, 비트맵 교집합으로 한 번에 계산)
+    TransactionFacetsDTO getFacets(String layer, Map<TransactionFacet, String> selected);
+
+    // 패싯 값 목록 (가나다순, DISTINCT 조회 대신 사용)
+    List<String> getFacetValues(String layer, TransactionFacet facet);
+}
@@ -0,0 +1,225 @@
+package com.back.service;
+
+import com.back.domain.GeoLocated;
+import com.back.domain.TransactionRecord;
+import com.back.dto.FacetCountDTO;
+import com.back.dto.TransactionFacetsDTO;
+import com.back.index.TransactionChangedEvent;
+import com.back.index.TransactionFacet;
+import com.back.index.TransactionFacetIndex;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.TransactionFileType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class TransactionFacetServiceImpl implements TransactionFacetService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 레이어 → 패싯 비트맵 (첫 조회 시 생성)
+    private final Map<String, TransactionFacetIndex> indexes = new ConcurrentHashMap<>();
+
+    // 레이어별 비트맵 생성 잠금 (같은 레이어는 한 번만 생성, 다른 레이어 생성/조회는 막지 않음)
+    private final Map<String, Object> buildLocks = new ConcurrentHashMap<>();
+
+    // 생성 중인 비트맵에 들어온 변경 (생성이 끝나면 반영), indexMonitor로 보호
+    private final Map<String, List<Consumer<TransactionFacetIndex>>> pendingChanges = new HashMap<>();
+    private final Object indexMonitor = new Object();
+
+    @Override
+    public TransactionFacetsDTO getFacets(String layer, Map<TransactionFacet, String> selected) {
+        long start = System.currentTimeMillis();
+        TransactionFacetIndex.FacetCounts result = getIndex(layer).count(selected);
+
+        Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+        result.getCounts().forEach((facet, values) -> facets.put(facet.getKey(), values.stream()
+                .map(entry -> FacetCountDTO.builder().value(entry.getKey()).count(entry.getValue()).build())
+                .toList()));
+
+        log.debug("패싯 건수 조회 - 레이어: {}, 조건: {}, 건수: {}, {}ms",
+                layer, selected, result.getTotal(), System.currentTimeMillis() - start);
+        return TransactionFacetsDTO.builder()
+                .layer(layer)
+                .totalCount(result.getTotal())
+                .facets(facets)
+                .build();
+    }
+
+    @Override
+    public List<String> getFacetValues(String layer, TransactionFacet facet) {
+        return getIndex(layer).values(facet);
+    }
+
+    // 실거래 데이터 변경 시 해당 행 비트만 갱신 (비트맵이 만들어진 경우에만)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Object transaction = event.getTransaction();
+        TransactionFileType type = TransactionFileType.forEntity(transaction.getClass());
+        Long no = type != null ? ((TransactionRecord) transaction).getNo() : null;
+        if (no == null) {
+            return;
+        }
+        String[] values = event.isDeleted() ? null : values(type, transaction);
+        applyChange(type.getLayer(), index -> {
+            if (values == null) {
+                index.remove(no);
+            } else {
+                index.put(no, values);
+            }
+        });
+    }
+
+    // 실거래 대량 적재 후 해당 레이어 비트맵 폐기 (다음 조회 때 다시 생성)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsBulkLoaded(TransactionsBulkLoadedEvent event) {
+        TransactionFileType type = TransactionFileType.forEntity(event.getEntityType());
+        if (type == null) {
+            return;
+        }
+        String layer = type.getLayer();
+        synchronized (indexMonitor) {
+            // 생성 중인 비트맵도 적재 전 데이터일 수 있으므로 저장하지 않게 함
+            pendingChanges.remove(layer);
+            if (indexes.remove(layer) != null) {
+                log.info("패싯 비트맵 폐기 - 레이어: {}, 대량 적재 {}건", layer, event.getChangedCount());
+            }
+        }
+    }
+
+    private TransactionFacetIndex getIndex(String layer) {
+        TransactionFileType type = TransactionFileType.fromLayer(layer); // 레이어 이름은 지도 클러스터 레이어와 동일
+        TransactionFacetIndex index = indexes.get(layer);
+        if (index != null) {
+            return index;
+        }
+        synchronized (buildLocks.computeIfAbsent(layer, key -> new Object())) {
+            index = indexes.get(layer);
+            if (index != null) {
+                return index;
+            }
+            synchronized (indexMonitor) {
+                pendingChanges.put(layer, new ArrayList<>());
+            }
+            TransactionFacetIndex built;
+            try {
+                built = buildIndex(type);
+            } catch (RuntimeException e) {
+                synchronized (indexMonitor) {
+                    pendingChanges.remove(layer);
+                }
+                throw e;
+            }
+            synchronized (indexMonitor) {
+                List<Consumer<TransactionFacetIndex>> changes = pendingChanges.remove(layer);
+                if (changes == null) {
+                    // 생성 중 대량 적재로 폐기됨 (이번 조회에만 쓰고 다음 조회 때 다시 생성)
+                    return built;
+                }
+                for (Consumer<TransactionFacetIndex> change : changes) {
+                    change.accept(built);
+                }
+                indexes.put(layer, built);
+            }
+            return built;
+        }
+    }
+
+    // 비트맵 변경 반영 (생성 중이면 생성이 끝난 뒤 반영, 비트맵이 없으면 다음 생성 때 DB에서 읽음)
+    private void applyChange(String layer, Consumer<TransactionFacetIndex> change) {
+        synchronized (indexMonitor) {
+            List<Consumer<TransactionFacetIndex>> changes = pendingChanges.get(layer);
+            if (changes != null) {
+                changes.add(change);
+                return;
+            }
+            TransactionFacetIndex index = indexes.get(layer);
+            if (index != null) {
+                change.accept(index);
+            }
+        }
+    }
+
+    private TransactionFacetIndex buildIndex(TransactionFileType type) {
+        long start = System.currentTimeMillis();
+        TransactionFacetIndex index = new TransactionFacetIndex();
+
+        String sql = "SELECT no, sigungu, housing_type, transaction_type, construction_year, " +
+                type.getAreaColumn() + " AS area FROM " + type.getTable();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> index.put(rs.getLong("no"), values(rs.getString("sigungu"),
+                rs.getString("housing_type"), rs.getString("transaction_type"),
+                rs.getObject("construction_year", Integer.class), rs.getObject("area", Double.class))));
+
+        log.info("패싯 비트맵 생성 - 레이어: {}, 행: {}개, {}ms", type.getLayer(), index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    // 엔티티 → 패싯 값
+    private static String[] values(TransactionFileType type, Object transaction) {
+        return values(((GeoLocated) transaction).getSigungu(), (String) type.value(transaction, "housing_type"),
+                (String) type.value(transaction, "transaction_type"), (Integer) type.value(transaction, "construction_year"),
+                (Double) type.value(transaction, type.getAreaColumn()));
+    }
+
+    // TransactionFacet 순서의 패싯 값
+    private static String[] values(String sigungu, String housingType, String transactionType,
+                                   Integer constructionYear, Double area) {
+        String[] values = new String[TransactionFacet.values().length];
+        values[TransactionFacet.SIGUNGU.ordinal()] = trimToNull(sigungu);
+        values[TransactionFacet.HOUSING_TYPE.ordinal()] = trimToNull(housingType);
+        values[TransactionFacet.TRANSACTION_TYPE.ordinal()] = trimToNull(transactionType);
+        values[TransactionFacet.CONSTRUCTION_DECADE.ordinal()] = constructionDecade(constructionYear);
+        values[TransactionFacet.AREA_BAND.ordinal()] = areaBandLabel(area);
+        return values;
+    }
+
+    // 1994 → "1990년대"
+    private static String constructionDecade(Integer constructionYear) {
+        if (constructionYear == null || constructionYear <= 0) {
+            return null;
+        }
+        return (constructionYear / 10 * 10) + "년대";
+    }
+
+    // 면적 구간 표시 (시세 요약과 같은 구간: "40㎡ 이하", "60~85㎡", "135㎡ 초과")
+    private static String areaBandLabel(Double area) {
+        Integer band = MarketPriceSummaryBuilder.areaBand(area);
+        if (band == null) {
+            return null;
+        }
+        Double lower = MarketPriceSummaryBuilder.areaBandLowerBound(band);
+        Double upper = MarketPriceSummaryBuilder.areaBandUpperBound(band);
+        if (band == 0) {
+            return Math.round(upper) + "㎡ 이하";
+        }
+        if (upper == null) {
+            return Math.round(lower) + "㎡ 초과";
+        }
+        return Math.round(lower) + "~" + Math.round(upper) + "㎡";
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
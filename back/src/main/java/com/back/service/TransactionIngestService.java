@@ -0,0 +1,22 @@
+package com.back.service;
+
+import com.back.dto.TransactionIngestJobDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface TransactionIngestService {
+
+    // 업로드한 실거래 파일 적재 시작 (비동기, 작업 ID 반환)
+    TransactionIngestJobDTO startIngest(String type, MultipartFile file, String charset);
+
+    // 적재 디렉터리에 있는 실거래 파일 적재 시작 (업로드 용량보다 큰 파일용)
+    TransactionIngestJobDTO startIngest(String type, String fileName, String charset);
+
+    // 재시작 전에 중단된 적재 디렉터리 파일 적재를 체크포인트부터 다시 시작
+    List<TransactionIngestJobDTO> resumeInterrupted();
+
+    TransactionIngestJobDTO getJob(String jobId);
+
+    List<TransactionIngestJobDTO> getJobs();
+}
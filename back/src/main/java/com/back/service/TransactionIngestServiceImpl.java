@@ -0,0 +1,558 @@
+package com.back.service;
+
+import com.back.dictionary.NameDictionary;
+import com.back.domain.IngestCheckpoint;
+import com.back.domain.IngestCheckpoint.CheckpointStatus;
+import com.back.dto.TransactionIngestJobDTO;
+import com.back.dto.TransactionIngestJobDTO.IngestStatus;
+import com.back.geo.Geocoder;
+import com.back.index.TransactionsBulkLoadedEvent;
+import com.back.ingest.ContentHash;
+import com.back.ingest.TransactionFileReader;
+import com.back.ingest.TransactionFileType;
+import com.back.ingest.TransactionRow;
+import com.back.ingest.TransactionTableLocks;
+import com.back.repository.IngestCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 국토부 실거래가 파일 대량 적재 (중복 판별 해시 기준 upsert).
+ * 파일은 적재 스레드가 한 행씩 읽어 청크로 묶고, 청크마다 작업 스레드가 검증/정규화/좌표 계산 후
+ * 해시로 기존 행을 조회해 새 거래는 INSERT, 내용이 바뀐 거래는 UPDATE, 해제된 거래는 DELETE 한다
+ * (청크 단위 트랜잭션, 동시에 처리 중인 청크는 parallelism 개까지).
+ * 앞에서부터 반영이 끝난 행 수를 체크포인트로 남겨, 같은 파일을 다시 적재하면 그 뒤부터 이어서 진행한다.
+ * 엔티티 저장을 거치지 않으므로 끝난 뒤 TransactionsBulkLoadedEvent로 지도/요약 인덱스를 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class TransactionIngestServiceImpl implements TransactionIngestService {
+
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+    private static final int HASH_LOOKUP_BATCH_SIZE = 500;
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Geocoder geocoder;
+    private final NameDictionary nameDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final TransactionTableLocks tableLocks;
+
+    // 적재 작업은 한 번에 하나씩 (같은 테이블에 동시에 쓰지 않도록)
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+
+    private final Map<String, IngestJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${com.back.ingest.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${com.back.ingest.parallelism:4}")
+    private int parallelism;
+
+    @Value("${com.back.ingest.directory:}")
+    private String directory;
+
+    @Override
+    public TransactionIngestJobDTO startIngest(String type, MultipartFile file, String charset) {
+        TransactionFileType fileType = TransactionFileType.fromKey(type);
+        Charset fileCharset = parseCharset(charset);
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드한 파일이 비어 있음");
+        }
+
+        String fileName = file.getOriginalFilename() != null ? Path.of(file.getOriginalFilename()).getFileName().toString() : "upload.csv";
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("transaction-ingest-", "-" + fileName);
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 저장 실패: " + e.getMessage(), e);
+        }
+        return submit(fileType, fileName, tempFile, fileCharset, false);
+    }
+
+    @Override
+    public TransactionIngestJobDTO startIngest(String type, String fileName, String charset) {
+        TransactionFileType fileType = TransactionFileType.fromKey(type);
+        Charset fileCharset = parseCharset(charset);
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalArgumentException("적재 디렉터리(com.back.ingest.directory)가 설정되지 않음");
+        }
+
+        Path base = Path.of(directory).toAbsolutePath().normalize();
+        Path path = base.resolve(fileName).normalize();
+        if (!path.startsWith(base)) {
+            throw new IllegalArgumentException("적재 디렉터리 밖의 파일은 읽을 수 없음: " + fileName);
+        }
+        if (!Files.isReadable(path)) {
+            throw new IllegalArgumentException("파일을 읽을 수 없음: " + fileName);
+        }
+        return submit(fileType, base.relativize(path).toString(), path, fileCharset, true);
+    }
+
+    @Override
+    public List<TransactionIngestJobDTO> resumeInterrupted() {
+        List<TransactionIngestJobDTO> resumed = new ArrayList<>();
+        for (IngestCheckpoint checkpoint : checkpointRepository.findByStatusAndDirectoryFileTrue(CheckpointStatus.RUNNING)) {
+            // 파일이 바뀌었으면 새 체크포인트로 처음부터 적재되므로 기존 체크포인트는 실패로 정리
+            checkpoint.setStatus(CheckpointStatus.FAILED);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            try {
+                resumed.add(startIngest(checkpoint.getFileType(), checkpoint.getFileName(), checkpoint.getCharset()));
+            } catch (IllegalArgumentException e) {
+                log.warn("중단된 실거래 파일 적재를 이어서 진행할 수 없음 - 파일: {}: {}", checkpoint.getFileName(), e.getMessage());
+            }
+        }
+        return resumed;
+    }
+
+    @Override
+    public TransactionIngestJobDTO getJob(String jobId) {
+        IngestJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("적재 작업을 찾을 수 없음: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    @Override
+    public List<TransactionIngestJobDTO> getJobs() {
+        return jobs.values().stream()
+                .map(IngestJob::toDTO)
+                .sorted(Comparator.comparing(TransactionIngestJobDTO::getStartedAt).reversed())
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private TransactionIngestJobDTO submit(TransactionFileType type, String fileName, Path path, Charset charset,
+                                           boolean directoryFile) {
+        evictFinishedJobs();
+        IngestJob job = new IngestJob(UUID.randomUUID().toString(), type, fileName, charset, directoryFile);
+        jobs.put(job.jobId, job);
+        log.info("실거래 파일 적재 등록 - 작업: {}, 종류: {}, 파일: {}", job.jobId, type.getKey(), fileName);
+
+        jobExecutor.execute(() -> {
+            try {
+                // 같은 테이블의 관리자 일괄 작업과 번갈아 실행
+                tableLocks.run(job.type, () -> run(job, path));
+            } finally {
+                if (!directoryFile) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        log.warn("임시 파일 삭제 실패 - {}", path);
+                    }
+                }
+            }
+        });
+        return job.toDTO();
+    }
+
+    private void run(IngestJob job, Path path) {
+        job.status = IngestStatus.RUNNING;
+        long start = System.currentTimeMillis();
+        ExecutorService chunkPool = Executors.newFixedThreadPool(parallelism);
+        Deque<PendingChunk> chunks = new ArrayDeque<>();
+        IngestCheckpoint checkpoint = null;
+
+        try {
+            checkpoint = loadCheckpoint(job, fingerprint(path));
+            if (checkpoint.getStatus() == CheckpointStatus.COMPLETED) {
+                // 이미 끝까지 반영한 파일과 내용이 같음
+                job.rowsSkipped.set(checkpoint.getRowsCommitted());
+                job.status = IngestStatus.COMPLETED;
+                log.info("실거래 파일 적재 생략 - 작업: {}, 파일: {}, 이미 반영된 파일", job.jobId, job.fileName);
+                return;
+            }
+            job.resumedFromRow = checkpoint.getRowsCommitted();
+            if (job.resumedFromRow > 0) {
+                log.info("실거래 파일 적재 이어서 진행 - 작업: {}, 파일: {}, {}행 이후부터", job.jobId, job.fileName, job.resumedFromRow);
+            }
+
+            try (TransactionFileReader reader = TransactionFileReader.open(path, job.charset)) {
+                Map<String, Integer> header = null;
+                List<List<String>> chunk = new ArrayList<>(chunkSize);
+                long dataRows = 0;
+                List<String> cells;
+
+                while ((cells = reader.nextRow()) != null) {
+                    // 헤더 앞의 안내문 줄은 건너뜀
+                    if (header == null) {
+                        if (TransactionRow.isHeader(cells)) {
+                            header = TransactionRow.headerIndex(cells);
+                        }
+                        continue;
+                    }
+                    if (cells.stream().allMatch(String::isBlank)) {
+                        continue;
+                    }
+                    if (++dataRows <= job.resumedFromRow) {
+                        continue;
+                    }
+
+                    chunk.add(cells);
+                    job.rowsRead.incrementAndGet();
+                    if (chunk.size() >= chunkSize) {
+                        submitChunk(chunkPool, chunks, checkpoint, job, header, chunk, dataRows);
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+                if (header == null) {
+                    throw new IllegalArgumentException("헤더 행(시군구, 계약년월)을 찾을 수 없음");
+                }
+                if (!chunk.isEmpty()) {
+                    submitChunk(chunkPool, chunks, checkpoint, job, header, chunk, dataRows);
+                }
+                while (!chunks.isEmpty()) {
+                    completeHead(chunks, checkpoint);
+                }
+            }
+
+            saveCheckpoint(checkpoint, CheckpointStatus.COMPLETED, checkpoint.getRowsCommitted());
+            job.status = IngestStatus.COMPLETED;
+            log.info("실거래 파일 적재 완료 - 작업: {}, 파일: {}, 읽음: {}행, 추가: {}, 수정: {}, 건너뜀: {}, 삭제: {}, 제외: {}, {}ms",
+                    job.jobId, job.fileName, job.rowsRead.get(), job.rowsInserted.get(), job.rowsUpdated.get(),
+                    job.rowsSkipped.get(), job.rowsDeleted.get(), job.rowsRejected.get(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            job.status = IngestStatus.FAILED;
+            job.error = e.getMessage();
+            if (checkpoint != null && checkpoint.getId() != null) {
+                saveCheckpoint(checkpoint, CheckpointStatus.FAILED, checkpoint.getRowsCommitted());
+            }
+            log.error("실거래 파일 적재 실패 - 작업: {}, 파일: {}, 반영된 행: {}: {}",
+                    job.jobId, job.fileName, checkpoint != null ? checkpoint.getRowsCommitted() : 0, e.getMessage());
+        } finally {
+            chunkPool.shutdownNow();
+            job.finishedAt = LocalDateTime.now();
+        }
+
+        // 일부만 반영된 경우에도 인덱스는 갱신
+        long changed = job.rowsInserted.get() + job.rowsUpdated.get() + job.rowsDeleted.get();
+        if (changed > 0) {
+            eventPublisher.publishEvent(new TransactionsBulkLoadedEvent(job.type.getEntityType(), changed));
+        }
+    }
+
+    // 같은 종류 + 같은 내용의 파일 체크포인트, 없으면 새로 생성
+    private IngestCheckpoint loadCheckpoint(IngestJob job, String fingerprint) {
+        IngestCheckpoint checkpoint = checkpointRepository.findByFileTypeAndFingerprint(job.type.getKey(), fingerprint)
+                .orElseGet(() -> IngestCheckpoint.builder()
+                        .fileType(job.type.getKey())
+                        .fingerprint(fingerprint)
+                        .rowsCommitted(0L)
+                        .build());
+        if (checkpoint.getStatus() == CheckpointStatus.COMPLETED) {
+            return checkpoint;
+        }
+        checkpoint.setFileName(job.fileName);
+        checkpoint.setDirectoryFile(job.directoryFile);
+        checkpoint.setCharset(job.charset != null ? job.charset.name() : null);
+        return saveCheckpoint(checkpoint, CheckpointStatus.RUNNING, checkpoint.getRowsCommitted());
+    }
+
+    private IngestCheckpoint saveCheckpoint(IngestCheckpoint checkpoint, CheckpointStatus status, long rowsCommitted) {
+        checkpoint.setStatus(status);
+        checkpoint.setRowsCommitted(rowsCommitted);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return checkpointRepository.save(checkpoint);
+    }
+
+    // 처리 중인 청크가 parallelism 개면 가장 앞 청크가 끝날 때까지 대기 (체크포인트는 앞에서부터 끝난 청크까지만 전진)
+    private void submitChunk(ExecutorService chunkPool, Deque<PendingChunk> chunks, IngestCheckpoint checkpoint,
+                             IngestJob job, Map<String, Integer> header, List<List<String>> rows, long lastRow) throws Exception {
+        while (chunks.size() >= parallelism) {
+            completeHead(chunks, checkpoint);
+        }
+        chunks.addLast(new PendingChunk(chunkPool.submit(() -> writeChunk(job, header, rows)), lastRow));
+
+        while (!chunks.isEmpty() && chunks.peekFirst().future.isDone()) {
+            completeHead(chunks, checkpoint);
+        }
+    }
+
+    private void completeHead(Deque<PendingChunk> chunks, IngestCheckpoint checkpoint) throws Exception {
+        PendingChunk head = chunks.pollFirst();
+        try {
+            head.future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        saveCheckpoint(checkpoint, CheckpointStatus.RUNNING, head.lastRow);
+    }
+
+    // 청크 검증/정규화/좌표 계산 후 해시 기준 upsert (같은 해시를 다른 청크가 동시에 넣으면 다시 시도)
+    private void writeChunk(IngestJob job, Map<String, Integer> header, List<List<String>> rows) {
+        TransactionFileType type = job.type;
+        Map<String, Object[]> incoming = new LinkedHashMap<>();
+        Set<String> cancelled = new HashSet<>();
+        long duplicates = 0;
+        long rejected = 0;
+
+        for (List<String> cells : rows) {
+            TransactionRow row = new TransactionRow(header, cells);
+            try {
+                Object[] values = type.map(row);
+                String hash = type.hash(values);
+                if (row.isCancelled()) {
+                    cancelled.add(hash);
+                    incoming.remove(hash);
+                    continue;
+                }
+                if (cancelled.contains(hash) || incoming.containsKey(hash)) {
+                    duplicates++;
+                    continue;
+                }
+
+                double[] coordinate = geocoder.resolve((String) values[0], (String) values[1]);
+                Object[] params = Arrays.copyOf(values, values.length + 4);
+                params[values.length] = coordinate != null ? coordinate[0] : null;
+                params[values.length + 1] = coordinate != null ? coordinate[1] : null;
+                params[values.length + 3] = hash;
+                incoming.put(hash, params);
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                log.debug("실거래 행 제외 - 작업: {}: {}", job.jobId, e.getMessage());
+            }
+        }
+
+        // 청크의 도로명을 한 번에 사전 등록 (등록은 별도 트랜잭션으로 먼저 커밋됨)
+        int roadNameIdIndex = type.getColumns().size() + 2;
+        Set<String> roadNames = new HashSet<>();
+        incoming.values().forEach(params -> roadNames.add((String) params[1]));
+        Map<String, Integer> roadNameIds = nameDictionary.register(roadNames);
+        incoming.values().forEach(params -> params[roadNameIdIndex] = roadNameIds.get((String) params[1]));
+
+        ChunkResult result = null;
+        for (int attempt = 1; result == null; attempt++) {
+            try {
+                result = new TransactionTemplate(transactionManager).execute(status -> upsert(type, incoming, cancelled));
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("실거래 청크 재시도 - 작업: {}, {}회차", job.jobId, attempt + 1);
+            }
+        }
+
+        job.rowsUpdated.addAndGet(result.updated);
+        job.rowsSkipped.addAndGet(result.skipped + duplicates);
+        job.rowsDeleted.addAndGet(result.deleted);
+        job.rowsRejected.addAndGet(rejected + result.cancelledMissing);
+        long inserted = job.rowsInserted.addAndGet(result.inserted);
+        if (inserted / PROGRESS_LOG_INTERVAL != (inserted - result.inserted) / PROGRESS_LOG_INTERVAL) {
+            log.info("실거래 파일 적재 중 - 작업: {}, 추가: {}행", job.jobId, inserted);
+        }
+    }
+
+    private ChunkResult upsert(TransactionFileType type, Map<String, Object[]> incoming, Set<String> cancelled) {
+        List<String> hashes = new ArrayList<>(incoming.keySet());
+        hashes.addAll(cancelled);
+        Map<String, List<String>> existing = findByHashes(type, hashes);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        long skipped = 0;
+        int columnCount = type.getColumns().size();
+
+        for (Map.Entry<String, Object[]> entry : incoming.entrySet()) {
+            List<String> current = existing.get(entry.getKey());
+            if (current == null) {
+                inserts.add(entry.getValue());
+            } else if (!current.equals(normalized(entry.getValue(), columnCount))) {
+                updates.add(entry.getValue());
+            } else {
+                skipped++;
+            }
+        }
+        for (String hash : cancelled) {
+            if (existing.containsKey(hash)) {
+                deletes.add(new Object[]{hash});
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(type.insertSql(), inserts);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(type.updateSql(), updates);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM " + type.getTable() + " WHERE content_hash = ?", deletes);
+        }
+        return new ChunkResult(inserts.size(), updates.size(), skipped, deletes.size(), cancelled.size() - deletes.size());
+    }
+
+    // 해시 → 기존 행의 적재 컬럼 값 (정규화한 문자열)
+    private Map<String, List<String>> findByHashes(TransactionFileType type, List<String> hashes) {
+        Map<String, List<String>> existing = new HashMap<>();
+        int columnCount = type.getColumns().size();
+        for (int from = 0; from < hashes.size(); from += HASH_LOOKUP_BATCH_SIZE) {
+            List<String> batch = hashes.subList(from, Math.min(from + HASH_LOOKUP_BATCH_SIZE, hashes.size()));
+            jdbcTemplate.query(type.selectByHashesSql(batch.size()), rs -> {
+                List<String> values = new ArrayList<>(columnCount);
+                for (int i = 0; i < columnCount; i++) {
+                    values.add(ContentHash.normalize(rs.getObject(i + 2)));
+                }
+                existing.put(rs.getString(1), values);
+            }, batch.toArray());
+        }
+        return existing;
+    }
+
+    private static List<String> normalized(Object[] params, int columnCount) {
+        List<String> values = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            values.add(ContentHash.normalize(params[i]));
+        }
+        return values;
+    }
+
+    // 파일 내용 SHA-256 (같은 파일을 다시 적재하는지 판별)
+    private static String fingerprint(Path path) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream input = new DigestInputStream(Files.newInputStream(path), digest)) {
+                input.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    private Charset parseCharset(String charset) {
+        if (charset == null || charset.isBlank()) {
+            return null;
+        }
+        try {
+            return Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 문자 인코딩: " + charset);
+        }
+    }
+
+    // 끝난 작업이 많으면 오래된 것부터 제거
+    private void evictFinishedJobs() {
+        List<IngestJob> finished = jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing(job -> job.finishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - MAX_RETAINED_JOBS + 1; i++) {
+            jobs.remove(finished.get(i).jobId);
+        }
+    }
+
+    // 처리 중인 청크 (lastRow: 청크 마지막 행 번호)
+    @AllArgsConstructor
+    private static class PendingChunk {
+        private final Future<?> future;
+        private final long lastRow;
+    }
+
+    // 청크 반영 결과 (cancelledMissing: 해제된 거래인데 기존 행도 없음)
+    @AllArgsConstructor
+    private static class ChunkResult {
+        private final long inserted;
+        private final long updated;
+        private final long skipped;
+        private final long deleted;
+        private final long cancelledMissing;
+    }
+
+    // 진행 중인 작업 상태 (조회 시 DTO로 복사)
+    private static class IngestJob {
+        private final String jobId;
+        private final TransactionFileType type;
+        private final String fileName;
+        private final Charset charset;
+        private final boolean directoryFile;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsInserted = new AtomicLong();
+        private final AtomicLong rowsUpdated = new AtomicLong();
+        private final AtomicLong rowsSkipped = new AtomicLong();
+        private final AtomicLong rowsDeleted = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private volatile long resumedFromRow;
+        private volatile IngestStatus status = IngestStatus.QUEUED;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private IngestJob(String jobId, TransactionFileType type, String fileName, Charset charset, boolean directoryFile) {
+            this.jobId = jobId;
+            this.type = type;
+            this.fileName = fileName;
+            this.charset = charset;
+            this.directoryFile = directoryFile;
+        }
+
+        private TransactionIngestJobDTO toDTO() {
+            return TransactionIngestJobDTO.builder()
+                    .jobId(jobId)
+                    .type(type.getKey())
+                    .fileName(fileName)
+                    .status(status)
+                    .rowsRead(rowsRead.get())
+                    .rowsInserted(rowsInserted.get())
+                    .rowsUpdated(rowsUpdated.get())
+                    .rowsSkipped(rowsSkipped.get())
+                    .rowsDeleted(rowsDeleted.get())
+                    .rowsRejected(rowsRejected.get())
+                    .resumedFromRow(resumedFromRow)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
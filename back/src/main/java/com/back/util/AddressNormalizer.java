@@ -0,0 +1,49 @@
+package com.back.util;
+
+import java.util.Arrays;
+
+// 좌표 사전 키용 주소 정규화 (시군구는 시도 + 구/군 단위, 도로명은 공백 정리)
+public class AddressNormalizer {
+
+    private AddressNormalizer() {
+    }
+
+    // "서울특별시 강남구 개포동" → "서울특별시 강남구" (구/군까지, 없으면 시까지, 그것도 없으면 첫 단어)
+    public static String district(String sigungu) {
+        if (sigungu == null || sigungu.isBlank()) {
+            return null;
+        }
+        String[] tokens = sigungu.trim().split("\\s+");
+        int end = -1;
+        for (int i = 0; i < tokens.length && end < 0; i++) {
+            if (tokens[i].endsWith("구") || tokens[i].endsWith("군")) {
+                end = i;
+            }
+        }
+        for (int i = 0; i < tokens.length && end < 0; i++) {
+            if (tokens[i].endsWith("시")) {
+                end = i;
+            }
+        }
+        return String.join(" ", Arrays.copyOfRange(tokens, 0, Math.max(end, 0) + 1));
+    }
+
+    // " 테헤란로  123 " → "테헤란로 123"
+    public static String roadName(String roadName) {
+        if (roadName == null || roadName.isBlank()) {
+            return null;
+        }
+        return roadName.trim().replaceAll("\\s+", " ");
+    }
+
+    // 사전 키 ("서울특별시 강남구|테헤란로 123"), 시군구나 도로명이 없으면 null
+    // 구 이름만 쓰면 여러 시의 중구/동구/남구 등이 같은 키가 되므로 시도까지 포함한다
+    public static String key(String sigungu, String roadName) {
+        String normalizedSigungu = district(sigungu);
+        String normalizedRoadName = roadName(roadName);
+        if (normalizedSigungu == null || normalizedRoadName == null) {
+            return null;
+        }
+        return normalizedSigungu + "|" + normalizedRoadName;
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.util;
+
+// 매물 반경 검색 거리 계산 (좌표 인덱스와 DB 조회가 같은 식을 써서 경계 근처 결과가 경로마다 달라지지 않도록)
+// 중심 위도 기준 등장방형 근사: 수 km 이내에서는 haversine과 거의 같고, SQL에서는 사칙연산만으로 계산된다
+public class GeoDistance {
+
+    public static final double KM_PER_DEGREE = 111.32; // 위도 1도 (km)
+
+    private GeoDistance() {
+    }
+
+    // 중심 위도에서 경도 1도 (km, 극지방에서 0이 되지 않도록 하한)
+    public static double kmPerLongitude(double centerLat) {
+        return KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(centerLat)), 0.01);
+    }
+
+    // 중심에서 좌표까지 거리의 제곱 (km²)
+    public static double squaredDistanceKm(double centerLat, double centerLng, double lat, double lng) {
+        double dy = (lat - centerLat) * KM_PER_DEGREE;
+        double dx = (lng - centerLng) * kmPerLongitude(centerLat);
+        return dy * dy + dx * dx;
+    }
+
+    // 중심에서 반경 안
+    public static boolean withinRadius(double centerLat, double centerLng, double radiusKm, double lat, double lng) {
+        return squaredDistanceKm(centerLat, centerLng, lat, lng) <= radiusKm * radiusKm;
+    }
+}
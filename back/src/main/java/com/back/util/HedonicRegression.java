@@ -0,0 +1,208 @@
+package com.back.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 수치 변수 + 지역 고정효과 최소제곱 회귀 (헤도닉 가격 모형용).
+ * 행을 하나씩 더하며 충분통계량(X'X, X'y)만 쌓으므로 실거래 테이블을 스트리밍으로 한 번만 읽으면 된다.
+ * 한 행은 지역 하나에만 속해 지역 블록이 대각 행렬이므로, 지역 수와 관계없이 수치 변수 크기의 연립방정식만 푼다.
+ * 지역 효과에는 ridge 벌점을 줘 거래가 적은 지역은 0(전체 평균)에 가깝게 줄인다.
+ * 동기화하지 않으므로 한 스레드에서만 사용한다.
+ */
+public class HedonicRegression {
+
+    private final int size; // 수치 변수 수 (상수항 포함)
+    private final double[][] xx;
+    private final double[] xy;
+    private final Map<String, Group> groups = new HashMap<>();
+
+    private long count;
+    private double ySum;
+    private double yySum;
+
+    public HedonicRegression(int size) {
+        this.size = size;
+        this.xx = new double[size][size];
+        this.xy = new double[size];
+    }
+
+    // 관측 한 건 (x는 수치 변수, 상수항을 쓰려면 x[0] = 1)
+    public void add(double[] x, String group, double y) {
+        for (int i = 0; i < size; i++) {
+            xy[i] += x[i] * y;
+            for (int j = 0; j <= i; j++) {
+                xx[i][j] += x[i] * x[j];
+            }
+        }
+        Group g = groups.computeIfAbsent(group, key -> new Group(size));
+        g.count++;
+        g.ySum += y;
+        for (int i = 0; i < size; i++) {
+            g.xSum[i] += x[i];
+        }
+        count++;
+        ySum += y;
+        yySum += y * y;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 계수 추정 (groupPenalty는 지역 효과 ridge 벌점, 거래 수가 이만큼인 지역은 효과가 절반으로 줄어듦).
+     * 수치 변수끼리 완전히 겹치면 해당 계수는 0에 가깝게 나온다.
+     */
+    public Result solve(double groupPenalty) {
+        // 지역 효과를 소거한 수치 변수 방정식 (Schur complement)
+        double[][] m = new double[size][size];
+        double[] rhs = xy.clone();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j <= i; j++) {
+                m[i][j] = xx[i][j];
+                m[j][i] = xx[i][j];
+            }
+        }
+        for (Group g : groups.values()) {
+            double d = g.count + groupPenalty;
+            for (int i = 0; i < size; i++) {
+                rhs[i] -= g.xSum[i] * g.ySum / d;
+                for (int j = 0; j < size; j++) {
+                    m[i][j] -= g.xSum[i] * g.xSum[j] / d;
+                }
+            }
+        }
+        double[] beta = solveLinear(m, rhs);
+
+        // 지역 효과, 잔차 제곱합 (충분통계량으로 계산)
+        Map<String, Double> effects = new HashMap<>();
+        Map<String, Long> counts = new HashMap<>();
+        double fitted = 0; // θ'X'y
+        double quadratic = 0; // θ'X'Xθ
+        for (int i = 0; i < size; i++) {
+            fitted += beta[i] * xy[i];
+            for (int j = 0; j < size; j++) {
+                quadratic += beta[i] * beta[j] * (i >= j ? xx[i][j] : xx[j][i]);
+            }
+        }
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group g = entry.getValue();
+            double dot = 0;
+            for (int i = 0; i < size; i++) {
+                dot += g.xSum[i] * beta[i];
+            }
+            double effect = (g.ySum - dot) / (g.count + groupPenalty);
+            effects.put(entry.getKey(), effect);
+            counts.put(entry.getKey(), g.count);
+            fitted += effect * g.ySum;
+            quadratic += 2 * effect * dot + effect * effect * g.count;
+        }
+
+        double sse = Math.max(0, yySum - 2 * fitted + quadratic);
+        double sst = yySum - ySum * ySum / Math.max(count, 1);
+        double rmse = count > 0 ? Math.sqrt(sse / count) : 0;
+        double rSquared = sst > 0 ? 1 - sse / sst : 0;
+        return new Result(beta, effects, counts, count, rmse, rSquared);
+    }
+
+    // 부분 피벗 가우스 소거 (피벗이 0에 가까우면 해당 계수 0)
+    private static double[] solveLinear(double[][] a, double[] b) {
+        int n = b.length;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            double[] rowSwap = a[col];
+            a[col] = a[pivot];
+            a[pivot] = rowSwap;
+            double valueSwap = b[col];
+            b[col] = b[pivot];
+            b[pivot] = valueSwap;
+
+            if (Math.abs(a[col][col]) < 1e-9) {
+                continue;
+            }
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row][col] / a[col][col];
+                if (factor == 0) {
+                    continue;
+                }
+                for (int k = col; k < n; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+                b[row] -= factor * b[col];
+            }
+        }
+
+        double[] x = new double[n];
+        for (int row = n - 1; row >= 0; row--) {
+            if (Math.abs(a[row][row]) < 1e-9) {
+                continue;
+            }
+            double sum = b[row];
+            for (int k = row + 1; k < n; k++) {
+                sum -= a[row][k] * x[k];
+            }
+            x[row] = sum / a[row][row];
+        }
+        return x;
+    }
+
+    private static class Group {
+        private final double[] xSum;
+        private long count;
+        private double ySum;
+
+        private Group(int size) {
+            this.xSum = new double[size];
+        }
+    }
+
+    // 추정 결과
+    public static class Result {
+        private final double[] coefficients; // 수치 변수 계수 (add의 x 순서)
+        private final Map<String, Double> groupEffects; // 지역 → 효과
+        private final Map<String, Long> groupCounts; // 지역 → 관측 수
+        private final long count;
+        private final double rmse; // 잔차 제곱평균제곱근
+        private final double rSquared;
+
+        private Result(double[] coefficients, Map<String, Double> groupEffects, Map<String, Long> groupCounts,
+                       long count, double rmse, double rSquared) {
+            this.coefficients = coefficients;
+            this.groupEffects = groupEffects;
+            this.groupCounts = groupCounts;
+            this.count = count;
+            this.rmse = rmse;
+            this.rSquared = rSquared;
+        }
+
+        public double[] getCoefficients() {
+            return coefficients;
+        }
+
+        public Map<String, Double> getGroupEffects() {
+            return groupEffects;
+        }
+
+        public Map<String, Long> getGroupCounts() {
+            return groupCounts;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getRmse() {
+            return rmse;
+        }
+
+        public double getRSquared() {
+            return rSquared;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.back.util;
+
+// 매물 가격 문자열("3억", "3억 5,000만원", "5000만원", "15000")을 만원 단위 숫자로 변환
+public class PriceParser {
+
+    private static final long EOK = 10000L; // 1억 = 10000만원
+
+    private PriceParser() {
+    }
+
+    // 매매가 (매매 매물만)
+    public static Long salePriceAmount(String transactionType, String price) {
+        return "매매".equals(transactionType) ? toManwon(price, false) : null;
+    }
+
+    // 보증금 (전세는 전세금, 월세는 보증금)
+    public static Long depositAmount(String transactionType, String price) {
+        if ("전세".equals(transactionType)) {
+            return toManwon(price, false);
+        }
+        if ("월세".equals(transactionType)) {
+            return toManwon(price, true);
+        }
+        return null;
+    }
+
+    // 월세 (월세 매물만)
+    public static Long monthlyRentAmount(String transactionType, String monthlyRent) {
+        return "월세".equals(transactionType) ? toManwon(monthlyRent, true) : null;
+    }
+
+    // 억 단위 금액을 만원 단위로 변환 (필터 파라미터용)
+    public static Long eokToManwon(Double eok) {
+        return eok == null ? null : Math.round(eok * EOK);
+    }
+
+    // 만원 단위 금액 (필터 파라미터용)
+    public static Long manwon(Double manwon) {
+        return manwon == null ? null : Math.round(manwon);
+    }
+
+    /**
+     * 가격 문자열을 만원 단위로 변환한다. 변환할 수 없으면 null.
+     * 단위가 없는 숫자는 기존 필터와 같은 규칙을 따른다:
+     * unitlessIsManwon이 true면 만원, 아니면 10000 이상은 만원 / 미만은 억원.
+     */
+    public static Long toManwon(String text, boolean unitlessIsManwon) {
+        if (text == null) {
+            return null;
+        }
+        String value = text.replaceAll("[,\\s]", "");
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            int eokIndex = value.indexOf('억');
+            if (eokIndex >= 0) {
+                // "3억", "3.5억", "3억5000만원", "3억5000"
+                double eok = eokIndex == 0 ? 0 : Double.parseDouble(value.substring(0, eokIndex));
+                String rest = value.substring(eokIndex + 1).replaceAll("[만원]", "");
+                double manwon = rest.isEmpty() ? 0 : Double.parseDouble(rest);
+                return Math.round(eok * EOK + manwon);
+            }
+
+            boolean hasManUnit = value.contains("만");
+            double number = Double.parseDouble(value.replaceAll("[만원]", ""));
+            if (hasManUnit || unitlessIsManwon || number >= EOK) {
+                return Math.round(number);
+            }
+            return Math.round(number * EOK);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.back.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 병합 가능한 분위수 스케치 (로그 구간 히스토그램).
+ * 값을 상대 오차 1% 이내의 로그 구간에 세어 두기 때문에 같은 구간끼리 더하기만 하면 병합되고,
+ * 원본 행 없이 중앙값 등 분위수를 계산할 수 있다. 0 이하 값은 0 구간에 따로 센다.
+ */
+public class QuantileSketch {
+
+    // 상대 오차 (구간 대표값과 실제 값의 차이가 값의 1% 이내)
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, long occurrences) {
+        if (occurrences <= 0) {
+            return;
+        }
+        if (value <= 0) {
+            zeroCount += occurrences;
+        } else {
+            buckets.merge(bucketIndex(value), occurrences, Long::sum);
+        }
+        count += occurrences;
+    }
+
+    // 다른 스케치의 값을 모두 더함 (구간이 같으므로 개수만 합산)
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other == null) {
+            return this;
+        }
+        other.buckets.forEach((index, occurrences) -> buckets.merge(index, occurrences, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    // q 분위수 (0~1), 비어 있으면 null
+    public Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(Math.max(0, Math.min(1, q)) * (count - 1));
+        if (rank < zeroCount) {
+            return 0.0;
+        }
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (rank < seen) {
+                return bucketValue(bucket.getKey());
+            }
+        }
+        return bucketValue(buckets.lastKey());
+    }
+
+    public Double median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * 직렬화 (0 구간 개수, 구간 수, [구간 번호 차이, 개수]...를 가변 길이 정수로 기록).
+     * 구간 번호는 오름차순이라 차이만 저장해 대부분 1바이트로 끝난다.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + buckets.size() * 3);
+        writeVarLong(out, zeroCount);
+        writeVarLong(out, buckets.size());
+        int previous = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            writeVarLong(out, zigZag(bucket.getKey() - previous));
+            writeVarLong(out, bucket.getValue());
+            previous = bucket.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        sketch.zeroCount = readVarLong(in);
+        sketch.count = sketch.zeroCount;
+        long size = readVarLong(in);
+        int index = 0;
+        for (long i = 0; i < size; i++) {
+            index += (int) unZigZag(readVarLong(in));
+            long occurrences = readVarLong(in);
+            sketch.buckets.put(index, occurrences);
+            sketch.count += occurrences;
+        }
+        return sketch;
+    }
+
+    private static int bucketIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    // 구간 (γ^(i-1), γ^i]의 대표값 (양 끝 기준 상대 오차가 같아지는 값)
+    private static double bucketValue(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package com.back.util;
+
+import java.util.Map;
+
+/**
+ * 시군구 중심 좌표 (좌표 사전에 없는 도로명의 대체 좌표).
+ * 서울 25개 구만 있다. 다른 시도는 대체 좌표가 없어(null) 좌표 파일로 도로명 좌표를 넣어야 지도에 표시된다.
+ * 키는 시도 + 구("서울특별시 중구")라 다른 시의 같은 이름 구(부산 중구 등)에 서울 좌표를 쓰지 않는다.
+ */
+public class SigunguCoordinates {
+
+    // 시도 + 시군구 → {위도, 경도}
+    private static final Map<String, double[]> COORDINATES = Map.ofEntries(
+            Map.entry("서울특별시 강남구", new double[]{37.497, 127.028}),
+            Map.entry("서울특별시 서초구", new double[]{37.483, 127.015}),
+            Map.entry("서울특별시 마포구", new double[]{37.549, 126.914}),
+            Map.entry("서울특별시 송파구", new double[]{37.478, 127.123}),
+            Map.entry("서울특별시 영등포구", new double[]{37.521, 126.933}),
+            Map.entry("서울특별시 종로구", new double[]{37.566, 126.978}),
+            Map.entry("서울특별시 중구", new double[]{37.564, 126.997}),
+            Map.entry("서울특별시 용산구", new double[]{37.538, 126.970}),
+            Map.entry("서울특별시 성동구", new double[]{37.551, 127.036}),
+            Map.entry("서울특별시 광진구", new double[]{37.538, 127.082}),
+            Map.entry("서울특별시 동대문구", new double[]{37.574, 127.039}),
+            Map.entry("서울특별시 중랑구", new double[]{37.606, 127.094}),
+            Map.entry("서울특별시 성북구", new double[]{37.589, 127.016}),
+            Map.entry("서울특별시 강북구", new double[]{37.640, 127.027}),
+            Map.entry("서울특별시 도봉구", new double[]{37.668, 127.047}),
+            Map.entry("서울특별시 노원구", new double[]{37.654, 127.056}),
+            Map.entry("서울특별시 은평구", new double[]{37.602, 126.930}),
+            Map.entry("서울특별시 서대문구", new double[]{37.579, 126.936}),
+            Map.entry("서울특별시 강서구", new double[]{37.551, 126.850}),
+            Map.entry("서울특별시 양천구", new double[]{37.527, 126.866}),
+            Map.entry("서울특별시 구로구", new double[]{37.501, 126.886}),
+            Map.entry("서울특별시 금천구", new double[]{37.456, 126.902}),
+            Map.entry("서울특별시 동작구", new double[]{37.512, 126.939}),
+            Map.entry("서울특별시 관악구", new double[]{37.478, 126.951}),
+            Map.entry("서울특별시 강동구", new double[]{37.530, 127.124})
+    );
+
+    private SigunguCoordinates() {
+    }
+
+    // 시군구 문자열("서울특별시 강남구 역삼동")에서 중심 좌표 찾기, 없으면 null
+    public static double[] resolve(String sigungu) {
+        String district = AddressNormalizer.district(sigungu);
+        return district != null ? COORDINATES.get(district) : null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.back.config;
+
+import com.back.dictionary.NameDictionaryListener;
+import com.back.geo.GeocodingListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// 전체 컨텍스트 기동 (H2), 엔티티 리스너 ↔ EntityManagerFactory 순환 참조가 생기면 여기서 실패
+@SpringBootTest
+public class ApplicationContextTests {
+
+  @Autowired
+  private ApplicationContext context;
+
+  @Test
+  public void testContextStartsWithSpringManagedEntityListeners() {
+    assertNotNull(context.getBean(GeocodingListener.class));
+    assertNotNull(context.getBean(NameDictionaryListener.class));
+  }
+}
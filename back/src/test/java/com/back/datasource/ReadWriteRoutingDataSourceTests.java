@@ -0,0 +1,156 @@
+package com.back.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 주 DB/복제 DB를 각각 H2 인메모리 DB로 두고 복제는 heartbeat 행을 직접 복사해서 흉내냄
+public class ReadWriteRoutingDataSourceTests {
+
+  private static final long MAX_LAG_MILLIS = 5000;
+  private static final long CHECK_INTERVAL_MILLIS = 1000;
+  private static final int MAX_STALE_CHECKS = 3;
+
+  private EmbeddedDatabase primary;
+  private EmbeddedDatabase replica;
+  private long now = 1_000_000L;
+
+  private ReplicaLagMonitor monitor;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnlyTransaction;
+  private TransactionTemplate writeTransaction;
+
+  @BeforeEach
+  public void setUp() {
+    primary = database("primary");
+    replica = database("replica");
+    monitor = new ReplicaLagMonitor(primary, replica, MAX_LAG_MILLIS, CHECK_INTERVAL_MILLIS, () -> now);
+
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+        new ReadWriteRoutingDataSource(primary, replica, monitor, MAX_STALE_CHECKS));
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+    writeTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    primary.shutdown();
+    replica.shutdown();
+  }
+
+  @Test
+  public void testReadsStayOnPrimaryBeforeReplicaIsChecked() {
+    assertFalse(monitor.isReplicaAvailable());
+    assertEquals("primary", readOnlyTarget());
+  }
+
+  @Test
+  public void testReadOnlyTransactionsUseCaughtUpReplica() {
+    catchUp();
+
+    assertTrue(monitor.isReplicaAvailable());
+    assertEquals("replica", readOnlyTarget());
+    // 쓰기 트랜잭션과 트랜잭션 밖 조회는 주 DB
+    assertEquals("primary", writeTransaction.execute(status -> target()));
+    assertEquals("primary", target());
+  }
+
+  @Test
+  public void testLaggingReplicaFallsBackToPrimary() {
+    catchUp();
+
+    // 복제가 멈춘 채로 heartbeat만 계속 쓰이면 지연이 커짐
+    for (int i = 0; i < 3; i++) {
+      now += 3000;
+      monitor.check();
+    }
+    assertFalse(monitor.isReplicaAvailable());
+    assertTrue(monitor.getLagMillis() > MAX_LAG_MILLIS);
+    assertEquals("primary", readOnlyTarget());
+
+    // 다시 따라잡으면 복제 DB 사용
+    replicate();
+    now += 1000;
+    monitor.check();
+    assertTrue(monitor.isReplicaAvailable());
+    assertEquals("replica", readOnlyTarget());
+  }
+
+  @Test
+  public void testUnreadableReplicaFallsBackToPrimary() {
+    catchUp();
+
+    new JdbcTemplate(replica).execute("DROP TABLE replication_heartbeat");
+    now += 1000;
+    monitor.check();
+    assertFalse(monitor.isReplicaAvailable());
+    assertEquals("primary", readOnlyTarget());
+  }
+
+  @Test
+  public void testStaleCheckFallsBackToPrimary() {
+    catchUp();
+
+    // 점검이 멈추면 마지막 결과가 사용 가능이어도 점검 간격 3배가 지나면 주 DB
+    now += CHECK_INTERVAL_MILLIS * MAX_STALE_CHECKS;
+    assertEquals("replica", readOnlyTarget());
+    now += 1;
+    assertTrue(monitor.isReplicaAvailable());
+    assertEquals("primary", readOnlyTarget());
+
+    // 점검이 다시 돌면 복제 DB 사용
+    replicate();
+    monitor.check();
+    assertEquals("replica", readOnlyTarget());
+  }
+
+  // 첫 점검 → 복제 → 다음 점검 (복제 DB가 직전 heartbeat를 보고 있음)
+  private void catchUp() {
+    monitor.check();
+    replicate();
+    now += 1000;
+    monitor.check();
+  }
+
+  // 주 DB의 heartbeat를 복제 DB로 복사
+  private void replicate() {
+    Long beat = new JdbcTemplate(primary).queryForObject("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+    JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+    replicaTemplate.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+    replicaTemplate.update("DELETE FROM replication_heartbeat");
+    replicaTemplate.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beat);
+  }
+
+  private String readOnlyTarget() {
+    return readOnlyTransaction.execute(status -> target());
+  }
+
+  private String target() {
+    return jdbcTemplate.queryForObject("SELECT name FROM routing_target", String.class);
+  }
+
+  private static EmbeddedDatabase database(String name) {
+    EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+    JdbcTemplate template = new JdbcTemplate(database);
+    template.execute("CREATE TABLE routing_target (name VARCHAR(20))");
+    template.update("INSERT INTO routing_target (name) VALUES (?)", name);
+    return database;
+  }
+}
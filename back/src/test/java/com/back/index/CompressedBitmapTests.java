@@ -0,0 +1,107 @@
+package com.back.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompressedBitmapTests {
+
+  @Test
+  public void testAddRemoveAndCardinality() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    assertTrue(bitmap.isEmpty());
+
+    bitmap.add(3);
+    bitmap.add(3);
+    bitmap.add(70000); // 다른 컨테이너
+    bitmap.add(Integer.MAX_VALUE);
+    assertEquals(3, bitmap.cardinality());
+    assertTrue(bitmap.contains(70000));
+    assertFalse(bitmap.contains(4));
+
+    bitmap.remove(3);
+    bitmap.remove(3);
+    bitmap.remove(12345); // 없는 컨테이너
+    assertEquals(2, bitmap.cardinality());
+    assertFalse(bitmap.contains(3));
+  }
+
+  @Test
+  public void testArrayBitmapContainerConversion() {
+    // 한 컨테이너에 4096개를 넘게 넣으면 비트맵, 절반 이하로 줄면 다시 배열
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < 10000; i++) {
+      bitmap.add(i * 3);
+    }
+    assertEquals(10000, bitmap.cardinality());
+    for (int i = 0; i < 30000; i++) {
+      assertEquals(i % 3 == 0, bitmap.contains(i), "value=" + i);
+    }
+
+    for (int i = 0; i < 9000; i++) {
+      bitmap.remove(i * 3);
+    }
+    assertEquals(1000, bitmap.cardinality());
+    assertFalse(bitmap.contains(0));
+    assertTrue(bitmap.contains(27000));
+
+    // 배열로 돌아간 뒤에도 추가/삭제가 맞음
+    bitmap.add(1);
+    bitmap.remove(27000);
+    assertEquals(1000, bitmap.cardinality());
+    assertTrue(bitmap.contains(1));
+    assertFalse(bitmap.contains(27000));
+  }
+
+  @Test
+  public void testAndOrMatchSets() {
+    // 배열 컨테이너(드문 값)와 비트맵 컨테이너(흔한 값)가 섞인 경우
+    Random random = new Random(11);
+    CompressedBitmap sparse = new CompressedBitmap();
+    CompressedBitmap dense = new CompressedBitmap();
+    TreeSet<Integer> sparseSet = new TreeSet<>();
+    TreeSet<Integer> denseSet = new TreeSet<>();
+    for (int i = 0; i < 3000; i++) {
+      int value = random.nextInt(200000);
+      sparse.add(value);
+      sparseSet.add(value);
+    }
+    for (int i = 0; i < 60000; i++) {
+      int value = random.nextInt(140000);
+      dense.add(value);
+      denseSet.add(value);
+    }
+
+    TreeSet<Integer> intersection = new TreeSet<>(sparseSet);
+    intersection.retainAll(denseSet);
+    TreeSet<Integer> union = new TreeSet<>(sparseSet);
+    union.addAll(denseSet);
+
+    assertEquals(denseSet.size(), dense.cardinality());
+    assertEquals(intersection.size(), sparse.and(dense).cardinality());
+    assertEquals(intersection.size(), dense.and(sparse).cardinality());
+    assertEquals(intersection.size(), sparse.andCardinality(dense));
+    assertEquals(denseSet.size(), dense.and(dense).cardinality());
+
+    CompressedBitmap or = sparse.or(dense);
+    assertEquals(union.size(), or.cardinality());
+    assertEquals(union.size(), dense.or(sparse).cardinality());
+    for (int value = 0; value < 200000; value++) {
+      assertEquals(union.contains(value), or.contains(value), "value=" + value);
+    }
+    CompressedBitmap and = sparse.and(dense);
+    for (int value : sparseSet) {
+      assertEquals(intersection.contains(value), and.contains(value), "value=" + value);
+    }
+
+    // 원본은 바뀌지 않음
+    assertEquals(sparseSet.size(), sparse.cardinality());
+    assertEquals(0, sparse.and(new CompressedBitmap()).cardinality());
+    assertEquals(sparseSet.size(), sparse.or(new CompressedBitmap()).cardinality());
+  }
+}
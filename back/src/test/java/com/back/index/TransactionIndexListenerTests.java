@@ -0,0 +1,58 @@
+package com.back.index;
+
+import com.back.domain.ApartmentSale;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransactionIndexListenerTests {
+
+  private final List<Object> events = new ArrayList<>();
+
+  private final TransactionIndexListener listener = new TransactionIndexListener(events::add);
+
+  @Test
+  public void testNewTransactionHasNoPreviousRoadName() {
+    ApartmentSale sale = ApartmentSale.builder().roadName("테헤란로").build();
+
+    listener.onSaved(sale);
+
+    assertNull(event(0).getPreviousRoadName());
+  }
+
+  @Test
+  public void testRoadNameChangeReportsLoadedRoadName() {
+    ApartmentSale sale = ApartmentSale.builder().roadName("테헤란로").build();
+    listener.onLoaded(sale);
+
+    sale.setRoadName("강남대로");
+    listener.onSaved(sale);
+    assertEquals("테헤란로", event(0).getPreviousRoadName());
+
+    // 같은 세션에서 다시 저장하면 직전 저장 값 기준
+    listener.onSaved(sale);
+    assertNull(event(1).getPreviousRoadName());
+  }
+
+  @Test
+  public void testUnchangedRoadNameHasNoPreviousRoadName() {
+    ApartmentSale sale = ApartmentSale.builder().roadName("테헤란로").build();
+    listener.onLoaded(sale);
+
+    sale.setFloor(3);
+    listener.onSaved(sale);
+    assertNull(event(0).getPreviousRoadName());
+
+    listener.onRemoved(sale);
+    assertTrue(event(1).isDeleted());
+  }
+
+  private TransactionChangedEvent event(int index) {
+    return (TransactionChangedEvent) events.get(index);
+  }
+}
@@ -0,0 +1,61 @@
+package com.back.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CsvTransactionFileReaderTests {
+
+  @Test
+  public void testQuotedCommas() throws IOException {
+    try (CsvTransactionFileReader reader = reader("시군구,단지명,거래금액\n서울특별시 중구,\"래미안, 1단지\",\"120,000\"\n")) {
+      assertEquals(List.of("시군구", "단지명", "거래금액"), reader.nextRow());
+      assertEquals(List.of("서울특별시 중구", "래미안, 1단지", "120,000"), reader.nextRow());
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  public void testEscapedQuotesAndLineBreaks() throws IOException {
+    // 따옴표 안의 "" 는 따옴표 하나, 줄바꿈은 셀 값에 포함
+    try (CsvTransactionFileReader reader = reader("\"\"\"한강\"\" 뷰\",\"1동\r\n2동\",\"\"\r\n끝,\"\"\"\"\r\n")) {
+      assertEquals(List.of("\"한강\" 뷰", "1동\r\n2동", ""), reader.nextRow());
+      assertEquals(List.of("끝", "\""), reader.nextRow());
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  public void testEmptyCells() throws IOException {
+    // 마지막 줄에 줄바꿈이 없어도 읽음
+    try (CsvTransactionFileReader reader = reader("a,,c,\n,,\n\nx")) {
+      assertEquals(List.of("a", "", "c", ""), reader.nextRow());
+      assertEquals(List.of("", "", ""), reader.nextRow());
+      assertEquals(List.of(""), reader.nextRow());
+      assertEquals(List.of("x"), reader.nextRow());
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  public void testMs949() throws IOException {
+    Charset ms949 = Charset.forName("MS949");
+    try (CsvTransactionFileReader reader = new CsvTransactionFileReader(
+        new ByteArrayInputStream("전월세구분,보증금\n전세,\"30,000\"\n".getBytes(ms949)), ms949)) {
+      assertEquals(List.of("전월세구분", "보증금"), reader.nextRow());
+      assertEquals(List.of("전세", "30,000"), reader.nextRow());
+    }
+  }
+
+  private static CsvTransactionFileReader reader(String content) {
+    return new CsvTransactionFileReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+        StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,102 @@
+package com.back.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 엑셀 없이 최소한의 XLSX(zip + XML)를 직접 만들어 읽음
+public class XlsxTransactionFileReaderTests {
+
+  private static final String SHARED_STRINGS =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+      "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">" +
+      "<si><t>시군구</t></si>" +
+      "<si><t>단지명</t></si>" +
+      "<si><r><t>래미안</t></r><r><t xml:space=\"preserve\"> 1단지</t></r></si>" + // 서식이 나뉜 문자열
+      "<si><t>강남</t><rPh sb=\"0\" eb=\"2\"><t>カンナム</t></rPh></si>" + // 윗주는 제외
+      "</sst>";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  public void testSharedStringCells() throws IOException {
+    Path path = xlsx(Map.of("xl/sharedStrings.xml", SHARED_STRINGS, "xl/worksheets/sheet1.xml", sheet(
+        "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c></row>" +
+        "<row r=\"2\"><c r=\"A2\" t=\"s\"><v>3</v></c><c r=\"B2\" t=\"s\"><v>2</v></c><c r=\"C2\"><v>120000</v></c></row>")));
+
+    try (XlsxTransactionFileReader reader = new XlsxTransactionFileReader(path)) {
+      assertEquals(List.of("시군구", "단지명"), reader.nextRow());
+      assertEquals(List.of("강남", "래미안 1단지", "120000"), reader.nextRow());
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  public void testInlineStringCells() throws IOException {
+    // 공유 문자열 표 없이 인라인 문자열만 있는 파일 (다른 프로그램이 내보낸 XLSX)
+    Path path = xlsx(Map.of("xl/worksheets/sheet1.xml", sheet(
+        "<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t>도로명</t></is></c>" +
+        "<c r=\"B1\" t=\"inlineStr\"><is><r><t>세종대로</t></r><r><t xml:space=\"preserve\"> 110</t></r></is></c></row>")));
+
+    try (XlsxTransactionFileReader reader = new XlsxTransactionFileReader(path)) {
+      assertEquals(List.of("도로명", "세종대로 110"), reader.nextRow());
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  public void testSkippedColumnsAreEmpty() throws IOException {
+    // 빈 셀은 <c>가 생략되므로 열 참조로 자리를 채움
+    Path path = xlsx(Map.of("xl/sharedStrings.xml", SHARED_STRINGS, "xl/worksheets/sheet1.xml", sheet(
+        "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"D1\" t=\"inlineStr\"><is><t>층</t></is></c></row>" +
+        "<row r=\"2\"></row>" +
+        "<row r=\"3\"><c r=\"AA3\"><v>7</v></c></row>")));
+
+    try (XlsxTransactionFileReader reader = new XlsxTransactionFileReader(path)) {
+      assertEquals(List.of("시군구", "", "", "층"), reader.nextRow());
+      assertEquals(List.of(), reader.nextRow());
+      List<String> row = reader.nextRow();
+      assertEquals(27, row.size());
+      assertEquals("7", row.get(26));
+      assertNull(reader.nextRow());
+    }
+  }
+
+  @Test
+  public void testMissingWorksheet() throws IOException {
+    Path path = xlsx(Map.of("xl/sharedStrings.xml", SHARED_STRINGS));
+    assertThrows(IOException.class, () -> new XlsxTransactionFileReader(path));
+  }
+
+  private static String sheet(String rows) {
+    return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+        "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>" +
+        rows + "</sheetData></worksheet>";
+  }
+
+  private Path xlsx(Map<String, String> entries) throws IOException {
+    Path path = Files.createTempFile(tempDir, "transactions", ".xlsx");
+    try (OutputStream output = Files.newOutputStream(path); ZipOutputStream zip = new ZipOutputStream(output)) {
+      for (Map.Entry<String, String> entry : entries.entrySet()) {
+        zip.putNextEntry(new ZipEntry(entry.getKey()));
+        zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+      }
+    }
+    return path;
+  }
+}
@@ -0,0 +1,30 @@
+package com.back.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeoDistanceTests {
+
+  @Test
+  public void testCloseToHaversineWithinFewKilometers() {
+    // 강남역 → 선릉역 (haversine 약 2.03km)
+    double distance = Math.sqrt(GeoDistance.squaredDistanceKm(37.4979, 127.0276, 37.5045, 127.0490));
+    assertTrue(Math.abs(distance - 2.03) < 0.02, "distance " + distance);
+  }
+
+  @Test
+  public void testWithinRadiusBoundary() {
+    double lngPerKm = 1 / GeoDistance.kmPerLongitude(37.5);
+    assertTrue(GeoDistance.withinRadius(37.5, 127.0, 1.0, 37.5, 127.0 + 0.99 * lngPerKm));
+    assertFalse(GeoDistance.withinRadius(37.5, 127.0, 1.0, 37.5, 127.0 + 1.01 * lngPerKm));
+    assertTrue(GeoDistance.withinRadius(37.5, 127.0, 1.0, 37.5 + 0.99 / GeoDistance.KM_PER_DEGREE, 127.0));
+    assertFalse(GeoDistance.withinRadius(37.5, 127.0, 1.0, 37.5 + 1.01 / GeoDistance.KM_PER_DEGREE, 127.0));
+  }
+
+  @Test
+  public void testLongitudeScaleNeverZero() {
+    assertTrue(GeoDistance.kmPerLongitude(90) > 0);
+  }
+}
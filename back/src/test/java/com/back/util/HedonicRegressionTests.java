@@ -0,0 +1,73 @@
+package com.back.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedonicRegressionTests {
+
+  private static final double TOLERANCE = 1e-6;
+
+  @Test
+  public void testRecoversKnownCoefficients() {
+    // y = 2 + 3·x1 - 0.5·x2 + 지역 효과 (A: +1, B: -1), 오차 없음
+    HedonicRegression regression = new HedonicRegression(3);
+    for (int i = 0; i < 40; i++) {
+      String region = i % 2 == 0 ? "A" : "B";
+      double x1 = i % 7;
+      double x2 = (i * 3) % 11;
+      regression.add(new double[]{1, x1, x2}, region, 2 + 3 * x1 - 0.5 * x2 + ("A".equals(region) ? 1 : -1));
+    }
+
+    HedonicRegression.Result result = regression.solve(0);
+    assertEquals(40, result.getCount());
+    assertEquals(3.0, result.getCoefficients()[1], TOLERANCE);
+    assertEquals(-0.5, result.getCoefficients()[2], TOLERANCE);
+    assertEquals(0.0, result.getRmse(), TOLERANCE);
+    assertEquals(1.0, result.getRSquared(), TOLERANCE);
+
+    // 상수항은 벌점이 없으면 지역 효과와 겹치므로 상수항 + 지역 효과로 예측값 비교
+    assertEquals(2 + 3 * 4 - 0.5 * 6 + 1, predict(result, 4, 6, "A"), TOLERANCE);
+    assertEquals(2 + 3 * 4 - 0.5 * 6 - 1, predict(result, 4, 6, "B"), TOLERANCE);
+    assertEquals(20L, result.getGroupCounts().get("A"));
+  }
+
+  @Test
+  public void testPenaltyShrinksSmallRegions() {
+    // B 지역은 거래 2건뿐이고 실제로는 A보다 4 비쌈
+    HedonicRegression regression = new HedonicRegression(3);
+    for (int i = 0; i < 40; i++) {
+      String region = i < 38 ? "A" : "B";
+      double x1 = i % 7;
+      double x2 = (i * 3) % 11;
+      regression.add(new double[]{1, x1, x2}, region, 2 + 3 * x1 - 0.5 * x2 + ("A".equals(region) ? 0 : 4));
+    }
+
+    HedonicRegression.Result unpenalized = regression.solve(0);
+    HedonicRegression.Result penalized = regression.solve(2);
+    assertEquals(4.0, effectGap(unpenalized), TOLERANCE);
+    double gap = effectGap(penalized);
+    assertTrue(gap > 0 && gap < 4.0, "벌점을 주면 지역 차이가 0 쪽으로 줄어야 함: " + gap);
+    assertTrue(Math.abs(penalized.getGroupEffects().get("B")) < 4.0);
+    // 수치 변수 계수는 크게 달라지지 않음
+    assertEquals(3.0, penalized.getCoefficients()[1], 0.1);
+  }
+
+  @Test
+  public void testEmptyRegression() {
+    HedonicRegression.Result result = new HedonicRegression(2).solve(1);
+    assertEquals(0, result.getCount());
+    assertEquals(0.0, result.getCoefficients()[0]);
+    assertEquals(0.0, result.getRSquared());
+  }
+
+  private static double predict(HedonicRegression.Result result, double x1, double x2, String region) {
+    double[] beta = result.getCoefficients();
+    return beta[0] + beta[1] * x1 + beta[2] * x2 + result.getGroupEffects().get(region);
+  }
+
+  private static double effectGap(HedonicRegression.Result result) {
+    return result.getGroupEffects().get("B") - result.getGroupEffects().get("A");
+  }
+}
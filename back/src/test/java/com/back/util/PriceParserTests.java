@@ -0,0 +1,41 @@
+package com.back.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PriceParserTests {
+
+  @Test
+  public void testEokAndManwonUnits() {
+    assertEquals(30000L, PriceParser.toManwon("3억", false));
+    assertEquals(35000L, PriceParser.toManwon("3.5억", false));
+    assertEquals(35000L, PriceParser.toManwon("3억 5,000만원", false));
+    assertEquals(5000L, PriceParser.toManwon("5000만원", false));
+  }
+
+  @Test
+  public void testUnitlessNumbers() {
+    // 기존 필터 규칙: 10000 이상은 만원, 미만은 억원
+    assertEquals(15000L, PriceParser.toManwon("15000", false));
+    assertEquals(20000L, PriceParser.toManwon("2", false));
+    // 월세/보증금은 단위가 없으면 만원
+    assertEquals(50L, PriceParser.toManwon("50", true));
+  }
+
+  @Test
+  public void testInvalidValues() {
+    assertNull(PriceParser.toManwon(null, false));
+    assertNull(PriceParser.toManwon(" ", false));
+    assertNull(PriceParser.toManwon("협의", false));
+  }
+
+  @Test
+  public void testTransactionTypeColumns() {
+    assertEquals(30000L, PriceParser.salePriceAmount("매매", "3억"));
+    assertNull(PriceParser.salePriceAmount("전세", "3억"));
+    assertEquals(1000L, PriceParser.depositAmount("월세", "1000"));
+    assertEquals(60L, PriceParser.monthlyRentAmount("월세", "60만원"));
+  }
+}
@@ -0,0 +1,89 @@
+package com.back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QuantileSketchTests {
+
+  private static final double RELATIVE_ACCURACY = 0.01;
+
+  @Test
+  public void testQuantilesWithinRelativeAccuracy() {
+    // 실거래 금액처럼 범위가 넓은 값 (1천만 ~ 50억, 만원 단위)
+    Random random = new Random(42);
+    List<Double> values = new ArrayList<>();
+    QuantileSketch sketch = new QuantileSketch();
+    for (int i = 0; i < 10000; i++) {
+      double value = Math.round(Math.exp(7 + random.nextDouble() * 6));
+      values.add(value);
+      sketch.add(value);
+    }
+    Collections.sort(values);
+
+    assertEquals(values.size(), sketch.getCount());
+    for (int percent = 0; percent <= 100; percent++) {
+      double q = percent / 100.0;
+      double exact = values.get((int) Math.floor(q * (values.size() - 1)));
+      double estimate = sketch.quantile(q);
+      assertTrue(Math.abs(estimate - exact) <= exact * RELATIVE_ACCURACY,
+          "q=" + q + " exact=" + exact + " estimate=" + estimate);
+    }
+  }
+
+  @Test
+  public void testMergeMatchesSingleSketch() {
+    Random random = new Random(7);
+    QuantileSketch whole = new QuantileSketch();
+    List<QuantileSketch> parts = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      parts.add(new QuantileSketch());
+    }
+    for (int i = 0; i < 5000; i++) {
+      double value = 1000 + random.nextInt(200000);
+      whole.add(value);
+      parts.get(i % parts.size()).add(value);
+    }
+
+    // 월별/시군구별 스케치를 저장했다가 읽어서 합치는 것과 같은 순서
+    QuantileSketch merged = new QuantileSketch();
+    for (QuantileSketch part : parts) {
+      merged.merge(QuantileSketch.fromBytes(part.toBytes()));
+    }
+
+    assertEquals(whole.getCount(), merged.getCount());
+    for (int percent = 0; percent <= 100; percent += 5) {
+      assertEquals(whole.quantile(percent / 100.0), merged.quantile(percent / 100.0));
+    }
+  }
+
+  @Test
+  public void testZerosAndEmptySketch() {
+    QuantileSketch empty = new QuantileSketch();
+    assertTrue(empty.isEmpty());
+    assertNull(empty.median());
+    assertEquals(0, QuantileSketch.fromBytes(null).getCount());
+    assertNull(empty.merge(null).quantile(0.9));
+
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.add(0, 3);
+    sketch.add(-5);
+    sketch.add(100, 6);
+    sketch.add(50, 0); // 개수 0은 무시
+    assertEquals(10, sketch.getCount());
+    assertEquals(0.0, sketch.quantile(0.3));
+    assertEquals(100.0, sketch.quantile(0.5), 100 * RELATIVE_ACCURACY);
+
+    QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+    assertEquals(sketch.getCount(), restored.getCount());
+    assertEquals(sketch.quantile(0.3), restored.quantile(0.3));
+    assertEquals(sketch.median(), restored.median());
+  }
+}
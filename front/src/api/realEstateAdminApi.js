@@ -1,20 +1,36 @@
 import { API_SERVER_HOST } from "./backendApi";
 
-// ==================== 아파트 매매 관리 ====================
-
-export const getApartmentSales = async (page = 0, size = 20) => {
-  try {
+// ==================== 실거래 목록 (keyset) ====================
+
+// 번호 역순 커서 페이징 (첫 페이지는 cursorNo 없이, 다음 페이지는 이전 응답의 nextCursorNo)
+// withCount면 테이블 통계 기준 대략 전체 건수(approximateTotalElements) 포함
+export const getTransactionsByCursor = async (
+  type,
+  cursorNo = null,
+  size = 20,
+  withCount = false
+) => {
+  try {
+    const params = new URLSearchParams({ size, withCount });
+    if (cursorNo !== null && cursorNo !== undefined) {
+      params.append("cursorNo", cursorNo);
+    }
     const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/apartment-sale?page=${page}&size=${size}`
+      `${API_SERVER_HOST}/api/real-estate-admin/keyset/${type}?${params}`
     );
     if (!response.ok) throw new Error("API 호출 실패");
     return await response.json();
   } catch (error) {
-    console.error("아파트 매매 목록 조회 실패:", error);
+    console.error(`실거래 목록 조회 실패 (${type}):`, error);
     throw error;
   }
 };
 
+// ==================== 아파트 매매 관리 ====================
+
+export const getApartmentSales = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("apartment-sale", cursorNo, size, withCount);
+
 export const createApartmentSale = async (data) => {
   try {
     const response = await fetch(
@@ -84,18 +100,8 @@ export const deleteApartmentSale = async (id) => {
 
 // ==================== 아파트 전/월세 관리 ====================
 
-export const getApartmentRents = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/apartment-rent?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("아파트 전/월세 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getApartmentRents = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("apartment-rent", cursorNo, size, withCount);
 
 export const createApartmentRent = async (data) => {
   try {
@@ -155,18 +161,8 @@ export const deleteApartmentRent = async (id) => {
 
 // ==================== 단독/다가구 매매 관리 ====================
 
-export const getDetachedHouseSales = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/detached-house-sale?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("단독/다가구 매매 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getDetachedHouseSales = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("detached-house-sale", cursorNo, size, withCount);
 
 export const createDetachedHouseSale = async (data) => {
   try {
@@ -226,18 +222,8 @@ export const deleteDetachedHouseSale = async (id) => {
 
 // ==================== 단독/다가구 전/월세 관리 ====================
 
-export const getDetachedHouseRents = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/detached-house-rent?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("단독/다가구 전/월세 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getDetachedHouseRents = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("detached-house-rent", cursorNo, size, withCount);
 
 export const createDetachedHouseRent = async (data) => {
   try {
@@ -297,18 +283,8 @@ export const deleteDetachedHouseRent = async (id) => {
 
 // ==================== 연립/다세대 매매 관리 ====================
 
-export const getRowHouseSales = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/row-house-sale?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("연립/다세대 매매 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getRowHouseSales = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("row-house-sale", cursorNo, size, withCount);
 
 export const createRowHouseSale = async (data) => {
   try {
@@ -368,18 +344,8 @@ export const deleteRowHouseSale = async (id) => {
 
 // ==================== 연립/다세대 전/월세 관리 ====================
 
-export const getRowHouseRents = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/row-house-rent?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("연립/다세대 전/월세 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getRowHouseRents = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("row-house-rent", cursorNo, size, withCount);
 
 export const createRowHouseRent = async (data) => {
   try {
@@ -439,18 +405,8 @@ export const deleteRowHouseRent = async (id) => {
 
 // ==================== 오피스텔 매매 관리 ====================
 
-export const getOfficeTelSales = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/office-tel-sale?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("오피스텔 매매 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getOfficeTelSales = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("office-tel-sale", cursorNo, size, withCount);
 
 export const createOfficeTelSale = async (data) => {
   try {
@@ -510,18 +466,8 @@ export const deleteOfficeTelSale = async (id) => {
 
 // ==================== 오피스텔 전/월세 관리 ====================
 
-export const getOfficeTelRents = async (page = 0, size = 20) => {
-  try {
-    const response = await fetch(
-      `${API_SERVER_HOST}/api/real-estate-admin/office-tel-rent?page=${page}&size=${size}`
-    );
-    if (!response.ok) throw new Error("API 호출 실패");
-    return await response.json();
-  } catch (error) {
-    console.error("오피스텔 전/월세 목록 조회 실패:", error);
-    throw error;
-  }
-};
+export const getOfficeTelRents = (cursorNo = null, size = 20, withCount = false) =>
+  getTransactionsByCursor("office-tel-rent", cursorNo, size, withCount);
 
 export const createOfficeTelRent = async (data) => {
   try {
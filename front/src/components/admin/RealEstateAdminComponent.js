@@ -1,11 +1,16 @@
 import React, { useState, useEffect } from "react";
 import { realEstateAdminApiService } from "../../api/realEstateAdminApi";
 
+const PAGE_SIZE = 20;
+
 const RealEstateAdminComponent = () => {
   const [dataList, setDataList] = useState([]);
   const [loading, setLoading] = useState(false);
   const [currentPage, setCurrentPage] = useState(0);
-  const [totalPages, setTotalPages] = useState(0);
+  // 페이지별 요청 커서 (번호 역순 keyset, 첫 페이지는 null), 이전 페이지로 돌아갈 때 사용
+  const [pageCursors, setPageCursors] = useState([null]);
+  const [hasNext, setHasNext] = useState(false);
+  const [approximateTotal, setApproximateTotal] = useState(null);
   const [selectedDataType, setSelectedDataType] = useState("apartment-sale");
 
   const dataTypes = [
@@ -64,38 +69,30 @@ const RealEstateAdminComponent = () => {
 
     setLoading(true);
     try {
-      const response = await currentApi.getAll(currentPage, 20);
-      console.log("실거래가 데이터 응답 전체:", response);
-      console.log("응답 타입:", typeof response);
-      console.log("응답 키들:", Object.keys(response));
+      // 첫 페이지에서만 테이블 통계 기준 대략 건수 요청 (COUNT(*) 없음)
+      const response = await currentApi.getAll(
+        pageCursors[currentPage] ?? null,
+        PAGE_SIZE,
+        currentPage === 0
+      );
 
-      // Spring Boot Page 객체 구조 확인
-      if (response && typeof response === "object") {
-        // Spring Boot Page 객체의 표준 구조 확인
-        if (response.content !== undefined && Array.isArray(response.content)) {
-          // Spring Boot Page 객체
-          setDataList(response.content);
-          setTotalPages(response.totalPages || 1);
-          console.log(
-            `✅ Spring Boot Page 객체 파싱 성공 - 데이터 ${response.content.length}개, 총 페이지 ${response.totalPages}개`
-          );
-          console.log("첫 번째 데이터 샘플:", response.content[0]);
-        } else if (Array.isArray(response)) {
-          // 배열 형태로 직접 반환된 경우
-          setDataList(response);
-          setTotalPages(1);
-          console.log(`✅ 배열 형태 - 데이터 ${response.length}개`);
-        } else {
-          // 다른 형태의 응답 - 더 자세한 로깅
-          console.warn("⚠️ 예상치 못한 응답 형태:", response);
-          console.warn("응답 구조:", JSON.stringify(response, null, 2));
-          setDataList([]);
-          setTotalPages(1);
+      if (response && Array.isArray(response.content)) {
+        setDataList(response.content);
+        setHasNext(response.hasNext === true);
+        if (response.hasNext && response.nextCursorNo != null) {
+          setPageCursors((cursors) => {
+            const next = cursors.slice(0, currentPage + 1);
+            next[currentPage + 1] = response.nextCursorNo;
+            return next;
+          });
+        }
+        if (response.approximateTotalElements != null) {
+          setApproximateTotal(response.approximateTotalElements);
         }
       } else {
-        console.error("❌ 응답이 null이거나 객체가 아님");
+        console.warn("⚠️ 예상치 못한 응답 형태:", response);
         setDataList([]);
-        setTotalPages(1);
+        setHasNext(false);
       }
     } catch (error) {
       console.error("데이터 로드 실패:", error);
@@ -158,6 +155,9 @@ const RealEstateAdminComponent = () => {
   const handleDataTypeChange = (newType) => {
     setSelectedDataType(newType);
     setCurrentPage(0);
+    setPageCursors([null]);
+    setHasNext(false);
+    setApproximateTotal(null);
   };
 
   if (loading) {
@@ -330,7 +330,7 @@ const RealEstateAdminComponent = () => {
         </div>
 
         {/* 페이지네이션 */}
-        {totalPages > 1 && (
+        {(currentPage > 0 || hasNext) && (
           <div className="px-6 py-4 border-t border-gray-200">
             <div className="flex justify-center space-x-2">
               <button
@@ -341,11 +341,13 @@ const RealEstateAdminComponent = () => {
                 이전
               </button>
               <span className="px-3 py-2 text-sm text-gray-700">
-                {currentPage + 1} / {totalPages}
+                {currentPage + 1} 페이지
+                {approximateTotal != null &&
+                  ` (약 ${approximateTotal.toLocaleString()}건)`}
               </span>
               <button
                 onClick={() => handlePageChange(currentPage + 1)}
-                disabled={currentPage >= totalPages - 1}
+                disabled={!hasNext}
                 className="px-3 py-2 border border-gray-300 rounded-md text-sm font-medium text-gray-700 bg-white hover:bg-gray-50 disabled:opacity-50 disabled:cursor-not-allowed"
               >
                 다음